@@ -276,11 +276,30 @@ private ElasticsearchBackendSettings() {
 	 */
 	public static final String THREAD_POOL_SIZE = "thread_pool.size";
 
+	/**
+	 * The size of the thread pool loading hits (e.g. entities) for queries executed asynchronously,
+	 * e.g. through {@link org.hibernate.search.engine.search.query.SearchFetchable#fetchAsync(Integer)}.
+	 * <p>
+	 * Loading may block, e.g. on a database, and thus never happens in the threads handling HTTP responses.
+	 * <p>
+	 * Expects a strictly positive integer value,
+	 * or a string that can be parsed into an integer value.
+	 * <p>
+	 * See the reference documentation, section "Elasticsearch backend - Threads",
+	 * for more information about this setting and its implications.
+	 * <p>
+	 * Defaults to the number of processor cores available to the JVM on startup.
+	 */
+	public static final String SEARCH_LOADING_THREAD_POOL_SIZE = "thread_pool.search_loading.size";
+
 	/**
 	 * Property for specifying the maximum duration a
 	 * {@link org.hibernate.search.engine.search.query.SearchFetchable#scroll(int) scroll} will be usable if no
 	 * other results are fetched from Elasticsearch.
 	 * <p>
+	 * On Elasticsearch 7.12 and later, scrolls rely on a point in time and {@code search_after}:
+	 * this property then defines how long the point in time is kept alive between two fetches.
+	 * <p>
 	 * Expects a positive Integer value in seconds, such as 60,
 	 * or a String that can be parsed into such Integer value.
 	 * <p>
@@ -303,6 +322,23 @@ private ElasticsearchBackendSettings() {
 	 */
 	public static final String MAX_KEEP_ALIVE = "max_keep_alive";
 
+	/**
+	 * Whether HTTP compression is enabled when communicating with the Elasticsearch cluster.
+	 * <p>
+	 * When enabled, request bodies are compressed with gzip,
+	 * and Elasticsearch is asked to compress response bodies with gzip as well.
+	 * This reduces network usage, in particular for large bulk requests and search responses,
+	 * at the cost of some CPU usage on both the client and the server.
+	 * <p>
+	 * Only applies when Hibernate Search creates the REST client itself.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed into a Boolean value.
+	 * <p>
+	 * Defaults to {@link Defaults#COMPRESSION_ENABLED}.
+	 */
+	public static final String COMPRESSION_ENABLED = "compression.enabled";
+
 	/**
 	 * This property defines if partial shard failures are ignored.
 	 * <p>
@@ -320,6 +356,76 @@ private ElasticsearchBackendSettings() {
 	 */
 	public static final String QUERY_SHARD_FAILURE_IGNORE = "query.shard_failure.ignore";
 
+	/**
+	 * Whether indexing queues are shared by all indexes of this backend.
+	 * <p>
+	 * When disabled, each index has its own indexing queues,
+	 * and each bulk request sent to Elasticsearch only contains works targeting a single index.
+	 * <p>
+	 * When enabled, all indexes of this backend share the same indexing queues,
+	 * and works targeting different indexes can be grouped into the same bulk request.
+	 * This reduces the number of requests sent to Elasticsearch
+	 * when many indexes receive few changes at the same time,
+	 * e.g. when a single transaction changes entities mapped to several indexes.
+	 * Works targeting the same document are still executed in the order they were submitted.
+	 * <p>
+	 * When enabled, the settings of indexing queues
+	 * ({@link ElasticsearchIndexSettings#INDEXING_QUEUE_COUNT}, {@link ElasticsearchIndexSettings#INDEXING_QUEUE_SIZE},
+	 * {@link ElasticsearchIndexSettings#INDEXING_MAX_BULK_SIZE}, ...)
+	 * are only taken into account when set at the backend level:
+	 * index-level overrides are ignored.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed into a Boolean value.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_SHARED_QUEUES}.
+	 */
+	public static final String INDEXING_SHARED_QUEUES = "indexing.shared_queues";
+
+	/**
+	 * Whether the number of concurrent requests sent to the Elasticsearch cluster
+	 * is limited adaptively, according to the latency of requests.
+	 * <p>
+	 * When enabled, Hibernate Search tracks the latency of requests for each node of the Elasticsearch cluster,
+	 * and lowers the number of requests it sends concurrently as soon as requests take significantly longer than usual
+	 * or Elasticsearch reports being overloaded, then raises it progressively as latency goes back to normal.
+	 * Indexing requests and search requests are limited separately,
+	 * and search requests taking too long also lower the limit of indexing requests,
+	 * so that indexing yields to search queries when the cluster is saturated.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed into a Boolean value.
+	 * <p>
+	 * Defaults to {@link Defaults#CONCURRENCY_LIMIT_ENABLED}.
+	 */
+	public static final String CONCURRENCY_LIMIT_ENABLED = "concurrency_limit.enabled";
+
+	/**
+	 * The maximum number of concurrent indexing requests sent to the Elasticsearch cluster,
+	 * when the {@link #CONCURRENCY_LIMIT_ENABLED concurrency limit} is enabled.
+	 * <p>
+	 * The actual limit adapts to the latency of requests, but never exceeds this value.
+	 * <p>
+	 * Expects a strictly positive Integer value, such as {@code 10},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#CONCURRENCY_LIMIT_INDEXING_MAX}.
+	 */
+	public static final String CONCURRENCY_LIMIT_INDEXING_MAX = "concurrency_limit.indexing.max";
+
+	/**
+	 * The maximum number of concurrent search requests sent to the Elasticsearch cluster,
+	 * when the {@link #CONCURRENCY_LIMIT_ENABLED concurrency limit} is enabled.
+	 * <p>
+	 * The actual limit adapts to the latency of requests, but never exceeds this value.
+	 * <p>
+	 * Expects a strictly positive Integer value, such as {@code 20},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#CONCURRENCY_LIMIT_SEARCH_MAX}.
+	 */
+	public static final String CONCURRENCY_LIMIT_SEARCH_MAX = "concurrency_limit.search.max";
+
 	/**
 	 * Default values for the different settings if no values are given.
 	 */
@@ -337,6 +443,7 @@ private Defaults() {
 		public static final int MAX_CONNECTIONS_PER_ROUTE = 10;
 		public static final boolean DISCOVERY_ENABLED = false;
 		public static final int DISCOVERY_REFRESH_INTERVAL = 10;
+		public static final boolean COMPRESSION_ENABLED = false;
 		public static final boolean LOG_JSON_PRETTY_PRINTING = false;
 		/**
 		 * @deprecated The default for the {@link ElasticsearchBackendSettings#VERSION_CHECK_ENABLED} property
@@ -359,5 +466,9 @@ private Defaults() {
 				BeanReference.of( IndexLayoutStrategy.class, SimpleIndexLayoutStrategy.NAME );
 		public static final int SCROLL_TIMEOUT = 60;
 		public static final boolean QUERY_SHARD_FAILURE_IGNORE = false;
+		public static final boolean INDEXING_SHARED_QUEUES = false;
+		public static final boolean CONCURRENCY_LIMIT_ENABLED = false;
+		public static final int CONCURRENCY_LIMIT_INDEXING_MAX = 10;
+		public static final int CONCURRENCY_LIMIT_SEARCH_MAX = 20;
 	}
 }
@@ -9,6 +9,7 @@
 import org.hibernate.search.backend.elasticsearch.analysis.ElasticsearchAnalysisConfigurer;
 import org.hibernate.search.backend.elasticsearch.index.DynamicMapping;
 import org.hibernate.search.backend.elasticsearch.index.IndexStatus;
+import org.hibernate.search.engine.backend.work.execution.IndexingQueueStrategyName;
 
 /**
  * Configuration properties for Elasticsearch indexes.
@@ -144,6 +145,36 @@ private ElasticsearchIndexSettings() {
 	 */
 	public static final String INDEXING_QUEUE_SIZE = INDEXING_PREFIX + IndexingRadicals.QUEUE_SIZE;
 
+	/**
+	 * The implementation of indexing queues.
+	 * <p>
+	 * Expects a {@link IndexingQueueStrategyName} value, or a String representation of such value.
+	 * <p>
+	 * See the reference documentation, section "Elasticsearch backend - Indexing",
+	 * for more information about this setting and its implications.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_QUEUE_STRATEGY}.
+	 */
+	public static final String INDEXING_QUEUE_STRATEGY = INDEXING_PREFIX + IndexingRadicals.QUEUE_STRATEGY;
+
+	/**
+	 * The maximum time to wait for more works before processing a batch of works from an indexing queue,
+	 * in milliseconds.
+	 * <p>
+	 * Only applies when works accumulated in the queue while the previous batch was being processed,
+	 * so that batches grow under load while works submitted under light load are processed without delay.
+	 * Waiting does not occupy an indexing thread.
+	 * <p>
+	 * Expects a positive integer value in milliseconds, such as {@code 5},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * See the reference documentation, section "Elasticsearch backend - Indexing",
+	 * for more information about this setting and its implications.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_MAX_LINGER}.
+	 */
+	public static final String INDEXING_MAX_LINGER = INDEXING_PREFIX + IndexingRadicals.MAX_LINGER;
+
 	/**
 	 * The maximum size of bulk requests created when processing indexing queues.
 	 * <p>
@@ -157,6 +188,72 @@ private ElasticsearchIndexSettings() {
 	 */
 	public static final String INDEXING_MAX_BULK_SIZE = INDEXING_PREFIX + IndexingRadicals.MAX_BULK_SIZE;
 
+	/**
+	 * The maximum size of bulk requests created when processing indexing queues, in bytes.
+	 * <p>
+	 * Bulk requests are sent as soon as they reach either this size in bytes
+	 * or the {@link #INDEXING_MAX_BULK_SIZE maximum number of works}, whichever comes first.
+	 * A single work larger than this size is still sent, alone in its bulk request.
+	 * <p>
+	 * Sizes are measured on the JSON payload before any HTTP compression.
+	 * <p>
+	 * Expects a strictly positive long value in bytes, such as {@code 5242880},
+	 * or a string that can be parsed into such long value.
+	 * <p>
+	 * See the reference documentation, section "Elasticsearch backend - Indexing",
+	 * for more information about this setting and its implications.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_MAX_BULK_BYTES}.
+	 */
+	public static final String INDEXING_MAX_BULK_BYTES = INDEXING_PREFIX + IndexingRadicals.MAX_BULK_BYTES;
+
+	/**
+	 * The maximum number of attempts to execute an indexing work
+	 * when Elasticsearch rejects it because it is overloaded (HTTP status 429),
+	 * including the initial attempt.
+	 * <p>
+	 * Only rejected works are retried: works that fail for any other reason are reported as failed immediately.
+	 * Set to {@code 1} to disable retries.
+	 * <p>
+	 * Expects a strictly positive integer value,
+	 * or a string that can be parsed into an integer value.
+	 * <p>
+	 * See the reference documentation, section "Elasticsearch backend - Indexing",
+	 * for more information about this setting and its implications.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_RETRY_MAX_ATTEMPTS}.
+	 */
+	public static final String INDEXING_RETRY_MAX_ATTEMPTS = INDEXING_PREFIX + IndexingRadicals.RETRY_MAX_ATTEMPTS;
+
+	/**
+	 * The base delay before retrying indexing works rejected by Elasticsearch, in milliseconds.
+	 * <p>
+	 * The delay doubles with each attempt, up to {@link #INDEXING_RETRY_MAX_DELAY},
+	 * and is randomized so that retries are spread over time.
+	 * <p>
+	 * Expects a positive integer value in milliseconds, such as {@code 100},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * See the reference documentation, section "Elasticsearch backend - Indexing",
+	 * for more information about this setting and its implications.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_RETRY_INITIAL_DELAY}.
+	 */
+	public static final String INDEXING_RETRY_INITIAL_DELAY = INDEXING_PREFIX + IndexingRadicals.RETRY_INITIAL_DELAY;
+
+	/**
+	 * The maximum delay before retrying indexing works rejected by Elasticsearch, in milliseconds.
+	 * <p>
+	 * Expects a positive integer value in milliseconds, such as {@code 5000},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * See the reference documentation, section "Elasticsearch backend - Indexing",
+	 * for more information about this setting and its implications.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_RETRY_MAX_DELAY}.
+	 */
+	public static final String INDEXING_RETRY_MAX_DELAY = INDEXING_PREFIX + IndexingRadicals.RETRY_MAX_DELAY;
+
 	/**
 	 * Configuration property keys for indexing, without the {@link #INDEXING_PREFIX prefix}.
 	 */
@@ -168,6 +265,12 @@ private IndexingRadicals() {
 		public static final String QUEUE_COUNT = "queue_count";
 		public static final String QUEUE_SIZE = "queue_size";
 		public static final String MAX_BULK_SIZE = "max_bulk_size";
+		public static final String MAX_BULK_BYTES = "max_bulk_bytes";
+		public static final String RETRY_MAX_ATTEMPTS = "retry.max_attempts";
+		public static final String RETRY_INITIAL_DELAY = "retry.initial_delay";
+		public static final String RETRY_MAX_DELAY = "retry.max_delay";
+		public static final String QUEUE_STRATEGY = "queue_strategy";
+		public static final String MAX_LINGER = "max_linger";
 	}
 
 	/**
@@ -189,6 +292,12 @@ private Defaults() {
 		public static final int INDEXING_QUEUE_COUNT = 10;
 		public static final int INDEXING_QUEUE_SIZE = 1000;
 		public static final int INDEXING_MAX_BULK_SIZE = 100;
+		public static final long INDEXING_MAX_BULK_BYTES = 10L * 1024 * 1024;
+		public static final int INDEXING_RETRY_MAX_ATTEMPTS = 3;
+		public static final int INDEXING_RETRY_INITIAL_DELAY = 100;
+		public static final int INDEXING_RETRY_MAX_DELAY = 5000;
+		public static final IndexingQueueStrategyName INDEXING_QUEUE_STRATEGY = IndexingQueueStrategyName.BLOCKING;
+		public static final int INDEXING_MAX_LINGER = 0;
 		public static final DynamicMapping DYNAMIC_MAPPING = DynamicMapping.STRICT;
 	}
 
@@ -0,0 +1,221 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.client.impl;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.apache.http.HttpHost;
+
+/**
+ * An adaptive limit on the number of concurrent requests of a given category,
+ * following an additive-increase/multiplicative-decrease (AIMD) algorithm:
+ * the limit grows by one every time a full limit's worth of requests completes within the expected latency,
+ * and shrinks by a constant ratio as soon as requests take too long or Elasticsearch reports it is overloaded.
+ * <p>
+ * The expected latency is tracked separately for each Elasticsearch node,
+ * since nodes may have very different response times,
+ * and for each range of request sizes (number of body parts, e.g. bulk items, rounded to a power of two),
+ * since a bulk request of a thousand items is expected to take longer than a bulk request of a single item.
+ * <p>
+ * Requests acquired while the limit is reached wait, in the order they were acquired,
+ * until enough in-flight requests complete.
+ * <p>
+ * Thread-safe.
+ */
+final class AdaptiveConcurrencyLimit {
+
+	// Shrink the limit by 10% on overload.
+	private static final double BACKOFF_RATIO = 0.9;
+	// A request is considered too slow if it takes more than twice the expected latency.
+	private static final double LATENCY_TOLERANCE = 2.0;
+	// Weight of each new sample in the expected latency: adapts to a new "normal" after a few hundred requests.
+	private static final double BASELINE_SMOOTHING = 0.01;
+
+	private final String name;
+	private final int maxLimit;
+
+	private final ConcurrentMap<BaselineKey, LatencyBaseline> baselines = new ConcurrentHashMap<>();
+
+	// Guarded by "this"
+	private double limit;
+	private int inFlight;
+	private boolean everDecreased;
+	private long lastDecreaseNanos;
+	private final Deque<CompletableFuture<Void>> waiting = new ArrayDeque<>();
+
+	AdaptiveConcurrencyLimit(String name, int maxLimit) {
+		this.name = name;
+		this.maxLimit = maxLimit;
+		this.limit = maxLimit;
+	}
+
+	@Override
+	public synchronized String toString() {
+		return getClass().getSimpleName() + "["
+				+ "name=" + name
+				+ ", limit=" + limit
+				+ ", maxLimit=" + maxLimit
+				+ ", inFlight=" + inFlight
+				+ ", waiting=" + waiting.size()
+				+ "]";
+	}
+
+	/**
+	 * @return A future that completes when a request can be sent.
+	 * Callers must call {@link #release(long, HttpHost, int, long, boolean)} exactly once after the future completes,
+	 * when the request completes.
+	 */
+	synchronized CompletableFuture<Void> acquire() {
+		if ( waiting.isEmpty() && inFlight < currentLimit() ) {
+			++inFlight;
+			return CompletableFuture.completedFuture( null );
+		}
+		CompletableFuture<Void> future = new CompletableFuture<>();
+		waiting.addLast( future );
+		return future;
+	}
+
+	/**
+	 * @param startNanos The value of {@link System#nanoTime()} when the request was sent.
+	 * @param host The host that executed the request, or {@code null} if unknown (e.g. on I/O failure).
+	 * @param requestSize The size of the request, e.g. the number of body parts,
+	 * so that latency is only compared between requests of similar sizes.
+	 * @param endNanos The value of {@link System#nanoTime()} when the request completed.
+	 * @param overloaded Whether Elasticsearch reported, through the request's outcome, that it is overloaded.
+	 * @return {@code true} if the limit was decreased as a result of this request.
+	 */
+	boolean release(long startNanos, HttpHost host, int requestSize, long endNanos, boolean overloaded) {
+		boolean tooSlow = overloaded || isTooSlow( host, requestSize, endNanos - startNanos );
+		List<CompletableFuture<Void>> toStart;
+		boolean decreased;
+		synchronized (this) {
+			--inFlight;
+			decreased = tooSlow && decrease( startNanos, endNanos );
+			if ( !tooSlow && inFlight + 1 >= limit / 2 ) {
+				// Only increase the limit when it's actually being used:
+				// a low load tells us nothing about how Elasticsearch would cope with more requests.
+				limit = Math.min( maxLimit, limit + 1.0 / limit );
+			}
+			toStart = pollStartable();
+		}
+		// Complete futures outside of the lock, since this will send requests.
+		for ( CompletableFuture<Void> future : toStart ) {
+			future.complete( null );
+		}
+		return decreased;
+	}
+
+	/**
+	 * Decrease the limit because of a signal external to this limit,
+	 * e.g. requests of a higher-priority category being too slow.
+	 *
+	 * @param startNanos The value of {@link System#nanoTime()} when the request that triggered the signal was sent.
+	 * @param endNanos The value of {@link System#nanoTime()} when the request that triggered the signal completed.
+	 */
+	synchronized void backOff(long startNanos, long endNanos) {
+		decrease( startNanos, endNanos );
+	}
+
+	synchronized double limit() {
+		return limit;
+	}
+
+	synchronized int inFlight() {
+		return inFlight;
+	}
+
+	synchronized int waiting() {
+		return waiting.size();
+	}
+
+	private int currentLimit() {
+		return (int) limit;
+	}
+
+	private boolean decrease(long startNanos, long endNanos) {
+		// Decrease at most once per "round-trip":
+		// requests sent before the last decrease were sent under the previous limit,
+		// so their latency should not lead to another decrease.
+		if ( everDecreased && startNanos - lastDecreaseNanos < 0 ) {
+			return false;
+		}
+		limit = Math.max( 1.0, limit * BACKOFF_RATIO );
+		everDecreased = true;
+		lastDecreaseNanos = endNanos;
+		return true;
+	}
+
+	private List<CompletableFuture<Void>> pollStartable() {
+		List<CompletableFuture<Void>> result = null;
+		while ( !waiting.isEmpty() && inFlight < currentLimit() ) {
+			if ( result == null ) {
+				result = new ArrayList<>();
+			}
+			result.add( waiting.pollFirst() );
+			++inFlight;
+		}
+		return result == null ? Collections.<CompletableFuture<Void>>emptyList() : result;
+	}
+
+	private boolean isTooSlow(HttpHost host, int requestSize, long latencyNanos) {
+		if ( host == null ) {
+			return false;
+		}
+		return baselines.computeIfAbsent( new BaselineKey( host, requestSize ), ignored -> new LatencyBaseline() )
+				.updateAndCheckTooSlow( latencyNanos );
+	}
+
+	private static final class BaselineKey {
+		private final HttpHost host;
+		// 0 for empty requests, 1 for 1, 2 for 2-3, 3 for 4-7, ...
+		private final int sizeBucket;
+
+		BaselineKey(HttpHost host, int requestSize) {
+			this.host = host;
+			this.sizeBucket = Integer.SIZE - Integer.numberOfLeadingZeros( requestSize );
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if ( obj == this ) {
+				return true;
+			}
+			if ( obj == null || obj.getClass() != getClass() ) {
+				return false;
+			}
+			BaselineKey other = (BaselineKey) obj;
+			return sizeBucket == other.sizeBucket && host.equals( other.host );
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * host.hashCode() + sizeBucket;
+		}
+	}
+
+	private static final class LatencyBaseline {
+		// Guarded by "this"
+		private double expectedNanos = -1;
+
+		synchronized boolean updateAndCheckTooSlow(long latencyNanos) {
+			if ( expectedNanos < 0 ) {
+				expectedNanos = latencyNanos;
+				return false;
+			}
+			boolean tooSlow = latencyNanos > expectedNanos * LATENCY_TOLERANCE;
+			expectedNanos += ( latencyNanos - expectedNanos ) * BASELINE_SMOOTHING;
+			return tooSlow;
+		}
+	}
+}
@@ -0,0 +1,92 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.client.impl;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A pool of direct byte buffers of a fixed size,
+ * used to serialize request bodies without allocating new buffers for each request.
+ * <p>
+ * Direct buffers avoid an extra copy when writing to a socket,
+ * but are expensive to allocate and are only released by the garbage collector:
+ * this pool allocates at most a fixed number of direct buffers, and reuses them.
+ * When all direct buffers are in use, it falls back to heap buffers, which are not pooled.
+ * <p>
+ * Buffers that are never {@link #release(ByteBuffer) released} are simply garbage-collected,
+ * which only means this pool will rely on heap buffers more often.
+ * <p>
+ * Thread-safe.
+ */
+public final class ByteBufferPool {
+
+	private final int bufferSize;
+	private final int maxDirectBuffers;
+
+	private final BlockingQueue<ByteBuffer> idleDirectBuffers;
+	private final AtomicInteger allocatedDirectBuffers = new AtomicInteger();
+
+	public ByteBufferPool(int bufferSize, int maxDirectBuffers) {
+		this.bufferSize = bufferSize;
+		this.maxDirectBuffers = maxDirectBuffers;
+		this.idleDirectBuffers = new ArrayBlockingQueue<>( maxDirectBuffers );
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "["
+				+ "bufferSize=" + bufferSize
+				+ ", maxDirectBuffers=" + maxDirectBuffers
+				+ ", allocatedDirectBuffers=" + allocatedDirectBuffers()
+				+ ", idleDirectBuffers=" + idleDirectBuffers.size()
+				+ "]";
+	}
+
+	int bufferSize() {
+		return bufferSize;
+	}
+
+	/**
+	 * @return An empty buffer, ready for writing.
+	 */
+	ByteBuffer acquire() {
+		ByteBuffer buffer = idleDirectBuffers.poll();
+		if ( buffer != null ) {
+			buffer.clear();
+			return buffer;
+		}
+		if ( allocatedDirectBuffers.get() < maxDirectBuffers
+				&& allocatedDirectBuffers.incrementAndGet() <= maxDirectBuffers ) {
+			return ByteBuffer.allocateDirect( bufferSize );
+		}
+		return ByteBuffer.allocate( bufferSize );
+	}
+
+	/**
+	 * @param buffer A buffer previously returned by {@link #acquire()},
+	 * whose content is no longer needed.
+	 */
+	void release(ByteBuffer buffer) {
+		if ( buffer.isDirect() && buffer.capacity() == bufferSize ) {
+			idleDirectBuffers.offer( buffer );
+		}
+		// Else: a heap buffer, just let the GC collect it.
+	}
+
+	int idleDirectBuffers() {
+		return idleDirectBuffers.size();
+	}
+
+	int allocatedDirectBuffers() {
+		// The counter may exceed the maximum when concurrent calls to acquire() race.
+		return Math.min( allocatedDirectBuffers.get(), maxDirectBuffers );
+	}
+
+}
@@ -0,0 +1,169 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.client.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchClientImplementor;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.engine.common.metrics.spi.MetricsGauge;
+import org.hibernate.search.engine.common.metrics.spi.MetricsRegistry;
+import org.hibernate.search.engine.common.metrics.spi.MetricsTags;
+import org.hibernate.search.util.common.impl.Closer;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+import org.apache.http.HttpHost;
+
+/**
+ * A client limiting the number of concurrent indexing and search requests
+ * according to the latency observed for each Elasticsearch node,
+ * so that requests wait on the client side, rather than pile up in Elasticsearch, when Elasticsearch slows down.
+ * <p>
+ * Indexing requests and search requests are limited separately,
+ * and search requests being too slow also decrease the limit of indexing requests,
+ * so that background indexing yields to user-facing search queries.
+ * Other requests (schema management, ...) are not limited.
+ * <p>
+ * Wraps the client created by the client factory, which may be a custom one.
+ */
+public final class ConcurrencyLimitedElasticsearchClient implements ElasticsearchClientImplementor {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	/**
+	 * The name of the gauge reporting the current concurrency limit for a category of requests.
+	 */
+	public static final String METRIC_CONCURRENCY_LIMIT = "hibernate.search.elasticsearch.concurrency.limit";
+	/**
+	 * The name of the gauge reporting the number of requests of a category currently being executed.
+	 */
+	public static final String METRIC_IN_FLIGHT = "hibernate.search.elasticsearch.concurrency.in_flight";
+	/**
+	 * The name of the gauge reporting the number of requests of a category waiting for the concurrency limit.
+	 */
+	public static final String METRIC_WAITING = "hibernate.search.elasticsearch.concurrency.waiting";
+	/**
+	 * The tag identifying the category of requests: {@value #CATEGORY_INDEXING} or {@value #CATEGORY_SEARCH}.
+	 */
+	public static final String TAG_CATEGORY = "category";
+	public static final String CATEGORY_INDEXING = "indexing";
+	public static final String CATEGORY_SEARCH = "search";
+
+	private static final int TOO_MANY_REQUESTS_STATUS_CODE = 429;
+	private static final int SERVICE_UNAVAILABLE_STATUS_CODE = 503;
+
+	private final ElasticsearchClientImplementor delegate;
+	private final AdaptiveConcurrencyLimit indexingLimit;
+	private final AdaptiveConcurrencyLimit searchLimit;
+	private final MetricsGauge[] gauges;
+
+	public ConcurrencyLimitedElasticsearchClient(ElasticsearchClientImplementor delegate,
+			int maxIndexingConcurrency, int maxSearchConcurrency,
+			MetricsRegistry metricsRegistry, MetricsTags metricsTags) {
+		this.delegate = delegate;
+		this.indexingLimit = new AdaptiveConcurrencyLimit( CATEGORY_INDEXING, maxIndexingConcurrency );
+		this.searchLimit = new AdaptiveConcurrencyLimit( CATEGORY_SEARCH, maxSearchConcurrency );
+		MetricsTags indexingTags = metricsTags.and( TAG_CATEGORY, CATEGORY_INDEXING );
+		MetricsTags searchTags = metricsTags.and( TAG_CATEGORY, CATEGORY_SEARCH );
+		this.gauges = new MetricsGauge[] {
+				metricsRegistry.gauge( METRIC_CONCURRENCY_LIMIT, indexingTags, indexingLimit,
+						AdaptiveConcurrencyLimit::limit ),
+				metricsRegistry.gauge( METRIC_IN_FLIGHT, indexingTags, indexingLimit, AdaptiveConcurrencyLimit::inFlight ),
+				metricsRegistry.gauge( METRIC_WAITING, indexingTags, indexingLimit, AdaptiveConcurrencyLimit::waiting ),
+				metricsRegistry.gauge( METRIC_CONCURRENCY_LIMIT, searchTags, searchLimit, AdaptiveConcurrencyLimit::limit ),
+				metricsRegistry.gauge( METRIC_IN_FLIGHT, searchTags, searchLimit, AdaptiveConcurrencyLimit::inFlight ),
+				metricsRegistry.gauge( METRIC_WAITING, searchTags, searchLimit, AdaptiveConcurrencyLimit::waiting )
+		};
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "["
+				+ "delegate=" + delegate
+				+ ", indexingLimit=" + indexingLimit
+				+ ", searchLimit=" + searchLimit
+				+ "]";
+	}
+
+	@Override
+	public CompletableFuture<ElasticsearchResponse> submit(ElasticsearchRequest request) {
+		AdaptiveConcurrencyLimit limit = limitFor( request );
+		if ( limit == null ) {
+			return delegate.submit( request );
+		}
+		return limit.acquire().thenCompose( ignored -> submit( limit, request ) );
+	}
+
+	@Override
+	public <T> T unwrap(Class<T> clientClass) {
+		return delegate.unwrap( clientClass );
+	}
+
+	@Override
+	public void close() {
+		try ( Closer<RuntimeException> closer = new Closer<>() ) {
+			closer.pushAll( MetricsGauge::close, Arrays.asList( gauges ) );
+			closer.push( ElasticsearchClientImplementor::close, delegate );
+		}
+	}
+
+	AdaptiveConcurrencyLimit indexingLimit() {
+		return indexingLimit;
+	}
+
+	AdaptiveConcurrencyLimit searchLimit() {
+		return searchLimit;
+	}
+
+	private CompletableFuture<ElasticsearchResponse> submit(AdaptiveConcurrencyLimit limit,
+			ElasticsearchRequest request) {
+		int requestSize = request.bodyParts().size();
+		long start = System.nanoTime();
+		CompletableFuture<ElasticsearchResponse> future;
+		try {
+			future = delegate.submit( request );
+		}
+		catch (RuntimeException e) {
+			limit.release( start, null, requestSize, System.nanoTime(), false );
+			throw e;
+		}
+		future.whenComplete( (response, throwable) -> {
+			long end = System.nanoTime();
+			HttpHost host = response == null ? null : response.host();
+			// Failures such as timeouts most likely mean Elasticsearch is struggling.
+			boolean overloaded = throwable != null || isOverloaded( response.statusCode() );
+			boolean decreased = limit.release( start, host, requestSize, end, overloaded );
+			if ( decreased ) {
+				log.concurrencyLimitDecreased( request.method(), request.path(), limit );
+				if ( limit == searchLimit ) {
+					indexingLimit.backOff( start, end );
+				}
+			}
+		} );
+		return future;
+	}
+
+	private AdaptiveConcurrencyLimit limitFor(ElasticsearchRequest request) {
+		switch ( ElasticsearchRequestCategory.of( request ) ) {
+			case INDEXING:
+				return indexingLimit;
+			case SEARCH:
+				return searchLimit;
+			default:
+				return null;
+		}
+	}
+
+	private static boolean isOverloaded(int statusCode) {
+		return statusCode == TOO_MANY_REQUESTS_STATUS_CODE || statusCode == SERVICE_UNAVAILABLE_STATUS_CODE;
+	}
+
+}
@@ -137,6 +137,12 @@ public class ElasticsearchClientFactoryImpl implements ElasticsearchClientFactor
 					.asLongStrictlyPositive()
 					.build();
 
+	private static final ConfigurationProperty<Boolean> COMPRESSION_ENABLED =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.COMPRESSION_ENABLED )
+					.asBoolean()
+					.withDefault( ElasticsearchBackendSettings.Defaults.COMPRESSION_ENABLED )
+					.build();
+
 	@Override
 	public ElasticsearchClientImplementor create(BeanResolver beanResolver, ConfigurationPropertySource propertySource,
 			ThreadProvider threadProvider, String threadNamePrefix,
@@ -178,6 +184,9 @@ private BeanHolder<? extends RestClient> createClient(BeanResolver beanResolver,
 		if ( !pathPrefix.isEmpty() ) {
 			builder.setPathPrefix( pathPrefix );
 		}
+		// The REST client compresses request bodies, requests compressed responses
+		// and decompresses them transparently before we parse them.
+		builder.setCompressionEnabled( COMPRESSION_ENABLED.get( propertySource ) );
 
 		Optional<? extends BeanHolder<? extends ElasticsearchHttpClientConfigurer>> customConfig = CLIENT_CONFIGURER
 				.getAndMap( propertySource, beanResolver::resolve );
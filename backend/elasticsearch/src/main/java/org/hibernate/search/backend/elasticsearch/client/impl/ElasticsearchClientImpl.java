@@ -65,6 +65,13 @@ public class ElasticsearchClientImpl implements ElasticsearchClientImplementor {
 	private final Gson gson;
 	private final JsonLogHelper jsonLogHelper;
 
+	/**
+	 * Direct buffers to serialize request bodies into.
+	 * Pages of 8 KiB, so that most documents fit in a single page,
+	 * and at most 256 of them, i.e. 2 MiB of off-heap memory per client.
+	 */
+	private final ByteBufferPool bufferPool = new ByteBufferPool( 8 * 1024, 256 );
+
 	ElasticsearchClientImpl(BeanHolder<? extends RestClient> restClientHolder, Sniffer sniffer,
 			SimpleScheduledExecutor timeoutExecutorService,
 			Optional<Integer> requestTimeoutMs, int connectionTimeoutMs,
@@ -103,7 +110,7 @@ private CompletableFuture<Response> send(ElasticsearchRequest elasticsearchReque
 
 		HttpEntity entity;
 		try {
-			entity = ElasticsearchClientUtils.toEntity( gson, elasticsearchRequest );
+			entity = ElasticsearchClientUtils.toEntity( gson, bufferPool, elasticsearchRequest );
 		}
 		catch (IOException | RuntimeException e) {
 			completableFuture.completeExceptionally( e );
@@ -0,0 +1,55 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.client.impl;
+
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
+
+/**
+ * The category of an Elasticsearch request, as far as concurrency limits are concerned.
+ */
+enum ElasticsearchRequestCategory {
+
+	/**
+	 * Requests writing documents: bulk requests, single-document writes, deletes by query.
+	 */
+	INDEXING,
+	/**
+	 * Requests reading documents: searches, counts, explains, scrolls, point-in-times.
+	 * <p>
+	 * Does not include requests releasing scrolls or point-in-times,
+	 * which should not wait behind the very requests that need these resources released.
+	 */
+	SEARCH,
+	/**
+	 * Any other request: schema management, refreshes, cluster health, ...
+	 */
+	OTHER;
+
+	static ElasticsearchRequestCategory of(ElasticsearchRequest request) {
+		// Paths are built from encoded components and always start with a slash,
+		// e.g. "/myIndex/_doc/1" or "/_search/scroll".
+		for ( String component : request.path().split( "/" ) ) {
+			if ( component.isEmpty() || component.charAt( 0 ) != '_' ) {
+				continue;
+			}
+			if ( Paths._BULK.encoded.equals( component )
+					|| Paths._DOC.encoded.equals( component )
+					|| Paths._DELETE_BY_QUERY.encoded.equals( component ) ) {
+				return INDEXING;
+			}
+			if ( Paths._SEARCH.encoded.equals( component )
+					|| Paths._MSEARCH.encoded.equals( component )
+					|| Paths._COUNT.encoded.equals( component )
+					|| Paths._EXPLAIN.encoded.equals( component )
+					|| Paths._PIT.encoded.equals( component ) ) {
+				return "DELETE".equals( request.method() ) ? OTHER : SEARCH;
+			}
+		}
+		return OTHER;
+	}
+
+}
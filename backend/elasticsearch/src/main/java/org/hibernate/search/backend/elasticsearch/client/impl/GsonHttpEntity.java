@@ -19,6 +19,7 @@
 
 import com.google.gson.Gson;
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonWriter;
 
 import org.apache.http.Header;
 import org.apache.http.HttpEntity;
@@ -50,11 +51,19 @@
  * is being produced is not known in advance. Not reporting the length
  * in advance to the Apache Http client causes it to use chunked-encoding,
  * which is great for large blocks but not optimal for small messages.
- * For this reason we attempt to start encoding into a small buffer
- * upfront: if all data we need to produce fits into that then we can
+ * For this reason, when the content length is first requested, we attempt to start encoding
+ * into a small buffer: if all data we need to produce fits into that then we can
  * report the content length; if not the encoding completion will be deferred
  * but not resetting so to avoid repeating encoding work.
  *
+ * JSON is encoded to UTF-8 directly into direct byte buffers borrowed from a {@link ByteBufferPool},
+ * which are handed to the HTTP client as-is: this avoids intermediary char buffers,
+ * and spares the JDK a copy to a temporary direct buffer when writing to the socket.
+ * Buffers are only borrowed once the content length or the content is requested,
+ * and are returned to the pool as soon as they have been written,
+ * when the HTTP client {@link #close() closes} this entity,
+ * or when the content is written through {@link #writeTo(OutputStream)}, which does not use buffers from the pool.
+ *
  * @author Sanne Grinovero (C) 2017 Red Hat Inc.
  */
 final class GsonHttpEntity implements HttpEntity, HttpAsyncContentProducer {
@@ -64,24 +73,8 @@ final class GsonHttpEntity implements HttpEntity, HttpAsyncContentProducer {
 	private static final BasicHeader CONTENT_TYPE =
 			new BasicHeader( HTTP.CONTENT_TYPE, ContentType.APPLICATION_JSON.toString() );
 
-	/**
-	 * The size of byte buffer pages in {@link ProgressiveCharBufferWriter}
-	 * It's a rather large size: a tradeoff for very large JSON
-	 * documents as we do heavy bulking, and not too large to
-	 * be a penalty for small requests.
-	 * 1024 has been shown to produce reasonable, TLAB only garbage.
-	 */
-	private static final int BYTE_BUFFER_PAGE_SIZE = 1024;
-
-	/**
-	 * We want the char buffer and byte buffer pages of approximately
-	 * the same size, however one is in characters and the other in bytes.
-	 * Considering we hardcoded UTF-8 as encoding, which has an average
-	 * conversion ratio of almost 1.0, this should be close enough.
-	 */
-	private static final int CHAR_BUFFER_SIZE = BYTE_BUFFER_PAGE_SIZE;
-
 	private final Gson gson;
+	private final ByteBufferPool pool;
 	private final List<JsonObject> bodyParts;
 
 	/**
@@ -103,6 +96,14 @@ final class GsonHttpEntity implements HttpEntity, HttpAsyncContentProducer {
 	 */
 	private boolean contentLengthWasProvided = false;
 
+	/**
+	 * Whether we already started encoding into buffers from the pool,
+	 * either to find out the content length or to produce content.
+	 * Encoding is deferred until then, so that we don't borrow buffers
+	 * if the content ends up being written through {@link #writeTo(OutputStream)}.
+	 */
+	private boolean encodingStarted = false;
+
 	/**
 	 * Since flow control might hint to stop producing data,
 	 * while we can't interrupt the rendering of a single JSON body
@@ -119,16 +120,23 @@ final class GsonHttpEntity implements HttpEntity, HttpAsyncContentProducer {
 	 * partially rendered JSON stored in its buffers while flow control
 	 * refuses to accept more bytes.
 	 */
-	private ProgressiveCharBufferWriter writer =
-			new ProgressiveCharBufferWriter( CHARSET, CHAR_BUFFER_SIZE, BYTE_BUFFER_PAGE_SIZE );
+	private final PooledUtf8Writer writer;
 
-	public GsonHttpEntity(Gson gson, List<JsonObject> bodyParts) throws IOException {
+	/**
+	 * A single JSON writer for all body parts, created lazily,
+	 * so that we don't need to create one for each body part.
+	 */
+	private JsonWriter jsonWriter;
+
+	public GsonHttpEntity(Gson gson, ByteBufferPool pool, List<JsonObject> bodyParts) {
 		Contracts.assertNotNull( gson, "gson" );
+		Contracts.assertNotNull( pool, "pool" );
 		Contracts.assertNotNull( bodyParts, "bodyParts" );
 		this.gson = gson;
+		this.pool = pool;
 		this.bodyParts = bodyParts;
+		this.writer = new PooledUtf8Writer( pool );
 		this.contentLength = -1;
-		attemptOnePassEncoding();
 	}
 
 	@Override
@@ -143,6 +151,9 @@ public boolean isChunked() {
 
 	@Override
 	public long getContentLength() {
+		if ( !contentLengthWasProvided && !encodingStarted ) {
+			attemptOnePassEncoding();
+		}
 		this.contentLengthWasProvided = true;
 		return this.contentLength;
 	}
@@ -160,11 +171,14 @@ public Header getContentEncoding() {
 
 	@Override
 	public InputStream getContent() {
-		return new HttpAsyncContentProducerInputStream( this, BYTE_BUFFER_PAGE_SIZE );
+		return new HttpAsyncContentProducerInputStream( this, pool.bufferSize() );
 	}
 
 	@Override
 	public void writeTo(OutputStream out) throws IOException {
+		// Pages from the pool are not needed here: give back those we may have borrowed already,
+		// because callers of this method may never call close().
+		close();
 		/*
 		 * For this method we use no pagination, so ignore the mutable fields.
 		 *
@@ -198,8 +212,12 @@ public void close() {
 		//Nothing to close but let's make sure we re-wind the stream
 		//so that we can start from the beginning if needed
 		this.nextBodyToEncodeIndex = 0;
-		//Discard previous buffers as they might contain in-process content:
-		this.writer = new ProgressiveCharBufferWriter( CHARSET, CHAR_BUFFER_SIZE, BYTE_BUFFER_PAGE_SIZE );
+		//Discard previous buffers as they might contain in-process content,
+		//and give them back to the pool:
+		this.writer.reset();
+		//The JSON writer might be in the middle of an object:
+		this.jsonWriter = null;
+		this.encodingStarted = false;
 	}
 
 	/**
@@ -210,15 +228,23 @@ public void close() {
 	 * Incidentally, having this information would avoid chunked output encoding
 	 * which is ideal precisely for small messages which can fit into a single buffer.
 	 *
-	 * @throws IOException This is unlikely to be caused by a real IO operation as there's no output buffer yet,
-	 * but it could also be triggered by the UTF8 encoding operations.
+	 * Failures are unlikely to be caused by a real IO operation as there's no output buffer yet,
+	 * but they could be triggered by the encoding operations:
+	 * they are ignored here, as they will happen again when producing content.
 	 */
-	private void attemptOnePassEncoding() throws IOException {
-		// Essentially attempt to use the writer without going NPE on the output sink
-		// as it's not set yet.
-		triggerFullWrite();
+	private void attemptOnePassEncoding() {
+		encodingStarted = true;
+		try {
+			// Essentially attempt to use the writer without going NPE on the output sink
+			// as it's not set yet.
+			triggerFullWrite();
+		}
+		catch (IOException | RuntimeException e) {
+			// Start from scratch when producing content.
+			close();
+			return;
+		}
 		if ( nextBodyToEncodeIndex == bodyParts.size() ) {
-			writer.flush();
 			// The buffer's content length so far is the final content length,
 			// as we know the entire content has been encoded already.
 			hintContentLength( writer.contentLength() );
@@ -234,11 +260,14 @@ private void attemptOnePassEncoding() throws IOException {
 	 * @throws IOException If writing fails.
 	 */
 	private void triggerFullWrite() throws IOException {
+		if ( jsonWriter == null ) {
+			jsonWriter = gson.newJsonWriter( writer );
+		}
 		while ( nextBodyToEncodeIndex < bodyParts.size() ) {
 			JsonObject bodyPart = bodyParts.get( nextBodyToEncodeIndex++ );
-			gson.toJson( bodyPart, writer );
-			writer.append( '\n' );
-			writer.flush();
+			// Gson temporarily makes the writer lenient, which allows multiple top-level values.
+			gson.toJson( bodyPart, jsonWriter );
+			writer.write( '\n' );
 			if ( writer.isFlowControlPushingBack() ) {
 				//Just quit: return control to the caller and trust we'll be called again.
 				return;
@@ -253,6 +282,7 @@ public void produceContent(ContentEncoder encoder, IOControl ioctrl) throws IOEx
 		// to have available space !
 		// Production of data is expected to complete only after we invoke ContentEncoder#complete.
 
+		encodingStarted = true;
 		//Re-set the encoder as it might be a different one than a previously used instance:
 		writer.setOutput( encoder );
 
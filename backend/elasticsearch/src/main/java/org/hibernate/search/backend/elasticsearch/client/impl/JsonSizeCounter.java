@@ -0,0 +1,61 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.client.impl;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+import org.hibernate.search.util.common.AssertionFailure;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+
+/**
+ * Computes the number of bytes JSON body parts will take up in an HTTP request,
+ * exactly as {@link GsonHttpEntity} will encode them,
+ * but without keeping the encoded bytes in memory.
+ * <p>
+ * Not thread-safe: buffers are reused from one call to the next.
+ */
+public final class JsonSizeCounter {
+
+	private final Gson gson;
+	private final CountingOutputStream countingStream;
+	private final Writer writer;
+
+	public JsonSizeCounter(Gson gson) {
+		this.gson = gson;
+		this.countingStream = new CountingOutputStream( OutputStream.nullOutputStream() );
+		// Same charset as GsonHttpEntity.
+		this.writer = new OutputStreamWriter( countingStream, StandardCharsets.UTF_8 );
+	}
+
+	/**
+	 * @param bodyPart A body part, or {@code null}.
+	 * @return The number of bytes the given body part, including its trailing line break, will take up in a request,
+	 * or {@code 0} if the body part is {@code null}.
+	 */
+	public long size(JsonObject bodyPart) {
+		if ( bodyPart == null ) {
+			return 0L;
+		}
+		long before = countingStream.getBytesWritten();
+		try {
+			gson.toJson( bodyPart, writer );
+			writer.append( '\n' );
+			writer.flush();
+		}
+		catch (IOException e) {
+			throw new AssertionFailure( "Unexpected I/O failure when writing to a discarding stream", e );
+		}
+		return countingStream.getBytesWritten() - before;
+	}
+
+}
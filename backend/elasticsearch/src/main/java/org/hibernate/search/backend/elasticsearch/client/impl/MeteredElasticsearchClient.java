@@ -0,0 +1,59 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.client.impl;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchClientImplementor;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
+import org.hibernate.search.engine.common.metrics.spi.MetricsTimer;
+
+/**
+ * A client reporting the duration of every request to a {@link MetricsTimer},
+ * from submission to completion of the response future (successful or not).
+ * <p>
+ * Wraps the client created by the client factory, which may be a custom one.
+ */
+public final class MeteredElasticsearchClient implements ElasticsearchClientImplementor {
+
+	/**
+	 * The name of the timer reporting the duration of requests to the Elasticsearch cluster.
+	 */
+	public static final String METRIC_REQUEST = "hibernate.search.elasticsearch.request";
+
+	private final ElasticsearchClientImplementor delegate;
+	private final MetricsTimer requestTimer;
+
+	public MeteredElasticsearchClient(ElasticsearchClientImplementor delegate, MetricsTimer requestTimer) {
+		this.delegate = delegate;
+		this.requestTimer = requestTimer;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[" + delegate + "]";
+	}
+
+	@Override
+	public CompletableFuture<ElasticsearchResponse> submit(ElasticsearchRequest request) {
+		long start = System.nanoTime();
+		CompletableFuture<ElasticsearchResponse> future = delegate.submit( request );
+		future.whenComplete( (response, throwable) -> requestTimer.recordSince( start ) );
+		return future;
+	}
+
+	@Override
+	public <T> T unwrap(Class<T> clientClass) {
+		return delegate.unwrap( clientClass );
+	}
+
+	@Override
+	public void close() {
+		delegate.close();
+	}
+}
@@ -0,0 +1,324 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.client.impl;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+
+import org.apache.http.nio.ContentEncoder;
+
+/**
+ * A writer to a ContentEncoder, encoding chars to UTF-8 directly into pages borrowed from a {@link ByteBufferPool},
+ * and storing those pages when flow control pushes back.
+ * <p>
+ * To be used when your input source is not reactive (uses {@link Writer}),
+ * but you have multiple elements to write and thus could take advantage of
+ * reactive output to some extent.
+ * <p>
+ * Pages are handed to the {@link ContentEncoder} as-is, without any intermediary copy,
+ * and are returned to the pool as soon as they have been fully written,
+ * or when {@link #reset()} is called.
+ * <p>
+ * Unpaired surrogates are encoded as {@code '?'},
+ * like {@link java.io.OutputStreamWriter} does.
+ */
+final class PooledUtf8Writer extends Writer {
+
+	/**
+	 * The maximum number of bytes a single char can produce:
+	 * a low surrogate completing a pair produces 4 bytes.
+	 */
+	private static final int MAX_BYTES_PER_CHAR = 4;
+
+	private static final byte REPLACEMENT = (byte) '?';
+
+	private final ByteBufferPool pool;
+
+	/**
+	 * Filled buffer pages to be written, in write order.
+	 */
+	private final Deque<ByteBuffer> needWritingPages = new ArrayDeque<>( 5 );
+
+	/**
+	 * Current buffer page, potentially null,
+	 * which may have some content but isn't full yet.
+	 */
+	private ByteBuffer currentPage;
+
+	/**
+	 * A high surrogate waiting for the next char, or {@code 0}.
+	 */
+	private char pendingHighSurrogate = 0;
+
+	/**
+	 * Initially null: must be set before writing is started and each
+	 * time it's resumed as it might change between writes during
+	 * chunked encoding.
+	 */
+	private ContentEncoder output;
+
+	/**
+	 * Set this to true when we detect clogging, so we can stop trying.
+	 * Make sure to reset this when the HTTP Client hints so.
+	 * It's never dangerous to re-enable, just not efficient to try writing
+	 * unnecessarily.
+	 */
+	private boolean flowControlPushingBack = false;
+
+	/**
+	 * The length of pages that are no longer the current page.
+	 */
+	private long retiredPagesLength = 0;
+
+	PooledUtf8Writer(ByteBufferPool pool) {
+		this.pool = pool;
+	}
+
+	/**
+	 * Set the encoder to write to when buffers are full.
+	 */
+	public void setOutput(ContentEncoder output) {
+		this.output = output;
+	}
+
+	// Overrides super.write(int) to remove the synchronized() wrapper.
+	@Override
+	public void write(int c) throws IOException {
+		writeChar( (char) c );
+	}
+
+	// Overrides super.write(String, int, int) to remove the synchronized() wrapper.
+	@Override
+	public void write(String str, int off, int len) throws IOException {
+		writeChars( str, off, off + len );
+	}
+
+	@Override
+	public void write(char[] cbuf, int off, int len) throws IOException {
+		writeChars( CharBuffer.wrap( cbuf, off, len ), 0, len );
+	}
+
+	@Override
+	public void flush() {
+		// Nothing to do: chars are encoded as soon as they are written,
+		// and we want to control flushing to the output independently.
+	}
+
+	@Override
+	public void close() {
+		// Nothing to do
+	}
+
+	/**
+	 * Send all full buffer pages to the {@link #setOutput(ContentEncoder) output}.
+	 * <p>
+	 * Flow control may push back, in which case this method or {@link #flushToOutput()}
+	 * should be called again later.
+	 *
+	 * @throws IOException when {@link ContentEncoder#write(ByteBuffer)} fails.
+	 */
+	public void resumePendingWrites() throws IOException {
+		flowControlPushingBack = false;
+		attemptFlushPendingBuffers( false );
+	}
+
+	/**
+	 * @return {@code true} if the {@link #setOutput(ContentEncoder) output} pushed
+	 * back the last time a write was attempted, {@code false} otherwise.
+	 */
+	public boolean isFlowControlPushingBack() {
+		return flowControlPushingBack;
+	}
+
+	/**
+	 * Send all buffer pages to the {@link #setOutput(ContentEncoder) output},
+	 * Even those that are not full yet
+	 * <p>
+	 * Flow control may push back, in which case this method should be called again later.
+	 *
+	 * @throws IOException when {@link ContentEncoder#write(ByteBuffer)} fails.
+	 */
+	public void flushToOutput() throws IOException {
+		if ( pendingHighSurrogate != 0 ) {
+			// The input ended with an unpaired surrogate
+			pendingHighSurrogate = 0;
+			pageWithRemaining( 1 ).put( REPLACEMENT );
+		}
+		flowControlPushingBack = false;
+		attemptFlushPendingBuffers( true );
+	}
+
+	/**
+	 * @return The length of the content stored in the byte buffers so far, in bytes.
+	 * This does include the content that has already been written to the {@link #setOutput(ContentEncoder) output}.
+	 */
+	public long contentLength() {
+		return retiredPagesLength + ( currentPage == null ? 0 : currentPage.position() );
+	}
+
+	/**
+	 * Discard all content and return all pages to the pool,
+	 * so that this writer can be used to write content from the beginning again.
+	 */
+	public void reset() {
+		for ( ByteBuffer page : needWritingPages ) {
+			pool.release( page );
+		}
+		needWritingPages.clear();
+		if ( currentPage != null ) {
+			pool.release( currentPage );
+			currentPage = null;
+		}
+		pendingHighSurrogate = 0;
+		output = null;
+		flowControlPushingBack = false;
+		retiredPagesLength = 0;
+	}
+
+	private void writeChars(CharSequence chars, int start, int end) throws IOException {
+		int i = start;
+		while ( i < end ) {
+			if ( pendingHighSurrogate != 0 ) {
+				writeChar( chars.charAt( i++ ) );
+				continue;
+			}
+			ByteBuffer page = pageWithRemaining( MAX_BYTES_PER_CHAR );
+			// Fast path for ASCII chars, which make up most of JSON.
+			int asciiEnd = Math.min( end, i + page.remaining() );
+			char c;
+			while ( i < asciiEnd && ( c = chars.charAt( i ) ) < 0x80 ) {
+				page.put( (byte) c );
+				++i;
+			}
+			if ( i < asciiEnd ) {
+				// We stopped on a non-ASCII char
+				writeChar( chars.charAt( i++ ) );
+			}
+		}
+	}
+
+	private void writeChar(char c) throws IOException {
+		ByteBuffer page = pageWithRemaining( MAX_BYTES_PER_CHAR );
+		if ( pendingHighSurrogate != 0 ) {
+			char highSurrogate = pendingHighSurrogate;
+			pendingHighSurrogate = 0;
+			if ( Character.isLowSurrogate( c ) ) {
+				int codePoint = Character.toCodePoint( highSurrogate, c );
+				page.put( (byte) ( 0xF0 | ( codePoint >> 18 ) ) );
+				page.put( (byte) ( 0x80 | ( ( codePoint >> 12 ) & 0x3F ) ) );
+				page.put( (byte) ( 0x80 | ( ( codePoint >> 6 ) & 0x3F ) ) );
+				page.put( (byte) ( 0x80 | ( codePoint & 0x3F ) ) );
+				return;
+			}
+			// Unpaired high surrogate; there is still room for the (at most 3) bytes of the current char.
+			page.put( REPLACEMENT );
+		}
+		if ( c < 0x80 ) {
+			page.put( (byte) c );
+		}
+		else if ( c < 0x800 ) {
+			page.put( (byte) ( 0xC0 | ( c >> 6 ) ) );
+			page.put( (byte) ( 0x80 | ( c & 0x3F ) ) );
+		}
+		else if ( Character.isHighSurrogate( c ) ) {
+			pendingHighSurrogate = c;
+		}
+		else if ( Character.isLowSurrogate( c ) ) {
+			// Unpaired low surrogate
+			page.put( REPLACEMENT );
+		}
+		else {
+			page.put( (byte) ( 0xE0 | ( c >> 12 ) ) );
+			page.put( (byte) ( 0x80 | ( ( c >> 6 ) & 0x3F ) ) );
+			page.put( (byte) ( 0x80 | ( c & 0x3F ) ) );
+		}
+	}
+
+	private ByteBuffer pageWithRemaining(int minRemaining) throws IOException {
+		if ( currentPage != null ) {
+			if ( currentPage.remaining() >= minRemaining ) {
+				return currentPage;
+			}
+			// Avoid storing pages if we can simply write them
+			attemptFlushPendingBuffers( true );
+			if ( currentPage != null ) {
+				/*
+				 * We couldn't write the current page, but it's (almost) full,
+				 * so let's move it out of the way.
+				 */
+				retire( currentPage );
+				needWritingPages.add( currentPage );
+				currentPage = null;
+			}
+		}
+		currentPage = pool.acquire();
+		return currentPage;
+	}
+
+	private void retire(ByteBuffer page) {
+		page.flip();
+		retiredPagesLength += page.remaining();
+	}
+
+	/**
+	 * @return {@code true} if this buffer contains content to be written, {@code false} otherwise.
+	 */
+	private boolean hasRemaining() {
+		return !needWritingPages.isEmpty() || currentPage != null && currentPage.position() > 0;
+	}
+
+	private void attemptFlushPendingBuffers(boolean flushCurrentPage) throws IOException {
+		if ( output == null ) {
+			flowControlPushingBack = true;
+		}
+		if ( flowControlPushingBack || !hasRemaining() ) {
+			// Nothing to do
+			return;
+		}
+		Iterator<ByteBuffer> iterator = needWritingPages.iterator();
+		while ( iterator.hasNext() && !flowControlPushingBack ) {
+			ByteBuffer page = iterator.next();
+			boolean written = write( page );
+			if ( written ) {
+				iterator.remove();
+				pool.release( page );
+			}
+			else {
+				flowControlPushingBack = true;
+			}
+		}
+		if ( flushCurrentPage && !flowControlPushingBack && currentPage != null && currentPage.position() > 0 ) {
+			// The encoder still accepts some input, and we are allowed to flush the current page. Let's do.
+			retire( currentPage );
+			boolean written = write( currentPage );
+			if ( written ) {
+				pool.release( currentPage );
+			}
+			else {
+				flowControlPushingBack = true;
+				needWritingPages.add( currentPage );
+			}
+			currentPage = null;
+		}
+	}
+
+	private boolean write(ByteBuffer page) throws IOException {
+		final int toWrite = page.remaining();
+		// We should never do 0-length writes, see HSEARCH-2854
+		if ( toWrite == 0 ) {
+			return true;
+		}
+		final int actuallyWritten = output.write( page );
+		return toWrite == actuallyWritten;
+	}
+
+}
@@ -37,6 +37,7 @@
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
 import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
 import org.hibernate.search.engine.cfg.spi.OptionalConfigurationProperty;
+import org.hibernate.search.engine.common.metrics.spi.MetricsTags;
 import org.hibernate.search.engine.environment.bean.BeanHolder;
 import org.hibernate.search.engine.environment.bean.BeanReference;
 import org.hibernate.search.engine.environment.bean.BeanResolver;
@@ -80,6 +81,12 @@ public class ElasticsearchBackendFactory implements BackendFactory {
 					.withDefault( ElasticsearchBackendSettings.Defaults.LAYOUT_STRATEGY )
 					.build();
 
+	private static final ConfigurationProperty<Boolean> INDEXING_SHARED_QUEUES =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.INDEXING_SHARED_QUEUES )
+					.asBoolean()
+					.withDefault( ElasticsearchBackendSettings.Defaults.INDEXING_SHARED_QUEUES )
+					.build();
+
 	@Override
 	public BackendImplementor create(EventContext eventContext, BackendBuildContext buildContext,
 			ConfigurationPropertySource propertySource) {
@@ -115,9 +122,11 @@ public BackendImplementor create(EventContext eventContext, BackendBuildContext
 			}
 
 			ElasticsearchDialectFactory dialectFactory = new ElasticsearchDialectFactory();
+			MetricsTags metricsTags = MetricsTags.backend( buildContext.backendName() );
 			link = new ElasticsearchLinkImpl(
 					clientFactoryHolder, threads, defaultGsonProvider, logPrettyPrinting,
-					dialectFactory, configuredVersion
+					dialectFactory, configuredVersion,
+					buildContext.metricsRegistry(), metricsTags
 			);
 
 			ElasticsearchModelDialect dialect;
@@ -155,7 +164,9 @@ public BackendImplementor create(EventContext eventContext, BackendBuildContext
 					getMultiTenancyStrategy( propertySource, buildContext ),
 					indexLayoutStrategyHolder,
 					createTypeNameMapping( propertySource, indexLayoutStrategyHolder.get() ),
-					buildContext.failureHandler(), buildContext.timingSource()
+					buildContext.failureHandler(), buildContext.timingSource(),
+					buildContext.metricsRegistry(), metricsTags,
+					INDEXING_SHARED_QUEUES.get( propertySource )
 			);
 		}
 		catch (RuntimeException e) {
@@ -34,6 +34,7 @@
 import org.hibernate.search.backend.elasticsearch.lowlevel.index.settings.impl.IndexSettings;
 import org.hibernate.search.backend.elasticsearch.mapping.impl.TypeNameMapping;
 import org.hibernate.search.backend.elasticsearch.multitenancy.impl.MultiTenancyStrategy;
+import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchBatchingWorkOrchestrator;
 import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchSimpleWorkOrchestrator;
 import org.hibernate.search.backend.elasticsearch.resources.impl.BackendThreads;
 import org.hibernate.search.backend.elasticsearch.types.dsl.provider.impl.ElasticsearchIndexFieldTypeFactoryProvider;
@@ -48,6 +49,8 @@
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
 import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
 import org.hibernate.search.engine.cfg.spi.OptionalConfigurationProperty;
+import org.hibernate.search.engine.common.metrics.spi.MetricsRegistry;
+import org.hibernate.search.engine.common.metrics.spi.MetricsTags;
 import org.hibernate.search.engine.common.timing.spi.TimingSource;
 import org.hibernate.search.engine.environment.bean.BeanHolder;
 import org.hibernate.search.engine.environment.bean.BeanReference;
@@ -97,6 +100,8 @@
 	private final ElasticsearchLinkImpl link;
 
 	private final ElasticsearchSimpleWorkOrchestrator generalPurposeOrchestrator;
+	// Null unless indexing queues are shared by all indexes.
+	private final ElasticsearchBatchingWorkOrchestrator sharedIndexingOrchestrator;
 
 	private final ElasticsearchIndexFieldTypeFactoryProvider typeFactoryProvider;
 	private final Gson userFacingGson;
@@ -117,7 +122,9 @@
 			MultiTenancyStrategy multiTenancyStrategy,
 			BeanHolder<? extends IndexLayoutStrategy> indexLayoutStrategyHolder,
 			TypeNameMapping typeNameMapping,
-			FailureHandler failureHandler, TimingSource timingSource) {
+			FailureHandler failureHandler, TimingSource timingSource,
+			MetricsRegistry metricsRegistry, MetricsTags metricsTags,
+			boolean sharedIndexingQueues) {
 		this.backendName = backendName;
 		this.eventContext = eventContext;
 		this.threads = threads;
@@ -127,6 +134,14 @@
 				"Elasticsearch general purpose orchestrator - " + eventContext.render(),
 				link
 		);
+		this.sharedIndexingOrchestrator = sharedIndexingQueues
+				? new ElasticsearchBatchingWorkOrchestrator(
+						"Elasticsearch shared indexing orchestrator - " + eventContext.render(),
+						threads, link,
+						failureHandler,
+						metricsRegistry, metricsTags
+				)
+				: null;
 		this.multiTenancyStrategy = multiTenancyStrategy;
 		this.typeFactoryProvider = typeFactoryProvider;
 		this.userFacingGson = userFacingGson;
@@ -141,7 +156,9 @@
 				typeNameMapping,
 				failureHandler, timingSource,
 				generalPurposeOrchestrator,
-				propertyMappingValidatorProvider
+				sharedIndexingOrchestrator,
+				propertyMappingValidatorProvider,
+				metricsRegistry, metricsTags
 		);
 		this.indexNamesRegistry = new IndexNamesRegistry();
 	}
@@ -156,16 +173,24 @@ public void start(BackendStartContext context) {
 		threads.onStart( context.configurationPropertySource(), context.beanResolver(), context.threadPoolProvider() );
 		link.onStart( context.beanResolver(), context.configurationPropertySource() );
 		generalPurposeOrchestrator.start( context.configurationPropertySource() );
+		if ( sharedIndexingOrchestrator != null ) {
+			// Index-level settings of indexing queues are only taken into account at the backend level in this case.
+			sharedIndexingOrchestrator.start( context.configurationPropertySource() );
+		}
 	}
 
 	@Override
 	public CompletableFuture<?> preStop() {
-		return generalPurposeOrchestrator.preStop();
+		if ( sharedIndexingOrchestrator == null ) {
+			return generalPurposeOrchestrator.preStop();
+		}
+		return CompletableFuture.allOf( sharedIndexingOrchestrator.preStop(), generalPurposeOrchestrator.preStop() );
 	}
 
 	@Override
 	public void stop() {
 		try ( Closer<RuntimeException> closer = new Closer<>() ) {
+			closer.push( ElasticsearchBatchingWorkOrchestrator::stop, sharedIndexingOrchestrator );
 			closer.push( ElasticsearchSimpleWorkOrchestrator::stop, generalPurposeOrchestrator );
 			closer.push( ElasticsearchLinkImpl::onStop, link );
 			closer.push( BeanHolder::close, indexLayoutStrategyHolder );
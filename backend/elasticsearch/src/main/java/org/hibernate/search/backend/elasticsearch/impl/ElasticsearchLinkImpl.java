@@ -11,7 +11,9 @@
 
 import org.hibernate.search.backend.elasticsearch.ElasticsearchVersion;
 import org.hibernate.search.backend.elasticsearch.cfg.ElasticsearchBackendSettings;
+import org.hibernate.search.backend.elasticsearch.client.impl.ConcurrencyLimitedElasticsearchClient;
 import org.hibernate.search.backend.elasticsearch.client.impl.ElasticsearchClientUtils;
+import org.hibernate.search.backend.elasticsearch.client.impl.MeteredElasticsearchClient;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchClient;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchClientFactory;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchClientImplementor;
@@ -28,6 +30,8 @@
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
 import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
 import org.hibernate.search.engine.cfg.spi.OptionalConfigurationProperty;
+import org.hibernate.search.engine.common.metrics.spi.MetricsRegistry;
+import org.hibernate.search.engine.common.metrics.spi.MetricsTags;
 import org.hibernate.search.engine.environment.bean.BeanHolder;
 import org.hibernate.search.engine.environment.bean.BeanResolver;
 import org.hibernate.search.util.common.AssertionFailure;
@@ -61,12 +65,32 @@ class ElasticsearchLinkImpl implements ElasticsearchLink {
 					.withDefault( ElasticsearchBackendSettings.Defaults.QUERY_SHARD_FAILURE_IGNORE )
 					.build();
 
+	private static final ConfigurationProperty<Boolean> CONCURRENCY_LIMIT_ENABLED =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.CONCURRENCY_LIMIT_ENABLED )
+					.asBoolean()
+					.withDefault( ElasticsearchBackendSettings.Defaults.CONCURRENCY_LIMIT_ENABLED )
+					.build();
+
+	private static final ConfigurationProperty<Integer> CONCURRENCY_LIMIT_INDEXING_MAX =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.CONCURRENCY_LIMIT_INDEXING_MAX )
+					.asIntegerStrictlyPositive()
+					.withDefault( ElasticsearchBackendSettings.Defaults.CONCURRENCY_LIMIT_INDEXING_MAX )
+					.build();
+
+	private static final ConfigurationProperty<Integer> CONCURRENCY_LIMIT_SEARCH_MAX =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.CONCURRENCY_LIMIT_SEARCH_MAX )
+					.asIntegerStrictlyPositive()
+					.withDefault( ElasticsearchBackendSettings.Defaults.CONCURRENCY_LIMIT_SEARCH_MAX )
+					.build();
+
 	private final BeanHolder<? extends ElasticsearchClientFactory> clientFactoryHolder;
 	private final BackendThreads threads;
 	private final GsonProvider defaultGsonProvider;
 	private final boolean logPrettyPrinting;
 	private final ElasticsearchDialectFactory dialectFactory;
 	private final Optional<ElasticsearchVersion> configuredVersionOnBackendCreationOptional;
+	private final MetricsRegistry metricsRegistry;
+	private final MetricsTags metricsTags;
 
 	private ElasticsearchClientImplementor clientImplementor;
 	private ElasticsearchVersion elasticsearchVersion;
@@ -80,13 +104,16 @@ class ElasticsearchLinkImpl implements ElasticsearchLink {
 	ElasticsearchLinkImpl(BeanHolder<? extends ElasticsearchClientFactory> clientFactoryHolder,
 			BackendThreads threads, GsonProvider defaultGsonProvider, boolean logPrettyPrinting,
 			ElasticsearchDialectFactory dialectFactory,
-			Optional<ElasticsearchVersion> configuredVersionOnBackendCreationOptional) {
+			Optional<ElasticsearchVersion> configuredVersionOnBackendCreationOptional,
+			MetricsRegistry metricsRegistry, MetricsTags metricsTags) {
 		this.clientFactoryHolder = clientFactoryHolder;
 		this.threads = threads;
 		this.defaultGsonProvider = defaultGsonProvider;
 		this.logPrettyPrinting = logPrettyPrinting;
 		this.dialectFactory = dialectFactory;
 		this.configuredVersionOnBackendCreationOptional = configuredVersionOnBackendCreationOptional;
+		this.metricsRegistry = metricsRegistry;
+		this.metricsTags = metricsTags;
 	}
 
 	@Override
@@ -138,11 +165,22 @@ ElasticsearchVersion getElasticsearchVersion() {
 
 	void onStart(BeanResolver beanResolver, ConfigurationPropertySource propertySource) {
 		if ( clientImplementor == null ) {
-			clientImplementor = clientFactoryHolder.get().create(
+			ElasticsearchClientImplementor client = clientFactoryHolder.get().create(
 					beanResolver, propertySource, threads.getThreadProvider(), threads.getPrefix(),
 					threads.getWorkExecutor(), defaultGsonProvider,
 					configuredVersionOnBackendCreationOptional
 			);
+			// Meter requests inside the concurrency limit,
+			// so that the request timer does not include the time spent waiting for the limit.
+			client = new MeteredElasticsearchClient( client,
+					metricsRegistry.timer( MeteredElasticsearchClient.METRIC_REQUEST, metricsTags ) );
+			if ( CONCURRENCY_LIMIT_ENABLED.get( propertySource ) ) {
+				client = new ConcurrencyLimitedElasticsearchClient( client,
+						CONCURRENCY_LIMIT_INDEXING_MAX.get( propertySource ),
+						CONCURRENCY_LIMIT_SEARCH_MAX.get( propertySource ),
+						metricsRegistry, metricsTags );
+			}
+			clientImplementor = client;
 			clientFactoryHolder.close(); // We won't need it anymore
 
 			elasticsearchVersion = initVersion( propertySource );
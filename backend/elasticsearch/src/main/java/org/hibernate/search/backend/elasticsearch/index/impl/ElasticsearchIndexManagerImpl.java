@@ -8,6 +8,7 @@
 
 import java.lang.invoke.MethodHandles;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
@@ -67,6 +68,8 @@
 	private final List<DocumentMetadataContributor> documentMetadataContributors;
 
 	private final ElasticsearchBatchingWorkOrchestrator indexingOrchestrator;
+	// Shared orchestrators are started and stopped by the backend.
+	private final boolean indexingOrchestratorShared;
 
 	private ElasticsearchIndexSchemaManager schemaManager;
 	private ElasticsearchAnalysisPerformer analysisPerformer;
@@ -77,7 +80,12 @@
 		this.backendContext = backendContext;
 		this.model = model;
 		this.documentMetadataContributors = documentMetadataContributors;
-		this.indexingOrchestrator = backendContext.createIndexingOrchestrator( model.hibernateSearchName() );
+		Optional<ElasticsearchBatchingWorkOrchestrator> sharedIndexingOrchestrator =
+				backendContext.sharedIndexingOrchestrator();
+		this.indexingOrchestratorShared = sharedIndexingOrchestrator.isPresent();
+		this.indexingOrchestrator = indexingOrchestratorShared
+				? sharedIndexingOrchestrator.get()
+				: backendContext.createIndexingOrchestrator( model.hibernateSearchName() );
 	}
 
 	@Override
@@ -110,30 +118,42 @@ public void start(IndexManagerStartContext context) {
 					}
 			);
 
-			indexingOrchestrator.start( context.configurationPropertySource() );
+			if ( !indexingOrchestratorShared ) {
+				indexingOrchestrator.start( context.configurationPropertySource() );
+			}
 
 			analysisPerformer = backendContext.createAnalysisPerformer( model );
 		}
 		catch (RuntimeException e) {
 			new SuppressingCloser( e )
-					.push( ElasticsearchBatchingWorkOrchestrator::stop, indexingOrchestrator );
+					.push( ElasticsearchIndexManagerImpl::stopIndexingOrchestrator, this );
 			throw e;
 		}
 	}
 
 	@Override
 	public CompletableFuture<?> preStop() {
+		if ( indexingOrchestratorShared ) {
+			// Pending works will be processed when the backend stops.
+			return CompletableFuture.completedFuture( null );
+		}
 		return indexingOrchestrator.preStop();
 	}
 
 	@Override
 	public void stop() {
 		try ( Closer<RuntimeException> closer = new Closer<>() ) {
-			closer.push( ElasticsearchBatchingWorkOrchestrator::stop, indexingOrchestrator );
+			closer.push( ElasticsearchIndexManagerImpl::stopIndexingOrchestrator, this );
 			schemaManager = null;
 		}
 	}
 
+	private void stopIndexingOrchestrator() {
+		if ( !indexingOrchestratorShared ) {
+			indexingOrchestrator.stop();
+		}
+	}
+
 	@Override
 	public String getMappedTypeName() {
 		return model.mappedTypeName();
@@ -50,6 +50,8 @@
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
 import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
 import org.hibernate.search.engine.cfg.spi.OptionalConfigurationProperty;
+import org.hibernate.search.engine.common.metrics.spi.MetricsRegistry;
+import org.hibernate.search.engine.common.metrics.spi.MetricsTags;
 import org.hibernate.search.engine.common.timing.spi.TimingSource;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.engine.search.loading.spi.SearchLoadingContextBuilder;
@@ -83,8 +85,11 @@ public class IndexManagerBackendContext implements SearchBackendContext, WorkExe
 	private final FailureHandler failureHandler;
 	private final TimingSource timingSource;
 	private final ElasticsearchParallelWorkOrchestrator generalPurposeOrchestrator;
+	private final ElasticsearchBatchingWorkOrchestrator sharedIndexingOrchestrator;
 	private final ElasticsearchPropertyMappingValidatorProvider propertyMappingValidatorProvider;
 	private final SearchProjectionBackendContext searchProjectionBackendContext;
+	private final MetricsRegistry metricsRegistry;
+	private final MetricsTags metricsTags;
 
 	public IndexManagerBackendContext(ElasticsearchBackend backendAPI,
 			EventContext eventContext,
@@ -95,7 +100,9 @@ public IndexManagerBackendContext(ElasticsearchBackend backendAPI,
 			FailureHandler failureHandler,
 			TimingSource timingSource,
 			ElasticsearchParallelWorkOrchestrator generalPurposeOrchestrator,
-			ElasticsearchPropertyMappingValidatorProvider propertyMappingValidatorProvider) {
+			ElasticsearchBatchingWorkOrchestrator sharedIndexingOrchestrator,
+			ElasticsearchPropertyMappingValidatorProvider propertyMappingValidatorProvider,
+			MetricsRegistry metricsRegistry, MetricsTags metricsTags) {
 		this.backendAPI = backendAPI;
 		this.eventContext = eventContext;
 		this.threads = threads;
@@ -106,7 +113,10 @@ public IndexManagerBackendContext(ElasticsearchBackend backendAPI,
 		this.failureHandler = failureHandler;
 		this.timingSource = timingSource;
 		this.generalPurposeOrchestrator = generalPurposeOrchestrator;
+		this.sharedIndexingOrchestrator = sharedIndexingOrchestrator;
 		this.propertyMappingValidatorProvider = propertyMappingValidatorProvider;
+		this.metricsRegistry = metricsRegistry;
+		this.metricsTags = metricsTags;
 
 		this.searchProjectionBackendContext = new SearchProjectionBackendContext(
 				typeNameMapping.getTypeNameExtractionHelper(),
@@ -184,7 +194,7 @@ public <H> ElasticsearchSearchQueryBuilder<H> createSearchQueryBuilder(
 		multiTenancyStrategy.documentIdHelper().checkTenantId( sessionContext.tenantIdentifier(), eventContext );
 		return new ElasticsearchSearchQueryBuilder<>(
 				link.getWorkFactory(), link.getSearchResultExtractorFactory(),
-				generalPurposeOrchestrator,
+				generalPurposeOrchestrator, threads.getSearchLoadingExecutor(),
 				scope, sessionContext, loadingContextBuilder, rootProjection,
 				link.getScrollTimeout()
 		);
@@ -237,11 +247,21 @@ else if ( !optional.isPresent() && isStatusCheckPossible ) {
 		);
 	}
 
+	/**
+	 * @return The indexing orchestrator shared by all indexes of this backend,
+	 * or an empty optional if each index must {@link #createIndexingOrchestrator(String) create its own}.
+	 * The lifecycle of the shared orchestrator is handled by the backend.
+	 */
+	Optional<ElasticsearchBatchingWorkOrchestrator> sharedIndexingOrchestrator() {
+		return Optional.ofNullable( sharedIndexingOrchestrator );
+	}
+
 	ElasticsearchBatchingWorkOrchestrator createIndexingOrchestrator(String indexName) {
 		return new ElasticsearchBatchingWorkOrchestrator(
 				"Elasticsearch indexing orchestrator for index " + indexName,
 				threads, link,
-				failureHandler
+				failureHandler,
+				metricsRegistry, metricsTags.and( MetricsTags.INDEX, indexName )
 		);
 	}
 
@@ -891,4 +891,23 @@ SearchException vectorKnnMatchVectorTypeDiffersFromField(String absoluteFieldPat
 	@Message(id = ID_OFFSET + 190, value = "A single-valued highlight projection requested, "
 			+ "but the corresponding highlighter does not set number of fragments to 1.")
 	SearchException highlighterIncompatibleCardinality();
+
+	@Message(id = ID_OFFSET + 191,
+			value = "Elasticsearch request failed as part of a multi-search request: %3$s\nRequest: %1$s\nResponse: %2$s")
+	SearchException elasticsearchMultiSearchItemFailed(
+			@FormatWith(ElasticsearchRequestFormatter.class) ElasticsearchRequest request,
+			@FormatWith(ElasticsearchJsonObjectFormatter.class) JsonObject response,
+			String causeMessage, @Cause Exception cause);
+
+	@LogMessage(level = Level.DEBUG)
+	@Message(id = ID_OFFSET + 192,
+			value = "Elasticsearch rejected %1$d out of %2$d bulked works because it is overloaded."
+					+ " Retrying the rejected works in %3$dms (attempt %4$d out of %5$d).")
+	void bulkedWorksRejected(int rejectedCount, int totalCount, long delayMs, int nextAttempt, int maxAttempts);
+
+	@LogMessage(level = Level.DEBUG)
+	@Message(id = ID_OFFSET + 193,
+			value = "Elasticsearch request '%1$s %2$s' took too long or Elasticsearch reported being overloaded."
+					+ " Decreased concurrency limit: %3$s.")
+	void concurrencyLimitDecreased(String method, String path, Object limit);
 }
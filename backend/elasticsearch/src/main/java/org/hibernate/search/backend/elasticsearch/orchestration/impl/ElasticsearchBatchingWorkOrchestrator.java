@@ -9,14 +9,18 @@
 import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.backend.elasticsearch.cfg.ElasticsearchIndexSettings;
+import org.hibernate.search.backend.elasticsearch.client.impl.JsonSizeCounter;
 import org.hibernate.search.backend.elasticsearch.link.impl.ElasticsearchLink;
 import org.hibernate.search.backend.elasticsearch.resources.impl.BackendThreads;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkExecutionContext;
 import org.hibernate.search.backend.elasticsearch.work.impl.IndexingWork;
 import org.hibernate.search.engine.backend.orchestration.spi.BatchingExecutor;
+import org.hibernate.search.engine.backend.work.execution.IndexingQueueStrategyName;
 import org.hibernate.search.engine.backend.work.execution.OperationSubmitter;
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
 import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+import org.hibernate.search.engine.common.metrics.spi.MetricsRegistry;
+import org.hibernate.search.engine.common.metrics.spi.MetricsTags;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.util.common.data.impl.HashTable;
 import org.hibernate.search.util.common.data.impl.ModuloHashTable;
@@ -48,14 +52,52 @@
 					.withDefault( ElasticsearchIndexSettings.Defaults.INDEXING_QUEUE_SIZE )
 					.build();
 
+	private static final ConfigurationProperty<IndexingQueueStrategyName> QUEUE_STRATEGY =
+			ConfigurationProperty.forKey( ElasticsearchIndexSettings.INDEXING_QUEUE_STRATEGY )
+					.as( IndexingQueueStrategyName.class, IndexingQueueStrategyName::of )
+					.withDefault( ElasticsearchIndexSettings.Defaults.INDEXING_QUEUE_STRATEGY )
+					.build();
+
+	private static final ConfigurationProperty<Integer> MAX_LINGER =
+			ConfigurationProperty.forKey( ElasticsearchIndexSettings.INDEXING_MAX_LINGER )
+					.asIntegerPositiveOrZero()
+					.withDefault( ElasticsearchIndexSettings.Defaults.INDEXING_MAX_LINGER )
+					.build();
+
 	private static final ConfigurationProperty<Integer> MAX_BULK_SIZE =
 			ConfigurationProperty.forKey( ElasticsearchIndexSettings.INDEXING_MAX_BULK_SIZE )
 					.asIntegerStrictlyPositive()
 					.withDefault( ElasticsearchIndexSettings.Defaults.INDEXING_MAX_BULK_SIZE )
 					.build();
 
+	private static final ConfigurationProperty<Long> MAX_BULK_BYTES =
+			ConfigurationProperty.forKey( ElasticsearchIndexSettings.INDEXING_MAX_BULK_BYTES )
+					.asLongStrictlyPositive()
+					.withDefault( ElasticsearchIndexSettings.Defaults.INDEXING_MAX_BULK_BYTES )
+					.build();
+
+	private static final ConfigurationProperty<Integer> RETRY_MAX_ATTEMPTS =
+			ConfigurationProperty.forKey( ElasticsearchIndexSettings.INDEXING_RETRY_MAX_ATTEMPTS )
+					.asIntegerStrictlyPositive()
+					.withDefault( ElasticsearchIndexSettings.Defaults.INDEXING_RETRY_MAX_ATTEMPTS )
+					.build();
+
+	private static final ConfigurationProperty<Integer> RETRY_INITIAL_DELAY =
+			ConfigurationProperty.forKey( ElasticsearchIndexSettings.INDEXING_RETRY_INITIAL_DELAY )
+					.asIntegerPositiveOrZero()
+					.withDefault( ElasticsearchIndexSettings.Defaults.INDEXING_RETRY_INITIAL_DELAY )
+					.build();
+
+	private static final ConfigurationProperty<Integer> RETRY_MAX_DELAY =
+			ConfigurationProperty.forKey( ElasticsearchIndexSettings.INDEXING_RETRY_MAX_DELAY )
+					.asIntegerPositiveOrZero()
+					.withDefault( ElasticsearchIndexSettings.Defaults.INDEXING_RETRY_MAX_DELAY )
+					.build();
+
 	private final BackendThreads threads;
 	private final FailureHandler failureHandler;
+	private final MetricsRegistry metricsRegistry;
+	private final MetricsTags metricsTags;
 
 	private HashTable<BatchingExecutor<ElasticsearchBatchedWorkProcessor, ElasticsearchBatchedWork<?>>> executors;
 
@@ -64,13 +106,18 @@
 	 * @param threads The threads for this backend.
 	 * @param link The Elasticsearch link for this backend.
 	 * @param failureHandler A failure handler to report failures of the background thread.
+	 * @param metricsRegistry A registry to report metrics of the indexing queues to.
+	 * @param metricsTags The tags to attach to metrics of the indexing queues.
 	 */
 	public ElasticsearchBatchingWorkOrchestrator(
 			String name, BackendThreads threads, ElasticsearchLink link,
-			FailureHandler failureHandler) {
+			FailureHandler failureHandler,
+			MetricsRegistry metricsRegistry, MetricsTags metricsTags) {
 		super( name, link );
 		this.threads = threads;
 		this.failureHandler = failureHandler;
+		this.metricsRegistry = metricsRegistry;
+		this.metricsTags = metricsTags;
 	}
 
 	@Override
@@ -84,21 +131,39 @@ public <T> CompletableFuture<T> submit(IndexingWork<T> work, OperationSubmitter
 	protected void doStart(ConfigurationPropertySource propertySource) {
 		int queueCount = QUEUE_COUNT.get( propertySource );
 		int queueSize = QUEUE_SIZE.get( propertySource );
+		IndexingQueueStrategyName queueStrategy = QUEUE_STRATEGY.get( propertySource );
+		int maxLinger = MAX_LINGER.get( propertySource );
 		int maxBulkSize = MAX_BULK_SIZE.get( propertySource );
+		long maxBulkBytes = MAX_BULK_BYTES.get( propertySource );
+		int retryMaxAttempts = RETRY_MAX_ATTEMPTS.get( propertySource );
+
+		// Shared by all queues, so that all queues slow down while Elasticsearch is overloaded.
+		ElasticsearchBulkRetryPolicy retryPolicy = retryMaxAttempts <= 1
+				? null
+				: new ElasticsearchBulkRetryPolicy(
+						(worksToBulk, refreshStrategy, tolerateRejections) -> link.getWorkFactory().bulk( worksToBulk )
+								.refresh( refreshStrategy ).tolerateRejections( tolerateRejections ).build(),
+						threads.getWorkExecutor(),
+						retryMaxAttempts, RETRY_INITIAL_DELAY.get( propertySource ), RETRY_MAX_DELAY.get( propertySource )
+				);
 
 		ElasticsearchWorkExecutionContext executionContext = createWorkExecutionContext();
 
 		executors = new ModuloHashTable<>( SimpleHashFunction.INSTANCE, queueCount );
 		for ( int i = 0; i < executors.size(); i++ ) {
 			// Processors are not thread-safe: create one per executor.
-			ElasticsearchBatchedWorkProcessor processor = createProcessor( executionContext, maxBulkSize );
+			ElasticsearchBatchedWorkProcessor processor = createProcessor( executionContext, maxBulkSize, maxBulkBytes,
+					retryPolicy );
 			executors.set( i, new BatchingExecutor<>(
 					name() + " - " + i,
 					processor,
 					queueSize,
 					true,
+					queueStrategy,
+					maxLinger,
 					failureHandler,
-					blockingRetryProducer
+					blockingRetryProducer,
+					metricsRegistry, metricsTags.and( MetricsTags.QUEUE, String.valueOf( i ) )
 			) );
 		}
 
@@ -130,12 +195,19 @@ protected void doStop() {
 	}
 
 	private ElasticsearchBatchedWorkProcessor createProcessor(ElasticsearchWorkExecutionContext context,
-			int maxBulkSize) {
+			int maxBulkSize, long maxBulkBytes, ElasticsearchBulkRetryPolicy retryPolicy) {
 		ElasticsearchWorkSequenceBuilder sequenceBuilder = new ElasticsearchDefaultWorkSequenceBuilder( context );
+		// Size counters are not thread-safe, but neither are processors: one counter per processor is fine.
+		JsonSizeCounter sizeCounter = new JsonSizeCounter( link.getGsonProvider().getGson() );
 		ElasticsearchWorkBulker bulker = new ElasticsearchDefaultWorkBulker(
 				sequenceBuilder,
-				(worksToBulk, refreshStrategy) -> link.getWorkFactory().bulk( worksToBulk ).refresh( refreshStrategy ).build(),
-				maxBulkSize
+				retryPolicy == null
+						? (worksToBulk, refreshStrategy) -> link.getWorkFactory().bulk( worksToBulk )
+								.refresh( refreshStrategy ).build()
+						: retryPolicy::createBulkWork,
+				maxBulkSize,
+				work -> sizeCounter.size( work.getBulkableActionMetadata() ) + sizeCounter.size( work.getBulkableActionBody() ),
+				maxBulkBytes
 		);
 		return new ElasticsearchBatchedWorkProcessor( sequenceBuilder, bulker );
 	}
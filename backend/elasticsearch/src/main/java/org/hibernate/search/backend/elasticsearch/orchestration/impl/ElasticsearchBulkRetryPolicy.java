@@ -0,0 +1,238 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.orchestration.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.backend.elasticsearch.work.impl.BulkableWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkExecutionContext;
+import org.hibernate.search.backend.elasticsearch.work.impl.NonBulkableWork;
+import org.hibernate.search.backend.elasticsearch.work.result.impl.BulkResult;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.engine.common.execution.spi.SimpleScheduledExecutor;
+import org.hibernate.search.util.common.impl.Futures;
+import org.hibernate.search.util.common.impl.Throwables;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * A policy to retry bulked works that Elasticsearch rejected because it is overloaded,
+ * with an exponential backoff and jitter.
+ * <p>
+ * Only rejected works are sent again, in a new bulk request:
+ * works that succeeded or failed for any other reason are not retried.
+ * Once the maximum number of attempts is reached, rejected works are reported as failed, as usual.
+ * <p>
+ * Whenever a rejection occurs, this policy also pauses all bulk requests created through it
+ * until the backoff delay elapses,
+ * so that all queues of an orchestrator slow down while Elasticsearch is overloaded.
+ * Since a queue only processes its next batch once the current one is complete,
+ * works then accumulate in queues, eventually blocking (or rejecting) submitters
+ * according to the queue's configuration.
+ */
+final class ElasticsearchBulkRetryPolicy {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	// Avoid overflows when computing exponential delays.
+	private static final int MAX_BACKOFF_EXPONENT = 30;
+
+	interface BulkWorkFactory {
+		NonBulkableWork<BulkResult> create(List<? extends BulkableWork<?>> bulkableWorks,
+				DocumentRefreshStrategy refreshStrategy, boolean tolerateRejections);
+	}
+
+	private final BulkWorkFactory bulkWorkFactory;
+	private final SimpleScheduledExecutor delayExecutor;
+	private final int maxAttempts;
+	private final long initialDelayMs;
+	private final long maxDelayMs;
+
+	private final AtomicLong pausedUntilNanos;
+
+	/**
+	 * @param bulkWorkFactory A factory for bulk works.
+	 * @param delayExecutor An executor used to wait for backoff delays.
+	 * @param maxAttempts The maximum number of attempts for each bulked work, including the initial attempt.
+	 * @param initialDelayMs The base delay before the first retry, in milliseconds.
+	 * @param maxDelayMs The maximum delay before any retry, in milliseconds.
+	 */
+	ElasticsearchBulkRetryPolicy(BulkWorkFactory bulkWorkFactory, SimpleScheduledExecutor delayExecutor,
+			int maxAttempts, long initialDelayMs, long maxDelayMs) {
+		this.bulkWorkFactory = bulkWorkFactory;
+		this.delayExecutor = delayExecutor;
+		this.maxAttempts = maxAttempts;
+		this.initialDelayMs = initialDelayMs;
+		this.maxDelayMs = maxDelayMs;
+		this.pausedUntilNanos = new AtomicLong( System.nanoTime() );
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "["
+				+ "maxAttempts=" + maxAttempts
+				+ ", initialDelayMs=" + initialDelayMs
+				+ ", maxDelayMs=" + maxDelayMs
+				+ "]";
+	}
+
+	NonBulkableWork<BulkResult> createBulkWork(List<? extends BulkableWork<?>> bulkableWorks,
+			DocumentRefreshStrategy refreshStrategy) {
+		// Copy the list: callers may reuse it once this method returns.
+		return new RetryingBulkWork( new ArrayList<>( bulkableWorks ), refreshStrategy );
+	}
+
+	long backoffDelayMs(int failedAttempt) {
+		long exponentialDelayMs = initialDelayMs << Math.min( failedAttempt - 1, MAX_BACKOFF_EXPONENT );
+		long delayMs = exponentialDelayMs < 0 || exponentialDelayMs > maxDelayMs ? maxDelayMs : exponentialDelayMs;
+		// "Equal jitter": keep at least half of the delay, randomize the other half,
+		// so that queues rejected at the same time don't all retry at the same time.
+		long halfDelayMs = delayMs / 2;
+		return halfDelayMs + ThreadLocalRandom.current().nextLong( delayMs - halfDelayMs + 1 );
+	}
+
+	private void pause(long delayMs) {
+		long untilNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos( delayMs );
+		pausedUntilNanos.accumulateAndGet( untilNanos, (current, candidate) -> candidate - current > 0 ? candidate : current );
+	}
+
+	private CompletableFuture<Void> waitForPause() {
+		long remainingNanos = pausedUntilNanos.get() - System.nanoTime();
+		if ( remainingNanos <= 0 ) {
+			return CompletableFuture.completedFuture( null );
+		}
+		CompletableFuture<Void> future = new CompletableFuture<>();
+		try {
+			delayExecutor.schedule( () -> future.complete( null ), remainingNanos, TimeUnit.NANOSECONDS );
+		}
+		catch (RejectedExecutionException e) {
+			future.completeExceptionally( e );
+		}
+		return future;
+	}
+
+	private final class RetryingBulkWork implements NonBulkableWork<BulkResult> {
+
+		private final List<BulkableWork<?>> bulkableWorks;
+		private final DocumentRefreshStrategy refreshStrategy;
+
+		private final RetriedBulkResult result;
+
+		private RetryingBulkWork(List<BulkableWork<?>> bulkableWorks, DocumentRefreshStrategy refreshStrategy) {
+			this.bulkableWorks = bulkableWorks;
+			this.refreshStrategy = refreshStrategy;
+			this.result = new RetriedBulkResult( bulkableWorks.size() );
+		}
+
+		@Override
+		public String toString() {
+			return getClass().getSimpleName() + "[bulkableWorks=" + bulkableWorks + "]";
+		}
+
+		@Override
+		public CompletableFuture<BulkResult> execute(ElasticsearchWorkExecutionContext context) {
+			List<Integer> allIndexes = new ArrayList<>( bulkableWorks.size() );
+			for ( int i = 0; i < bulkableWorks.size(); i++ ) {
+				allIndexes.add( i );
+			}
+			return waitForPause().thenCompose( ignored -> attempt( context, allIndexes, 1 ) );
+		}
+
+		private CompletableFuture<BulkResult> attempt(ElasticsearchWorkExecutionContext context,
+				List<Integer> pendingIndexes, int attempt) {
+			boolean lastAttempt = attempt >= maxAttempts;
+			List<BulkableWork<?>> pendingWorks = new ArrayList<>( pendingIndexes.size() );
+			for ( Integer index : pendingIndexes ) {
+				pendingWorks.add( bulkableWorks.get( index ) );
+			}
+			return bulkWorkFactory.create( pendingWorks, refreshStrategy, !lastAttempt )
+					.execute( context )
+					.handle( Futures.handler( (attemptResult, throwable) -> {
+						if ( throwable != null ) {
+							if ( attempt == 1 ) {
+								// Nothing was retried: just propagate the failure to all bulked works, as usual.
+								throw Throwables.toRuntimeException( throwable );
+							}
+							// Some works were executed in previous attempts: only fail the pending ones.
+							result.fail( pendingIndexes, throwable );
+							return CompletableFuture.<BulkResult>completedFuture( result );
+						}
+						return onAttemptResult( context, pendingIndexes, attempt, lastAttempt, attemptResult );
+					} ) )
+					.thenCompose( Function.identity() );
+		}
+
+		private CompletableFuture<BulkResult> onAttemptResult(ElasticsearchWorkExecutionContext context,
+				List<Integer> pendingIndexes, int attempt, boolean lastAttempt, BulkResult attemptResult) {
+			List<Integer> rejectedIndexes = new ArrayList<>();
+			for ( int i = 0; i < pendingIndexes.size(); i++ ) {
+				int index = pendingIndexes.get( i );
+				if ( !lastAttempt && attemptResult.isRejected( i ) ) {
+					rejectedIndexes.add( index );
+				}
+				else {
+					result.set( index, attemptResult, i );
+				}
+			}
+			if ( rejectedIndexes.isEmpty() ) {
+				return CompletableFuture.completedFuture( result );
+			}
+			long delayMs = backoffDelayMs( attempt );
+			log.bulkedWorksRejected( rejectedIndexes.size(), pendingIndexes.size(), delayMs, attempt + 1, maxAttempts );
+			pause( delayMs );
+			return waitForPause().thenCompose( ignored -> attempt( context, rejectedIndexes, attempt + 1 ) );
+		}
+	}
+
+	private static final class RetriedBulkResult implements BulkResult {
+
+		// For each bulked work: the result of the last attempt including that work, and the index in that result.
+		private final BulkResult[] attemptResults;
+		private final int[] attemptIndexes;
+		private final Throwable[] failures;
+
+		private RetriedBulkResult(int size) {
+			this.attemptResults = new BulkResult[size];
+			this.attemptIndexes = new int[size];
+			this.failures = new Throwable[size];
+		}
+
+		void set(int index, BulkResult attemptResult, int attemptIndex) {
+			attemptResults[index] = attemptResult;
+			attemptIndexes[index] = attemptIndex;
+		}
+
+		void fail(List<Integer> indexes, Throwable throwable) {
+			for ( Integer index : indexes ) {
+				failures[index] = throwable;
+			}
+		}
+
+		@Override
+		public <T> T extract(ElasticsearchWorkExecutionContext context, BulkableWork<T> work, int index) {
+			Throwable failure = failures[index];
+			if ( failure != null ) {
+				throw log.elasticsearchFailedBecauseOfBulkFailure( failure.getMessage(), failure );
+			}
+			return attemptResults[index].extract( context, work, attemptIndexes[index] );
+		}
+
+		@Override
+		public boolean isRejected(int index) {
+			// Rejected works were already retried as many times as allowed.
+			return false;
+		}
+	}
+}
@@ -10,6 +10,7 @@
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.BiFunction;
+import java.util.function.ToLongFunction;
 
 import org.hibernate.search.backend.elasticsearch.work.impl.BulkableWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.NonBulkableWork;
@@ -23,8 +24,11 @@ class ElasticsearchDefaultWorkBulker implements ElasticsearchWorkBulker {
 			DocumentRefreshStrategy,
 			NonBulkableWork<BulkResult>> bulkWorkFactory;
 	private final int maxBulkSize;
+	private final ToLongFunction<BulkableWork<?>> workSizeFunction;
+	private final long maxBulkBytes;
 
 	private final List<BulkableWork<?>> currentBulkItems;
+	private long currentBulkBytes;
 	private DocumentRefreshStrategy currentBulkRefreshStrategy;
 	private CompletableFuture<NonBulkableWork<BulkResult>> currentBulkWorkFuture;
 	private CompletableFuture<BulkResult> currentBulkResultFuture;
@@ -35,13 +39,20 @@ class ElasticsearchDefaultWorkBulker implements ElasticsearchWorkBulker {
 	 * @param maxBulkSize Maximum number of works in a single bulk.
 	 * If a bulk reaches this size, it will be automatically
 	 * {@link #finalizeBulkWork() finalized}.
+	 * @param workSizeFunction A function returning the size in bytes a given work will take up in a bulk request.
+	 * @param maxBulkBytes Maximum size in bytes of a single bulk.
+	 * If adding a work would make the bulk exceed this size, the bulk will be
+	 * {@link #finalizeBulkWork() finalized} first, and the work will be added to a new bulk.
+	 * A single work exceeding this size will still be bulked, alone.
 	 */
 	public ElasticsearchDefaultWorkBulker(ElasticsearchWorkSequenceBuilder sequenceBuilder,
 			BiFunction<List<? extends BulkableWork<?>>, DocumentRefreshStrategy, NonBulkableWork<BulkResult>> bulkWorkFactory,
-			int maxBulkSize) {
+			int maxBulkSize, ToLongFunction<BulkableWork<?>> workSizeFunction, long maxBulkBytes) {
 		this.sequenceBuilder = sequenceBuilder;
 		this.bulkWorkFactory = bulkWorkFactory;
 		this.maxBulkSize = maxBulkSize;
+		this.workSizeFunction = workSizeFunction;
+		this.maxBulkBytes = maxBulkBytes;
 
 		this.currentBulkItems = new ArrayList<>();
 		this.currentBulkWorkFuture = null;
@@ -60,6 +71,13 @@ else if ( currentBulkRefreshStrategy != workRefreshStrategy ) {
 			currentBulkRefreshStrategy = workRefreshStrategy;
 		}
 
+		long workBytes = workSizeFunction.applyAsLong( work );
+		if ( !currentBulkItems.isEmpty() && currentBulkBytes + workBytes > maxBulkBytes ) {
+			// This work would make the bulk too large; we can't reuse the current bulk.
+			finalizeBulkWork();
+			currentBulkRefreshStrategy = workRefreshStrategy;
+		}
+
 		if ( currentBulkWorkFuture == null ) {
 			currentBulkWorkFuture = new CompletableFuture<>();
 			currentBulkResultFuture = sequenceBuilder.addBulkExecution( currentBulkWorkFuture );
@@ -67,12 +85,13 @@ else if ( currentBulkRefreshStrategy != workRefreshStrategy ) {
 
 		int currentBulkWorkIndex = currentBulkItems.size();
 		currentBulkItems.add( work );
+		currentBulkBytes += workBytes;
 
 		CompletableFuture<T> future = sequenceBuilder.addBulkResultExtraction(
 				currentBulkResultFuture, work, currentBulkWorkIndex
 		);
 
-		if ( currentBulkItems.size() >= maxBulkSize ) {
+		if ( currentBulkItems.size() >= maxBulkSize || currentBulkBytes >= maxBulkBytes ) {
 			finalizeBulkWork();
 		}
 
@@ -94,6 +113,7 @@ public void finalizeBulkWork() {
 	@Override
 	public void reset() {
 		this.currentBulkItems.clear();
+		this.currentBulkBytes = 0L;
 		this.currentBulkRefreshStrategy = null;
 		this.currentBulkWorkFuture = null;
 		this.currentBulkResultFuture = null;
@@ -6,10 +6,14 @@
  */
 package org.hibernate.search.backend.elasticsearch.resources.impl;
 
+import java.util.concurrent.ExecutorService;
+
+import org.hibernate.search.backend.elasticsearch.cfg.ElasticsearchBackendSettings;
 import org.hibernate.search.backend.elasticsearch.cfg.spi.ElasticsearchBackendSpiSettings;
 import org.hibernate.search.backend.elasticsearch.work.spi.ElasticsearchWorkExecutorProvider;
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
 import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+import org.hibernate.search.engine.cfg.spi.OptionalConfigurationProperty;
 import org.hibernate.search.engine.common.execution.spi.SimpleScheduledExecutor;
 import org.hibernate.search.engine.environment.bean.BeanHolder;
 import org.hibernate.search.engine.environment.bean.BeanReference;
@@ -26,10 +30,17 @@ public class BackendThreads {
 							.asBeanReference( ElasticsearchWorkExecutorProvider.class )
 							.withDefault( ElasticsearchBackendSpiSettings.Defaults.BACKEND_WORK_EXECUTOR_PROVIDER )
 							.build();
+
+	private static final OptionalConfigurationProperty<Integer> SEARCH_LOADING_THREAD_POOL_SIZE =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.SEARCH_LOADING_THREAD_POOL_SIZE )
+					.asIntegerStrictlyPositive()
+					.build();
+
 	private final String prefix;
 
 	private ThreadPoolProvider threadPoolProvider;
 	private SimpleScheduledExecutor workExecutor;
+	private ExecutorService searchLoadingExecutor;
 
 	public BackendThreads(String prefix) {
 		this.prefix = prefix;
@@ -62,12 +73,23 @@ public String recommendedThreadNamePrefix() {
 				}
 			} );
 		}
+
+		// Threads are only created when first needed, i.e. when asynchronous queries load hits.
+		// Tasks are submitted from threads handling HTTP responses, which must never block:
+		// the queue is unbounded, as the number of tasks is bounded by the number of pending queries anyway.
+		int searchLoadingThreadPoolSize = SEARCH_LOADING_THREAD_POOL_SIZE.get( propertySource )
+				.orElse( Runtime.getRuntime().availableProcessors() );
+		this.searchLoadingExecutor = threadPoolProvider.newFixedThreadPool( searchLoadingThreadPoolSize,
+				prefix + " - Search loading thread", Integer.MAX_VALUE );
 	}
 
 	public void onStop() {
 		if ( workExecutor != null ) {
 			workExecutor.shutdownNow();
 		}
+		if ( searchLoadingExecutor != null ) {
+			searchLoadingExecutor.shutdownNow();
+		}
 	}
 
 	public String getPrefix() {
@@ -84,6 +106,11 @@ public SimpleScheduledExecutor getWorkExecutor() {
 		return workExecutor;
 	}
 
+	public ExecutorService getSearchLoadingExecutor() {
+		checkStarted();
+		return searchLoadingExecutor;
+	}
+
 	private void checkStarted() {
 		if ( workExecutor == null ) {
 			throw new AssertionFailure(
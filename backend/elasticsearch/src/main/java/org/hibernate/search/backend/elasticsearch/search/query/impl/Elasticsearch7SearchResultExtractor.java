@@ -56,6 +56,12 @@
 	private static final JsonAccessor<String> SCROLL_ID_ACCESSOR =
 			JsonAccessor.root().property( "_scroll_id" ).asString();
 
+	private static final JsonAccessor<String> POINT_IN_TIME_ID_ACCESSOR =
+			JsonAccessor.root().property( "pit_id" ).asString();
+
+	private static final JsonAccessor<JsonArray> HIT_SORT_ACCESSOR =
+			JsonAccessor.root().property( "sort" ).asArray();
+
 	private static final JsonObjectAccessor HIT_SOURCE_ACCESSOR =
 			JsonAccessor.root().property( "_source" ).asObject();
 
@@ -100,6 +106,8 @@ public ElasticsearchLoadableSearchResult<H> extract(JsonObject responseBody,
 				aggregations.isEmpty() ? Collections.emptyMap() : extractAggregations( extractContext, responseBody );
 
 		String scrollId = extractScrollId( responseBody );
+		String pointInTimeId = POINT_IN_TIME_ID_ACCESSOR.get( responseBody ).orElse( null );
+		JsonArray lastHitSortValues = extractLastHitSortValues( responseBody );
 
 		return new ElasticsearchLoadableSearchResult<>(
 				extractContext,
@@ -108,6 +116,7 @@ public ElasticsearchLoadableSearchResult<H> extract(JsonObject responseBody,
 				extractedHits,
 				extractedAggregations,
 				took, timedOut, scrollId,
+				pointInTimeId, lastHitSortValues,
 				deadline
 		);
 	}
@@ -159,4 +168,13 @@ private List<Object> extractHits(ElasticsearchSearchQueryExtractContext extractC
 	protected String extractScrollId(JsonObject responseBody) {
 		return SCROLL_ID_ACCESSOR.get( responseBody ).orElse( null );
 	}
+
+	private JsonArray extractLastHitSortValues(JsonObject responseBody) {
+		JsonArray jsonHits = HITS_HITS_ACCESSOR.get( responseBody ).orElse( null );
+		if ( jsonHits == null || jsonHits.size() == 0 ) {
+			return null;
+		}
+		JsonObject lastHit = jsonHits.get( jsonHits.size() - 1 ).getAsJsonObject();
+		return HIT_SORT_ACCESSOR.get( lastHit ).orElse( null );
+	}
 }
@@ -17,6 +17,8 @@
 import org.hibernate.search.engine.search.loading.spi.LoadingResult;
 import org.hibernate.search.engine.search.query.SearchResultTotal;
 
+import com.google.gson.JsonArray;
+
 /**
  * A search result from the backend that offers a method to load data from the mapper.
  * <p>
@@ -39,6 +41,8 @@
 	private final Boolean timedOut;
 	private final boolean hasHits;
 	private final String scrollId;
+	private final String pointInTimeId;
+	private final JsonArray lastHitSortValues;
 	private final Deadline deadline;
 
 	ElasticsearchLoadableSearchResult(ElasticsearchSearchQueryExtractContext extractContext,
@@ -47,6 +51,7 @@
 			List<Object> extractedHits,
 			Map<AggregationKey<?>, ?> extractedAggregations,
 			Integer took, Boolean timedOut, String scrollId,
+			String pointInTimeId, JsonArray lastHitSortValues,
 			Deadline deadline) {
 		this.extractContext = extractContext;
 		this.extractor = extractor;
@@ -57,6 +62,8 @@
 		this.timedOut = timedOut;
 		this.hasHits = !extractedHits.isEmpty();
 		this.scrollId = scrollId;
+		this.pointInTimeId = pointInTimeId;
+		this.lastHitSortValues = lastHitSortValues;
 		this.deadline = deadline;
 	}
 
@@ -104,4 +111,20 @@ ElasticsearchSearchResultImpl<H> loadBlocking() {
 	boolean hasHits() {
 		return hasHits;
 	}
+
+	/**
+	 * @return The identifier of the point in time returned by Elasticsearch,
+	 * or {@code null} if the search was not executed on a point in time.
+	 */
+	String pointInTimeId() {
+		return pointInTimeId;
+	}
+
+	/**
+	 * @return The sort values of the last hit, to be used for {@code search_after},
+	 * or {@code null} if there were no hits.
+	 */
+	JsonArray lastHitSortValues() {
+		return lastHitSortValues;
+	}
 }
@@ -0,0 +1,107 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.search.query.impl;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchParallelWorkOrchestrator;
+import org.hibernate.search.backend.elasticsearch.work.factory.impl.ElasticsearchWorkFactory;
+import org.hibernate.search.backend.elasticsearch.work.impl.OpenPointInTimeWork;
+import org.hibernate.search.engine.backend.work.execution.OperationSubmitter;
+import org.hibernate.search.engine.common.timing.Deadline;
+import org.hibernate.search.util.common.impl.Futures;
+
+/**
+ * A point in time, opened lazily and shared between one or more scrolls,
+ * closed when all the scrolls using it have been closed.
+ */
+final class ElasticsearchSearchPointInTime {
+
+	private final ElasticsearchParallelWorkOrchestrator queryOrchestrator;
+	private final ElasticsearchWorkFactory workFactory;
+	private final OpenPointInTimeWork.Builder openPointInTime;
+	private final String keepAliveString;
+
+	private int userCount;
+	private String id;
+	private CompletableFuture<String> opening;
+
+	ElasticsearchSearchPointInTime(ElasticsearchParallelWorkOrchestrator queryOrchestrator,
+			ElasticsearchWorkFactory workFactory, OpenPointInTimeWork.Builder openPointInTime,
+			String keepAliveString, int userCount) {
+		this.queryOrchestrator = queryOrchestrator;
+		this.workFactory = workFactory;
+		this.openPointInTime = openPointInTime;
+		this.keepAliveString = keepAliveString;
+		this.userCount = userCount;
+	}
+
+	String keepAliveString() {
+		return keepAliveString;
+	}
+
+	String id(Deadline deadline) {
+		return Futures.unwrappedExceptionJoin( idAsync( deadline, OperationSubmitter.blocking() ) );
+	}
+
+	synchronized CompletableFuture<String> idAsync(Deadline deadline, OperationSubmitter operationSubmitter) {
+		if ( id != null ) {
+			return CompletableFuture.completedFuture( id );
+		}
+		if ( opening != null ) {
+			return opening;
+		}
+		CompletableFuture<String> future = queryOrchestrator.submit(
+				openPointInTime.deadline( deadline ).build(),
+				operationSubmitter
+		);
+		opening = future;
+		// Attach the callback only after setting "opening":
+		// the future may already be complete, in which case the callback runs immediately.
+		future.whenComplete( (openedId, throwable) -> onOpened( future, openedId, throwable ) );
+		return future;
+	}
+
+	private synchronized void onOpened(CompletableFuture<String> future, String openedId, Throwable throwable) {
+		if ( opening == future ) {
+			// Whether opening succeeded or failed, the next call must not reuse this future:
+			// either it will use the ID, or it will try opening the point in time again.
+			opening = null;
+		}
+		if ( throwable != null || openedId == null ) {
+			return;
+		}
+		if ( userCount <= 0 ) {
+			// All scrolls were closed while the point in time was being opened.
+			queryOrchestrator.submit( workFactory.closePointInTime( openedId ).build(), OperationSubmitter.blocking() );
+			return;
+		}
+		if ( id == null ) {
+			id = openedId;
+		}
+	}
+
+	synchronized void updateId(String newId) {
+		// Elasticsearch may return a new identifier for the point in time on each request
+		id = newId;
+	}
+
+	synchronized void release() {
+		--userCount;
+		if ( userCount > 0 || id == null ) {
+			return;
+		}
+		String idToClose = id;
+		id = null;
+		Futures.unwrappedExceptionJoin(
+				queryOrchestrator.submit(
+						workFactory.closePointInTime( idToClose ).build(),
+						OperationSubmitter.blocking()
+				)
+		);
+	}
+}
@@ -0,0 +1,118 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.search.query.impl;
+
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchParallelWorkOrchestrator;
+import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchScroll;
+import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchScrollResult;
+import org.hibernate.search.backend.elasticsearch.work.impl.SearchWork;
+import org.hibernate.search.engine.backend.work.execution.OperationSubmitter;
+import org.hibernate.search.engine.search.timeout.spi.TimeoutManager;
+import org.hibernate.search.util.common.AssertionFailure;
+import org.hibernate.search.util.common.impl.Futures;
+
+import com.google.gson.JsonArray;
+
+/**
+ * A scroll relying on a point in time and {@code search_after},
+ * which unlike scroll contexts does not keep per-query state on the Elasticsearch cluster
+ * besides the point in time itself.
+ */
+public class ElasticsearchSearchPointInTimeScrollImpl<H> implements ElasticsearchSearchScroll<H> {
+
+	private final ElasticsearchParallelWorkOrchestrator queryOrchestrator;
+	private final Executor loadingExecutor;
+	private final ElasticsearchSearchPointInTime pointInTime;
+	private final Supplier<SearchWork.Builder<ElasticsearchLoadableSearchResult<H>>> searchWorkBuilderSupplier;
+	private final int chunkSize;
+	private final TimeoutManager timeoutManager;
+
+	private boolean closed = false;
+	private JsonArray searchAfter;
+
+	ElasticsearchSearchPointInTimeScrollImpl(ElasticsearchParallelWorkOrchestrator queryOrchestrator,
+			Executor loadingExecutor,
+			ElasticsearchSearchPointInTime pointInTime,
+			Supplier<SearchWork.Builder<ElasticsearchLoadableSearchResult<H>>> searchWorkBuilderSupplier,
+			int chunkSize,
+			TimeoutManager timeoutManager) {
+		this.queryOrchestrator = queryOrchestrator;
+		this.loadingExecutor = loadingExecutor;
+		this.pointInTime = pointInTime;
+		this.searchWorkBuilderSupplier = searchWorkBuilderSupplier;
+		this.chunkSize = chunkSize;
+		this.timeoutManager = timeoutManager;
+	}
+
+	@Override
+	public void close() {
+		if ( closed ) {
+			return;
+		}
+		closed = true;
+		pointInTime.release();
+	}
+
+	@Override
+	public ElasticsearchSearchScrollResult<H> next() {
+		timeoutManager.start();
+		String pointInTimeId = pointInTime.id( timeoutManager.hardDeadlineOrNull() );
+		ElasticsearchLoadableSearchResult<H> loadableSearchResult = Futures.unwrappedExceptionJoin(
+				queryOrchestrator.submit(
+						nextWork( pointInTimeId ),
+						OperationSubmitter.blocking()
+				)
+		);
+		return load( loadableSearchResult );
+	}
+
+	@Override
+	public CompletionStage<ElasticsearchSearchScrollResult<H>> nextAsync() {
+		return Futures.create( () -> {
+			timeoutManager.start();
+			return pointInTime.idAsync( timeoutManager.hardDeadlineOrNull(),
+					ElasticsearchSearchQueryImpl.ASYNC_SUBMITTER )
+					.thenCompose( pointInTimeId -> queryOrchestrator.submit(
+							nextWork( pointInTimeId ),
+							ElasticsearchSearchQueryImpl.ASYNC_SUBMITTER
+					) )
+					// Never load in the thread completing the request, which handles HTTP responses:
+					// loading may block, e.g. on a database.
+					.thenApplyAsync( this::load, loadingExecutor );
+		} );
+	}
+
+	private SearchWork<ElasticsearchLoadableSearchResult<H>> nextWork(String pointInTimeId) {
+		return searchWorkBuilderSupplier.get()
+				.paging( chunkSize, null )
+				.pointInTime( pointInTimeId, pointInTime.keepAliveString(), searchAfter )
+				.deadline( timeoutManager.deadlineOrNull(), timeoutManager.hasHardTimeout() )
+				.build();
+	}
+
+	private ElasticsearchSearchScrollResult<H> load(ElasticsearchLoadableSearchResult<H> loadableSearchResult) {
+		ElasticsearchSearchResultImpl<H> searchResult = loadableSearchResult.loadBlocking();
+
+		String newPointInTimeId = loadableSearchResult.pointInTimeId();
+		if ( newPointInTimeId == null ) {
+			throw new AssertionFailure( "Elasticsearch response lacked a value for point in time id" );
+		}
+		pointInTime.updateId( newPointInTimeId );
+		if ( loadableSearchResult.hasHits() ) {
+			searchAfter = loadableSearchResult.lastHitSortValues();
+		}
+
+		timeoutManager.stop();
+
+		return new ElasticsearchSearchScrollResultImpl<>( searchResult.total(), loadableSearchResult.hasHits(),
+				searchResult.hits(), searchResult.took(), searchResult.timedOut() );
+	}
+}
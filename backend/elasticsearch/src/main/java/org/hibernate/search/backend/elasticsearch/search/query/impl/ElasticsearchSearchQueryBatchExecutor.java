@@ -0,0 +1,127 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.search.query.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchParallelWorkOrchestrator;
+import org.hibernate.search.backend.elasticsearch.work.factory.impl.ElasticsearchWorkFactory;
+import org.hibernate.search.backend.elasticsearch.work.impl.MultiSearchWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.SearchWork;
+import org.hibernate.search.backend.elasticsearch.work.result.impl.MultiSearchResult;
+import org.hibernate.search.engine.backend.work.execution.OperationSubmitter;
+import org.hibernate.search.engine.search.query.spi.SearchQueryBatchElement;
+import org.hibernate.search.engine.search.query.spi.SearchQueryBatchExecutor;
+import org.hibernate.search.util.common.impl.Futures;
+
+/**
+ * Executes batched queries targeting the same Elasticsearch cluster
+ * in a single {@code _msearch} request.
+ */
+final class ElasticsearchSearchQueryBatchExecutor implements SearchQueryBatchExecutor {
+
+	private final ElasticsearchWorkFactory workFactory;
+	private final ElasticsearchParallelWorkOrchestrator queryOrchestrator;
+
+	ElasticsearchSearchQueryBatchExecutor(ElasticsearchWorkFactory workFactory,
+			ElasticsearchParallelWorkOrchestrator queryOrchestrator) {
+		this.workFactory = workFactory;
+		this.queryOrchestrator = queryOrchestrator;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[queryOrchestrator=" + queryOrchestrator + "]";
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if ( this == o ) {
+			return true;
+		}
+		if ( o == null || getClass() != o.getClass() ) {
+			return false;
+		}
+		ElasticsearchSearchQueryBatchExecutor that = (ElasticsearchSearchQueryBatchExecutor) o;
+		// One orchestrator per backend, thus per cluster.
+		return queryOrchestrator == that.queryOrchestrator;
+	}
+
+	@Override
+	public int hashCode() {
+		return System.identityHashCode( queryOrchestrator );
+	}
+
+	@Override
+	public void execute(List<? extends SearchQueryBatchElement<?>> elements) {
+		if ( elements.size() == 1 ) {
+			SearchQueryBatchExecutor.executeSeparately( elements.get( 0 ) );
+			return;
+		}
+
+		List<BatchedFetch<?>> fetches = new ArrayList<>( elements.size() );
+		List<SearchWork.Builder<?>> searchWorkBuilders = new ArrayList<>( elements.size() );
+		for ( SearchQueryBatchElement<?> element : elements ) {
+			BatchedFetch<?> fetch = new BatchedFetch<>( element );
+			try {
+				searchWorkBuilders.add( fetch.start() );
+				fetches.add( fetch );
+			}
+			catch (RuntimeException e) {
+				element.fail( e );
+			}
+		}
+		if ( fetches.isEmpty() ) {
+			return;
+		}
+
+		MultiSearchWork work = workFactory.multiSearch( searchWorkBuilders ).build();
+		MultiSearchResult result;
+		try {
+			result = Futures.unwrappedExceptionJoin( queryOrchestrator.submit( work, OperationSubmitter.blocking() ) );
+		}
+		catch (RuntimeException e) {
+			for ( BatchedFetch<?> fetch : fetches ) {
+				fetch.element.fail( e );
+			}
+			return;
+		}
+
+		for ( int i = 0; i < fetches.size(); i++ ) {
+			fetches.get( i ).finish( work, result, i );
+		}
+	}
+
+	private static final class BatchedFetch<H> {
+		private final SearchQueryBatchElement<H> element;
+		private final ElasticsearchSearchQueryImpl<H> query;
+
+		private BatchedFetch(SearchQueryBatchElement<H> element) {
+			this.element = element;
+			this.query = (ElasticsearchSearchQueryImpl<H>) element.query();
+		}
+
+		SearchWork.Builder<ElasticsearchLoadableSearchResult<H>> start() {
+			return query.startBatchedFetch( element.offset(), element.limit() );
+		}
+
+		@SuppressWarnings("unchecked") // The work at this index was built from the builder returned by start()
+		void finish(MultiSearchWork work, MultiSearchResult result, int index) {
+			try {
+				SearchWork<ElasticsearchLoadableSearchResult<H>> searchWork =
+						(SearchWork<ElasticsearchLoadableSearchResult<H>>) work.searchWorks().get( index );
+				// Loading happens in the user thread, like for SearchFetchable#fetch.
+				element.complete( query.finishBatchedFetch( result.extract( searchWork, index ),
+						element.offset(), element.limit() ) );
+			}
+			catch (RuntimeException e) {
+				element.fail( e );
+			}
+		}
+	}
+}
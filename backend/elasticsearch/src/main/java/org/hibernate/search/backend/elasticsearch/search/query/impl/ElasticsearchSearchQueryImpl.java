@@ -7,10 +7,14 @@
 package org.hibernate.search.backend.elasticsearch.search.query.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 
 import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
@@ -27,6 +31,7 @@
 import org.hibernate.search.backend.elasticsearch.work.impl.CountWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchSearchResultExtractor;
 import org.hibernate.search.backend.elasticsearch.work.impl.NonBulkableWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.OpenPointInTimeWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.SearchWork;
 import org.hibernate.search.backend.elasticsearch.work.result.impl.ExplainResult;
 import org.hibernate.search.engine.backend.session.spi.BackendSessionContext;
@@ -37,6 +42,7 @@
 import org.hibernate.search.engine.search.loading.spi.SearchLoadingContext;
 import org.hibernate.search.engine.search.query.SearchQueryExtension;
 import org.hibernate.search.engine.search.query.spi.AbstractSearchQuery;
+import org.hibernate.search.engine.search.query.spi.SearchQueryBatchExecutor;
 import org.hibernate.search.engine.search.timeout.spi.TimeoutManager;
 import org.hibernate.search.util.common.impl.Contracts;
 import org.hibernate.search.util.common.impl.Futures;
@@ -50,8 +56,15 @@
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
+	/**
+	 * Asynchronous executions, including those of scrolls, must never block the caller:
+	 * if the request cannot be submitted right away, the returned stage fails instead.
+	 */
+	static final OperationSubmitter ASYNC_SUBMITTER = OperationSubmitter.rejecting();
+
 	private final ElasticsearchWorkFactory workFactory;
 	private final ElasticsearchParallelWorkOrchestrator queryOrchestrator;
+	private final Executor loadingExecutor;
 	private final ElasticsearchSearchIndexScope<?> scope;
 	private final BackendSessionContext sessionContext;
 	private final SearchLoadingContext<?> loadingContext;
@@ -71,6 +84,7 @@
 
 	ElasticsearchSearchQueryImpl(ElasticsearchWorkFactory workFactory,
 			ElasticsearchParallelWorkOrchestrator queryOrchestrator,
+			Executor loadingExecutor,
 			ElasticsearchSearchIndexScope<?> scope,
 			BackendSessionContext sessionContext,
 			SearchLoadingContext<?> loadingContext,
@@ -81,6 +95,7 @@
 			TimeoutManager timeoutManager, Integer scrollTimeout, Long totalHitCountThreshold) {
 		this.workFactory = workFactory;
 		this.queryOrchestrator = queryOrchestrator;
+		this.loadingExecutor = loadingExecutor;
 		this.scope = scope;
 		this.sessionContext = sessionContext;
 		this.loadingContext = loadingContext;
@@ -115,10 +130,8 @@ public <Q> Q extension(SearchQueryExtension<Q, H> extension) {
 	public ElasticsearchSearchResult<H> fetch(Integer offset, Integer limit) {
 		timeoutManager.start();
 		Integer defaultedLimit = defaultedLimit( limit, offset );
-		NonBulkableWork<ElasticsearchLoadableSearchResult<H>> work = searchWorkBuilder()
-				.paging( defaultedLimit, offset )
-				.totalHitCountThreshold( totalHitCountThreshold )
-				.build();
+		NonBulkableWork<ElasticsearchLoadableSearchResult<H>> work =
+				fetchWorkBuilder( offset, defaultedLimit, timeoutManager ).build();
 
 		ElasticsearchSearchResultImpl<H> result = Futures.unwrappedExceptionJoin(
 				queryOrchestrator.submit( work, OperationSubmitter.blocking() ) )
@@ -130,20 +143,14 @@ public ElasticsearchSearchResult<H> fetch(Integer offset, Integer limit) {
 				 * so we may choose to throw exceptions for those.
 				 */
 				.loadBlocking();
-		timeoutManager.stop();
-
-		if ( limit == null && result.total().hitCountLowerBound() > defaultedLimit ) {
-			// user may not be aware of this defaultedLimit
-			log.defaultedLimitedHits( defaultedLimit, result.total().hitCountLowerBound() );
-		}
-		return result;
+		return afterFetch( result, limit, defaultedLimit, timeoutManager );
 	}
 
 	@Override
 	public List<H> fetchHits(Integer offset, Integer limit) {
 		timeoutManager.start();
 		Integer defaultedLimit = defaultedLimit( limit, offset );
-		NonBulkableWork<ElasticsearchLoadableSearchResult<H>> work = searchWorkBuilder()
+		NonBulkableWork<ElasticsearchLoadableSearchResult<H>> work = searchWorkBuilder( timeoutManager )
 				.paging( defaultedLimit, offset )
 				.disableTrackTotalHits()
 				.build();
@@ -170,7 +177,115 @@ public List<H> fetchHits(Integer offset, Integer limit) {
 	@Override
 	public long fetchTotalHitCount() {
 		timeoutManager.start();
+		NonBulkableWork<Long> work = countWork( timeoutManager );
+		Long result = Futures.unwrappedExceptionJoin( queryOrchestrator.submit( work, OperationSubmitter.blocking() ) );
+		timeoutManager.stop();
+		return result;
+	}
+
+	@Override
+	public CompletionStage<ElasticsearchSearchResult<H>> fetchAsync(Integer offset, Integer limit) {
+		return Futures.create( () -> {
+			// Asynchronous executions of the same query may overlap: each needs its own timeout manager.
+			TimeoutManager executionTimeoutManager = startExecutionTimeoutManager();
+			Integer defaultedLimit = defaultedLimit( limit, offset );
+			NonBulkableWork<ElasticsearchLoadableSearchResult<H>> work =
+					fetchWorkBuilder( offset, defaultedLimit, executionTimeoutManager ).build();
+			return queryOrchestrator.submit( work, ASYNC_SUBMITTER )
+					// Never load in the thread completing the request, which handles HTTP responses:
+					// loading may block, e.g. on a database.
+					.thenApplyAsync( ElasticsearchLoadableSearchResult::loadBlocking, loadingExecutor )
+					.thenApply( result -> afterFetch( result, limit, defaultedLimit, executionTimeoutManager ) );
+		} );
+	}
+
+	@Override
+	public CompletionStage<List<H>> fetchHitsAsync(Integer offset, Integer limit) {
+		return Futures.create( () -> {
+			TimeoutManager executionTimeoutManager = startExecutionTimeoutManager();
+			Integer defaultedLimit = defaultedLimit( limit, offset );
+			NonBulkableWork<ElasticsearchLoadableSearchResult<H>> work = searchWorkBuilder( executionTimeoutManager )
+					.paging( defaultedLimit, offset )
+					.disableTrackTotalHits()
+					.build();
+			return queryOrchestrator.submit( work, ASYNC_SUBMITTER )
+					// Never load in the thread completing the request, which handles HTTP responses:
+					// loading may block, e.g. on a database.
+					.thenApplyAsync( ElasticsearchLoadableSearchResult::loadBlocking, loadingExecutor )
+					.thenApply( result -> {
+						executionTimeoutManager.stop();
+						if ( limit == null && result.total().hitCountLowerBound() > defaultedLimit ) {
+							// user may not be aware of this defaultedLimit
+							log.defaultedLimitedHits( defaultedLimit, result.total().hitCountLowerBound() );
+						}
+						return result.hits();
+					} );
+		} );
+	}
+
+	@Override
+	public CompletionStage<Long> fetchTotalHitCountAsync() {
+		return Futures.create( () -> {
+			TimeoutManager executionTimeoutManager = startExecutionTimeoutManager();
+			NonBulkableWork<Long> work = countWork( executionTimeoutManager );
+			return queryOrchestrator.submit( work, ASYNC_SUBMITTER )
+					.thenApply( result -> {
+						executionTimeoutManager.stop();
+						return result;
+					} );
+		} );
+	}
+
+	private TimeoutManager startExecutionTimeoutManager() {
+		TimeoutManager executionTimeoutManager = timeoutManager.copy();
+		executionTimeoutManager.start();
+		return executionTimeoutManager;
+	}
+
+	@Override
+	public SearchQueryBatchExecutor batchExecutor() {
+		if ( requestTransformer != null || timeoutManager.hasHardTimeout() ) {
+			// The request transformer expects a standalone search request,
+			// and a client-side timeout would apply to the whole multi-search request:
+			// execute this query on its own.
+			return SearchQueryBatchExecutor.SEQUENTIAL;
+		}
+		return new ElasticsearchSearchQueryBatchExecutor( workFactory, queryOrchestrator );
+	}
+
+	/**
+	 * Starts a fetch, to be executed as part of a multi-search request.
+	 *
+	 * @return The builder for the search work; its result must be passed to {@link #finishBatchedFetch}.
+	 */
+	SearchWork.Builder<ElasticsearchLoadableSearchResult<H>> startBatchedFetch(Integer offset, Integer limit) {
+		timeoutManager.start();
+		return fetchWorkBuilder( offset, defaultedLimit( limit, offset ), timeoutManager );
+	}
+
+	ElasticsearchSearchResult<H> finishBatchedFetch(ElasticsearchLoadableSearchResult<H> loadableResult,
+			Integer offset, Integer limit) {
+		return afterFetch( loadableResult.loadBlocking(), limit, defaultedLimit( limit, offset ), timeoutManager );
+	}
 
+	private SearchWork.Builder<ElasticsearchLoadableSearchResult<H>> fetchWorkBuilder(Integer offset,
+			Integer defaultedLimit, TimeoutManager executionTimeoutManager) {
+		return searchWorkBuilder( executionTimeoutManager )
+				.paging( defaultedLimit, offset )
+				.totalHitCountThreshold( totalHitCountThreshold );
+	}
+
+	private ElasticsearchSearchResult<H> afterFetch(ElasticsearchSearchResultImpl<H> result, Integer limit,
+			Integer defaultedLimit, TimeoutManager executionTimeoutManager) {
+		executionTimeoutManager.stop();
+		if ( limit == null && result.total().hitCountLowerBound() > defaultedLimit ) {
+			// user may not be aware of this defaultedLimit
+			log.defaultedLimitedHits( defaultedLimit, result.total().hitCountLowerBound() );
+		}
+		return result;
+	}
+
+	private NonBulkableWork<Long> countWork(TimeoutManager executionTimeoutManager) {
 		JsonObject filteredPayload = new JsonObject();
 		Optional<JsonObject> querySubTree = JsonAccessor.root().property( "query" ).asObject().get( payload );
 		if ( querySubTree.isPresent() ) {
@@ -184,27 +299,66 @@ public long fetchTotalHitCount() {
 		builder.query( filteredPayload )
 				.routingKeys( routingKeys )
 				// soft timeout has no meaning for a count work
-				.deadline( timeoutManager.hardDeadlineOrNull() )
+				.deadline( executionTimeoutManager.hardDeadlineOrNull() )
 				.requestTransformer(
 						ElasticsearchSearchRequestTransformerContextImpl.createTransformerFunction( requestTransformer )
 				);
-		NonBulkableWork<Long> work = builder.build();
-		Long result = Futures.unwrappedExceptionJoin( queryOrchestrator.submit( work, OperationSubmitter.blocking() ) );
-		timeoutManager.stop();
-		return result;
+		return builder.build();
 	}
 
 	@Override
 	public ElasticsearchSearchScroll<H> scroll(int chunkSize) {
 		String scrollTimeoutString = this.scrollTimeout + "s";
 
-		SearchWork.Builder<ElasticsearchLoadableSearchResult<H>> firstScroll = searchWorkBuilder()
+		if ( workFactory.isPointInTimeSupported() ) {
+			ElasticsearchSearchPointInTime pointInTime = pointInTime( scrollTimeoutString, 1 );
+			return new ElasticsearchSearchPointInTimeScrollImpl<>( queryOrchestrator, loadingExecutor, pointInTime,
+					() -> searchWorkBuilder( timeoutManager ), chunkSize, timeoutManager );
+		}
+
+		SearchWork.Builder<ElasticsearchLoadableSearchResult<H>> firstScroll = searchWorkBuilder( timeoutManager )
 				.scrolling( chunkSize, scrollTimeoutString );
 
-		return new ElasticsearchSearchScrollImpl<>( queryOrchestrator, workFactory, searchResultExtractor,
+		return new ElasticsearchSearchScrollImpl<>( queryOrchestrator, loadingExecutor, workFactory, searchResultExtractor,
 				scrollTimeoutString, firstScroll, timeoutManager );
 	}
 
+	@Override
+	public List<ElasticsearchSearchScroll<H>> scroll(int chunkSize, int sliceCount) {
+		Contracts.assertStrictlyPositive( sliceCount, "sliceCount" );
+		if ( sliceCount == 1 ) {
+			return Collections.singletonList( scroll( chunkSize ) );
+		}
+
+		String scrollTimeoutString = this.scrollTimeout + "s";
+		// All slices share the same point in time, so that they partition the exact same set of documents.
+		ElasticsearchSearchPointInTime pointInTime = workFactory.isPointInTimeSupported()
+				? pointInTime( scrollTimeoutString, sliceCount )
+				: null;
+
+		List<ElasticsearchSearchScroll<H>> scrolls = new ArrayList<>( sliceCount );
+		for ( int i = 0; i < sliceCount; i++ ) {
+			int sliceId = i;
+			// Slices may be consumed concurrently: each needs its own timeout manager.
+			TimeoutManager sliceTimeoutManager = timeoutManager.copy();
+			if ( pointInTime != null ) {
+				scrolls.add( new ElasticsearchSearchPointInTimeScrollImpl<>( queryOrchestrator, loadingExecutor, pointInTime,
+						() -> searchWorkBuilder( sliceTimeoutManager ).slice( sliceId, sliceCount ), chunkSize,
+						sliceTimeoutManager ) );
+			}
+			else {
+				SearchWork.Builder<ElasticsearchLoadableSearchResult<H>> firstScroll =
+						searchWorkBuilder( sliceTimeoutManager )
+								.slice( sliceId, sliceCount )
+								.scrolling( chunkSize, scrollTimeoutString );
+				scrolls.add( new ElasticsearchSearchScrollImpl<>( queryOrchestrator, loadingExecutor, workFactory,
+						searchResultExtractor,
+						scrollTimeoutString, firstScroll, sliceTimeoutManager ) );
+			}
+		}
+		return scrolls;
+	}
+
 	@Override
 	public JsonObject explain(Object id) {
 		Contracts.assertNotNull( id, "id" );
@@ -233,7 +387,8 @@ public JsonObject explain(String typeName, Object id) {
 		return doExplain( index, id );
 	}
 
-	private SearchWork.Builder<ElasticsearchLoadableSearchResult<H>> searchWorkBuilder() {
+	private SearchWork.Builder<ElasticsearchLoadableSearchResult<H>> searchWorkBuilder(
+			TimeoutManager executionTimeoutManager) {
 		SearchWork.Builder<ElasticsearchLoadableSearchResult<H>> builder =
 				workFactory.search( payload, searchResultExtractor );
 		for ( ElasticsearchSearchIndexContext index : scope.indexes() ) {
@@ -241,13 +396,23 @@ private SearchWork.Builder<ElasticsearchLoadableSearchResult<H>> searchWorkBuild
 		}
 		builder
 				.routingKeys( routingKeys )
-				.deadline( timeoutManager.deadlineOrNull(), timeoutManager.hasHardTimeout() )
+				.deadline( executionTimeoutManager.deadlineOrNull(), executionTimeoutManager.hasHardTimeout() )
 				.requestTransformer(
 						ElasticsearchSearchRequestTransformerContextImpl.createTransformerFunction( requestTransformer )
 				);
 		return builder;
 	}
 
+	private ElasticsearchSearchPointInTime pointInTime(String keepAliveString, int userCount) {
+		OpenPointInTimeWork.Builder openPointInTime = workFactory.openPointInTime( keepAliveString )
+				.routingKeys( routingKeys );
+		for ( ElasticsearchSearchIndexContext index : scope.indexes() ) {
+			openPointInTime.index( index.names().read() );
+		}
+		return new ElasticsearchSearchPointInTime( queryOrchestrator, workFactory, openPointInTime,
+				keepAliveString, userCount );
+	}
+
 	private Integer defaultedLimit(Integer limit, Integer offset) {
 		/*
 		 * If the user has given a 'size' value, take it as is, let ES itself complain if it's too high;
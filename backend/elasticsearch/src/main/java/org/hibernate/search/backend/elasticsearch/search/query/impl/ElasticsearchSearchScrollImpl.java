@@ -6,6 +6,9 @@
  */
 package org.hibernate.search.backend.elasticsearch.search.query.impl;
 
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
 import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchParallelWorkOrchestrator;
 import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchScroll;
 import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchScrollResult;
@@ -21,6 +24,7 @@
 public class ElasticsearchSearchScrollImpl<H> implements ElasticsearchSearchScroll<H> {
 
 	private final ElasticsearchParallelWorkOrchestrator queryOrchestrator;
+	private final Executor loadingExecutor;
 	private final ElasticsearchWorkFactory workFactory;
 	private final ElasticsearchSearchResultExtractor<ElasticsearchLoadableSearchResult<H>> searchResultExtractor;
 	private final String scrollTimeoutString;
@@ -30,6 +34,7 @@
 	private String scrollId;
 
 	public ElasticsearchSearchScrollImpl(ElasticsearchParallelWorkOrchestrator queryOrchestrator,
+			Executor loadingExecutor,
 			ElasticsearchWorkFactory workFactory,
 			ElasticsearchSearchResultExtractor<ElasticsearchLoadableSearchResult<H>> searchResultExtractor,
 			String scrollTimeoutString,
@@ -37,6 +42,7 @@ public ElasticsearchSearchScrollImpl(ElasticsearchParallelWorkOrchestrator query
 			TimeoutManager timeoutManager) {
 		this.workFactory = workFactory;
 		this.queryOrchestrator = queryOrchestrator;
+		this.loadingExecutor = loadingExecutor;
 		this.searchResultExtractor = searchResultExtractor;
 		this.scrollTimeoutString = scrollTimeoutString;
 		this.firstScroll = firstScroll;
@@ -58,19 +64,38 @@ public void close() {
 	@Override
 	public ElasticsearchSearchScrollResult<H> next() {
 		timeoutManager.start();
+		ElasticsearchLoadableSearchResult<H> loadableSearchResult = Futures.unwrappedExceptionJoin(
+				queryOrchestrator.submit(
+						nextWork(),
+						OperationSubmitter.blocking()
+				)
+		);
+		return load( loadableSearchResult );
+	}
+
+	@Override
+	public CompletionStage<ElasticsearchSearchScrollResult<H>> nextAsync() {
+		return Futures.create( () -> {
+			timeoutManager.start();
+			return queryOrchestrator.submit(
+					nextWork(),
+					ElasticsearchSearchQueryImpl.ASYNC_SUBMITTER
+			)
+					// Never load in the thread completing the request, which handles HTTP responses:
+					// loading may block, e.g. on a database.
+					.thenApplyAsync( this::load, loadingExecutor );
+		} );
+	}
 
-		NonBulkableWork<ElasticsearchLoadableSearchResult<H>> scroll = ( scrollId == null )
+	private NonBulkableWork<ElasticsearchLoadableSearchResult<H>> nextWork() {
+		return ( scrollId == null )
 				? firstScroll.build()
 				: workFactory.scroll( scrollId, scrollTimeoutString, searchResultExtractor )
 						.deadline( timeoutManager.deadlineOrNull(), timeoutManager.hasHardTimeout() )
 						.build();
+	}
 
-		ElasticsearchLoadableSearchResult<H> loadableSearchResult = Futures.unwrappedExceptionJoin(
-				queryOrchestrator.submit(
-						scroll,
-						OperationSubmitter.blocking()
-				)
-		);
+	private ElasticsearchSearchScrollResult<H> load(ElasticsearchLoadableSearchResult<H> loadableSearchResult) {
 		ElasticsearchSearchResultImpl<H> searchResult = loadableSearchResult.loadBlocking();
 
 		scrollId = searchResult.scrollId();
@@ -20,6 +20,7 @@
 import org.hibernate.search.backend.elasticsearch.work.impl.BulkableWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.ClearScrollWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.CloseIndexWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.ClosePointInTimeWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.CountWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.CreateIndexWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.DeleteByQueryWork;
@@ -31,7 +32,9 @@
 import org.hibernate.search.backend.elasticsearch.work.impl.ForceMergeWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.GetIndexMetadataWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.IndexWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.MultiSearchWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.OpenIndexWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.OpenPointInTimeWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.PutIndexAliasesWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.PutIndexMappingWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.PutIndexSettingsWork;
@@ -39,6 +42,7 @@
 import org.hibernate.search.backend.elasticsearch.work.impl.ScrollWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.SearchWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.WaitForIndexStatusWork;
+import org.hibernate.search.util.common.AssertionFailure;
 
 import com.google.gson.JsonObject;
 
@@ -124,6 +128,11 @@ public <T> SearchWork.Builder<T> search(JsonObject payload, ElasticsearchSearchR
 		return builder;
 	}
 
+	@Override
+	public MultiSearchWork.Builder multiSearch(List<? extends SearchWork.Builder<?>> searchWorkBuilders) {
+		return new MultiSearchWork.Builder( searchWorkBuilders );
+	}
+
 	@Override
 	public CountWork.Builder count() {
 		return new CountWork.Builder();
@@ -145,6 +154,23 @@ public ClearScrollWork.Builder clearScroll(String scrollId) {
 		return new ClearScrollWork.Builder( scrollId );
 	}
 
+	@Override
+	public boolean isPointInTimeSupported() {
+		// Point in time is available since ES 7.10,
+		// but the implicit _shard_doc tiebreaker we rely on for search_after is only available since ES 7.12.
+		return false;
+	}
+
+	@Override
+	public OpenPointInTimeWork.Builder openPointInTime(String keepAlive) {
+		throw new AssertionFailure( "Point in time is not supported by this version of Elasticsearch" );
+	}
+
+	@Override
+	public ClosePointInTimeWork.Builder closePointInTime(String pointInTimeId) {
+		throw new AssertionFailure( "Point in time is not supported by this version of Elasticsearch" );
+	}
+
 	@Override
 	public CreateIndexWork.Builder createIndex(URLEncodedString indexName) {
 		return CreateIndexWork.Builder.create( gsonProvider, indexName );
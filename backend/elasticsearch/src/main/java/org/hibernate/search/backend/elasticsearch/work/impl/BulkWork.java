@@ -14,6 +14,7 @@
 import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
 import org.hibernate.search.backend.elasticsearch.work.result.impl.BulkResult;
 import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.util.common.AssertionFailure;
 
 import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
@@ -21,6 +22,12 @@
 public class BulkWork extends AbstractNonBulkableWork<BulkResult> {
 
 	private static final JsonAccessor<JsonArray> BULK_ITEMS = JsonAccessor.root().property( "items" ).asArray();
+	private static final JsonAccessor<Integer> BULK_ITEM_STATUS_CODE = JsonAccessor.root().property( "status" ).asInteger();
+
+	public static final int REJECTED_HTTP_STATUS_CODE = 429;
+
+	private static final ElasticsearchRequestSuccessAssessor REJECTION_TOLERANT_RESULT_ASSESSOR =
+			ElasticsearchRequestSuccessAssessor.builder().ignoreErrorStatuses( REJECTED_HTTP_STATUS_CODE ).build();
 
 	protected BulkWork(Builder builder) {
 		super( builder );
@@ -28,6 +35,10 @@ protected BulkWork(Builder builder) {
 
 	@Override
 	protected BulkResult generateResult(ElasticsearchWorkExecutionContext context, ElasticsearchResponse response) {
+		if ( response.statusCode() == REJECTED_HTTP_STATUS_CODE ) {
+			// The whole request was rejected: all bulked works were rejected.
+			return RejectedBulkResult.INSTANCE;
+		}
 		JsonObject parsedResponseBody = response.body();
 		JsonArray resultItems = BULK_ITEMS.get( parsedResponseBody ).orElseGet( JsonArray::new );
 		return new BulkResultImpl( resultItems );
@@ -48,6 +59,18 @@ public Builder refresh(DocumentRefreshStrategy refreshStrategy) {
 			return this;
 		}
 
+		/**
+		 * @param tolerateRejections Whether to report a rejection of the whole request because Elasticsearch is overloaded
+		 * through {@link BulkResult#isRejected(int)} instead of failing, so that the caller can retry bulked works.
+		 * @return {@code this}, for method chaining.
+		 */
+		public Builder tolerateRejections(boolean tolerateRejections) {
+			this.resultAssessor = tolerateRejections
+					? REJECTION_TOLERANT_RESULT_ASSESSOR
+					: ElasticsearchRequestSuccessAssessor.DEFAULT_INSTANCE;
+			return this;
+		}
+
 		@Override
 		protected ElasticsearchRequest buildRequest() {
 			ElasticsearchRequest.Builder builder =
@@ -91,6 +114,30 @@ public <T> T extract(ElasticsearchWorkExecutionContext context, BulkableWork<T>
 			JsonObject bulkItemResponse = results.get( index ).getAsJsonObject();
 			return work.handleBulkResult( context, bulkItemResponse );
 		}
+
+		@Override
+		public boolean isRejected(int index) {
+			// Result items have the following format: { "actionName" : { "status" : 201, ... } }
+			JsonObject bulkItemResponse = results.get( index ).getAsJsonObject();
+			JsonObject responseBody = bulkItemResponse.entrySet().iterator().next().getValue().getAsJsonObject();
+			return BULK_ITEM_STATUS_CODE.get( responseBody )
+					.map( status -> status == REJECTED_HTTP_STATUS_CODE )
+					.orElse( false );
+		}
+	}
+
+	private static class RejectedBulkResult implements BulkResult {
+		private static final RejectedBulkResult INSTANCE = new RejectedBulkResult();
+
+		@Override
+		public <T> T extract(ElasticsearchWorkExecutionContext context, BulkableWork<T> work, int index) {
+			throw new AssertionFailure( "Attempt to extract the result of a bulked work from a rejected bulk request" );
+		}
+
+		@Override
+		public boolean isRejected(int index) {
+			return true;
+		}
 	}
 
 }
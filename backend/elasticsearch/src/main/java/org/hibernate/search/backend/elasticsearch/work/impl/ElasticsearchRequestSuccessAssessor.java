@@ -118,6 +118,17 @@ public void checkSuccess(JsonObject bulkResponseItem) {
 		checkSuccess( statusCode, responseBody );
 	}
 
+	/**
+	 * Check the given multi-search response item, throwing an exception if it indicates a failure.
+	 * @param multiSearchResponseItem The part of the response body concerning the request whose success is to be assessed.
+	 * @throws SearchException If the result is a failure.
+	 */
+	public void checkSuccessOfMultiSearchItem(JsonObject multiSearchResponseItem) {
+		// Result items have the following format: { "status" : 200, ... }
+		Optional<Integer> statusCode = BULK_ITEM_STATUS_CODE.get( multiSearchResponseItem );
+		checkSuccess( statusCode, multiSearchResponseItem );
+	}
+
 	private void checkSuccess(Optional<Integer> statusCode, JsonObject responseBody) {
 		if ( !isSuccess( statusCode, responseBody ) ) {
 			if ( statusCode.filter( isEqual( TIME_OUT_HTTP_STATUS_CODE ) ).isPresent() ) {
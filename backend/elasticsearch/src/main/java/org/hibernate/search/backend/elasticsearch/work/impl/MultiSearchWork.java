@@ -0,0 +1,118 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.work.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.elasticsearch.client.impl.Paths;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
+import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.backend.elasticsearch.work.result.impl.MultiSearchResult;
+import org.hibernate.search.util.common.logging.impl.DefaultLogCategories;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+/**
+ * A work executing multiple searches in a single {@code _msearch} request.
+ * <p>
+ * The success of each search must be assessed separately, see {@link MultiSearchResult#extract(SearchWork, int)}.
+ */
+public class MultiSearchWork extends AbstractNonBulkableWork<MultiSearchResult> {
+
+	private static final Log queryLog = LoggerFactory.make( Log.class, DefaultLogCategories.QUERY );
+
+	private static final JsonAccessor<JsonArray> RESPONSES = JsonAccessor.root().property( "responses" ).asArray();
+
+	private final List<SearchWork<?>> searchWorks;
+
+	protected MultiSearchWork(Builder builder) {
+		super( builder );
+		this.searchWorks = builder.searchWorks;
+	}
+
+	/**
+	 * @return The works executed as part of this multi-search, in the same order as the builders passed to
+	 * {@link Builder#Builder(List)}.
+	 */
+	public List<SearchWork<?>> searchWorks() {
+		return searchWorks;
+	}
+
+	@Override
+	protected CompletableFuture<?> beforeExecute(ElasticsearchWorkExecutionContext executionContext,
+			ElasticsearchRequest request) {
+		queryLog.executingElasticsearchQuery(
+				request.path(),
+				request.parameters(),
+				executionContext.getGsonProvider().getLogHelper().toString( request.bodyParts() )
+		);
+		return super.beforeExecute( executionContext, request );
+	}
+
+	@Override
+	protected MultiSearchResult generateResult(ElasticsearchWorkExecutionContext context,
+			ElasticsearchResponse response) {
+		JsonObject parsedResponseBody = response.body();
+		JsonArray responses = RESPONSES.get( parsedResponseBody ).orElseGet( JsonArray::new );
+		return new MultiSearchResultImpl( responses );
+	}
+
+	public static class Builder extends AbstractNonBulkableWork.AbstractBuilder<Builder> {
+		private final List<? extends SearchWork.Builder<?>> searchWorkBuilders;
+		private List<SearchWork<?>> searchWorks;
+
+		public Builder(List<? extends SearchWork.Builder<?>> searchWorkBuilders) {
+			// Failures of each search are reported in the response items, not through the HTTP status.
+			super( ElasticsearchRequestSuccessAssessor.DEFAULT_INSTANCE );
+			this.searchWorkBuilders = searchWorkBuilders;
+		}
+
+		@Override
+		protected ElasticsearchRequest buildRequest() {
+			ElasticsearchRequest.Builder builder =
+					ElasticsearchRequest.post()
+							.pathComponent( Paths._MSEARCH );
+
+			for ( SearchWork.Builder<?> searchWorkBuilder : searchWorkBuilders ) {
+				builder.body( searchWorkBuilder.multiSearchHeader() );
+				builder.body( searchWorkBuilder.multiSearchBody() );
+			}
+
+			return builder.build();
+		}
+
+		@Override
+		public MultiSearchWork build() {
+			searchWorks = new ArrayList<>( searchWorkBuilders.size() );
+			for ( SearchWork.Builder<?> searchWorkBuilder : searchWorkBuilders ) {
+				searchWorks.add( searchWorkBuilder.build() );
+			}
+			return new MultiSearchWork( this );
+		}
+	}
+
+	private static class MultiSearchResultImpl implements MultiSearchResult {
+		private final JsonArray results;
+
+		private MultiSearchResultImpl(JsonArray results) {
+			this.results = results;
+		}
+
+		@Override
+		public <T> T extract(SearchWork<T> work, int index) {
+			JsonObject multiSearchItemResponse = results.get( index ).getAsJsonObject();
+			return work.handleMultiSearchResult( multiSearchItemResponse );
+		}
+	}
+
+}
@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.backend.elasticsearch.work.impl;
 
+import java.lang.invoke.MethodHandles;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
@@ -13,16 +14,21 @@
 import org.hibernate.search.backend.elasticsearch.client.impl.Paths;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
+import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
 import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 import org.hibernate.search.engine.common.timing.Deadline;
+import org.hibernate.search.util.common.AssertionFailure;
 import org.hibernate.search.util.common.logging.impl.DefaultLogCategories;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 
 public class SearchWork<R> extends AbstractNonBulkableWork<R> {
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 	private static final Log queryLog = LoggerFactory.make( Log.class, DefaultLogCategories.QUERY );
 
 	private final ElasticsearchSearchResultExtractor<R> resultExtractor;
@@ -53,9 +59,28 @@ protected R generateResult(ElasticsearchWorkExecutionContext context, Elasticsea
 		return resultExtractor.extract( body, failOnDeadline ? deadline : null );
 	}
 
+	/**
+	 * @param responseItem The item of a multi-search response pertaining to this work.
+	 * @return The result of this work.
+	 * @see MultiSearchWork
+	 */
+	R handleMultiSearchResult(JsonObject responseItem) {
+		try {
+			resultAssessor.checkSuccessOfMultiSearchItem( responseItem );
+			return resultExtractor.extract( responseItem, failOnDeadline ? deadline : null );
+		}
+		catch (RuntimeException e) {
+			throw log.elasticsearchMultiSearchItemFailed( request, responseItem, e.getMessage(), e );
+		}
+	}
+
 	public static class Builder<R>
 			extends AbstractBuilder<Builder<R>> {
 
+		private static final JsonAccessor<JsonArray> SORT_ACCESSOR = JsonAccessor.root().property( "sort" ).asArray();
+		private static final String SCORE_SORT_FIELD = "_score";
+		private static final String SHARD_DOC_SORT_FIELD = "_shard_doc";
+
 		public static <T> Builder<T> create(JsonObject payload, ElasticsearchSearchResultExtractor<T> resultExtractor) {
 			return new Builder<>( payload, resultExtractor, true, false );
 		}
@@ -71,6 +96,11 @@ public static <T> Builder<T> create(JsonObject payload, ElasticsearchSearchResul
 		private Integer size;
 		private Integer scrollSize;
 		private String scrollTimeout;
+		private String pointInTimeId;
+		private String pointInTimeKeepAlive;
+		private JsonArray searchAfter;
+		private Integer sliceId;
+		private Integer sliceMax;
 		private Set<String> routingKeys;
 		private Deadline deadline;
 		private boolean failOnDeadline;
@@ -101,6 +131,33 @@ public Builder<R> scrolling(int scrollSize, String scrollTimeout) {
 			return this;
 		}
 
+		/**
+		 * @param pointInTimeId The identifier of the point in time to search in.
+		 * The index names and routing keys passed to this builder will be ignored:
+		 * those passed when opening the point in time apply.
+		 * @param keepAlive How long to extend the point in time's lifetime for.
+		 * @param searchAfter The sort values of the hit to search after, or {@code null} to start from the first hit.
+		 * @return {@code this}, for method chaining.
+		 */
+		public Builder<R> pointInTime(String pointInTimeId, String keepAlive, JsonArray searchAfter) {
+			this.pointInTimeId = pointInTimeId;
+			this.pointInTimeKeepAlive = keepAlive;
+			this.searchAfter = searchAfter;
+			return this;
+		}
+
+		/**
+		 * @param sliceId The identifier of the slice to search in, between {@code 0} (inclusive)
+		 * and {@code sliceMax} (exclusive).
+		 * @param sliceMax The total number of slices. Must be greater than 1.
+		 * @return {@code this}, for method chaining.
+		 */
+		public Builder<R> slice(int sliceId, int sliceMax) {
+			this.sliceId = sliceId;
+			this.sliceMax = sliceMax;
+			return this;
+		}
+
 		public Builder<R> routingKeys(Set<String> routingKeys) {
 			this.routingKeys = routingKeys;
 			return this;
@@ -137,11 +194,30 @@ public Builder<R> totalHitCountThreshold(Long totalHitCountThreshold) {
 
 		@Override
 		protected ElasticsearchRequest buildRequest() {
-			ElasticsearchRequest.Builder builder =
-					ElasticsearchRequest.post()
-							.multiValuedPathComponent( indexes )
-							.pathComponent( Paths._SEARCH )
-							.body( payload );
+			JsonObject body = pointInTimeId != null ? pointInTimePayload() : payload;
+			if ( sliceMax != null ) {
+				if ( body == payload ) {
+					body = payload.deepCopy();
+				}
+				JsonObject slice = new JsonObject();
+				slice.addProperty( "id", sliceId );
+				slice.addProperty( "max", sliceMax );
+				body.add( "slice", slice );
+			}
+
+			ElasticsearchRequest.Builder builder;
+			if ( pointInTimeId != null ) {
+				// Requests on a point in time must not target indexes explicitly.
+				builder = ElasticsearchRequest.post()
+						.pathComponent( Paths._SEARCH )
+						.body( body );
+			}
+			else {
+				builder = ElasticsearchRequest.post()
+						.multiValuedPathComponent( indexes )
+						.pathComponent( Paths._SEARCH )
+						.body( body );
+			}
 
 			if ( from != null ) {
 				builder.param( "from", from );
@@ -156,7 +232,7 @@ protected ElasticsearchRequest buildRequest() {
 				builder.param( "scroll", scrollTimeout );
 			}
 
-			if ( routingKeys != null && !routingKeys.isEmpty() ) {
+			if ( pointInTimeId == null && routingKeys != null && !routingKeys.isEmpty() ) {
 				builder.multiValuedParam( "routing", routingKeys );
 			}
 
@@ -180,6 +256,104 @@ public SearchWork<R> build() {
 			return new SearchWork<>( this );
 		}
 
+		/**
+		 * @return The header describing this search in a multi-search request,
+		 * i.e. the equivalent of the path and of the query parameters of a standalone search request.
+		 * @see MultiSearchWork
+		 */
+		JsonObject multiSearchHeader() {
+			JsonObject header = new JsonObject();
+			JsonArray indexArray = new JsonArray();
+			for ( URLEncodedString index : indexes ) {
+				indexArray.add( index.original );
+			}
+			header.add( "index", indexArray );
+			if ( routingKeys != null && !routingKeys.isEmpty() ) {
+				header.addProperty( "routing", String.join( ",", routingKeys ) );
+			}
+			if ( deadline != null && allowPartialSearchResultsSupported ) {
+				header.addProperty( "allow_partial_search_results", !failOnDeadline );
+			}
+			return header;
+		}
+
+		/**
+		 * @return The body of this search in a multi-search request,
+		 * which must include the parameters that would be passed as query parameters in a standalone search request.
+		 * @see MultiSearchWork
+		 */
+		JsonObject multiSearchBody() {
+			if ( pointInTimeId != null || scrollTimeout != null ) {
+				throw new AssertionFailure( "Scrolls cannot be executed as part of a multi-search request" );
+			}
+			JsonObject body = payload.deepCopy();
+			if ( sliceMax != null ) {
+				JsonObject slice = new JsonObject();
+				slice.addProperty( "id", sliceId );
+				slice.addProperty( "max", sliceMax );
+				body.add( "slice", slice );
+			}
+			if ( from != null ) {
+				body.addProperty( "from", from );
+			}
+			if ( size != null ) {
+				body.addProperty( "size", size );
+			}
+			if ( trackTotalHits != null ) {
+				if ( trackTotalHits && totalHitCountThreshold != null ) {
+					body.addProperty( "track_total_hits", totalHitCountThreshold );
+				}
+				else {
+					body.addProperty( "track_total_hits", trackTotalHits );
+				}
+			}
+			if ( deadline != null ) {
+				// Server-side timeout only: a client-side timeout would apply to the whole multi-search request.
+				body.addProperty( "timeout", deadline.checkRemainingTimeMillis() + "ms" );
+			}
+			return body;
+		}
+
+		private JsonObject pointInTimePayload() {
+			JsonObject result = payload.deepCopy();
+
+			JsonObject pit = new JsonObject();
+			pit.addProperty( "id", pointInTimeId );
+			pit.addProperty( "keep_alive", pointInTimeKeepAlive );
+			result.add( "pit", pit );
+
+			// Make sure the sort is explicit and ends with the _shard_doc tiebreaker,
+			// so that each hit has unique sort values that can be used for search_after.
+			JsonArray sort = SORT_ACCESSOR.get( result ).orElse( null );
+			if ( sort == null ) {
+				sort = new JsonArray();
+				sort.add( SCORE_SORT_FIELD );
+				result.add( "sort", sort );
+			}
+			if ( !endsWithShardDocSort( sort ) ) {
+				JsonObject shardDocSort = new JsonObject();
+				shardDocSort.addProperty( SHARD_DOC_SORT_FIELD, "asc" );
+				sort.add( shardDocSort );
+			}
+
+			if ( searchAfter != null ) {
+				result.add( "search_after", searchAfter );
+			}
+
+			return result;
+		}
+
+		private static boolean endsWithShardDocSort(JsonArray sort) {
+			if ( sort.size() == 0 ) {
+				return false;
+			}
+			JsonElement last = sort.get( sort.size() - 1 );
+			if ( last.isJsonPrimitive() ) {
+				return SHARD_DOC_SORT_FIELD.equals( last.getAsString() );
+			}
+			return last.isJsonObject() && last.getAsJsonObject().has( SHARD_DOC_SORT_FIELD );
+		}
+
 		private void handleDeadline(ElasticsearchRequest.Builder builder) {
 			if ( deadline == null ) {
 				return;
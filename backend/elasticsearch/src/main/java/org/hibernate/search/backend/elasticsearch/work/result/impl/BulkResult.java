@@ -13,4 +13,12 @@ public interface BulkResult {
 
 	<T> T extract(ElasticsearchWorkExecutionContext context, BulkableWork<T> work, int index);
 
+	/**
+	 * @param index The index of a bulked work.
+	 * @return {@code true} if Elasticsearch rejected the bulked work because it is overloaded,
+	 * meaning the work was not executed and can safely be retried later,
+	 * {@code false} otherwise.
+	 */
+	boolean isRejected(int index);
+
 }
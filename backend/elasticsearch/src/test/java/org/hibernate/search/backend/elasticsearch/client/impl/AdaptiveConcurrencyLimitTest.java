@@ -0,0 +1,179 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.client.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.test.FutureAssert.assertThatFuture;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import org.apache.http.HttpHost;
+
+class AdaptiveConcurrencyLimitTest {
+
+	private static final HttpHost HOST_1 = new HttpHost( "host1", 9200 );
+	private static final HttpHost HOST_2 = new HttpHost( "host2", 9200 );
+
+	// A fake clock: we pass explicit timestamps to the limit.
+	private long now = System.nanoTime();
+
+	@Test
+	void waitsForLimit() {
+		AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit( "test", 2 );
+
+		assertThatFuture( limit.acquire() ).isSuccessful();
+		assertThatFuture( limit.acquire() ).isSuccessful();
+		CompletableFuture<Void> third = limit.acquire();
+		CompletableFuture<Void> fourth = limit.acquire();
+		assertThatFuture( third ).isPending();
+		assertThatFuture( fourth ).isPending();
+		assertThat( limit.inFlight() ).isEqualTo( 2 );
+		assertThat( limit.waiting() ).isEqualTo( 2 );
+
+		// Waiting requests start in order, as in-flight requests complete
+		release( limit, HOST_1, 10, false );
+		assertThatFuture( third ).isSuccessful();
+		assertThatFuture( fourth ).isPending();
+		release( limit, HOST_1, 10, false );
+		assertThatFuture( fourth ).isSuccessful();
+		assertThat( limit.inFlight() ).isEqualTo( 2 );
+		assertThat( limit.waiting() ).isZero();
+	}
+
+	@Test
+	void overloaded_decreasesOncePerRoundTrip() {
+		AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit( "test", 10 );
+		for ( int i = 0; i < 10; i++ ) {
+			limit.acquire();
+		}
+		long start = tick();
+
+		// Requests sent at the same time all fail: only the first failure decreases the limit
+		assertThat( limit.release( start, HOST_1, 1, tick(), true ) ).isTrue();
+		assertThat( limit.limit() ).isEqualTo( 9.0 );
+		assertThat( limit.release( start, HOST_1, 1, tick(), true ) ).isFalse();
+		assertThat( limit.limit() ).isEqualTo( 9.0 );
+
+		// A request sent after the decrease can decrease the limit again
+		limit.acquire();
+		assertThat( limit.release( tick(), HOST_1, 1, tick(), true ) ).isTrue();
+		assertThat( limit.limit() ).isEqualTo( 9.0 * 0.9 );
+	}
+
+	@Test
+	void overloaded_neverBelowOne() {
+		AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit( "test", 2 );
+		for ( int i = 0; i < 20; i++ ) {
+			limit.acquire();
+			limit.release( tick(), null, 1, tick(), true );
+		}
+		assertThat( limit.limit() ).isEqualTo( 1.0 );
+		assertThatFuture( limit.acquire() ).isSuccessful();
+		assertThatFuture( limit.acquire() ).isPending();
+	}
+
+	@Test
+	void slowRequest_decreases_perHost() {
+		AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit( "test", 10 );
+		// HOST_1 usually responds within 10ms, HOST_2 within 100ms
+		for ( int i = 0; i < 10; i++ ) {
+			limit.acquire();
+			release( limit, HOST_1, 10, false );
+			limit.acquire();
+			release( limit, HOST_2, 100, false );
+		}
+		assertThat( limit.limit() ).isEqualTo( 10.0 );
+
+		// 100ms is normal for HOST_2...
+		limit.acquire();
+		assertThat( release( limit, HOST_2, 100, false ) ).isFalse();
+		assertThat( limit.limit() ).isEqualTo( 10.0 );
+
+		// ... but not for HOST_1
+		limit.acquire();
+		assertThat( release( limit, HOST_1, 100, false ) ).isTrue();
+		assertThat( limit.limit() ).isEqualTo( 9.0 );
+	}
+
+	@Test
+	void slowRequest_decreases_perRequestSize() {
+		AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit( "test", 10 );
+		// Small requests usually take 10ms, large bulk requests 100ms
+		for ( int i = 0; i < 10; i++ ) {
+			limit.acquire();
+			release( limit, HOST_1, 2, 10, false );
+			limit.acquire();
+			release( limit, HOST_1, 2000, 100, false );
+		}
+		assertThat( limit.limit() ).isEqualTo( 10.0 );
+
+		// 100ms is normal for large requests...
+		limit.acquire();
+		assertThat( release( limit, HOST_1, 1500, 100, false ) ).isFalse();
+		assertThat( limit.limit() ).isEqualTo( 10.0 );
+
+		// ... but not for small ones
+		limit.acquire();
+		assertThat( release( limit, HOST_1, 2, 100, false ) ).isTrue();
+		assertThat( limit.limit() ).isEqualTo( 9.0 );
+	}
+
+	@Test
+	void increase_onlyWhenUsed_andBounded() {
+		AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit( "test", 4 );
+		for ( int i = 0; i < 4; i++ ) {
+			limit.acquire();
+			release( limit, null, 10, true );
+		}
+		double decreasedLimit = limit.limit();
+		assertThat( decreasedLimit ).isLessThan( 3.0 );
+
+		// A single request at a time does not use the limit: no increase
+		for ( int i = 0; i < 10; i++ ) {
+			limit.acquire();
+			release( limit, null, 10, false );
+		}
+		assertThat( limit.limit() ).isEqualTo( decreasedLimit );
+
+		// Concurrent requests: the limit increases, up to the maximum
+		for ( int i = 0; i < 100; i++ ) {
+			limit.acquire();
+			limit.acquire();
+			release( limit, null, 10, false );
+			release( limit, null, 10, false );
+		}
+		assertThat( limit.limit() ).isEqualTo( 4.0 );
+	}
+
+	@Test
+	void backOff() {
+		AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit( "test", 10 );
+		long start = tick();
+		limit.backOff( start, tick() );
+		assertThat( limit.limit() ).isEqualTo( 9.0 );
+		limit.backOff( start, tick() );
+		assertThat( limit.limit() ).isEqualTo( 9.0 );
+	}
+
+	private boolean release(AdaptiveConcurrencyLimit limit, HttpHost host, long latencyMs, boolean overloaded) {
+		return release( limit, host, 1, latencyMs, overloaded );
+	}
+
+	private boolean release(AdaptiveConcurrencyLimit limit, HttpHost host, int requestSize, long latencyMs,
+			boolean overloaded) {
+		long start = tick();
+		now += TimeUnit.MILLISECONDS.toNanos( latencyMs );
+		return limit.release( start, host, requestSize, now, overloaded );
+	}
+
+	private long tick() {
+		return ++now;
+	}
+}
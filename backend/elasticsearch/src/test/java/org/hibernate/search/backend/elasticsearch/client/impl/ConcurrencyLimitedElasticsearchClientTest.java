@@ -0,0 +1,152 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.client.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.test.FutureAssert.assertThatFuture;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchClientImplementor;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
+import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
+import org.hibernate.search.engine.common.metrics.spi.MetricsRegistry;
+import org.hibernate.search.engine.common.metrics.spi.MetricsTags;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@MockitoSettings(strictness = Strictness.STRICT_STUBS)
+class ConcurrencyLimitedElasticsearchClientTest {
+
+	private static final URLEncodedString INDEX_NAME = URLEncodedString.fromString( "myIndex" );
+
+	@Mock
+	private ElasticsearchClientImplementor delegateMock;
+
+	private ConcurrencyLimitedElasticsearchClient client;
+
+	@BeforeEach
+	void setup() {
+		client = new ConcurrencyLimitedElasticsearchClient( delegateMock, 2, 3,
+				MetricsRegistry.noOp(), MetricsTags.empty() );
+	}
+
+	@Test
+	void category() {
+		assertThat( ElasticsearchRequestCategory.of( bulk() ) ).isEqualTo( ElasticsearchRequestCategory.INDEXING );
+		assertThat( ElasticsearchRequestCategory.of( ElasticsearchRequest.post().pathComponent( INDEX_NAME )
+				.pathComponent( Paths._DELETE_BY_QUERY ).build() ) )
+				.isEqualTo( ElasticsearchRequestCategory.INDEXING );
+		assertThat( ElasticsearchRequestCategory.of( search() ) ).isEqualTo( ElasticsearchRequestCategory.SEARCH );
+		assertThat( ElasticsearchRequestCategory.of( ElasticsearchRequest.post().pathComponent( Paths._MSEARCH ).build() ) )
+				.isEqualTo( ElasticsearchRequestCategory.SEARCH );
+		assertThat( ElasticsearchRequestCategory.of( ElasticsearchRequest.post().pathComponent( Paths._SEARCH )
+				.pathComponent( Paths.SCROLL ).build() ) )
+				.isEqualTo( ElasticsearchRequestCategory.SEARCH );
+		// Releasing resources must never wait
+		assertThat( ElasticsearchRequestCategory.of( ElasticsearchRequest.delete().pathComponent( Paths._SEARCH )
+				.pathComponent( Paths.SCROLL ).build() ) )
+				.isEqualTo( ElasticsearchRequestCategory.OTHER );
+		assertThat( ElasticsearchRequestCategory.of( other() ) ).isEqualTo( ElasticsearchRequestCategory.OTHER );
+		assertThat( ElasticsearchRequestCategory.of( ElasticsearchRequest.put().pathComponent( INDEX_NAME ).build() ) )
+				.isEqualTo( ElasticsearchRequestCategory.OTHER );
+	}
+
+	@Test
+	void limitsConcurrentRequests_perCategory() {
+		ElasticsearchRequest bulk1 = bulk();
+		ElasticsearchRequest bulk2 = bulk();
+		ElasticsearchRequest bulk3 = bulk();
+		ElasticsearchRequest search = search();
+		CompletableFuture<ElasticsearchResponse> bulk1Future = new CompletableFuture<>();
+		CompletableFuture<ElasticsearchResponse> bulk3Future = new CompletableFuture<>();
+		CompletableFuture<ElasticsearchResponse> searchFuture = new CompletableFuture<>();
+
+		when( delegateMock.submit( bulk1 ) ).thenReturn( bulk1Future );
+		when( delegateMock.submit( bulk2 ) ).thenReturn( new CompletableFuture<>() );
+		CompletableFuture<ElasticsearchResponse> bulk1FutureFromClient = client.submit( bulk1 );
+		client.submit( bulk2 );
+		CompletableFuture<ElasticsearchResponse> bulk3FutureFromClient = client.submit( bulk3 );
+		verify( delegateMock, never() ).submit( bulk3 );
+		assertThat( client.indexingLimit().waiting() ).isEqualTo( 1 );
+
+		// Search requests are limited separately
+		when( delegateMock.submit( search ) ).thenReturn( searchFuture );
+		client.submit( search );
+		verify( delegateMock ).submit( search );
+
+		// Other requests are not limited
+		ElasticsearchRequest other = other();
+		when( delegateMock.submit( other ) ).thenReturn( new CompletableFuture<>() );
+		client.submit( other );
+		verify( delegateMock ).submit( other );
+
+		ElasticsearchResponse bulk1Response = response( 200 );
+		when( delegateMock.submit( bulk3 ) ).thenReturn( bulk3Future );
+		bulk1Future.complete( bulk1Response );
+		assertThatFuture( bulk1FutureFromClient ).isSuccessful( bulk1Response );
+		verify( delegateMock ).submit( bulk3 );
+		assertThatFuture( bulk3FutureFromClient ).isPending();
+		assertThat( client.indexingLimit().inFlight() ).isEqualTo( 2 );
+		assertThat( client.indexingLimit().waiting() ).isZero();
+	}
+
+	@Test
+	void overloaded_decreasesLimit() {
+		ElasticsearchRequest bulk = bulk();
+		when( delegateMock.submit( bulk ) ).thenReturn( CompletableFuture.completedFuture( response( 429 ) ) );
+		assertThatFuture( client.submit( bulk ) ).isSuccessful();
+		assertThat( client.indexingLimit().limit() ).isLessThan( 2.0 );
+		// Search requests are not affected by indexing requests
+		assertThat( client.searchLimit().limit() ).isEqualTo( 3.0 );
+	}
+
+	@Test
+	void failure_decreasesLimit() {
+		ElasticsearchRequest search = search();
+		RuntimeException exception = new RuntimeException( "Timeout" );
+		when( delegateMock.submit( search ) ).thenReturn( CompletableFuture.failedFuture( exception ) );
+		assertThatFuture( client.submit( search ) ).isFailed( exception );
+		assertThat( client.searchLimit().limit() ).isLessThan( 3.0 );
+		assertThat( client.searchLimit().inFlight() ).isZero();
+	}
+
+	@Test
+	void searchOverloaded_indexingYields() {
+		ElasticsearchRequest search = search();
+		when( delegateMock.submit( search ) ).thenReturn( CompletableFuture.completedFuture( response( 503 ) ) );
+		assertThatFuture( client.submit( search ) ).isSuccessful();
+		assertThat( client.searchLimit().limit() ).isLessThan( 3.0 );
+		assertThat( client.indexingLimit().limit() ).isLessThan( 2.0 );
+	}
+
+	private static ElasticsearchRequest bulk() {
+		return ElasticsearchRequest.post().pathComponent( Paths._BULK ).build();
+	}
+
+	private static ElasticsearchRequest search() {
+		return ElasticsearchRequest.post().pathComponent( INDEX_NAME ).pathComponent( Paths._SEARCH ).build();
+	}
+
+	private static ElasticsearchRequest other() {
+		return ElasticsearchRequest.post().pathComponent( INDEX_NAME ).pathComponent( Paths._REFRESH ).build();
+	}
+
+	private static ElasticsearchResponse response(int statusCode) {
+		// No host: latency is not taken into account, which makes tests deterministic.
+		return new ElasticsearchResponse( null, statusCode, "", null );
+	}
+}
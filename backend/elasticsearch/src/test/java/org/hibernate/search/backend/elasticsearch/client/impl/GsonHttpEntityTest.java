@@ -24,6 +24,7 @@
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
 
 import org.hibernate.search.backend.elasticsearch.gson.spi.GsonProvider;
 
@@ -38,7 +39,9 @@
 import com.google.gson.JsonParser;
 
 import org.apache.http.Header;
+import org.apache.http.HttpEntity;
 import org.apache.http.nio.ContentEncoder;
+import org.elasticsearch.client.RestClient;
 
 class GsonHttpEntityTest {
 
@@ -144,13 +147,17 @@ public static List<? extends Arguments> params() {
 		return params;
 	}
 
+	private Gson gson;
+	private ByteBufferPool pool;
 	private GsonHttpEntity gsonEntity;
 	private String expectedPayloadString;
 	private int expectedContentLength;
 
 	public void init(List<JsonObject> payload) throws IOException {
-		Gson gson = GsonProvider.create( GsonBuilder::new, true ).getGson();
-		this.gsonEntity = new GsonHttpEntity( gson, payload );
+		this.gson = GsonProvider.create( GsonBuilder::new, true ).getGson();
+		// Few buffers, so that we also test the fallback to heap buffers
+		this.pool = new ByteBufferPool( 1024, 4 );
+		this.gsonEntity = new GsonHttpEntity( gson, pool, payload );
 		StringBuilder builder = new StringBuilder();
 		for ( JsonObject object : payload ) {
 			gson.toJson( object, builder );
@@ -233,6 +240,21 @@ void produceContent_pushBack_every500Bytes(String ignoredLabel, List<JsonObject>
 		}
 	}
 
+	@ParameterizedTest(name = "{0}")
+	@MethodSource("params")
+	void produceContent_releasesBuffers(String ignoredLabel, List<JsonObject> payload) throws IOException {
+		init( payload );
+		for ( int i = 0; i < 2; i++ ) { // Try several times: the result shouldn't change.
+			doProduceContent( gsonEntity, 100 );
+			assertThat( pool.idleDirectBuffers() ).isEqualTo( pool.allocatedDirectBuffers() );
+		}
+		// Closing in the middle of writing also releases buffers
+		ContentEncoder contentEncoder = new OutputStreamContentEncoder( new ByteArrayOutputStream(), 100 );
+		gsonEntity.produceContent( contentEncoder, StubIOControl.INSTANCE );
+		gsonEntity.close();
+		assertThat( pool.idleDirectBuffers() ).isEqualTo( pool.allocatedDirectBuffers() );
+	}
+
 	@ParameterizedTest(name = "{0}")
 	@MethodSource("params")
 	void writeTo(String ignoredLabel, List<JsonObject> payload) throws IOException {
@@ -245,6 +267,37 @@ void writeTo(String ignoredLabel, List<JsonObject> payload) throws IOException {
 		}
 	}
 
+	@ParameterizedTest(name = "{0}")
+	@MethodSource("params")
+	void writeTo_releasesBuffers(String ignoredLabel, List<JsonObject> payload) throws IOException {
+		init( payload );
+		// Buffers are only borrowed when the content length or the content is requested
+		assertThat( pool.allocatedDirectBuffers() ).isZero();
+		// Requesting the content length may borrow buffers...
+		gsonEntity.getContentLength();
+		for ( int i = 0; i < 2; i++ ) { // Try several times: the result shouldn't change.
+			// ... but writeTo gives them back, even though callers of writeTo may never call close().
+			doWriteTo( gsonEntity );
+			assertThat( pool.idleDirectBuffers() ).isEqualTo( pool.allocatedDirectBuffers() );
+		}
+	}
+
+	@ParameterizedTest(name = "{0}")
+	@MethodSource("params")
+	void compression(String ignoredLabel, List<JsonObject> payload) throws IOException {
+		init( payload );
+		// Simulate what the REST client does when compression is enabled, for many requests:
+		// it wraps the entity, calls writeTo through the wrapper, and never closes our entity.
+		for ( int i = 0; i < 10; i++ ) {
+			GsonHttpEntity entity = new GsonHttpEntity( gson, pool, payload );
+			entity.getContentLength();
+			RestClient.ContentCompressingEntity compressingEntity = new RestClient.ContentCompressingEntity( entity );
+			assertThat( doGetUncompressedContent( compressingEntity ) )
+					.isEqualTo( expectedPayloadString );
+			assertThat( pool.idleDirectBuffers() ).isEqualTo( pool.allocatedDirectBuffers() );
+		}
+	}
+
 	@ParameterizedTest(name = "{0}")
 	@MethodSource("params")
 	void getContent(String ignoredLabel, List<JsonObject> payload) throws IOException {
@@ -257,6 +310,20 @@ void getContent(String ignoredLabel, List<JsonObject> payload) throws IOExceptio
 		}
 	}
 
+	@ParameterizedTest(name = "{0}")
+	@MethodSource("params")
+	void jsonSizeCounter(String ignoredLabel, List<JsonObject> payload) throws IOException {
+		init( payload );
+		JsonSizeCounter counter = new JsonSizeCounter( gson );
+		for ( int i = 0; i < 2; i++ ) { // Try several times: the result shouldn't change.
+			long size = 0L;
+			for ( JsonObject object : payload ) {
+				size += counter.size( object );
+			}
+			assertThat( size ).isEqualTo( expectedContentLength );
+		}
+	}
+
 	private String doProduceContent(GsonHttpEntity entity, int pushBackPeriod) throws IOException {
 		try ( ByteArrayOutputStream outputStream = new ByteArrayOutputStream() ) {
 			ContentEncoder contentEncoder = new OutputStreamContentEncoder( outputStream, pushBackPeriod );
@@ -277,6 +344,18 @@ private String doWriteTo(GsonHttpEntity entity) throws IOException {
 		}
 	}
 
+	private String doGetUncompressedContent(HttpEntity compressedEntity) throws IOException {
+		try ( InputStream inputStream = new GZIPInputStream( compressedEntity.getContent() );
+				ByteArrayOutputStream outputStream = new ByteArrayOutputStream() ) {
+			byte[] buffer = new byte[1024];
+			int read;
+			while ( ( read = inputStream.read( buffer ) ) >= 0 ) {
+				outputStream.write( buffer, 0, read );
+			}
+			return outputStream.toString( StandardCharsets.UTF_8.name() );
+		}
+	}
+
 	private String doGetContent(GsonHttpEntity entity) throws IOException {
 		try ( InputStream inputStream = entity.getContent();
 				Reader reader = new InputStreamReader( inputStream, StandardCharsets.UTF_8 );
@@ -312,7 +391,10 @@ public int write(ByteBuffer src) throws IOException {
 				return 0;
 			}
 			pushedBack = false;
-			outputStream.write( src.array(), src.arrayOffset(), toWrite );
+			// Buffers may be direct: we cannot access their backing array.
+			byte[] bytes = new byte[toWrite];
+			src.get( bytes );
+			outputStream.write( bytes );
 			written += toWrite;
 			return toWrite;
 		}
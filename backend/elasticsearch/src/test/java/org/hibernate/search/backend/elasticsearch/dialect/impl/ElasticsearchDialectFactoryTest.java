@@ -22,6 +22,7 @@
 import org.hibernate.search.backend.elasticsearch.dialect.model.impl.OpenSearch29ModelDialect;
 import org.hibernate.search.backend.elasticsearch.dialect.model.impl.OpenSearch2ModelDialect;
 import org.hibernate.search.backend.elasticsearch.dialect.protocol.impl.Elasticsearch70ProtocolDialect;
+import org.hibernate.search.backend.elasticsearch.dialect.protocol.impl.Elasticsearch712ProtocolDialect;
 import org.hibernate.search.backend.elasticsearch.dialect.protocol.impl.Elasticsearch80ProtocolDialect;
 import org.hibernate.search.backend.elasticsearch.dialect.protocol.impl.Elasticsearch81ProtocolDialect;
 import org.hibernate.search.backend.elasticsearch.dialect.protocol.impl.ElasticsearchProtocolDialect;
@@ -99,47 +100,47 @@ public static List<? extends Arguments> params() {
 				),
 				success(
 						ElasticsearchDistributionName.ELASTIC, "7.12", "7.12.1",
-						Elasticsearch7ModelDialect.class, Elasticsearch70ProtocolDialect.class
+						Elasticsearch7ModelDialect.class, Elasticsearch712ProtocolDialect.class
 				),
 				success(
 						ElasticsearchDistributionName.ELASTIC, "7.12.0", "7.12.0",
-						Elasticsearch7ModelDialect.class, Elasticsearch70ProtocolDialect.class
+						Elasticsearch7ModelDialect.class, Elasticsearch712ProtocolDialect.class
 				),
 				success(
 						ElasticsearchDistributionName.ELASTIC, "7.12.1", "7.12.1",
-						Elasticsearch7ModelDialect.class, Elasticsearch70ProtocolDialect.class
+						Elasticsearch7ModelDialect.class, Elasticsearch712ProtocolDialect.class
 				),
 				success(
 						ElasticsearchDistributionName.ELASTIC, "7.13", "7.13.2",
-						Elasticsearch7ModelDialect.class, Elasticsearch70ProtocolDialect.class
+						Elasticsearch7ModelDialect.class, Elasticsearch712ProtocolDialect.class
 				),
 				success(
 						ElasticsearchDistributionName.ELASTIC, "7.13.0", "7.13.0",
-						Elasticsearch7ModelDialect.class, Elasticsearch70ProtocolDialect.class
+						Elasticsearch7ModelDialect.class, Elasticsearch712ProtocolDialect.class
 				),
 				success(
 						ElasticsearchDistributionName.ELASTIC, "7.13.2", "7.13.2",
-						Elasticsearch7ModelDialect.class, Elasticsearch70ProtocolDialect.class
+						Elasticsearch7ModelDialect.class, Elasticsearch712ProtocolDialect.class
 				),
 				success(
 						ElasticsearchDistributionName.ELASTIC, "7.16", "7.16.0",
-						Elasticsearch7ModelDialect.class, Elasticsearch70ProtocolDialect.class
+						Elasticsearch7ModelDialect.class, Elasticsearch712ProtocolDialect.class
 				),
 				success(
 						ElasticsearchDistributionName.ELASTIC, "7.16.0", "7.16.0",
-						Elasticsearch7ModelDialect.class, Elasticsearch70ProtocolDialect.class
+						Elasticsearch7ModelDialect.class, Elasticsearch712ProtocolDialect.class
 				),
 				success(
 						ElasticsearchDistributionName.ELASTIC, "7.17", "7.17.0",
-						Elasticsearch7ModelDialect.class, Elasticsearch70ProtocolDialect.class
+						Elasticsearch7ModelDialect.class, Elasticsearch712ProtocolDialect.class
 				),
 				success(
 						ElasticsearchDistributionName.ELASTIC, "7.17.0", "7.17.0",
-						Elasticsearch7ModelDialect.class, Elasticsearch70ProtocolDialect.class
+						Elasticsearch7ModelDialect.class, Elasticsearch712ProtocolDialect.class
 				),
 				successWithWarning(
 						ElasticsearchDistributionName.ELASTIC, "7.18.0", "7.18.0",
-						Elasticsearch7ModelDialect.class, Elasticsearch70ProtocolDialect.class
+						Elasticsearch7ModelDialect.class, Elasticsearch712ProtocolDialect.class
 				),
 				success(
 						ElasticsearchDistributionName.ELASTIC, "8", "8.7.1",
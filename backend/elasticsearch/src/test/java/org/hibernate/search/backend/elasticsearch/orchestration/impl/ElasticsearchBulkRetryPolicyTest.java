@@ -0,0 +1,310 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.orchestration.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.search.util.impl.test.FutureAssert.assertThatFuture;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.backend.elasticsearch.work.impl.BulkableWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkExecutionContext;
+import org.hibernate.search.backend.elasticsearch.work.impl.NonBulkableWork;
+import org.hibernate.search.backend.elasticsearch.work.result.impl.BulkResult;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.engine.common.execution.spi.SimpleScheduledExecutor;
+import org.hibernate.search.util.common.SearchException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@MockitoSettings(strictness = Strictness.STRICT_STUBS)
+@SuppressWarnings({ "unchecked", "rawtypes" }) // Raw types are the only way to mock parameterized types
+class ElasticsearchBulkRetryPolicyTest {
+
+	private static final long INITIAL_DELAY_MS = 100;
+	private static final long MAX_DELAY_MS = 1000;
+
+	@Mock
+	private ElasticsearchWorkExecutionContext contextMock;
+	@Mock
+	private ElasticsearchBulkRetryPolicy.BulkWorkFactory bulkWorkFactoryMock;
+	@Mock
+	private SimpleScheduledExecutor delayExecutorMock;
+
+	// Tasks scheduled on the delay executor: we will run them manually
+	private final List<Runnable> scheduledTasks = new ArrayList<>();
+	private final List<Long> scheduledDelaysMs = new ArrayList<>();
+
+	@BeforeEach
+	void setup() {
+		// Lenient: not every test schedules tasks
+		lenient().when( delayExecutorMock.schedule( any(), anyLong(), eq( TimeUnit.NANOSECONDS ) ) )
+				.thenAnswer( invocation -> {
+					scheduledTasks.add( invocation.getArgument( 0 ) );
+					scheduledDelaysMs.add( TimeUnit.NANOSECONDS.toMillis( invocation.getArgument( 1 ) ) );
+					return null;
+				} );
+	}
+
+	@Test
+	void noRejection() {
+		BulkableWork<Object> work1 = bulkableWork( 1 );
+		BulkableWork<Object> work2 = bulkableWork( 2 );
+		Object work1Result = new Object();
+		Object work2Result = new Object();
+
+		NonBulkableWork<BulkResult> attempt1 = bulkWork( 1 );
+		BulkResult attempt1Result = bulkResult();
+		CompletableFuture<BulkResult> attempt1Future = new CompletableFuture<>();
+
+		ElasticsearchBulkRetryPolicy policy = policy( 3 );
+		NonBulkableWork<BulkResult> bulkWork = policy.createBulkWork( Arrays.asList( work1, work2 ),
+				DocumentRefreshStrategy.NONE );
+
+		when( bulkWorkFactoryMock.create( Arrays.asList( work1, work2 ), DocumentRefreshStrategy.NONE, true ) )
+				.thenReturn( attempt1 );
+		when( attempt1.execute( contextMock ) ).thenReturn( attempt1Future );
+		CompletableFuture<BulkResult> bulkFuture = bulkWork.execute( contextMock );
+		assertThatFuture( bulkFuture ).isPending();
+
+		when( attempt1Result.isRejected( 0 ) ).thenReturn( false );
+		when( attempt1Result.isRejected( 1 ) ).thenReturn( false );
+		attempt1Future.complete( attempt1Result );
+		assertThatFuture( bulkFuture ).isSuccessful();
+		assertThat( scheduledTasks ).isEmpty();
+
+		when( attempt1Result.extract( contextMock, work1, 0 ) ).thenReturn( work1Result );
+		when( attempt1Result.extract( contextMock, work2, 1 ) ).thenReturn( work2Result );
+		assertThat( bulkFuture.join().extract( contextMock, work1, 0 ) ).isSameAs( work1Result );
+		assertThat( bulkFuture.join().extract( contextMock, work2, 1 ) ).isSameAs( work2Result );
+	}
+
+	@Test
+	void partialRejection_retriesOnlyRejectedWorks() {
+		BulkableWork<Object> work1 = bulkableWork( 1 );
+		BulkableWork<Object> work2 = bulkableWork( 2 );
+		BulkableWork<Object> work3 = bulkableWork( 3 );
+		Object work1Result = new Object();
+		Object work2Result = new Object();
+		Object work3Result = new Object();
+
+		NonBulkableWork<BulkResult> attempt1 = bulkWork( 1 );
+		BulkResult attempt1Result = bulkResult();
+		CompletableFuture<BulkResult> attempt1Future = new CompletableFuture<>();
+		NonBulkableWork<BulkResult> attempt2 = bulkWork( 2 );
+		BulkResult attempt2Result = bulkResult();
+		CompletableFuture<BulkResult> attempt2Future = new CompletableFuture<>();
+
+		ElasticsearchBulkRetryPolicy policy = policy( 3 );
+		NonBulkableWork<BulkResult> bulkWork = policy.createBulkWork( Arrays.asList( work1, work2, work3 ),
+				DocumentRefreshStrategy.FORCE );
+
+		when( bulkWorkFactoryMock.create( Arrays.asList( work1, work2, work3 ), DocumentRefreshStrategy.FORCE, true ) )
+				.thenReturn( attempt1 );
+		when( attempt1.execute( contextMock ) ).thenReturn( attempt1Future );
+		CompletableFuture<BulkResult> bulkFuture = bulkWork.execute( contextMock );
+
+		// Only work2 is rejected
+		when( attempt1Result.isRejected( 0 ) ).thenReturn( false );
+		when( attempt1Result.isRejected( 1 ) ).thenReturn( true );
+		when( attempt1Result.isRejected( 2 ) ).thenReturn( false );
+		attempt1Future.complete( attempt1Result );
+		assertThatFuture( bulkFuture ).isPending();
+		assertThat( scheduledTasks ).hasSize( 1 );
+		assertThat( scheduledDelaysMs.get( 0 ) ).isBetween( INITIAL_DELAY_MS / 2 - 1, INITIAL_DELAY_MS );
+
+		when( bulkWorkFactoryMock.create( Collections.singletonList( work2 ), DocumentRefreshStrategy.FORCE, true ) )
+				.thenReturn( attempt2 );
+		when( attempt2.execute( contextMock ) ).thenReturn( attempt2Future );
+		scheduledTasks.remove( 0 ).run();
+		assertThatFuture( bulkFuture ).isPending();
+
+		when( attempt2Result.isRejected( 0 ) ).thenReturn( false );
+		attempt2Future.complete( attempt2Result );
+		assertThatFuture( bulkFuture ).isSuccessful();
+		assertThat( scheduledTasks ).isEmpty();
+
+		// Results must be extracted from the last attempt each work was part of
+		when( attempt1Result.extract( contextMock, work1, 0 ) ).thenReturn( work1Result );
+		when( attempt2Result.extract( contextMock, work2, 0 ) ).thenReturn( work2Result );
+		when( attempt1Result.extract( contextMock, work3, 2 ) ).thenReturn( work3Result );
+		BulkResult result = bulkFuture.join();
+		assertThat( result.extract( contextMock, work1, 0 ) ).isSameAs( work1Result );
+		assertThat( result.extract( contextMock, work2, 1 ) ).isSameAs( work2Result );
+		assertThat( result.extract( contextMock, work3, 2 ) ).isSameAs( work3Result );
+		assertThat( result.isRejected( 1 ) ).isFalse();
+	}
+
+	@Test
+	void lastAttempt_doesNotTolerateRejections() {
+		BulkableWork<Object> work1 = bulkableWork( 1 );
+
+		NonBulkableWork<BulkResult> attempt1 = bulkWork( 1 );
+		BulkResult attempt1Result = bulkResult();
+		NonBulkableWork<BulkResult> attempt2 = bulkWork( 2 );
+		BulkResult attempt2Result = bulkResult();
+
+		ElasticsearchBulkRetryPolicy policy = policy( 2 );
+		NonBulkableWork<BulkResult> bulkWork = policy.createBulkWork( Collections.singletonList( work1 ),
+				DocumentRefreshStrategy.NONE );
+
+		when( bulkWorkFactoryMock.create( Collections.singletonList( work1 ), DocumentRefreshStrategy.NONE, true ) )
+				.thenReturn( attempt1 );
+		when( attempt1.execute( contextMock ) ).thenReturn( CompletableFuture.completedFuture( attempt1Result ) );
+		when( attempt1Result.isRejected( 0 ) ).thenReturn( true );
+		CompletableFuture<BulkResult> bulkFuture = bulkWork.execute( contextMock );
+		assertThatFuture( bulkFuture ).isPending();
+		assertThat( scheduledTasks ).hasSize( 1 );
+
+		// The last attempt reports rejections as failures, as if there were no retries
+		when( bulkWorkFactoryMock.create( Collections.singletonList( work1 ), DocumentRefreshStrategy.NONE, false ) )
+				.thenReturn( attempt2 );
+		when( attempt2.execute( contextMock ) ).thenReturn( CompletableFuture.completedFuture( attempt2Result ) );
+		scheduledTasks.remove( 0 ).run();
+		assertThatFuture( bulkFuture ).isSuccessful();
+		assertThat( scheduledTasks ).isEmpty();
+
+		SearchException failure = new SearchException( "Rejected" );
+		when( attempt2Result.extract( contextMock, work1, 0 ) ).thenThrow( failure );
+		assertThatThrownBy( () -> bulkFuture.join().extract( contextMock, work1, 0 ) ).isSameAs( failure );
+	}
+
+	@Test
+	void rejection_pausesOtherBulks() {
+		BulkableWork<Object> work1 = bulkableWork( 1 );
+		BulkableWork<Object> work2 = bulkableWork( 2 );
+
+		NonBulkableWork<BulkResult> attempt1 = bulkWork( 1 );
+		BulkResult attempt1Result = bulkResult();
+		NonBulkableWork<BulkResult> otherAttempt1 = bulkWork( 2 );
+
+		ElasticsearchBulkRetryPolicy policy = policy( 3 );
+
+		when( bulkWorkFactoryMock.create( Collections.singletonList( work1 ), DocumentRefreshStrategy.NONE, true ) )
+				.thenReturn( attempt1 );
+		when( attempt1.execute( contextMock ) ).thenReturn( CompletableFuture.completedFuture( attempt1Result ) );
+		when( attempt1Result.isRejected( 0 ) ).thenReturn( true );
+		policy.createBulkWork( Collections.singletonList( work1 ), DocumentRefreshStrategy.NONE )
+				.execute( contextMock );
+		assertThat( scheduledTasks ).hasSize( 1 );
+
+		// Another bulk, e.g. from another queue, must wait until the pause ends
+		CompletableFuture<BulkResult> otherBulkFuture =
+				policy.createBulkWork( Collections.singletonList( work2 ), DocumentRefreshStrategy.NONE )
+						.execute( contextMock );
+		assertThatFuture( otherBulkFuture ).isPending();
+		assertThat( scheduledTasks ).hasSize( 2 );
+		verifyNoMoreInteractions( bulkWorkFactoryMock );
+
+		when( bulkWorkFactoryMock.create( Collections.singletonList( work2 ), DocumentRefreshStrategy.NONE, true ) )
+				.thenReturn( otherAttempt1 );
+		when( otherAttempt1.execute( contextMock ) ).thenReturn( new CompletableFuture<>() );
+		scheduledTasks.remove( 1 ).run();
+		assertThatFuture( otherBulkFuture ).isPending();
+	}
+
+	@Test
+	void failureAfterRetry_failsOnlyRetriedWorks() {
+		BulkableWork<Object> work1 = bulkableWork( 1 );
+		BulkableWork<Object> work2 = bulkableWork( 2 );
+		Object work1Result = new Object();
+
+		NonBulkableWork<BulkResult> attempt1 = bulkWork( 1 );
+		BulkResult attempt1Result = bulkResult();
+		NonBulkableWork<BulkResult> attempt2 = bulkWork( 2 );
+
+		ElasticsearchBulkRetryPolicy policy = policy( 3 );
+		NonBulkableWork<BulkResult> bulkWork = policy.createBulkWork( Arrays.asList( work1, work2 ),
+				DocumentRefreshStrategy.NONE );
+
+		when( bulkWorkFactoryMock.create( Arrays.asList( work1, work2 ), DocumentRefreshStrategy.NONE, true ) )
+				.thenReturn( attempt1 );
+		when( attempt1.execute( contextMock ) ).thenReturn( CompletableFuture.completedFuture( attempt1Result ) );
+		when( attempt1Result.isRejected( 0 ) ).thenReturn( false );
+		when( attempt1Result.isRejected( 1 ) ).thenReturn( true );
+		CompletableFuture<BulkResult> bulkFuture = bulkWork.execute( contextMock );
+
+		RuntimeException exception = new RuntimeException( "Some message" );
+		when( bulkWorkFactoryMock.create( Collections.singletonList( work2 ), DocumentRefreshStrategy.NONE, true ) )
+				.thenReturn( attempt2 );
+		when( attempt2.execute( contextMock ) ).thenReturn( CompletableFuture.failedFuture( exception ) );
+		scheduledTasks.remove( 0 ).run();
+		assertThatFuture( bulkFuture ).isSuccessful();
+
+		when( attempt1Result.extract( contextMock, work1, 0 ) ).thenReturn( work1Result );
+		BulkResult result = bulkFuture.join();
+		assertThat( result.extract( contextMock, work1, 0 ) ).isSameAs( work1Result );
+		assertThatThrownBy( () -> result.extract( contextMock, work2, 1 ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContainingAll( "Call to the bulk REST API failed", "Some message" )
+				.hasCause( exception );
+	}
+
+	@Test
+	void failureOnFirstAttempt_propagates() {
+		BulkableWork<Object> work1 = bulkableWork( 1 );
+		NonBulkableWork<BulkResult> attempt1 = bulkWork( 1 );
+
+		ElasticsearchBulkRetryPolicy policy = policy( 3 );
+		NonBulkableWork<BulkResult> bulkWork = policy.createBulkWork( Collections.singletonList( work1 ),
+				DocumentRefreshStrategy.NONE );
+
+		RuntimeException exception = new RuntimeException( "Some message" );
+		when( bulkWorkFactoryMock.create( Collections.singletonList( work1 ), DocumentRefreshStrategy.NONE, true ) )
+				.thenReturn( attempt1 );
+		when( attempt1.execute( contextMock ) ).thenReturn( CompletableFuture.failedFuture( exception ) );
+		CompletableFuture<BulkResult> bulkFuture = bulkWork.execute( contextMock );
+		assertThatFuture( bulkFuture ).isFailed( exception );
+		assertThat( scheduledTasks ).isEmpty();
+	}
+
+	@Test
+	void backoffDelay() {
+		ElasticsearchBulkRetryPolicy policy = policy( 100 );
+		for ( int attempt = 1; attempt < 100; attempt++ ) {
+			long expectedMaxDelayMs = Math.min( MAX_DELAY_MS, INITIAL_DELAY_MS << Math.min( attempt - 1, 30 ) );
+			assertThat( policy.backoffDelayMs( attempt ) )
+					.as( "Delay for attempt " + attempt )
+					.isBetween( expectedMaxDelayMs / 2, expectedMaxDelayMs );
+		}
+	}
+
+	private ElasticsearchBulkRetryPolicy policy(int maxAttempts) {
+		return new ElasticsearchBulkRetryPolicy( bulkWorkFactoryMock, delayExecutorMock,
+				maxAttempts, INITIAL_DELAY_MS, MAX_DELAY_MS );
+	}
+
+	private static <T> BulkableWork<T> bulkableWork(int index) {
+		return mock( BulkableWork.class, "bulkableWork" + index );
+	}
+
+	private static NonBulkableWork<BulkResult> bulkWork(int attempt) {
+		return mock( NonBulkableWork.class, "bulkWork_attempt" + attempt );
+	}
+
+	private static BulkResult bulkResult() {
+		return mock( BulkResult.class );
+	}
+}
@@ -0,0 +1,78 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.search.query.impl;
+
+import static org.hibernate.search.util.impl.test.FutureAssert.assertThatFuture;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchParallelWorkOrchestrator;
+import org.hibernate.search.backend.elasticsearch.work.factory.impl.ElasticsearchWorkFactory;
+import org.hibernate.search.backend.elasticsearch.work.impl.NonBulkableWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.OpenPointInTimeWork;
+import org.hibernate.search.engine.backend.work.execution.OperationSubmitter;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@MockitoSettings(strictness = Strictness.STRICT_STUBS)
+class ElasticsearchSearchPointInTimeTest {
+
+	@Mock
+	private ElasticsearchParallelWorkOrchestrator orchestratorMock;
+	@Mock
+	private ElasticsearchWorkFactory workFactoryMock;
+
+	private ElasticsearchSearchPointInTime pointInTime;
+
+	@BeforeEach
+	void setup() {
+		pointInTime = new ElasticsearchSearchPointInTime( orchestratorMock, workFactoryMock,
+				new OpenPointInTimeWork.Builder( "1m" ), "1m", 1 );
+	}
+
+	@Test
+	void openingFails_retriedOnNextCall() {
+		RuntimeException exception = new RuntimeException( "Some failure" );
+		CompletableFuture<String> firstOpening = new CompletableFuture<>();
+		when( orchestratorMock.submit( any( NonBulkableWork.class ), any( OperationSubmitter.class ) ) )
+				.thenReturn( firstOpening )
+				.thenReturn( CompletableFuture.completedFuture( "pit1" ) );
+
+		CompletableFuture<String> first = pointInTime.idAsync( null, OperationSubmitter.rejecting() );
+		// Concurrent calls share the same opening
+		assertThatFuture( pointInTime.idAsync( null, OperationSubmitter.rejecting() ) ).isSameAs( first );
+		firstOpening.completeExceptionally( exception );
+		assertThatFuture( first ).isFailed( exception );
+
+		assertThatFuture( pointInTime.idAsync( null, OperationSubmitter.rejecting() ) ).isSuccessful( "pit1" );
+		// The point in time is now open: no need to open it again
+		assertThatFuture( pointInTime.idAsync( null, OperationSubmitter.rejecting() ) ).isSuccessful( "pit1" );
+		verify( orchestratorMock, times( 2 ) ).submit( any( NonBulkableWork.class ), any( OperationSubmitter.class ) );
+	}
+
+	@Test
+	void openingFailsImmediately_retriedOnNextCall() {
+		RuntimeException exception = new RuntimeException( "Some failure" );
+		when( orchestratorMock.submit( any( NonBulkableWork.class ), any( OperationSubmitter.class ) ) )
+				.thenReturn( CompletableFuture.failedFuture( exception ) )
+				.thenReturn( CompletableFuture.completedFuture( "pit1" ) );
+
+		assertThatFuture( pointInTime.idAsync( null, OperationSubmitter.rejecting() ) ).isFailed( exception );
+		assertThatFuture( pointInTime.idAsync( null, OperationSubmitter.rejecting() ) ).isSuccessful( "pit1" );
+		verify( orchestratorMock, times( 2 ) ).submit( any( NonBulkableWork.class ), any( OperationSubmitter.class ) );
+	}
+
+}
@@ -0,0 +1,98 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.search.query.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchParallelWorkOrchestrator;
+import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchScrollResult;
+import org.hibernate.search.backend.elasticsearch.work.factory.impl.ElasticsearchWorkFactory;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchSearchResultExtractor;
+import org.hibernate.search.backend.elasticsearch.work.impl.SearchWork;
+import org.hibernate.search.engine.backend.work.execution.OperationSubmitter;
+import org.hibernate.search.engine.search.timeout.spi.TimeoutManager;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@MockitoSettings(strictness = Strictness.STRICT_STUBS)
+class ElasticsearchSearchScrollImplTest {
+
+	private static final String LOADING_THREAD_NAME = "loading-thread";
+	private static final String RESPONSE_THREAD_NAME = "response-thread";
+
+	@Mock
+	private ElasticsearchParallelWorkOrchestrator orchestratorMock;
+	@Mock
+	private ElasticsearchWorkFactory workFactoryMock;
+	@Mock
+	private ElasticsearchSearchResultExtractor<ElasticsearchLoadableSearchResult<String>> extractorMock;
+	@Mock
+	private SearchWork.Builder<ElasticsearchLoadableSearchResult<String>> firstScrollMock;
+	@Mock
+	private SearchWork<ElasticsearchLoadableSearchResult<String>> firstScrollWorkMock;
+	@Mock(strictness = Mock.Strictness.LENIENT)
+	private TimeoutManager timeoutManagerMock;
+	@Mock
+	private ElasticsearchLoadableSearchResult<String> loadableResultMock;
+	@Mock
+	private ElasticsearchSearchResultImpl<String> resultMock;
+
+	private ExecutorService loadingExecutor;
+
+	@BeforeEach
+	void setup() {
+		loadingExecutor = Executors.newSingleThreadExecutor( runnable -> new Thread( runnable, LOADING_THREAD_NAME ) );
+	}
+
+	@AfterEach
+	void cleanup() {
+		loadingExecutor.shutdownNow();
+	}
+
+	@Test
+	void nextAsync_loadsInLoadingExecutor() throws Exception {
+		ElasticsearchSearchScrollImpl<String> scroll = new ElasticsearchSearchScrollImpl<>( orchestratorMock,
+				loadingExecutor, workFactoryMock, extractorMock, "1m", firstScrollMock, timeoutManagerMock );
+
+		CompletableFuture<ElasticsearchLoadableSearchResult<String>> responseFuture = new CompletableFuture<>();
+		when( firstScrollMock.build() ).thenReturn( firstScrollWorkMock );
+		when( orchestratorMock.submit( any( SearchWork.class ), any( OperationSubmitter.class ) ) )
+				.thenReturn( responseFuture );
+		AtomicReference<String> loadingThreadName = new AtomicReference<>();
+		when( loadableResultMock.loadBlocking() ).thenAnswer( ignored -> {
+			loadingThreadName.set( Thread.currentThread().getName() );
+			return resultMock;
+		} );
+		when( resultMock.scrollId() ).thenReturn( "scroll1" );
+
+		CompletionStage<ElasticsearchSearchScrollResult<String>> stage = scroll.nextAsync();
+
+		// Simulate the HTTP client completing the request in one of its own threads
+		Thread responseThread = new Thread( () -> responseFuture.complete( loadableResultMock ), RESPONSE_THREAD_NAME );
+		responseThread.start();
+		responseThread.join();
+
+		assertThat( stage.toCompletableFuture().get( 10, TimeUnit.SECONDS ) ).isNotNull();
+		assertThat( loadingThreadName.get() ).isEqualTo( LOADING_THREAD_NAME );
+	}
+
+}
@@ -0,0 +1,156 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.work.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+import static org.hibernate.search.util.impl.test.FutureAssert.assertThatFuture;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchClient;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
+import org.hibernate.search.backend.elasticsearch.gson.spi.GsonProvider;
+import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
+import org.hibernate.search.backend.elasticsearch.work.result.impl.MultiSearchResult;
+import org.hibernate.search.util.common.SearchException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+import org.apache.http.HttpHost;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@MockitoSettings(strictness = Strictness.STRICT_STUBS)
+@SuppressWarnings({ "unchecked", "rawtypes" }) // Raw types are the only way to mock parameterized types
+class MultiSearchWorkTest {
+
+	@Mock
+	private ElasticsearchClient clientMock;
+	@Mock(strictness = Mock.Strictness.LENIENT)
+	private ElasticsearchWorkExecutionContext contextMock;
+
+	private final ElasticsearchSearchResultExtractor<Object> extractorMock0 =
+			mock( ElasticsearchSearchResultExtractor.class, "extractor0" );
+	private final ElasticsearchSearchResultExtractor<Object> extractorMock1 =
+			mock( ElasticsearchSearchResultExtractor.class, "extractor1" );
+
+	@BeforeEach
+	void setup() {
+		when( contextMock.getClient() ).thenReturn( clientMock );
+		when( contextMock.getGsonProvider() ).thenReturn( GsonProvider.create( GsonBuilder::new, true ) );
+	}
+
+	@Test
+	void execute() {
+		SearchWork.Builder<Object> searchWorkBuilder0 = SearchWork.Builder.create( payload( 0 ), extractorMock0 )
+				.index( URLEncodedString.fromString( "index1" ) )
+				.paging( 10, 5 );
+		SearchWork.Builder<Object> searchWorkBuilder1 = SearchWork.Builder.create( payload( 1 ), extractorMock1 )
+				.index( URLEncodedString.fromString( "index2" ) )
+				.routingKeys( Collections.singleton( "someRoutingKey" ) )
+				.paging( 20, null )
+				.disableTrackTotalHits();
+		MultiSearchWork work = new MultiSearchWork.Builder( Arrays.asList( searchWorkBuilder0, searchWorkBuilder1 ) )
+				.build();
+		assertThat( work.searchWorks() ).hasSize( 2 );
+
+		ArgumentCaptor<ElasticsearchRequest> requestCaptor = ArgumentCaptor.forClass( ElasticsearchRequest.class );
+		CompletableFuture<ElasticsearchResponse> futureFromClient = new CompletableFuture<>();
+		when( clientMock.submit( requestCaptor.capture() ) ).thenReturn( futureFromClient );
+		CompletableFuture<MultiSearchResult> returnedFuture = work.execute( contextMock );
+		assertThatFuture( returnedFuture ).isPending();
+
+		ElasticsearchRequest request = requestCaptor.getValue();
+		assertSoftly( softly -> {
+			softly.assertThat( request.method() ).isEqualTo( "POST" );
+			softly.assertThat( request.path() ).isEqualTo( "/_msearch" );
+			softly.assertThat( request.parameters() ).isEmpty();
+			softly.assertThat( request.bodyParts() ).hasSize( 4 );
+		} );
+		JsonObject header0 = request.bodyParts().get( 0 );
+		assertThat( header0.get( "index" ).getAsJsonArray().get( 0 ).getAsString() ).isEqualTo( "index1" );
+		assertThat( header0.has( "routing" ) ).isFalse();
+		JsonObject body0 = request.bodyParts().get( 1 );
+		assertThat( body0.get( "queryIndex" ).getAsInt() ).isEqualTo( 0 );
+		assertThat( body0.get( "from" ).getAsInt() ).isEqualTo( 5 );
+		assertThat( body0.get( "size" ).getAsInt() ).isEqualTo( 10 );
+		assertThat( body0.get( "track_total_hits" ).getAsBoolean() ).isTrue();
+		JsonObject header1 = request.bodyParts().get( 2 );
+		assertThat( header1.get( "index" ).getAsJsonArray().get( 0 ).getAsString() ).isEqualTo( "index2" );
+		assertThat( header1.get( "routing" ).getAsString() ).isEqualTo( "someRoutingKey" );
+		JsonObject body1 = request.bodyParts().get( 3 );
+		assertThat( body1.get( "queryIndex" ).getAsInt() ).isEqualTo( 1 );
+		assertThat( body1.has( "from" ) ).isFalse();
+		assertThat( body1.get( "size" ).getAsInt() ).isEqualTo( 20 );
+		assertThat( body1.get( "track_total_hits" ).getAsBoolean() ).isFalse();
+		// The original payloads must not be altered
+		assertThat( payload( 0 ) ).isEqualTo( requestPayloadWithoutParameters( body0 ) );
+
+		JsonObject responseBody = new JsonObject();
+		JsonArray responses = new JsonArray();
+		responseBody.add( "responses", responses );
+		JsonObject successItem = new JsonObject();
+		successItem.addProperty( "status", 200 );
+		successItem.addProperty( "took", 1 );
+		responses.add( successItem );
+		JsonObject failureItem = new JsonObject();
+		failureItem.addProperty( "status", 400 );
+		JsonObject error = new JsonObject();
+		error.addProperty( "type", "some_error_type" );
+		failureItem.add( "error", error );
+		responses.add( failureItem );
+		futureFromClient.complete( new ElasticsearchResponse( new HttpHost( "mockHost:9200" ),
+				200, "OK", responseBody ) );
+
+		assertThatFuture( returnedFuture ).isSuccessful();
+		MultiSearchResult result = returnedFuture.join();
+
+		Object extractedResult = new Object();
+		when( extractorMock0.extract( same( successItem ), any() ) ).thenReturn( extractedResult );
+		assertThat( result.extract( (SearchWork) work.searchWorks().get( 0 ), 0 ) ).isSameAs( extractedResult );
+
+		// The failure of one search must not affect the others
+		assertThatThrownBy( () -> result.extract( (SearchWork) work.searchWorks().get( 1 ), 1 ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContainingAll(
+						"Elasticsearch request failed as part of a multi-search request",
+						"Elasticsearch response indicates a failure",
+						"some_error_type"
+				);
+	}
+
+	private static JsonObject payload(int index) {
+		JsonObject result = new JsonObject();
+		result.addProperty( "queryIndex", index );
+		return result;
+	}
+
+	private static JsonObject requestPayloadWithoutParameters(JsonObject body) {
+		JsonObject result = body.deepCopy();
+		result.remove( "from" );
+		result.remove( "size" );
+		result.remove( "track_total_hits" );
+		return result;
+	}
+
+}
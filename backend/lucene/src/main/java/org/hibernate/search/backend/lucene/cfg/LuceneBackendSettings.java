@@ -9,6 +9,7 @@
 import org.hibernate.search.backend.lucene.analysis.LuceneAnalysisConfigurer;
 import org.hibernate.search.backend.lucene.cache.QueryCachingConfigurer;
 import org.hibernate.search.backend.lucene.multitenancy.MultiTenancyStrategyName;
+import org.hibernate.search.backend.lucene.search.query.ScrollStrategyName;
 
 import org.apache.lucene.util.Version;
 
@@ -80,6 +81,79 @@ private LuceneBackendSettings() {
 	 */
 	public static final String QUERY_CACHING_CONFIGURER = "query.caching.configurer";
 
+	/**
+	 * How to fetch the next chunks of hits when scrolling through the results of a search query.
+	 * <p>
+	 * Expects a {@link ScrollStrategyName} value, or a String representation of such value.
+	 * <p>
+	 * Defaults to {@link Defaults#QUERY_SCROLL_STRATEGY}.
+	 */
+	public static final String QUERY_SCROLL_STRATEGY = "query.scroll.strategy";
+
+	/**
+	 * The size of the thread pool used to execute a single search query concurrently
+	 * over multiple slices of the index segments (across all targeted shards).
+	 * <p>
+	 * Expects a strictly positive integer value,
+	 * or a string that can be parsed into an integer value.
+	 * <p>
+	 * A value of {@code 1} disables intra-query concurrency:
+	 * each search query is executed entirely in the thread that submitted it.
+	 * <p>
+	 * See the reference documentation, section "Lucene backend - Searching - Intra-query concurrency",
+	 * for more information about this setting and its implications.
+	 * <p>
+	 * Defaults to {@link Defaults#QUERY_CONCURRENCY_THREAD_POOL_SIZE}.
+	 */
+	public static final String QUERY_CONCURRENCY_THREAD_POOL_SIZE = "query.concurrency.thread_pool.size";
+
+	/**
+	 * The maximum number of documents in each slice of index segments
+	 * when executing a search query concurrently.
+	 * <p>
+	 * Only effective when {@link #QUERY_CONCURRENCY_THREAD_POOL_SIZE} is greater than {@code 1}.
+	 * <p>
+	 * Expects a strictly positive integer value,
+	 * or a string that can be parsed into an integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#QUERY_CONCURRENCY_SLICE_MAX_DOCS}.
+	 */
+	public static final String QUERY_CONCURRENCY_SLICE_MAX_DOCS = "query.concurrency.slice.max_docs";
+
+	/**
+	 * The maximum number of index segments in each slice
+	 * when executing a search query concurrently.
+	 * <p>
+	 * Only effective when {@link #QUERY_CONCURRENCY_THREAD_POOL_SIZE} is greater than {@code 1}.
+	 * <p>
+	 * Expects a strictly positive integer value,
+	 * or a string that can be parsed into an integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#QUERY_CONCURRENCY_SLICE_MAX_SEGMENTS}.
+	 */
+	public static final String QUERY_CONCURRENCY_SLICE_MAX_SEGMENTS = "query.concurrency.slice.max_segments";
+
+	/**
+	 * Whether search queries should skip shards that cannot possibly match,
+	 * based on range and exists predicates that all hits must match.
+	 * <p>
+	 * Shards are skipped using per-shard statistics (minimum and maximum values of point fields,
+	 * presence of fields and doc values), which are computed lazily and cached until the shard is refreshed.
+	 * This is mostly useful for time-partitioned indexes, where queries usually target recent data only.
+	 * <p>
+	 * Note that when shards are skipped, relevance scores are computed
+	 * based on term statistics from the remaining shards only:
+	 * scores may differ from those of the same query executed against all shards,
+	 * including those returned by {@code explain}.
+	 * This is why shard pruning must be enabled explicitly.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed into a Boolean value.
+	 * <p>
+	 * Defaults to {@link Defaults#QUERY_SHARD_PRUNING}.
+	 */
+	public static final String QUERY_SHARD_PRUNING = "query.shard_pruning";
+
 	/**
 	 * The size of the thread pool assigned to the backend.
 	 * <p>
@@ -102,6 +176,11 @@ private Defaults() {
 		}
 
 		public static final Version LUCENE_VERSION = Version.LATEST;
+		public static final ScrollStrategyName QUERY_SCROLL_STRATEGY = ScrollStrategyName.OFFSET;
+		public static final int QUERY_CONCURRENCY_THREAD_POOL_SIZE = 1;
+		public static final int QUERY_CONCURRENCY_SLICE_MAX_DOCS = 250_000;
+		public static final int QUERY_CONCURRENCY_SLICE_MAX_SEGMENTS = 5;
+		public static final boolean QUERY_SHARD_PRUNING = false;
 
 		/**
 		 * @deprecated The default for this property is now dynamic and depends on the mapper.
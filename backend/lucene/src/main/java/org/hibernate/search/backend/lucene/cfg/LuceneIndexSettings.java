@@ -12,6 +12,8 @@
 import org.hibernate.search.backend.lucene.lowlevel.directory.FileSystemAccessStrategyName;
 import org.hibernate.search.backend.lucene.lowlevel.directory.LockingStrategyName;
 import org.hibernate.search.backend.lucene.lowlevel.index.IOStrategyName;
+import org.hibernate.search.backend.lucene.lowlevel.index.ReplicationRoleName;
+import org.hibernate.search.engine.backend.work.execution.IndexingQueueStrategyName;
 import org.hibernate.search.engine.cfg.BackendSettings;
 import org.hibernate.search.engine.cfg.EngineSettings;
 
@@ -38,7 +40,7 @@ private LuceneIndexSettings() {
 	/**
 	 * The type of directory to use when reading from or writing to the index.
 	 * <p>
-	 * Expects a String, such as "local-filesystem".
+	 * Expects a String, such as "local-filesystem", "local-heap" or "local-offheap".
 	 * See the reference documentation for a list of available values.
 	 * <p>
 	 * Defaults to {@link Defaults#DIRECTORY_TYPE}.
@@ -58,6 +60,21 @@ private LuceneIndexSettings() {
 	 */
 	public static final String DIRECTORY_ROOT = DIRECTORY_PREFIX + DirectoryRadicals.ROOT;
 
+	/**
+	 * The maximum amount of memory that index files may use in the directory, in bytes.
+	 * <p>
+	 * Only available for the "local-offheap" directory type.
+	 * <p>
+	 * Writes that would exceed this size fail.
+	 * Memory used by deleted files is no longer taken into account.
+	 * <p>
+	 * Expects a strictly positive Long value in bytes, such as {@code 1073741824},
+	 * or a String that can be parsed into such Long value.
+	 * <p>
+	 * Defaults to no limit, though the JVM still limits off-heap memory (see {@code -XX:MaxDirectMemorySize}).
+	 */
+	public static final String DIRECTORY_MAX_SIZE = DIRECTORY_PREFIX + DirectoryRadicals.MAX_SIZE;
+
 	/**
 	 * How to lock on the directory.
 	 * <p>
@@ -146,6 +163,43 @@ private LuceneIndexSettings() {
 	 */
 	public static final String IO_REFRESH_INTERVAL = IO_PREFIX + IORadicals.REFRESH_INTERVAL;
 
+	/**
+	 * Whether commits and refreshes should be scheduled adaptively,
+	 * based on the load of the index.
+	 * <p>
+	 * Only available for the "near-real-time" I/O strategy.
+	 * <p>
+	 * When enabled, {@link #IO_COMMIT_INTERVAL} and {@link #IO_REFRESH_INTERVAL}
+	 * are treated as upper bounds on staleness instead of fixed intervals:
+	 * <ul>
+	 *   <li>Changes are committed before the commit interval elapses
+	 *   as soon as the number of uncommitted operations reaches {@link #IO_COMMIT_MAX_PENDING_OPERATIONS},
+	 *   or as soon as the index writer uses more than half of its RAM buffer (see {@link #IO_WRITER_RAM_BUFFER_SIZE}).</li>
+	 *   <li>The interval between refreshes grows with the observed query rate, up to the refresh interval:
+	 *   index readers are refreshed on every change when queries are rare,
+	 *   and at most once per refresh interval when queries are frequent.</li>
+	 * </ul>
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a String that can be parsed into such Boolean value.
+	 * <p>
+	 * Defaults to {@link LuceneIndexSettings.Defaults#IO_ADAPTIVE_INTERVALS}.
+	 */
+	public static final String IO_ADAPTIVE_INTERVALS = IO_PREFIX + IORadicals.ADAPTIVE_INTERVALS;
+
+	/**
+	 * How many operations may be applied to the index writer without being committed
+	 * until a commit is triggered, regardless of {@link #IO_COMMIT_INTERVAL}.
+	 * <p>
+	 * Only taken into account when {@link #IO_ADAPTIVE_INTERVALS adaptive intervals} are enabled.
+	 * <p>
+	 * Expects a strictly positive Integer value, such as {@code 10000},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link LuceneIndexSettings.Defaults#IO_COMMIT_MAX_PENDING_OPERATIONS}.
+	 */
+	public static final String IO_COMMIT_MAX_PENDING_OPERATIONS = IO_PREFIX + IORadicals.COMMIT_MAX_PENDING_OPERATIONS;
+
 	/**
 	 * The prefix for property keys related to the index writer.
 	 */
@@ -266,6 +320,97 @@ private LuceneIndexSettings() {
 	 */
 	public static final String IO_MERGE_CALIBRATE_BY_DELETES = IO_MERGE_PREFIX + MergeRadicals.CALIBRATE_BY_DELETES;
 
+	/**
+	 * The prefix for property keys related to the warm-up of new index segments.
+	 */
+	public static final String IO_WARMUP_PREFIX = IO_PREFIX + "warmup.";
+
+	/**
+	 * The fields whose data structures (terms dictionary, norms, doc values) should be loaded
+	 * when new index segments are created by merges or refreshes,
+	 * before these segments are used by search queries.
+	 * <p>
+	 * Only available for the "near-real-time" I/O strategy.
+	 * <p>
+	 * Useful for fields that are frequently used in search predicates, sorts or aggregations,
+	 * to avoid latency spikes on the first queries executed after each refresh.
+	 * <p>
+	 * Expects a multi-valued String, i.e. a String containing comma-separated absolute field paths,
+	 * such as "title,author.lastName",
+	 * or a {@link java.util.Collection} of Strings.
+	 * <p>
+	 * Defaults to no value.
+	 */
+	public static final String IO_WARMUP_FIELDS = IO_WARMUP_PREFIX + WarmupRadicals.FIELDS;
+
+	/**
+	 * The warmers to apply to new index segments created by merges or refreshes,
+	 * before these segments are used by search queries.
+	 * <p>
+	 * Only available for the "near-real-time" I/O strategy.
+	 * <p>
+	 * Expects a single-valued or multi-valued reference to beans of type
+	 * {@link org.hibernate.search.backend.lucene.lowlevel.reader.spi.SegmentWarmer}.
+	 * <p>
+	 * Defaults to no value.
+	 *
+	 * @see org.hibernate.search.engine.cfg The core documentation of configuration properties,
+	 * which includes a description of the "multi-valued bean reference" properties and accepted values.
+	 */
+	public static final String IO_WARMUP_WARMER = IO_WARMUP_PREFIX + WarmupRadicals.WARMER;
+
+	/**
+	 * The prefix for property keys related to the replication of indexes between application instances.
+	 */
+	public static final String IO_REPLICATION_PREFIX = IO_PREFIX + "replication.";
+
+	/**
+	 * The role of this application instance in the replication of the index.
+	 * <p>
+	 * With replication, a single "primary" instance writes to the index
+	 * and periodically publishes its commits to a replication directory shared with other instances,
+	 * while "replica" instances copy new index files from that directory and serve search queries,
+	 * without indexing anything themselves.
+	 * <p>
+	 * Expects a {@link ReplicationRoleName} value, or a String representation of such value.
+	 * <p>
+	 * Defaults to {@link LuceneIndexSettings.Defaults#IO_REPLICATION_ROLE}.
+	 */
+	public static final String IO_REPLICATION_ROLE = IO_REPLICATION_PREFIX + ReplicationRadicals.ROLE;
+
+	/**
+	 * The replication directory, shared between the primary and replicas.
+	 * <p>
+	 * Only available when the {@link #IO_REPLICATION_ROLE replication role} is "primary" or "replica",
+	 * and mandatory in that case.
+	 * <p>
+	 * Commits of each index are published to a subdirectory named after the index,
+	 * and to a further subdirectory named after the shard identifier if the index is sharded.
+	 * <p>
+	 * Expects a String representing a path to an existing or creatable directory on the filesystem,
+	 * e.g. a network share mounted on all application instances.
+	 * Relative paths are resolved from the JVM's working directory.
+	 * <p>
+	 * No default: this setting must be set explicitly when replication is enabled.
+	 */
+	public static final String IO_REPLICATION_ROOT = IO_REPLICATION_PREFIX + ReplicationRadicals.ROOT;
+
+	/**
+	 * How often the primary publishes its last commit, and how often replicas check for new commits,
+	 * in milliseconds.
+	 * <p>
+	 * Only available when the {@link #IO_REPLICATION_ROLE replication role} is "primary" or "replica".
+	 * <p>
+	 * Changes reach replicas once they have been committed on the primary (see {@link #IO_COMMIT_INTERVAL}),
+	 * published, then copied by the replica: this interval adds to the delay before changes are visible on replicas.
+	 * <p>
+	 * Expects a strictly positive integer value in milliseconds, such as {@code 1000},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link LuceneIndexSettings.Defaults#IO_REPLICATION_INTERVAL}.
+	 */
+	public static final String IO_REPLICATION_INTERVAL = IO_REPLICATION_PREFIX + ReplicationRadicals.INTERVAL;
+
 	/**
 	 * The prefix for sharding-related property keys.
 	 */
@@ -286,12 +431,14 @@ private LuceneIndexSettings() {
 	 * The number of shards to create for the index,
 	 * i.e. the number of "physical" indexes, each holding a part of the index data.
 	 * <p>
-	 * Only available for the {@code hash} {@link #SHARDING_STRATEGY sharding strategy}.
+	 * Only available for the {@code hash} and {@code range} {@link #SHARDING_STRATEGY sharding strategies}.
+	 * With the {@code range} sharding strategy, this is the number of shards before any
+	 * {@link #SHARDING_SPLIT_SHARDS split}.
 	 * <p>
 	 * Expects a strictly positive Integer value, such as 4,
 	 * or a String that can be parsed into such Integer value.
 	 * <p>
-	 * No default: this property must be set when using the {@code hash} sharding strategy.
+	 * No default: this property must be set when using the {@code hash} or {@code range} sharding strategy.
 	 */
 	public static final String SHARDING_NUMBER_OF_SHARDS = SHARDING_PREFIX + ShardingRadicals.NUMBER_OF_SHARDS;
 
@@ -307,6 +454,28 @@ private LuceneIndexSettings() {
 	 */
 	public static final String SHARDING_SHARD_IDENTIFIERS = SHARDING_PREFIX + ShardingRadicals.SHARD_IDENTIFIERS;
 
+	/**
+	 * The list of shards that were split, in the order they were split in.
+	 * <p>
+	 * Only available for the {@code range} {@link #SHARDING_STRATEGY sharding strategy}.
+	 * <p>
+	 * Each split moves the upper half of the hash range assigned to a shard to a new shard,
+	 * whose identifier is the next available integer:
+	 * with 2 {@link #SHARDING_NUMBER_OF_SHARDS initial shards} and {@code split_shards = 0,0},
+	 * shard {@code 0} is split into shards {@code 0} and {@code 2}, then into shards {@code 0} and {@code 3}.
+	 * <p>
+	 * Shards are split at runtime through
+	 * {@link org.hibernate.search.backend.lucene.index.LuceneIndexManager#splitShard(String)};
+	 * this property must then be updated accordingly before the application restarts,
+	 * so that documents keep being routed to the shard that holds them.
+	 * <p>
+	 * Expects either a String containing multiple shard identifiers separated by commas (','),
+	 * or a {@code Collection<String>} containing such shard identifiers.
+	 * <p>
+	 * Defaults to no value (no split).
+	 */
+	public static final String SHARDING_SPLIT_SHARDS = SHARDING_PREFIX + ShardingRadicals.SPLIT_SHARDS;
+
 	/**
 	 * The root property whose children are shards, e.g. {@code shards.0.<some shard-scoped property> = bar}
 	 * or {@code shards.1.<some shard-scoped property> = bar} or {@code shards.main.<some shard-scoped property> = bar}.
@@ -344,6 +513,95 @@ private LuceneIndexSettings() {
 	 */
 	public static final String INDEXING_QUEUE_SIZE = INDEXING_PREFIX + IndexingRadicals.QUEUE_SIZE;
 
+	/**
+	 * The implementation of indexing queues.
+	 * <p>
+	 * Expects a {@link IndexingQueueStrategyName} value, or a String representation of such value.
+	 * <p>
+	 * See the reference documentation, section "Lucene backend - Indexing",
+	 * for more information about this setting and its implications.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_QUEUE_STRATEGY}.
+	 */
+	public static final String INDEXING_QUEUE_STRATEGY = INDEXING_PREFIX + IndexingRadicals.QUEUE_STRATEGY;
+
+	/**
+	 * The maximum time to wait for more works before processing a batch of works from an indexing queue,
+	 * in milliseconds.
+	 * <p>
+	 * Only applies when works accumulated in the queue while the previous batch was being processed,
+	 * so that batches grow under load while works submitted under light load are processed without delay.
+	 * Waiting does not occupy an indexing thread.
+	 * <p>
+	 * Expects a positive integer value in milliseconds, such as {@code 5},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * See the reference documentation, section "Lucene backend - Indexing",
+	 * for more information about this setting and its implications.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_MAX_LINGER}.
+	 */
+	public static final String INDEXING_MAX_LINGER = INDEXING_PREFIX + IndexingRadicals.MAX_LINGER;
+
+	/**
+	 * Whether to coalesce works targeting the same document within a batch of works from an indexing queue.
+	 * <p>
+	 * When enabled, a work that gets superseded by a later update or delete of the same document
+	 * within the same batch is not applied to the index writer,
+	 * which reduces the number of deletes and thus merge pressure for documents updated in bursts.
+	 * Works pertaining to a given document are still applied in the order they were submitted in.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a String that can be parsed into such Boolean value.
+	 * <p>
+	 * See the reference documentation, section "Lucene backend - Indexing",
+	 * for more information about this setting and its implications.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_COALESCE_WORKS}.
+	 */
+	public static final String INDEXING_COALESCE_WORKS = INDEXING_PREFIX + IndexingRadicals.COALESCE_WORKS;
+
+	/**
+	 * Whether to group works within a batch of works from an indexing queue
+	 * into bulks applied to the index writer with as few calls as possible.
+	 * <p>
+	 * When enabled, consecutive additions, updates and deletions of documents
+	 * are applied with a single call deleting all affected documents
+	 * followed by a single call adding all new documents as one block,
+	 * which reduces synchronization overhead in the index writer under heavy indexing load.
+	 * Works pertaining to a given document are still applied in the order they were submitted in.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a String that can be parsed into such Boolean value.
+	 * <p>
+	 * See the reference documentation, section "Lucene backend - Indexing",
+	 * for more information about this setting and its implications.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_BULK_WRITES}.
+	 */
+	public static final String INDEXING_BULK_WRITES = INDEXING_PREFIX + IndexingRadicals.BULK_WRITES;
+
+	/**
+	 * Whether commits at the end of batches of works from indexing queues
+	 * should be delegated to a single background committer.
+	 * <p>
+	 * When enabled, indexing queues do not wait for the index writer to be committed
+	 * before processing their next batch: they request a commit from a background task and move on,
+	 * so that all queues keep writing to the index writer concurrently,
+	 * and commit requests from multiple queues are grouped into a single commit.
+	 * Explicit commit requests, e.g. through a commit strategy forcing commits,
+	 * still complete only after the index writer was committed.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a String that can be parsed into such Boolean value.
+	 * <p>
+	 * See the reference documentation, section "Lucene backend - Indexing",
+	 * for more information about this setting and its implications.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_BACKGROUND_COMMIT}.
+	 */
+	public static final String INDEXING_BACKGROUND_COMMIT = INDEXING_PREFIX + IndexingRadicals.BACKGROUND_COMMIT;
+
 	/**
 	 * Builds a configuration property key for the given shard of all indexes of the default backend,
 	 * with the given radical.
@@ -418,6 +676,7 @@ private DirectoryRadicals() {
 
 		public static final String TYPE = "type";
 		public static final String ROOT = "root";
+		public static final String MAX_SIZE = "max_size";
 		public static final String LOCKING_STRATEGY = "locking.strategy";
 		public static final String FILESYSTEM_ACCESS_STRATEGY = "filesystem_access.strategy";
 	}
@@ -433,6 +692,8 @@ private IORadicals() {
 		public static final String STRATEGY = "strategy";
 		public static final String COMMIT_INTERVAL = "commit_interval";
 		public static final String REFRESH_INTERVAL = "refresh_interval";
+		public static final String ADAPTIVE_INTERVALS = "adaptive_intervals";
+		public static final String COMMIT_MAX_PENDING_OPERATIONS = "commit_max_pending_operations";
 	}
 
 	/**
@@ -466,6 +727,33 @@ private MergeRadicals() {
 
 	}
 
+	/**
+	 * Configuration property keys for the warm-up of new index segments, without the {@link #IO_WARMUP_PREFIX prefix}.
+	 */
+	public static final class WarmupRadicals {
+
+		private WarmupRadicals() {
+		}
+
+		public static final String FIELDS = "fields";
+		public static final String WARMER = "warmer";
+
+	}
+
+	/**
+	 * Configuration property keys for the replication of indexes, without the {@link #IO_REPLICATION_PREFIX prefix}.
+	 */
+	public static final class ReplicationRadicals {
+
+		private ReplicationRadicals() {
+		}
+
+		public static final String ROLE = "role";
+		public static final String ROOT = "root";
+		public static final String INTERVAL = "interval";
+
+	}
+
 	/**
 	 * Configuration property keys for sharding, without the {@link #SHARDING_PREFIX prefix}.
 	 */
@@ -477,6 +765,7 @@ private ShardingRadicals() {
 		public static final String STRATEGY = "strategy";
 		public static final String NUMBER_OF_SHARDS = "number_of_shards";
 		public static final String SHARD_IDENTIFIERS = "shard_identifiers";
+		public static final String SPLIT_SHARDS = "split_shards";
 	}
 
 	/**
@@ -489,6 +778,11 @@ private IndexingRadicals() {
 
 		public static final String QUEUE_COUNT = "queue_count";
 		public static final String QUEUE_SIZE = "queue_size";
+		public static final String QUEUE_STRATEGY = "queue_strategy";
+		public static final String MAX_LINGER = "max_linger";
+		public static final String COALESCE_WORKS = "coalesce_works";
+		public static final String BULK_WRITES = "bulk_writes";
+		public static final String BACKGROUND_COMMIT = "background_commit";
 	}
 
 	/**
@@ -507,7 +801,16 @@ private Defaults() {
 		public static final IOStrategyName IO_STRATEGY = IOStrategyName.NEAR_REAL_TIME;
 		public static final int IO_COMMIT_INTERVAL = 1000;
 		public static final int IO_REFRESH_INTERVAL = 0;
+		public static final boolean IO_ADAPTIVE_INTERVALS = false;
+		public static final int IO_COMMIT_MAX_PENDING_OPERATIONS = 10_000;
+		public static final ReplicationRoleName IO_REPLICATION_ROLE = ReplicationRoleName.NONE;
+		public static final int IO_REPLICATION_INTERVAL = 1000;
 		public static final int INDEXING_QUEUE_COUNT = 10;
 		public static final int INDEXING_QUEUE_SIZE = 1000;
+		public static final IndexingQueueStrategyName INDEXING_QUEUE_STRATEGY = IndexingQueueStrategyName.BLOCKING;
+		public static final int INDEXING_MAX_LINGER = 0;
+		public static final boolean INDEXING_COALESCE_WORKS = false;
+		public static final boolean INDEXING_BULK_WRITES = false;
+		public static final boolean INDEXING_BACKGROUND_COMMIT = false;
 	}
 }
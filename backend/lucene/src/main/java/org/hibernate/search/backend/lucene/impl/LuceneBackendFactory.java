@@ -27,6 +27,7 @@
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.multitenancy.impl.NoMultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
+import org.hibernate.search.backend.lucene.search.query.ScrollStrategyName;
 import org.hibernate.search.backend.lucene.work.impl.LuceneWorkFactory;
 import org.hibernate.search.engine.backend.spi.BackendBuildContext;
 import org.hibernate.search.engine.backend.spi.BackendFactory;
@@ -72,6 +73,30 @@ public class LuceneBackendFactory implements BackendFactory {
 							.multivalued()
 							.build();
 
+	private static final ConfigurationProperty<ScrollStrategyName> QUERY_SCROLL_STRATEGY =
+			ConfigurationProperty.forKey( LuceneBackendSettings.QUERY_SCROLL_STRATEGY )
+					.as( ScrollStrategyName.class, ScrollStrategyName::of )
+					.withDefault( LuceneBackendSettings.Defaults.QUERY_SCROLL_STRATEGY )
+					.build();
+
+	private static final ConfigurationProperty<Integer> QUERY_CONCURRENCY_SLICE_MAX_DOCS =
+			ConfigurationProperty.forKey( LuceneBackendSettings.QUERY_CONCURRENCY_SLICE_MAX_DOCS )
+					.asIntegerStrictlyPositive()
+					.withDefault( LuceneBackendSettings.Defaults.QUERY_CONCURRENCY_SLICE_MAX_DOCS )
+					.build();
+
+	private static final ConfigurationProperty<Integer> QUERY_CONCURRENCY_SLICE_MAX_SEGMENTS =
+			ConfigurationProperty.forKey( LuceneBackendSettings.QUERY_CONCURRENCY_SLICE_MAX_SEGMENTS )
+					.asIntegerStrictlyPositive()
+					.withDefault( LuceneBackendSettings.Defaults.QUERY_CONCURRENCY_SLICE_MAX_SEGMENTS )
+					.build();
+
+	private static final ConfigurationProperty<Boolean> QUERY_SHARD_PRUNING =
+			ConfigurationProperty.forKey( LuceneBackendSettings.QUERY_SHARD_PRUNING )
+					.asBoolean()
+					.withDefault( LuceneBackendSettings.Defaults.QUERY_SHARD_PRUNING )
+					.build();
+
 	@Override
 	public BackendImplementor create(EventContext eventContext, BackendBuildContext buildContext,
 			ConfigurationPropertySource propertySource) {
@@ -100,8 +125,13 @@ public BackendImplementor create(EventContext eventContext, BackendBuildContext
 					analysisDefinitionRegistry,
 					cachingContext,
 					multiTenancyStrategy,
+					QUERY_SCROLL_STRATEGY.get( propertySource ),
+					QUERY_SHARD_PRUNING.get( propertySource ),
+					QUERY_CONCURRENCY_SLICE_MAX_DOCS.get( propertySource ),
+					QUERY_CONCURRENCY_SLICE_MAX_SEGMENTS.get( propertySource ),
 					buildContext.timingSource(),
-					buildContext.failureHandler()
+					buildContext.failureHandler(),
+					buildContext.metricsRegistry()
 			);
 		}
 		catch (RuntimeException e) {
@@ -10,9 +10,11 @@
 import org.hibernate.search.backend.lucene.index.impl.ExplicitShardingStrategy;
 import org.hibernate.search.backend.lucene.index.impl.HashShardingStrategy;
 import org.hibernate.search.backend.lucene.index.impl.NoShardingStrategy;
+import org.hibernate.search.backend.lucene.index.impl.RangeShardingStrategy;
 import org.hibernate.search.backend.lucene.index.spi.ShardingStrategy;
 import org.hibernate.search.backend.lucene.lowlevel.directory.impl.LocalFileSystemDirectoryProvider;
 import org.hibernate.search.backend.lucene.lowlevel.directory.impl.LocalHeapDirectoryProvider;
+import org.hibernate.search.backend.lucene.lowlevel.directory.impl.LocalOffHeapDirectoryProvider;
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryProvider;
 import org.hibernate.search.backend.lucene.resources.impl.DefaultLuceneWorkExecutorProvider;
 import org.hibernate.search.backend.lucene.work.spi.LuceneWorkExecutorProvider;
@@ -36,6 +38,10 @@ public void configure(BeanConfigurationContext context) {
 				DirectoryProvider.class, LocalHeapDirectoryProvider.NAME,
 				beanResolver -> BeanHolder.of( new LocalHeapDirectoryProvider() )
 		);
+		context.define(
+				DirectoryProvider.class, LocalOffHeapDirectoryProvider.NAME,
+				beanResolver -> BeanHolder.of( new LocalOffHeapDirectoryProvider() )
+		);
 		context.define(
 				ShardingStrategy.class, NoShardingStrategy.NAME,
 				beanResolver -> BeanHolder.of( new NoShardingStrategy() )
@@ -48,6 +54,10 @@ public void configure(BeanConfigurationContext context) {
 				ShardingStrategy.class, ExplicitShardingStrategy.NAME,
 				beanResolver -> BeanHolder.of( new ExplicitShardingStrategy() )
 		);
+		context.define(
+				ShardingStrategy.class, RangeShardingStrategy.NAME,
+				beanResolver -> BeanHolder.of( new RangeShardingStrategy() )
+		);
 		context.define(
 				LuceneWorkExecutorProvider.class, DefaultLuceneWorkExecutorProvider.DEFAULT_BEAN_NAME,
 				beanResolver -> BeanHolder.of( new DefaultLuceneWorkExecutorProvider() )
@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.backend.lucene.index;
 
+import java.nio.file.Path;
 import java.util.concurrent.CompletionStage;
 
 import org.hibernate.search.backend.lucene.LuceneBackend;
@@ -51,4 +52,71 @@ public interface LuceneIndexManager extends IndexManager {
 	@Incubating
 	CompletionStage<Long> computeSizeInBytesAsync(OperationSubmitter operationSubmitter);
 
+	/**
+	 * Copies the index to a directory on the local filesystem,
+	 * so that it can later be {@link #restore(Path) restored}, possibly on another application instance.
+	 * <p>
+	 * Pending changes are committed, then the files of the resulting commit are copied.
+	 * Indexing can continue while the backup is in progress,
+	 * but changes applied after the commit will not be part of the backup.
+	 * <p>
+	 * If the index is sharded, each shard is copied to a subdirectory named after the shard identifier.
+	 *
+	 * @param targetDirectory The directory to copy the index to. Must be empty or missing.
+	 */
+	@Incubating
+	void backup(Path targetDirectory);
+
+	/**
+	 * @param targetDirectory The directory to copy the index to. Must be empty or missing.
+	 * @param operationSubmitter How to handle request to submit operation when the queue is full.
+	 * @return A future that will complete when the backup is complete.
+	 * @see #backup(Path)
+	 */
+	@Incubating
+	CompletionStage<?> backupAsync(Path targetDirectory, OperationSubmitter operationSubmitter);
+
+	/**
+	 * Replaces the content of the index with a backup created by {@link #backup(Path)}.
+	 * <p>
+	 * This is typically used to seed the index of a new application instance without reindexing.
+	 * No other operation must be performed on the index while it is being restored,
+	 * and the backup must have been created with the same number of shards.
+	 *
+	 * @param sourceDirectory The directory containing the backup.
+	 */
+	@Incubating
+	void restore(Path sourceDirectory);
+
+	/**
+	 * @param sourceDirectory The directory containing the backup.
+	 * @param operationSubmitter How to handle request to submit operation when the queue is full.
+	 * @return A future that will complete when the index is restored.
+	 * @see #restore(Path)
+	 */
+	@Incubating
+	CompletionStage<?> restoreAsync(Path sourceDirectory, OperationSubmitter operationSubmitter);
+
+	/**
+	 * Splits a shard in two, moving the documents in the upper half of its hash range to a new shard.
+	 * <p>
+	 * Only available with the {@code range} sharding strategy.
+	 * <p>
+	 * Documents are copied to the new shard segment by segment, without being re-analyzed,
+	 * then deleted from the split shard.
+	 * Indexing operations on this index are only blocked at the end of the split,
+	 * while documents changed since the split started are copied again;
+	 * search queries can be executed while the split is in progress.
+	 * <p>
+	 * The split only lasts until the application stops:
+	 * the identifier of the split shard must be added to configuration property
+	 * {@link org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings#SHARDING_SPLIT_SHARDS}
+	 * before restarting the application.
+	 *
+	 * @param shardIdentifier The identifier of the shard to split.
+	 * @return The identifier of the new shard.
+	 */
+	@Incubating
+	String splitShard(String shardIdentifier);
+
 }
@@ -6,6 +6,12 @@
  */
 package org.hibernate.search.backend.lucene.index.impl;
 
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 import org.hibernate.search.backend.lucene.LuceneBackend;
@@ -13,12 +19,17 @@
 import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
 import org.hibernate.search.backend.lucene.document.impl.LuceneIndexEntryFactory;
 import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexModel;
+import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
 import org.hibernate.search.backend.lucene.lowlevel.index.IOStrategyName;
+import org.hibernate.search.backend.lucene.lowlevel.index.ReplicationRoleName;
 import org.hibernate.search.backend.lucene.lowlevel.index.impl.DebugIOStrategy;
 import org.hibernate.search.backend.lucene.lowlevel.index.impl.IOStrategy;
 import org.hibernate.search.backend.lucene.lowlevel.index.impl.IndexAccessorImpl;
+import org.hibernate.search.backend.lucene.lowlevel.index.impl.IndexReplication;
 import org.hibernate.search.backend.lucene.lowlevel.index.impl.NearRealTimeIOStrategy;
+import org.hibernate.search.backend.lucene.lowlevel.index.impl.ReplicaIOStrategy;
+import org.hibernate.search.backend.lucene.lowlevel.reader.spi.SegmentWarmer;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterConfigSource;
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneBatchedWorkProcessor;
@@ -31,6 +42,7 @@
 import org.hibernate.search.backend.lucene.scope.model.impl.LuceneScopeIndexManagerContext;
 import org.hibernate.search.backend.lucene.scope.model.impl.LuceneSearchIndexScopeImpl;
 import org.hibernate.search.backend.lucene.search.projection.impl.LuceneSearchProjection;
+import org.hibernate.search.backend.lucene.search.query.ScrollStrategyName;
 import org.hibernate.search.backend.lucene.search.query.impl.LuceneSearchQueryBuilder;
 import org.hibernate.search.backend.lucene.search.query.impl.LuceneSearchQueryIndexScope;
 import org.hibernate.search.backend.lucene.search.query.impl.SearchBackendContext;
@@ -49,21 +61,44 @@
 import org.hibernate.search.engine.backend.work.execution.spi.IndexWorkspace;
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
 import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+import org.hibernate.search.engine.cfg.spi.OptionalConfigurationProperty;
+import org.hibernate.search.engine.common.metrics.spi.MetricsRegistry;
+import org.hibernate.search.engine.common.metrics.spi.MetricsTags;
 import org.hibernate.search.engine.common.timing.spi.TimingSource;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.engine.search.loading.spi.SearchLoadingContextBuilder;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 import org.hibernate.search.util.common.reporting.EventContext;
 
 import org.apache.lucene.search.similarities.Similarity;
 
 public class IndexManagerBackendContext implements WorkExecutionBackendContext, SearchBackendContext {
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
 	private static final ConfigurationProperty<IOStrategyName> IO_STRATEGY =
 			ConfigurationProperty.forKey( LuceneIndexSettings.IO_STRATEGY )
 					.as( IOStrategyName.class, IOStrategyName::of )
 					.withDefault( LuceneIndexSettings.Defaults.IO_STRATEGY )
 					.build();
 
+	private static final ConfigurationProperty<ReplicationRoleName> REPLICATION_ROLE =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_REPLICATION_ROLE )
+					.as( ReplicationRoleName.class, ReplicationRoleName::of )
+					.withDefault( LuceneIndexSettings.Defaults.IO_REPLICATION_ROLE )
+					.build();
+
+	private static final OptionalConfigurationProperty<String> REPLICATION_ROOT =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_REPLICATION_ROOT )
+					.asString()
+					.build();
+
+	private static final ConfigurationProperty<Integer> REPLICATION_INTERVAL =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_REPLICATION_INTERVAL )
+					.asIntegerStrictlyPositive()
+					.withDefault( LuceneIndexSettings.Defaults.IO_REPLICATION_INTERVAL )
+					.build();
+
 	private final LuceneBackend backendAPI;
 	private final EventContext eventContext;
 
@@ -71,10 +106,14 @@ public class IndexManagerBackendContext implements WorkExecutionBackendContext,
 	private final Similarity similarity;
 	private final LuceneWorkFactory workFactory;
 	private final MultiTenancyStrategy multiTenancyStrategy;
+	private final ScrollStrategyName scrollStrategyName;
+	private final boolean shardPruning;
 	private final TimingSource timingSource;
 	private final LuceneAnalysisDefinitionRegistry analysisDefinitionRegistry;
 	private final FailureHandler failureHandler;
 	private final LuceneSyncWorkOrchestrator readOrchestrator;
+	private final MetricsRegistry metricsRegistry;
+	private final MetricsTags metricsTags;
 
 	public IndexManagerBackendContext(LuceneBackend backendAPI,
 			EventContext eventContext,
@@ -82,20 +121,27 @@ public IndexManagerBackendContext(LuceneBackend backendAPI,
 			Similarity similarity,
 			LuceneWorkFactory workFactory,
 			MultiTenancyStrategy multiTenancyStrategy,
+			ScrollStrategyName scrollStrategyName,
+			boolean shardPruning,
 			TimingSource timingSource,
 			LuceneAnalysisDefinitionRegistry analysisDefinitionRegistry,
 			FailureHandler failureHandler,
-			LuceneSyncWorkOrchestrator readOrchestrator) {
+			LuceneSyncWorkOrchestrator readOrchestrator,
+			MetricsRegistry metricsRegistry, MetricsTags metricsTags) {
 		this.backendAPI = backendAPI;
 		this.eventContext = eventContext;
 		this.threads = threads;
 		this.similarity = similarity;
 		this.multiTenancyStrategy = multiTenancyStrategy;
+		this.scrollStrategyName = scrollStrategyName;
+		this.shardPruning = shardPruning;
 		this.timingSource = timingSource;
 		this.analysisDefinitionRegistry = analysisDefinitionRegistry;
 		this.workFactory = workFactory;
 		this.failureHandler = failureHandler;
 		this.readOrchestrator = readOrchestrator;
+		this.metricsRegistry = metricsRegistry;
+		this.metricsTags = metricsTags;
 	}
 
 	@Override
@@ -161,6 +207,8 @@ public <H> LuceneSearchQueryBuilder<H> createSearchQueryBuilder(
 		return new LuceneSearchQueryBuilder<>(
 				workFactory,
 				readOrchestrator,
+				scrollStrategyName,
+				shardPruning,
 				scope,
 				sessionContext,
 				loadingContextBuilder,
@@ -181,28 +229,61 @@ LuceneIndexEntryFactory createLuceneIndexEntryFactory(LuceneIndexModel model) {
 	}
 
 	IOStrategy createIOStrategy(ConfigurationPropertySource propertySource) {
+		if ( ReplicationRoleName.REPLICA.equals( REPLICATION_ROLE.get( propertySource ) ) ) {
+			// Replicas never write to the index: the configured strategy is irrelevant.
+			return ReplicaIOStrategy.create( threads, failureHandler, metricsRegistry );
+		}
 		switch ( IO_STRATEGY.get( propertySource ) ) {
 			case DEBUG:
-				return DebugIOStrategy.create( threads, failureHandler );
+				return DebugIOStrategy.create( threads, failureHandler, metricsRegistry );
 			case NEAR_REAL_TIME:
 			default:
-				return NearRealTimeIOStrategy.create( propertySource, timingSource, threads, failureHandler );
+				return NearRealTimeIOStrategy.create( propertySource, timingSource, threads, failureHandler,
+						metricsRegistry );
 		}
 	}
 
+	IndexReplication createIndexReplication(String indexName, Optional<String> shardId, EventContext shardEventContext,
+			IndexAccessorImpl indexAccessor, ConfigurationPropertySource propertySource)
+			throws IOException {
+		ReplicationRoleName role = REPLICATION_ROLE.get( propertySource );
+		if ( ReplicationRoleName.NONE.equals( role ) ) {
+			return null;
+		}
+		Path replicationPath = Paths.get( REPLICATION_ROOT.getOrThrow( propertySource,
+				() -> log.missingReplicationRoot( REPLICATION_ROOT.resolveOrRaw( propertySource ), role ) ) )
+				.toAbsolutePath()
+				.resolve( indexName );
+		if ( shardId.isPresent() ) {
+			replicationPath = replicationPath.resolve( shardId.get() );
+		}
+		IndexReplication replication = new IndexReplication( role, replicationPath, indexAccessor, shardEventContext,
+				threads.getReplicationExecutor(), REPLICATION_INTERVAL.get( propertySource ), failureHandler );
+		replication.start();
+		return replication;
+	}
+
 	LuceneIndexSchemaManager createSchemaManager(String indexName, SchemaManagementIndexManagerContext context) {
 		return new LuceneIndexSchemaManager( indexName, workFactory, context );
 	}
 
+	MetricsTags createShardMetricsTags(String indexName, Optional<String> shardId) {
+		MetricsTags shardMetricsTags = metricsTags.and( MetricsTags.INDEX, indexName );
+		if ( shardId.isPresent() ) {
+			shardMetricsTags = shardMetricsTags.and( MetricsTags.SHARD, shardId.get() );
+		}
+		return shardMetricsTags;
+	}
+
 	IndexAccessorImpl createIndexAccessor(LuceneIndexModel model, EventContext shardEventContext,
-			DirectoryHolder directoryHolder, IOStrategy ioStrategy,
-			ConfigurationPropertySource propertySource) {
+			MetricsTags shardMetricsTags, DirectoryHolder directoryHolder, IOStrategy ioStrategy,
+			List<SegmentWarmer> segmentWarmers, ConfigurationPropertySource propertySource) {
 		String indexName = model.hibernateSearchName();
 		IndexWriterConfigSource writerConfigSource = IndexWriterConfigSource.create(
 				similarity, model.getIndexingAnalyzer(), model.codec(), propertySource, shardEventContext
 		);
 		return ioStrategy.createIndexAccessor(
-				indexName, shardEventContext, directoryHolder, writerConfigSource
+				indexName, shardEventContext, directoryHolder, writerConfigSource, segmentWarmers, shardMetricsTags
 		);
 	}
 
@@ -217,14 +298,15 @@ LuceneParallelWorkOrchestratorImpl createIndexManagementOrchestrator(EventContex
 	}
 
 	LuceneSerialWorkOrchestratorImpl createIndexingOrchestrator(EventContext eventContext,
-			IndexAccessorImpl indexAccessor) {
+			MetricsTags shardMetricsTags, IndexAccessorImpl indexAccessor) {
 		return new LuceneSerialWorkOrchestratorImpl(
 				"Lucene indexing orchestrator for " + eventContext.render(),
 				new LuceneBatchedWorkProcessor(
 						eventContext, indexAccessor
 				),
 				threads,
-				failureHandler
+				failureHandler,
+				metricsRegistry, shardMetricsTags
 		);
 	}
 }
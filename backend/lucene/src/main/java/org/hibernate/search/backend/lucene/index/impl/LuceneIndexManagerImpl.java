@@ -8,6 +8,7 @@
 
 import java.io.IOException;
 import java.lang.invoke.MethodHandles;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
@@ -242,6 +243,26 @@ public CompletableFuture<Long> computeSizeInBytesAsync(OperationSubmitter operat
 		return schemaManager.computeSizeInBytes( operationSubmitter );
 	}
 
+	@Override
+	public void backup(Path targetDirectory) {
+		Futures.unwrappedExceptionJoin( backupAsync( targetDirectory, OperationSubmitter.blocking() ) );
+	}
+
+	@Override
+	public CompletableFuture<?> backupAsync(Path targetDirectory, OperationSubmitter operationSubmitter) {
+		return schemaManager.backup( targetDirectory, operationSubmitter );
+	}
+
+	@Override
+	public void restore(Path sourceDirectory) {
+		Futures.unwrappedExceptionJoin( restoreAsync( sourceDirectory, OperationSubmitter.blocking() ) );
+	}
+
+	@Override
+	public CompletableFuture<?> restoreAsync(Path sourceDirectory, OperationSubmitter operationSubmitter) {
+		return schemaManager.restore( sourceDirectory, operationSubmitter );
+	}
+
 	@Override
 	@SuppressWarnings("unchecked") // Checked using reflection
 	public <T> T unwrap(Class<T> clazz) {
@@ -253,6 +274,11 @@ clazz, LuceneIndexManager.class, getBackendAndIndexEventContext()
 		);
 	}
 
+	@Override
+	public String splitShard(String shardIdentifier) {
+		return shardHolder.splitShard( shardIdentifier );
+	}
+
 	public final List<Shard> getShardsForTests() {
 		return shardHolder.shardsForTests();
 	}
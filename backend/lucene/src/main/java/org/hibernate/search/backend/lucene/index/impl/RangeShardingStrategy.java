@@ -0,0 +1,207 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.index.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.index.spi.ShardingStrategy;
+import org.hibernate.search.backend.lucene.index.spi.ShardingStrategyInitializationContext;
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.lowlevel.query.impl.RoutingHashRangeQuery;
+import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+import org.hibernate.search.engine.cfg.spi.OptionalConfigurationProperty;
+import org.hibernate.search.util.common.data.impl.Murmur3HashFunction;
+import org.hibernate.search.util.common.data.impl.RangeCompatibleHashFunction;
+import org.hibernate.search.util.common.data.impl.RangeHashTable;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+import org.apache.lucene.search.Query;
+
+/**
+ * A sharding strategy assigning a contiguous range of hashes to each shard,
+ * similarly to consistent hashing.
+ * <p>
+ * Contrary to the {@link HashShardingStrategy}, shards can be split:
+ * splitting a shard moves the upper half of its range to a new shard,
+ * so that only documents from the split shard need to be moved, to the new shard.
+ */
+public class RangeShardingStrategy implements ShardingStrategy {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	public static final String NAME = "range";
+
+	private static final OptionalConfigurationProperty<Integer> NUMBER_OF_SHARDS =
+			ConfigurationProperty.forKey( LuceneIndexSettings.ShardingRadicals.NUMBER_OF_SHARDS )
+					.asIntegerStrictlyPositive()
+					.build();
+
+	private static final ConfigurationProperty<List<String>> SPLIT_SHARDS =
+			ConfigurationProperty.forKey( LuceneIndexSettings.ShardingRadicals.SPLIT_SHARDS )
+					.asString().multivalued()
+					.withDefault( Collections.emptyList() )
+					.build();
+
+	// Note the hash function MUST NOT CHANGE,
+	// otherwise existing indexes will no longer work correctly.
+	private static final RangeCompatibleHashFunction HASH_FUNCTION = Murmur3HashFunction.INSTANCE;
+
+	private String splitShardsPropertyKey;
+	private volatile Ranges ranges;
+
+	@Override
+	public void initialize(ShardingStrategyInitializationContext context) {
+		int numberOfShards = NUMBER_OF_SHARDS.getOrThrow(
+				context.configurationPropertySource(),
+				() -> log.missingPropertyValueForShardingStrategy( NAME )
+		);
+		List<String> splitShards = SPLIT_SHARDS.get( context.configurationPropertySource() );
+		this.splitShardsPropertyKey = SPLIT_SHARDS.resolveOrRaw( context.configurationPropertySource() );
+
+		Ranges initialRanges = Ranges.initial( numberOfShards );
+		for ( String splitShard : splitShards ) {
+			initialRanges = initialRanges.split( splitShard ).ranges;
+		}
+		this.ranges = initialRanges;
+		context.shardIdentifiers( initialRanges.shardIds() );
+	}
+
+	@Override
+	public String toShardIdentifier(String documentId, String routingKey) {
+		return ranges.shardId( routingKey == null ? documentId : routingKey );
+	}
+
+	@Override
+	public Set<String> toShardIdentifiers(Set<String> routingKeys) {
+		Ranges currentRanges = ranges;
+		Set<String> matchingShardIds = new LinkedHashSet<>();
+		for ( String routingKey : routingKeys ) {
+			matchingShardIds.add( currentRanges.shardId( routingKey ) );
+		}
+		return matchingShardIds;
+	}
+
+	/**
+	 * @param shardId The identifier of the shard to split.
+	 * @return A split, to be {@link #apply(Split) applied} once documents have been moved.
+	 */
+	Split prepareSplit(String shardId) {
+		return ranges.split( shardId );
+	}
+
+	/**
+	 * Routes documents according to the given split from now on.
+	 *
+	 * @param split A split returned by {@link #prepareSplit(String)}.
+	 */
+	void apply(Split split) {
+		this.ranges = split.ranges;
+	}
+
+	/**
+	 * @return The key of the configuration property listing split shards.
+	 */
+	String splitShardsPropertyKey() {
+		return splitShardsPropertyKey;
+	}
+
+	static final class Split {
+		private final String targetShardId;
+		private final Query movedDocumentsQuery;
+		private final Ranges ranges;
+
+		private Split(String targetShardId, Query movedDocumentsQuery, Ranges ranges) {
+			this.targetShardId = targetShardId;
+			this.movedDocumentsQuery = movedDocumentsQuery;
+			this.ranges = ranges;
+		}
+
+		/**
+		 * @return The identifier of the new shard.
+		 */
+		String targetShardId() {
+			return targetShardId;
+		}
+
+		/**
+		 * @return A query matching documents of the source shard that must be moved to the new shard.
+		 */
+		Query movedDocumentsQuery() {
+			return movedDocumentsQuery;
+		}
+	}
+
+	/**
+	 * An immutable assignment of ranges of hashes to shards.
+	 */
+	private static final class Ranges {
+
+		static Ranges initial(int numberOfShards) {
+			RangeHashTable<String> table = new RangeHashTable<>( HASH_FUNCTION, numberOfShards );
+			int[] lowerBounds = new int[numberOfShards];
+			String[] shardIds = new String[numberOfShards];
+			for ( int i = 0; i < numberOfShards; i++ ) {
+				lowerBounds[i] = table.rangeForBucket( i ).lowerBoundValue().orElse( Integer.MIN_VALUE );
+				shardIds[i] = String.valueOf( i );
+			}
+			return new Ranges( lowerBounds, shardIds );
+		}
+
+		// Sorted lower bounds, inclusive; the upper bound of each range is the lower bound of the next one.
+		private final int[] lowerBounds;
+		private final String[] shardIds;
+
+		private Ranges(int[] lowerBounds, String[] shardIds) {
+			this.lowerBounds = lowerBounds;
+			this.shardIds = shardIds;
+		}
+
+		String shardId(String key) {
+			int searchResult = Arrays.binarySearch( lowerBounds, HASH_FUNCTION.hash( key ) );
+			return shardIds[searchResult >= 0 ? searchResult : -( searchResult + 2 )];
+		}
+
+		Set<String> shardIds() {
+			// Shard identifiers are integers assigned in order: sort them the same way.
+			String[] sortedShardIds = new String[shardIds.length];
+			for ( String shardId : shardIds ) {
+				sortedShardIds[Integer.parseInt( shardId )] = shardId;
+			}
+			return new LinkedHashSet<>( Arrays.asList( sortedShardIds ) );
+		}
+
+		Split split(String shardId) {
+			int index = Arrays.asList( shardIds ).indexOf( shardId );
+			if ( index < 0 ) {
+				throw log.unknownShardForSplit( shardId, shardIds() );
+			}
+			long lowerBound = lowerBounds[index];
+			long upperBound = index + 1 < lowerBounds.length ? lowerBounds[index + 1] : ( (long) Integer.MAX_VALUE ) + 1;
+			long middle = lowerBound + ( upperBound - lowerBound ) / 2;
+
+			String newShardId = String.valueOf( shardIds.length );
+			int[] newLowerBounds = new int[lowerBounds.length + 1];
+			String[] newShardIds = new String[shardIds.length + 1];
+			System.arraycopy( lowerBounds, 0, newLowerBounds, 0, index + 1 );
+			System.arraycopy( shardIds, 0, newShardIds, 0, index + 1 );
+			newLowerBounds[index + 1] = (int) middle;
+			newShardIds[index + 1] = newShardId;
+			System.arraycopy( lowerBounds, index + 1, newLowerBounds, index + 2, lowerBounds.length - index - 1 );
+			System.arraycopy( shardIds, index + 1, newShardIds, index + 2, shardIds.length - index - 1 );
+
+			return new Split( newShardId,
+					new RoutingHashRangeQuery( HASH_FUNCTION, middle, upperBound ),
+					new Ranges( newLowerBounds, newShardIds ) );
+		}
+	}
+}
@@ -8,6 +8,8 @@
 
 import java.io.IOException;
 import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 
@@ -20,12 +22,18 @@
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryProvider;
 import org.hibernate.search.backend.lucene.lowlevel.index.impl.IOStrategy;
 import org.hibernate.search.backend.lucene.lowlevel.index.impl.IndexAccessorImpl;
+import org.hibernate.search.backend.lucene.lowlevel.index.impl.IndexReplication;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.FieldsSegmentWarmer;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderStatistics;
+import org.hibernate.search.backend.lucene.lowlevel.reader.spi.SegmentWarmer;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneParallelWorkOrchestrator;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneParallelWorkOrchestratorImpl;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneSerialWorkOrchestrator;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneSerialWorkOrchestratorImpl;
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
 import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+import org.hibernate.search.engine.cfg.spi.OptionalConfigurationProperty;
+import org.hibernate.search.engine.common.metrics.spi.MetricsTags;
 import org.hibernate.search.engine.common.resources.spi.SavedState;
 import org.hibernate.search.engine.environment.bean.BeanHolder;
 import org.hibernate.search.engine.environment.bean.BeanReference;
@@ -36,6 +44,8 @@
 import org.hibernate.search.util.common.reporting.EventContext;
 
 import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexCommit;
+import org.apache.lucene.search.Query;
 
 public final class Shard {
 
@@ -45,6 +55,17 @@ public final class Shard {
 					.withDefault( BeanReference.of( DirectoryProvider.class, LuceneIndexSettings.Defaults.DIRECTORY_TYPE ) )
 					.build();
 
+	private static final OptionalConfigurationProperty<List<String>> WARMUP_FIELDS =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_WARMUP_FIELDS )
+					.asString().multivalued()
+					.build();
+
+	private static final OptionalConfigurationProperty<List<BeanReference<? extends SegmentWarmer>>> WARMUP_WARMER =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_WARMUP_WARMER )
+					.asBeanReference( SegmentWarmer.class )
+					.multivalued()
+					.build();
+
 	private static final SavedState.Key<DirectoryHolder> DIRECTORY_HOLDER_KEY = SavedState.key( "directory_holder" );
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
@@ -54,9 +75,12 @@ public final class Shard {
 	private final LuceneIndexModel model;
 
 	private DirectoryHolder directoryHolder;
+	private BeanHolder<List<SegmentWarmer>> segmentWarmersHolder;
 	private IndexAccessorImpl indexAccessor;
 	private LuceneParallelWorkOrchestratorImpl managementOrchestrator;
 	private LuceneSerialWorkOrchestratorImpl indexingOrchestrator;
+	private IndexReplication replication;
+	private volatile IndexReaderStatistics readerStatistics;
 
 	private boolean savedForRestart = false;
 
@@ -101,22 +125,27 @@ void preStart(ConfigurationPropertySource propertySource, BeanResolver beanResol
 		}
 	}
 
-	void start(ConfigurationPropertySource propertySource) {
+	void start(ConfigurationPropertySource propertySource, BeanResolver beanResolver) {
 		String indexName = model.hibernateSearchName();
 		EventContext indexAndShardEventContext = EventContexts.fromIndexNameAndShardId( indexName, shardId );
 		try {
+			MetricsTags metricsTags = backendContext.createShardMetricsTags( indexName, shardId );
 			IOStrategy ioStrategy = backendContext.createIOStrategy( propertySource );
-			indexAccessor = backendContext.createIndexAccessor( model, indexAndShardEventContext, directoryHolder,
-					ioStrategy, propertySource );
+			List<SegmentWarmer> segmentWarmers = createSegmentWarmers( propertySource, beanResolver );
+			indexAccessor = backendContext.createIndexAccessor( model, indexAndShardEventContext, metricsTags,
+					directoryHolder, ioStrategy, segmentWarmers, propertySource );
 			managementOrchestrator =
 					backendContext.createIndexManagementOrchestrator( indexAndShardEventContext, indexAccessor );
 			indexingOrchestrator =
-					backendContext.createIndexingOrchestrator( indexAndShardEventContext, indexAccessor );
+					backendContext.createIndexingOrchestrator( indexAndShardEventContext, metricsTags, indexAccessor );
 
 			managementOrchestrator.start( propertySource );
 			indexingOrchestrator.start( propertySource );
+
+			replication = backendContext.createIndexReplication( indexName, shardId, indexAndShardEventContext,
+					indexAccessor, propertySource );
 		}
-		catch (RuntimeException e) {
+		catch (IOException | RuntimeException e) {
 			throw log.unableToStartShard( e.getMessage(), e );
 		}
 	}
@@ -127,10 +156,12 @@ CompletableFuture<?> preStop() {
 
 	void stop() {
 		try ( Closer<IOException> closer = new Closer<>() ) {
+			closer.push( IndexReplication::stop, replication );
 			closer.push( LuceneSerialWorkOrchestratorImpl::stop, indexingOrchestrator );
 			closer.push( LuceneParallelWorkOrchestratorImpl::stop, managementOrchestrator );
 			// Close the index writer after the orchestrators, when we're sure all works have been performed
 			closer.push( IndexAccessorImpl::close, indexAccessor );
+			closer.push( BeanHolder::close, segmentWarmersHolder );
 			if ( !savedForRestart ) {
 				closer.push( DirectoryHolder::close, directoryHolder );
 			}
@@ -144,10 +175,65 @@ void stop() {
 		}
 	}
 
+	private List<SegmentWarmer> createSegmentWarmers(ConfigurationPropertySource propertySource,
+			BeanResolver beanResolver) {
+		List<SegmentWarmer> segmentWarmers = new ArrayList<>();
+		WARMUP_FIELDS.get( propertySource )
+				.ifPresent( fieldNames -> segmentWarmers.add( new FieldsSegmentWarmer( fieldNames ) ) );
+		segmentWarmersHolder = WARMUP_WARMER.getAndMap( propertySource, beanResolver::resolve )
+				.orElse( null );
+		if ( segmentWarmersHolder != null ) {
+			segmentWarmers.addAll( segmentWarmersHolder.get() );
+		}
+		return segmentWarmers;
+	}
+
+	/**
+	 * @return A future that will complete once all indexing works submitted so far have been executed,
+	 * provided no other work is submitted in the meantime.
+	 */
+	CompletableFuture<?> pendingIndexingWorksCompletion() {
+		return indexingOrchestrator.pendingWorksCompletion();
+	}
+
+	/**
+	 * Drops the index if it exists, then creates an empty index.
+	 */
+	void recreateIndex() {
+		indexAccessor.dropIndexIfExisting();
+		indexAccessor.createIndexIfMissing();
+	}
+
+	IndexCommit copyDocumentsTo(Shard target, Query query) throws IOException {
+		return indexAccessor.copyDocumentsTo( target.indexAccessor, query );
+	}
+
+	void copyDocumentChangesTo(Shard target, Query query, IndexCommit previousCommit) throws IOException {
+		indexAccessor.copyDocumentChangesTo( target.indexAccessor, query, previousCommit );
+	}
+
+	void releaseSnapshot(IndexCommit commit) throws IOException {
+		indexAccessor.releaseSnapshot( commit );
+	}
+
+	void deleteDocuments(Query query) throws IOException {
+		indexAccessor.deleteDocuments( query );
+	}
+
 	DirectoryReader openReader() throws IOException {
 		return indexAccessor.getIndexReader();
 	}
 
+	IndexReaderStatistics readerStatistics(DirectoryReader reader) {
+		IndexReaderStatistics statistics = readerStatistics;
+		if ( statistics == null || !statistics.isFor( reader ) ) {
+			// The reader was refreshed since statistics were last created: start over.
+			statistics = new IndexReaderStatistics( reader );
+			readerStatistics = statistics;
+		}
+		return statistics;
+	}
+
 	LuceneSerialWorkOrchestrator indexingOrchestrator() {
 		return indexingOrchestrator;
 	}
@@ -156,7 +242,15 @@ LuceneParallelWorkOrchestrator managementOrchestrator() {
 		return managementOrchestrator;
 	}
 
+	public String shardIdForTests() {
+		return shardId.orElse( null );
+	}
+
 	public IndexAccessorImpl indexAccessorForTests() {
 		return indexAccessor;
 	}
+
+	public IndexReplication replicationForTests() {
+		return replication;
+	}
 }
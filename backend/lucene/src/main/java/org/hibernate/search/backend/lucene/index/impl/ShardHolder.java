@@ -7,6 +7,7 @@
 package org.hibernate.search.backend.lucene.index.impl;
 
 import java.io.IOException;
+import java.lang.invoke.MethodHandles;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -18,10 +19,15 @@
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
 
 import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
 import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexModel;
 import org.hibernate.search.backend.lucene.index.spi.ShardingStrategy;
+import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.DirectoryReaderCollector;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.ReadIndexManagerContext;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneParallelWorkOrchestrator;
@@ -32,21 +38,41 @@
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
 import org.hibernate.search.engine.common.resources.spi.SavedState;
 import org.hibernate.search.engine.environment.bean.BeanHolder;
+import org.hibernate.search.engine.environment.bean.BeanResolver;
 import org.hibernate.search.engine.reporting.spi.EventContexts;
+import org.hibernate.search.util.common.SearchException;
 import org.hibernate.search.util.common.impl.Closer;
+import org.hibernate.search.util.common.impl.Futures;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexCommit;
 
 class ShardHolder
 		implements ReadIndexManagerContext, WorkExecutionIndexManagerContext,
 		SchemaManagementIndexManagerContext {
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
 	private static final SavedState.Key<Map<String, SavedState>> SHARDS_KEY = SavedState.key( "shards" );
 
 	private final IndexManagerBackendContext backendContext;
 	private final LuceneIndexModel model;
 
 	private BeanHolder<? extends ShardingStrategy> shardingStrategyHolder;
-	private final Map<String, Shard> shards = new LinkedHashMap<>();
-	private final List<LuceneParallelWorkOrchestrator> managementOrchestrators = new ArrayList<>();
+	// These are only mutated during startup, and replaced with updated copies when a shard is split.
+	private volatile Map<String, Shard> shards = new LinkedHashMap<>();
+	private volatile List<LuceneParallelWorkOrchestrator> managementOrchestrators = new ArrayList<>();
+	private volatile Map<Optional<String>, LuceneParallelWorkOrchestrator> managementOrchestratorsByShardId =
+			new LinkedHashMap<>();
+
+	// Held for reading while routing and submitting indexing works, and for writing while splitting a shard.
+	private final ReadWriteLock routingLock = new ReentrantReadWriteLock();
+	// Held for reading while opening index readers, and for writing while publishing the result of a split.
+	private final ReadWriteLock readersLock = new ReentrantReadWriteLock();
+
+	private ConfigurationPropertySource indexPropertySource;
+	private BeanResolver beanResolver;
 
 	ShardHolder(IndexManagerBackendContext backendContext, LuceneIndexModel model) {
 		this.backendContext = backendContext;
@@ -76,6 +102,9 @@ private ConfigurationPropertySource toShardPropertySource(ConfigurationPropertyS
 
 	void preStart(IndexManagerStartContext startContext, SavedState savedState) {
 		ConfigurationPropertySource indexPropertySource = startContext.configurationPropertySource();
+		// Kept for shards created later, when splitting shards.
+		this.indexPropertySource = indexPropertySource;
+		this.beanResolver = startContext.beanResolver();
 		ShardingStrategyInitializationContextImpl initializationContext =
 				new ShardingStrategyInitializationContextImpl( backendContext, model, startContext, indexPropertySource );
 		Map<String, SavedState> states = savedState.get( SHARDS_KEY ).orElse( Collections.emptyMap() );
@@ -105,8 +134,9 @@ void start(IndexManagerStartContext startContext) {
 			Shard shard = entry.getValue();
 			ConfigurationPropertySource shardPropertySource = toShardPropertySource( indexPropertySource, shardId );
 			try {
-				shard.start( shardPropertySource );
+				shard.start( shardPropertySource, startContext.beanResolver() );
 				managementOrchestrators.add( shard.managementOrchestrator() );
+				managementOrchestratorsByShardId.put( Optional.ofNullable( shardId ), shard.managementOrchestrator() );
 			}
 			catch (RuntimeException e) {
 				startContext.failureCollector()
@@ -131,15 +161,24 @@ void stop() {
 			closer.pushAll( Shard::stop, shards.values() );
 			shards.clear();
 			managementOrchestrators.clear();
+			managementOrchestratorsByShardId.clear();
 		}
 	}
 
 	@Override
 	public void openIndexReaders(Set<String> routingKeys, DirectoryReaderCollector readerCollector) throws IOException {
 		String mappedTypeName = model.mappedTypeName();
-		Collection<Shard> enabledShards = toShards( routingKeys );
-		for ( Shard shard : enabledShards ) {
-			readerCollector.collect( mappedTypeName, shard.openReader() );
+		Lock lock = readersLock.readLock();
+		lock.lock();
+		try {
+			Collection<Shard> enabledShards = toShards( routingKeys );
+			for ( Shard shard : enabledShards ) {
+				DirectoryReader reader = shard.openReader();
+				readerCollector.collect( mappedTypeName, reader, shard.readerStatistics( reader ) );
+			}
+		}
+		finally {
+			lock.unlock();
 		}
 	}
 
@@ -153,6 +192,18 @@ public LuceneSerialWorkOrchestrator indexingOrchestrator(String documentId, Stri
 		return toShard( documentId, routingKey ).indexingOrchestrator();
 	}
 
+	@Override
+	public <T> T withStableRouting(Supplier<T> action) {
+		Lock lock = routingLock.readLock();
+		lock.lock();
+		try {
+			return action.get();
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
 	@Override
 	public List<LuceneParallelWorkOrchestrator> managementOrchestrators(Set<String> routingKeys) {
 		Collection<Shard> enabledShards = toShards( routingKeys );
@@ -168,26 +219,123 @@ public List<LuceneParallelWorkOrchestrator> allManagementOrchestrators() {
 		return managementOrchestrators;
 	}
 
+	@Override
+	public Map<Optional<String>, LuceneParallelWorkOrchestrator> allManagementOrchestratorsByShardId() {
+		return managementOrchestratorsByShardId;
+	}
+
 	@Override
 	public Optional<String> backendName() {
 		return backendContext.toAPI().name();
 	}
 
+	/**
+	 * Splits a shard in two, moving part of its documents to a new shard.
+	 * <p>
+	 * Documents are first copied while indexing works are still being executed;
+	 * indexing works are then only blocked while documents changed in the meantime are copied again
+	 * and routing is updated.
+	 * Search queries can still be executed throughout.
+	 *
+	 * @param shardId The identifier of the shard to split.
+	 * @return The identifier of the new shard.
+	 */
+	synchronized String splitShard(String shardId) {
+		ShardingStrategy shardingStrategy = shardingStrategyHolder == null ? null : shardingStrategyHolder.get();
+		if ( !( shardingStrategy instanceof RangeShardingStrategy ) ) {
+			throw log.shardSplitNotSupported( shardingStrategy == null ? NoShardingStrategy.NAME : shardingStrategy );
+		}
+		RangeShardingStrategy rangeShardingStrategy = (RangeShardingStrategy) shardingStrategy;
+		RangeShardingStrategy.Split split = rangeShardingStrategy.prepareSplit( shardId );
+		Shard source = shards.get( shardId );
+		String targetShardId = split.targetShardId();
+		Shard target = new Shard( Optional.of( targetShardId ), backendContext, model );
+
+		try {
+			ConfigurationPropertySource targetPropertySource =
+					toShardPropertySource( indexPropertySource, targetShardId );
+			target.preStart( targetPropertySource, beanResolver, SavedState.empty() );
+			target.start( targetPropertySource, beanResolver );
+			// Discard any leftover from a previous split that failed.
+			target.recreateIndex();
+
+			// Copy documents without blocking indexing: this may take a while.
+			IndexCommit copiedCommit = source.copyDocumentsTo( target, split.movedDocumentsQuery() );
+			try {
+				Lock routingWriteLock = routingLock.writeLock();
+				routingWriteLock.lock();
+				try {
+					// Works routed to the source shard before we got the lock must be executed before we move documents.
+					Futures.unwrappedExceptionJoin( source.pendingIndexingWorksCompletion() );
+					// Only documents changed while we were copying need to be copied again: this is usually quick.
+					source.copyDocumentChangesTo( target, split.movedDocumentsQuery(), copiedCommit );
+
+					Lock readersWriteLock = readersLock.writeLock();
+					readersWriteLock.lock();
+					try {
+						source.deleteDocuments( split.movedDocumentsQuery() );
+						addShard( targetShardId, target );
+						rangeShardingStrategy.apply( split );
+					}
+					finally {
+						readersWriteLock.unlock();
+					}
+				}
+				finally {
+					routingWriteLock.unlock();
+				}
+			}
+			finally {
+				source.releaseSnapshot( copiedCommit );
+			}
+		}
+		catch (IOException | RuntimeException e) {
+			SearchException exception = log.unableToSplitShard( shardId, e.getMessage(),
+					EventContexts.fromIndexNameAndShardId( model.hibernateSearchName(), Optional.of( shardId ) ), e );
+			try {
+				target.stop();
+			}
+			catch (RuntimeException e2) {
+				exception.addSuppressed( e2 );
+			}
+			throw exception;
+		}
+
+		log.shardSplit( shardId, model.hibernateSearchName(), targetShardId,
+				rangeShardingStrategy.splitShardsPropertyKey() );
+		return targetShardId;
+	}
+
+	private void addShard(String shardId, Shard shard) {
+		Map<String, Shard> newShards = new LinkedHashMap<>( shards );
+		newShards.put( shardId, shard );
+		List<LuceneParallelWorkOrchestrator> newManagementOrchestrators = new ArrayList<>( managementOrchestrators );
+		newManagementOrchestrators.add( shard.managementOrchestrator() );
+		Map<Optional<String>, LuceneParallelWorkOrchestrator> newManagementOrchestratorsByShardId =
+				new LinkedHashMap<>( managementOrchestratorsByShardId );
+		newManagementOrchestratorsByShardId.put( Optional.of( shardId ), shard.managementOrchestrator() );
+
+		shards = newShards;
+		managementOrchestrators = newManagementOrchestrators;
+		managementOrchestratorsByShardId = newManagementOrchestratorsByShardId;
+	}
+
 	public List<Shard> shardsForTests() {
 		return new ArrayList<>( shards.values() );
 	}
 
 	private Collection<Shard> toShards(Set<String> routingKeys) {
+		Map<String, Shard> currentShards = shards;
 		if ( shardingStrategyHolder == null || routingKeys.isEmpty() ) {
 			// No sharding or no routing key => target all shards
-			return shards.values();
+			return currentShards.values();
 		}
 
 		Set<String> shardIdentifiers = shardingStrategyHolder.get().toShardIdentifiers( routingKeys );
 
 		Collection<Shard> enabledShards = new HashSet<>();
 		for ( String shardId : shardIdentifiers ) {
-			enabledShards.add( shards.get( shardId ) );
+			enabledShards.add( currentShards.get( shardId ) );
 		}
 		return enabledShards;
 	}
@@ -17,6 +17,7 @@
 import java.util.Set;
 
 import org.hibernate.search.backend.lucene.index.LuceneIndexManager;
+import org.hibernate.search.backend.lucene.lowlevel.index.ReplicationRoleName;
 import org.hibernate.search.engine.backend.scope.spi.IndexScopeBuilder;
 import org.hibernate.search.engine.backend.types.Highlightable;
 import org.hibernate.search.engine.backend.types.TermVector;
@@ -757,4 +758,83 @@ SearchException unableToPerformAnalysisOperation(String analyzerName, String str
 	@Message(id = ID_OFFSET + 186, value = "A single-valued highlight projection requested, "
 			+ "but the corresponding highlighter does not set number of fragments to 1.")
 	SearchException highlighterIncompatibleCardinality();
+
+	@Message(id = ID_OFFSET + 187,
+			value = "Invalid scroll strategy name: '%1$s'. Valid names are: %2$s.")
+	SearchException invalidScrollStrategyName(String invalidRepresentation, List<String> validRepresentations);
+
+	@Message(id = ID_OFFSET + 188,
+			value = "Unable to apply a bulk of %1$s index works: %2$s")
+	SearchException unableToExecuteIndexingWorkBulk(int workCount, String causeMessage,
+			@Param EventContext context, @Cause Exception cause);
+
+	@LogMessage(level = WARN)
+	@Message(id = ID_OFFSET + 189,
+			value = "Unable to warm up an index segment with warmer '%1$s': %2$s. %3$s")
+	void unableToWarmUpSegment(Object warmer, String causeMessage,
+			@FormatWith(EventContextFormatter.class) EventContext context, @Cause Exception cause);
+
+	@Message(id = ID_OFFSET + 190,
+			value = "Unable to allocate %1$s bytes in the off-heap directory:"
+					+ " the directory would exceed its maximum size of %2$s bytes, with %3$s bytes already in use."
+					+ " Increase the maximum size of the directory, or reduce the size of the index.")
+	SearchException offHeapDirectoryFull(int requestedBytes, long maxSize, long usedBytes,
+			@Param EventContext context);
+
+	@Message(id = ID_OFFSET + 191,
+			value = "Unable to back up the index to directory '%1$s': %2$s")
+	SearchException unableToBackUpIndex(Path targetDirectory, String causeMessage,
+			@Param EventContext context, @Cause Exception cause);
+
+	@Message(id = ID_OFFSET + 192,
+			value = "Directory '%1$s' is not empty. Index backups can only be written to empty or missing directories.")
+	SearchException indexBackupTargetNotEmpty(Path targetDirectory);
+
+	@Message(id = ID_OFFSET + 193,
+			value = "Unable to restore the index from directory '%1$s': %2$s")
+	SearchException unableToRestoreIndex(Path sourceDirectory, String causeMessage,
+			@Param EventContext context, @Cause Exception cause);
+
+	@Message(id = ID_OFFSET + 194,
+			value = "Directory '%1$s' does not contain an index backup.")
+	SearchException missingIndexBackup(Path sourceDirectory);
+
+	@Message(id = ID_OFFSET + 195,
+			value = "Invalid replication role name: '%1$s'. Valid names are: %2$s.")
+	SearchException invalidReplicationRoleName(String invalidRepresentation, List<String> validRepresentations);
+
+	@Message(id = ID_OFFSET + 196,
+			value = "Missing replication root. A replication root must be set through configuration property '%1$s'"
+					+ " when the replication role is '%2$s'.")
+	SearchException missingReplicationRoot(String propertyKey, ReplicationRoleName role);
+
+	@Message(id = ID_OFFSET + 197,
+			value = "Unable to write to the index: this index is a replica, and replicas are read-only."
+					+ " Write to the index on the primary instead.")
+	SearchException cannotWriteToReplicaIndex(@Param EventContext context);
+
+	@Message(id = ID_OFFSET + 198,
+			value = "Unable to replicate the index: %1$s")
+	SearchException unableToReplicateIndex(String causeMessage, @Param EventContext context, @Cause Exception cause);
+
+	@Message(id = ID_OFFSET + 199,
+			value = "Unable to split shard '%1$s': this shard does not exist. Existing shards are: %2$s.")
+	SearchException unknownShardForSplit(String shardId, Collection<String> existingShardIds);
+
+	@Message(id = ID_OFFSET + 200,
+			value = "Unable to split shards: sharding strategy '%1$s' does not support splitting shards."
+					+ " Use the 'range' sharding strategy instead.")
+	SearchException shardSplitNotSupported(Object strategy);
+
+	@Message(id = ID_OFFSET + 201,
+			value = "Unable to split shard '%1$s': %2$s")
+	SearchException unableToSplitShard(String shardId, String causeMessage,
+			@Param EventContext context, @Cause Exception cause);
+
+	@LogMessage(level = INFO)
+	@Message(id = ID_OFFSET + 202,
+			value = "Split shard '%1$s' of index '%2$s': documents in the upper half of its hash range"
+					+ " were moved to new shard '%3$s'. Add '%1$s' to configuration property '%4$s'"
+					+ " before restarting the application, so that documents are routed to the right shard after the restart.")
+	void shardSplit(String shardId, String indexName, String newShardId, String propertyKey);
 }
@@ -0,0 +1,48 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.directory.impl;
+
+import java.io.IOException;
+
+import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
+import org.hibernate.search.util.common.reporting.EventContext;
+
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.LockFactory;
+
+final class LocalOffHeapDirectoryHolder implements DirectoryHolder {
+
+	private final LockFactory lockFactory;
+	private final long maxSize;
+	private final EventContext eventContext;
+
+	private Directory directory;
+
+	LocalOffHeapDirectoryHolder(LockFactory lockFactory, long maxSize, EventContext eventContext) {
+		this.lockFactory = lockFactory;
+		this.maxSize = maxSize;
+		this.eventContext = eventContext;
+	}
+
+	@Override
+	public void start() {
+		directory = new OffHeapDirectory( lockFactory, maxSize, eventContext );
+	}
+
+	@Override
+	public void close() throws IOException {
+		if ( directory != null ) {
+			directory.close();
+		}
+		directory = null;
+	}
+
+	@Override
+	public Directory get() {
+		return directory;
+	}
+}
@@ -0,0 +1,37 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.directory.impl;
+
+import java.util.function.Supplier;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryCreationContext;
+import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
+import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryProvider;
+import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+import org.hibernate.search.engine.cfg.spi.OptionalConfigurationProperty;
+
+import org.apache.lucene.store.LockFactory;
+import org.apache.lucene.store.SingleInstanceLockFactory;
+
+public class LocalOffHeapDirectoryProvider implements DirectoryProvider {
+
+	public static final String NAME = "local-offheap";
+
+	private static final OptionalConfigurationProperty<Long> MAX_SIZE =
+			ConfigurationProperty.forKey( LuceneIndexSettings.DirectoryRadicals.MAX_SIZE )
+					.asLongStrictlyPositive()
+					.build();
+
+	@Override
+	public DirectoryHolder createDirectoryHolder(DirectoryCreationContext context) {
+		long maxSize = MAX_SIZE.get( context.configurationPropertySource() ).orElse( Long.MAX_VALUE );
+		Supplier<LockFactory> lockFactorySupplier = context.createConfiguredLockFactorySupplier()
+				.orElseGet( () -> SingleInstanceLockFactory::new );
+		return new LocalOffHeapDirectoryHolder( lockFactorySupplier.get(), maxSize, context.eventContext() );
+	}
+}
@@ -0,0 +1,215 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.directory.impl;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+import org.hibernate.search.util.common.reporting.EventContext;
+
+import org.apache.lucene.store.ByteBuffersDataOutput;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.FilterDirectory;
+import org.apache.lucene.store.IndexInput;
+import org.apache.lucene.store.LockFactory;
+
+/**
+ * A directory storing index files in memory, but outside of the JVM heap, in direct {@link ByteBuffer}s.
+ * <p>
+ * Memory is accounted for as blocks are allocated for a file, and released when the file is deleted,
+ * so that files in the directory never use more than a given maximum size.
+ * Note the memory used by a deleted file is only actually reclaimed
+ * once index readers no longer use that file and the garbage collector cleans up the corresponding buffers.
+ */
+public final class OffHeapDirectory extends FilterDirectory {
+
+	private final MemoryAccounting accounting;
+
+	OffHeapDirectory(LockFactory lockFactory, long maxSize, EventContext eventContext) {
+		this( lockFactory, new MemoryAccounting( maxSize, eventContext ) );
+	}
+
+	private OffHeapDirectory(LockFactory lockFactory, MemoryAccounting accounting) {
+		this( new ByteBuffersDirectory( lockFactory, accounting::createOutput, accounting::toIndexInput ), accounting );
+	}
+
+	private OffHeapDirectory(ByteBuffersDirectory delegate, MemoryAccounting accounting) {
+		super( delegate );
+		this.accounting = accounting;
+		accounting.fileExists = delegate::fileExists;
+	}
+
+	/**
+	 * @return The number of bytes of off-heap memory currently allocated to files of this directory.
+	 */
+	public long usedBytes() {
+		return accounting.usedBytes.get();
+	}
+
+	@Override
+	public void deleteFile(String name) throws IOException {
+		// Deleting the file and releasing its allocation must be atomic with respect to outputs being closed:
+		// see MemoryAccounting#toIndexInput.
+		accounting.fileLifecycleLock.lock();
+		try {
+			in.deleteFile( name );
+			accounting.onDelete( name );
+		}
+		finally {
+			accounting.fileLifecycleLock.unlock();
+		}
+	}
+
+	@Override
+	public void rename(String source, String dest) throws IOException {
+		in.rename( source, dest );
+		accounting.onRename( source, dest );
+	}
+
+	@Override
+	public void close() throws IOException {
+		in.close();
+		accounting.onClose();
+	}
+
+	private static final class MemoryAccounting {
+
+		private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+		private final long maxSize;
+		private final EventContext eventContext;
+
+		private final AtomicLong usedBytes = new AtomicLong();
+		// Allocations of files that are still being written, by output.
+		private final Map<ByteBuffersDataOutput, FileAllocation> openOutputAllocations =
+				Collections.synchronizedMap( new IdentityHashMap<>() );
+		// Allocations of files that were completely written, by file name.
+		private final Map<String, FileAllocation> fileAllocations = new ConcurrentHashMap<>();
+
+		// Guards against files being deleted between the moment we check they exist and the moment we track them.
+		private final Lock fileLifecycleLock = new ReentrantLock();
+		private Predicate<String> fileExists;
+
+		private MemoryAccounting(long maxSize, EventContext eventContext) {
+			this.maxSize = maxSize;
+			this.eventContext = eventContext;
+		}
+
+		ByteBuffersDataOutput createOutput() {
+			FileAllocation allocation = new FileAllocation( this );
+			ByteBuffersDataOutput output = new ByteBuffersDataOutput(
+					ByteBuffersDataOutput.DEFAULT_MIN_BITS_PER_BLOCK, ByteBuffersDataOutput.DEFAULT_MAX_BITS_PER_BLOCK,
+					allocation::allocate, allocation::release
+			);
+			openOutputAllocations.put( output, allocation );
+			return output;
+		}
+
+		// Called when an output is closed, even if the file was deleted while the output was still open.
+		IndexInput toIndexInput(String fileName, ByteBuffersDataOutput output) {
+			FileAllocation allocation = openOutputAllocations.remove( output );
+			if ( allocation != null ) {
+				fileLifecycleLock.lock();
+				try {
+					if ( fileExists.test( fileName ) ) {
+						fileAllocations.put( fileName, allocation );
+					}
+					else {
+						// The file was deleted before it was completely written:
+						// no one will ever delete it again, so release its memory now.
+						allocation.releaseAll();
+					}
+				}
+				finally {
+					fileLifecycleLock.unlock();
+				}
+			}
+			// Inputs must use the blocks directly: other implementations copy them to the heap.
+			return ByteBuffersDirectory.OUTPUT_AS_MANY_BUFFERS.apply( fileName, output );
+		}
+
+		void onDelete(String fileName) {
+			FileAllocation allocation = fileAllocations.remove( fileName );
+			if ( allocation != null ) {
+				allocation.releaseAll();
+			}
+		}
+
+		void onRename(String source, String dest) {
+			FileAllocation allocation = fileAllocations.remove( source );
+			if ( allocation != null ) {
+				fileAllocations.put( dest, allocation );
+			}
+		}
+
+		void onClose() {
+			fileAllocations.clear();
+			openOutputAllocations.clear();
+			usedBytes.set( 0L );
+		}
+
+		void reserve(int size) {
+			long used;
+			do {
+				used = usedBytes.get();
+				if ( used + size > maxSize ) {
+					throw log.offHeapDirectoryFull( size, maxSize, used, eventContext );
+				}
+			}
+			while ( !usedBytes.compareAndSet( used, used + size ) );
+		}
+
+		void release(long size) {
+			usedBytes.addAndGet( -size );
+		}
+	}
+
+	private static final class FileAllocation {
+		private final MemoryAccounting accounting;
+		private long allocatedBytes = 0L;
+
+		private FileAllocation(MemoryAccounting accounting) {
+			this.accounting = accounting;
+		}
+
+		synchronized ByteBuffer allocate(int size) {
+			accounting.reserve( size );
+			ByteBuffer block;
+			try {
+				block = ByteBuffer.allocateDirect( size );
+			}
+			catch (OutOfMemoryError e) {
+				accounting.release( size );
+				throw e;
+			}
+			allocatedBytes += size;
+			return block;
+		}
+
+		// Called when a block is discarded, e.g. when the output switches to larger blocks.
+		synchronized void release(ByteBuffer block) {
+			allocatedBytes -= block.capacity();
+			accounting.release( block.capacity() );
+		}
+
+		synchronized void releaseAll() {
+			accounting.release( allocatedBytes );
+			allocatedBytes = 0L;
+		}
+	}
+}
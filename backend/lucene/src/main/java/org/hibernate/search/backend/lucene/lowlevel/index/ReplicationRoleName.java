@@ -0,0 +1,59 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.index;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.engine.cfg.spi.ParseUtils;
+import org.hibernate.search.util.common.annotation.Incubating;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+@Incubating
+public enum ReplicationRoleName {
+
+	/**
+	 * No replication: the index is written to and read from locally.
+	 */
+	NONE( "none" ),
+	/**
+	 * The index is written to locally,
+	 * and each commit is published to the replication directory.
+	 */
+	PRIMARY( "primary" ),
+	/**
+	 * The index is never written to locally:
+	 * commits published to the replication directory by the primary are copied to the local index,
+	 * and search queries use the local index.
+	 */
+	REPLICA( "replica" );
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	// This method conforms to the MicroProfile Config specification. Do not change its signature.
+	public static ReplicationRoleName of(String value) {
+		return ParseUtils.parseDiscreteValues(
+				ReplicationRoleName.values(),
+				ReplicationRoleName::externalRepresentation,
+				log::invalidReplicationRoleName,
+				value
+		);
+	}
+
+	private final String externalRepresentation;
+
+	ReplicationRoleName(String externalRepresentation) {
+		this.externalRepresentation = externalRepresentation;
+	}
+
+	/**
+	 * @return The expected string representation in configuration properties.
+	 */
+	private String externalRepresentation() {
+		return externalRepresentation;
+	}
+}
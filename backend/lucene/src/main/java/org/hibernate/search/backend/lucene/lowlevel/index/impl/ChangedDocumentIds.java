@@ -0,0 +1,126 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.index.impl;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.PostingsEnum;
+import org.apache.lucene.index.SegmentReader;
+import org.apache.lucene.index.Terms;
+import org.apache.lucene.index.TermsEnum;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.util.Bits;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.FixedBitSet;
+
+/**
+ * Collects the identifiers of documents that changed between two commits of the same index:
+ * documents that were added, updated or deleted.
+ * <p>
+ * Segments are immutable apart from their deletions, so this only needs to look at
+ * segments that appeared or disappeared between the two commits,
+ * and at documents that were deleted from segments present in both commits.
+ * Segments that were merged are handled as changed: the result may include documents that did not actually change.
+ */
+final class ChangedDocumentIds {
+
+	private ChangedDocumentIds() {
+	}
+
+	/**
+	 * @param previous A reader on the previous commit.
+	 * @param current A reader on the current commit.
+	 * @param idFieldName The name of the field holding document identifiers,
+	 * on root documents as well as on their nested documents.
+	 * @return The identifiers of documents that changed between the two commits.
+	 * @throws IOException If reading the index fails.
+	 */
+	static Set<BytesRef> collect(DirectoryReader previous, DirectoryReader current, String idFieldName)
+			throws IOException {
+		Map<String, LeafReader> previousLeavesBySegmentName = new HashMap<>();
+		for ( LeafReaderContext leaf : previous.leaves() ) {
+			previousLeavesBySegmentName.put( segmentName( leaf ), leaf.reader() );
+		}
+
+		Set<BytesRef> ids = new HashSet<>();
+		for ( LeafReaderContext leaf : current.leaves() ) {
+			LeafReader currentLeaf = leaf.reader();
+			LeafReader previousLeaf = previousLeavesBySegmentName.remove( segmentName( leaf ) );
+			if ( previousLeaf == null ) {
+				// New segment: either new documents, or documents merged from previous segments.
+				collect( ids, currentLeaf, liveDocs( currentLeaf ), idFieldName );
+			}
+			else {
+				collect( ids, previousLeaf, deletedDocs( previousLeaf, currentLeaf ), idFieldName );
+			}
+		}
+		for ( LeafReader removedLeaf : previousLeavesBySegmentName.values() ) {
+			// Removed segment: its documents were either deleted or merged into a new segment.
+			collect( ids, removedLeaf, liveDocs( removedLeaf ), idFieldName );
+		}
+		return ids;
+	}
+
+	private static String segmentName(LeafReaderContext leaf) {
+		return ( (SegmentReader) leaf.reader() ).getSegmentName();
+	}
+
+	private static FixedBitSet liveDocs(LeafReader leaf) {
+		Bits liveDocs = leaf.getLiveDocs();
+		FixedBitSet result = new FixedBitSet( leaf.maxDoc() );
+		for ( int doc = 0; doc < leaf.maxDoc(); doc++ ) {
+			if ( liveDocs == null || liveDocs.get( doc ) ) {
+				result.set( doc );
+			}
+		}
+		return result;
+	}
+
+	private static FixedBitSet deletedDocs(LeafReader previousLeaf, LeafReader currentLeaf) {
+		Bits previousLiveDocs = previousLeaf.getLiveDocs();
+		Bits currentLiveDocs = currentLeaf.getLiveDocs();
+		FixedBitSet result = new FixedBitSet( previousLeaf.maxDoc() );
+		if ( currentLiveDocs == null ) {
+			return result;
+		}
+		for ( int doc = 0; doc < previousLeaf.maxDoc(); doc++ ) {
+			if ( ( previousLiveDocs == null || previousLiveDocs.get( doc ) ) && !currentLiveDocs.get( doc ) ) {
+				result.set( doc );
+			}
+		}
+		return result;
+	}
+
+	private static void collect(Set<BytesRef> ids, LeafReader leaf, FixedBitSet docs, String idFieldName)
+			throws IOException {
+		if ( docs.cardinality() == 0 ) {
+			return;
+		}
+		Terms terms = leaf.terms( idFieldName );
+		if ( terms == null ) {
+			return;
+		}
+		TermsEnum termsEnum = terms.iterator();
+		PostingsEnum postings = null;
+		for ( BytesRef term = termsEnum.next(); term != null; term = termsEnum.next() ) {
+			postings = termsEnum.postings( postings, PostingsEnum.NONE );
+			for ( int doc = postings.nextDoc(); doc != DocIdSetIterator.NO_MORE_DOCS; doc = postings.nextDoc() ) {
+				if ( docs.get( doc ) ) {
+					ids.add( BytesRef.deepCopyOf( term ) );
+					break;
+				}
+			}
+		}
+	}
+}
@@ -9,37 +9,45 @@
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderProvider;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.NotSharedIndexReaderProvider;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.SegmentWarmup;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterConfigSource;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterProvider;
 import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
+import org.hibernate.search.engine.common.metrics.spi.MetricsRegistry;
+import org.hibernate.search.engine.common.metrics.spi.MetricsTimer;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.util.common.reporting.EventContext;
 
 public class DebugIOStrategy extends IOStrategy {
 
-	public static DebugIOStrategy create(BackendThreads threads, FailureHandler failureHandler) {
-		return new DebugIOStrategy( threads, failureHandler );
+	public static DebugIOStrategy create(BackendThreads threads, FailureHandler failureHandler,
+			MetricsRegistry metricsRegistry) {
+		return new DebugIOStrategy( threads, failureHandler, metricsRegistry );
 	}
 
-	private DebugIOStrategy(BackendThreads threads, FailureHandler failureHandler) {
-		super( threads, failureHandler );
+	private DebugIOStrategy(BackendThreads threads, FailureHandler failureHandler, MetricsRegistry metricsRegistry) {
+		super( threads, failureHandler, metricsRegistry );
 	}
 
 	@Override
 	IndexWriterProvider createIndexWriterProvider(String indexName, EventContext eventContext,
-			DirectoryHolder directoryHolder, IndexWriterConfigSource configSource) {
+			DirectoryHolder directoryHolder, IndexWriterConfigSource configSource,
+			SegmentWarmup segmentWarmup, MetricsTimer commitTimer) {
+		// Merged segments are never warmed up with this strategy: readers are not shared.
 		return new IndexWriterProvider(
 				indexName, eventContext,
-				directoryHolder, configSource,
-				null, 0,
+				directoryHolder, configSource, null,
+				null, 0, 0,
 				threads,
-				failureHandler
+				failureHandler,
+				commitTimer
 		);
 	}
 
 	@Override
 	IndexReaderProvider createIndexReaderProvider(DirectoryHolder directoryHolder,
-			IndexWriterProvider indexWriterProvider) {
+			IndexWriterProvider indexWriterProvider, SegmentWarmup segmentWarmup, MetricsTimer refreshTimer) {
+		// Readers are never refreshed with this strategy: a new one is opened for every read.
 		return new NotSharedIndexReaderProvider( directoryHolder );
 	}
 
@@ -0,0 +1,78 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.index.impl;
+
+import java.io.IOException;
+
+import org.apache.lucene.index.CodecReader;
+import org.apache.lucene.index.FilterCodecReader;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.Scorer;
+import org.apache.lucene.search.Weight;
+import org.apache.lucene.util.Bits;
+import org.apache.lucene.util.FixedBitSet;
+
+/**
+ * A codec reader exposing only documents matching a query,
+ * for use with {@link org.apache.lucene.index.IndexWriter#addIndexes(CodecReader...)}:
+ * documents that do not match are handled as deleted documents, and thus are not copied.
+ */
+final class FilteredCodecReader extends FilterCodecReader {
+
+	static FilteredCodecReader filter(CodecReader reader, Query query) throws IOException {
+		Bits originalLiveDocs = reader.getLiveDocs();
+		FixedBitSet liveDocs = new FixedBitSet( reader.maxDoc() );
+
+		IndexSearcher searcher = new IndexSearcher( reader );
+		searcher.setQueryCache( null );
+		Weight weight = searcher.createWeight( searcher.rewrite( query ), ScoreMode.COMPLETE_NO_SCORES, 1.0f );
+		Scorer scorer = weight.scorer( reader.getContext() );
+		if ( scorer != null ) {
+			DocIdSetIterator iterator = scorer.iterator();
+			for ( int doc = iterator.nextDoc(); doc != DocIdSetIterator.NO_MORE_DOCS; doc = iterator.nextDoc() ) {
+				if ( originalLiveDocs == null || originalLiveDocs.get( doc ) ) {
+					liveDocs.set( doc );
+				}
+			}
+		}
+
+		return new FilteredCodecReader( reader, liveDocs );
+	}
+
+	private final FixedBitSet liveDocs;
+	private final int numDocs;
+
+	private FilteredCodecReader(CodecReader in, FixedBitSet liveDocs) {
+		super( in );
+		this.liveDocs = liveDocs;
+		this.numDocs = liveDocs.cardinality();
+	}
+
+	@Override
+	public Bits getLiveDocs() {
+		return liveDocs;
+	}
+
+	@Override
+	public int numDocs() {
+		return numDocs;
+	}
+
+	@Override
+	public CacheHelper getCoreCacheHelper() {
+		// Not cacheable: this reader is only used to copy documents.
+		return null;
+	}
+
+	@Override
+	public CacheHelper getReaderCacheHelper() {
+		return null;
+	}
+}
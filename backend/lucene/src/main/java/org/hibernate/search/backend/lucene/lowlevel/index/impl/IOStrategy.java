@@ -6,39 +6,88 @@
  */
 package org.hibernate.search.backend.lucene.lowlevel.index.impl;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderProvider;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.SegmentWarmup;
+import org.hibernate.search.backend.lucene.lowlevel.reader.spi.SegmentWarmer;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterConfigSource;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterProvider;
 import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
+import org.hibernate.search.engine.common.metrics.spi.MetricsGauge;
+import org.hibernate.search.engine.common.metrics.spi.MetricsRegistry;
+import org.hibernate.search.engine.common.metrics.spi.MetricsTags;
+import org.hibernate.search.engine.common.metrics.spi.MetricsTimer;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.util.common.impl.SuppressingCloser;
 import org.hibernate.search.util.common.reporting.EventContext;
 
 public abstract class IOStrategy {
 
+	/**
+	 * The name of the timer reporting the duration of commits to an index.
+	 */
+	public static final String METRIC_COMMIT = "hibernate.search.lucene.commit";
+	/**
+	 * The name of the timer reporting the duration of index reader refreshes.
+	 */
+	public static final String METRIC_REFRESH = "hibernate.search.lucene.refresh";
+	/**
+	 * The name of the timer reporting the duration of the warm-up of new index segments.
+	 */
+	public static final String METRIC_WARMUP = "hibernate.search.lucene.warmup";
+	/**
+	 * The name of the gauge reporting the number of operations applied to the index writer
+	 * since its last commit.
+	 */
+	public static final String METRIC_UNCOMMITTED_OPERATIONS = "hibernate.search.lucene.commit.pending";
+	/**
+	 * The name of the gauge reporting the refresh interval currently applied to index readers, in milliseconds,
+	 * when refresh intervals are adaptive.
+	 */
+	public static final String METRIC_REFRESH_INTERVAL = "hibernate.search.lucene.refresh.interval";
+	/**
+	 * The name of the gauge reporting the observed rate of index reader requests, in requests per second,
+	 * when refresh intervals are adaptive.
+	 */
+	public static final String METRIC_QUERY_RATE = "hibernate.search.lucene.query.rate";
+
 	final BackendThreads threads;
 	final FailureHandler failureHandler;
+	final MetricsRegistry metricsRegistry;
 
-	protected IOStrategy(BackendThreads threads, FailureHandler failureHandler) {
+	protected IOStrategy(BackendThreads threads, FailureHandler failureHandler, MetricsRegistry metricsRegistry) {
 		this.threads = threads;
 		this.failureHandler = failureHandler;
+		this.metricsRegistry = metricsRegistry;
 	}
 
 	public IndexAccessorImpl createIndexAccessor(String indexName, EventContext eventContext,
-			DirectoryHolder directoryHolder, IndexWriterConfigSource writerConfigSource) {
+			DirectoryHolder directoryHolder, IndexWriterConfigSource writerConfigSource,
+			List<SegmentWarmer> segmentWarmers, MetricsTags metricsTags) {
 		IndexWriterProvider indexWriterProvider = null;
 		IndexReaderProvider indexReaderProvider = null;
+		List<MetricsGauge> gauges = new ArrayList<>();
 		try {
-			indexWriterProvider = createIndexWriterProvider( indexName, eventContext, directoryHolder, writerConfigSource );
-			indexReaderProvider = createIndexReaderProvider( directoryHolder, indexWriterProvider );
+			SegmentWarmup segmentWarmup = segmentWarmers.isEmpty()
+					? null
+					: new SegmentWarmup( segmentWarmers, eventContext, metricsRegistry.timer( METRIC_WARMUP, metricsTags ) );
+			indexWriterProvider = createIndexWriterProvider( indexName, eventContext, directoryHolder, writerConfigSource,
+					segmentWarmup, metricsRegistry.timer( METRIC_COMMIT, metricsTags ) );
+			indexReaderProvider = createIndexReaderProvider( directoryHolder, indexWriterProvider,
+					segmentWarmup, metricsRegistry.timer( METRIC_REFRESH, metricsTags ) );
+			addGauges( indexWriterProvider, indexReaderProvider, metricsTags, gauges );
 			return new IndexAccessorImpl(
 					eventContext,
-					directoryHolder, indexWriterProvider, indexReaderProvider
+					directoryHolder, indexWriterProvider, indexReaderProvider,
+					gauges
 			);
 		}
 		catch (RuntimeException e) {
 			new SuppressingCloser( e )
+					.pushAll( gauges )
 					.push( IndexWriterProvider::clear, indexWriterProvider )
 					.push( IndexReaderProvider::clear, indexReaderProvider )
 					.push( directoryHolder );
@@ -46,10 +95,17 @@ public IndexAccessorImpl createIndexAccessor(String indexName, EventContext even
 		}
 	}
 
+	void addGauges(IndexWriterProvider indexWriterProvider, IndexReaderProvider indexReaderProvider,
+			MetricsTags metricsTags, List<MetricsGauge> gauges) {
+		gauges.add( metricsRegistry.gauge( METRIC_UNCOMMITTED_OPERATIONS, metricsTags,
+				indexWriterProvider, IndexWriterProvider::uncommittedOperationCount ) );
+	}
+
 	abstract IndexWriterProvider createIndexWriterProvider(String indexName, EventContext eventContext,
-			DirectoryHolder directoryHolder, IndexWriterConfigSource configSource);
+			DirectoryHolder directoryHolder, IndexWriterConfigSource configSource,
+			SegmentWarmup segmentWarmup, MetricsTimer commitTimer);
 
 	abstract IndexReaderProvider createIndexReaderProvider(DirectoryHolder directoryHolder,
-			IndexWriterProvider indexWriterProvider);
+			IndexWriterProvider indexWriterProvider, SegmentWarmup segmentWarmup, MetricsTimer refreshTimer);
 
 }
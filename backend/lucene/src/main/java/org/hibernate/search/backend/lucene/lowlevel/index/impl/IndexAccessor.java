@@ -7,6 +7,7 @@
 package org.hibernate.search.backend.lucene.lowlevel.index.impl;
 
 import java.io.IOException;
+import java.nio.file.Path;
 
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterDelegator;
 
@@ -77,8 +78,41 @@ public interface IndexAccessor {
 	 */
 	void cleanUpAfterFailure(Throwable throwable, Object failingOperation);
 
+	/**
+	 * Cleans up the accessor after a write failure that the caller will recover from,
+	 * e.g. by executing the failing operations again, one by one.
+	 * <p>
+	 * Lucene discards the effects of a failed call to the index writer without affecting previous operations,
+	 * so unless the failure was fatal to the index writer, this does nothing, and in particular reports nothing.
+	 * If the failure was fatal to the index writer, previous uncommitted operations were lost
+	 * and this behaves like {@link #cleanUpAfterFailure(Throwable, Object)}.
+	 *
+	 * @param throwable The failure.
+	 * @param failingOperation The operation that failed.
+	 */
+	void cleanUpAfterRecoverableFailure(Throwable throwable, Object failingOperation);
+
 	/**
 	 * @return The size of the index on its storage support, in bytes.
 	 */
 	long computeSizeInBytes();
+
+	/**
+	 * Copies the files of the last commit to the given directory,
+	 * while still allowing concurrent writes to the index.
+	 * <p>
+	 * Pending changes are committed first.
+	 *
+	 * @param targetDirectory The directory to copy files to. Must be empty or missing.
+	 */
+	void backup(Path targetDirectory);
+
+	/**
+	 * Replaces the content of the index with a backup created by {@link #backup(Path)}.
+	 * <p>
+	 * Like {@link #dropIndexIfExisting()}, this must not be called while other operations are executed on the index.
+	 *
+	 * @param sourceDirectory The directory containing the backup.
+	 */
+	void restore(Path sourceDirectory);
 }
@@ -9,25 +9,43 @@
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.lang.invoke.MethodHandles;
+import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.lowlevel.common.impl.AnalyzerConstants;
+import org.hibernate.search.backend.lucene.lowlevel.common.impl.MetadataFields;
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderProvider;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterDelegator;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterDelegatorImpl;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterProvider;
+import org.hibernate.search.engine.common.metrics.spi.MetricsGauge;
 import org.hibernate.search.util.common.impl.Closer;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 import org.hibernate.search.util.common.reporting.EventContext;
 
+import org.apache.lucene.index.CodecReader;
 import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexCommit;
 import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.SegmentInfos;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.TermInSetQuery;
 import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
 import org.apache.lucene.store.LockObtainFailedException;
 import org.apache.lucene.store.SleepingLockWrapper;
+import org.apache.lucene.util.BytesRef;
 
 /**
  * @author Sanne Grinovero (C) 2011 Red Hat Inc.
@@ -39,18 +57,28 @@ public class IndexAccessorImpl implements AutoCloseable, IndexAccessor {
 	private final DirectoryHolder directoryHolder;
 	private final IndexWriterProvider indexWriterProvider;
 	private final IndexReaderProvider indexReaderProvider;
+	private final List<MetricsGauge> gauges;
 
 	public IndexAccessorImpl(EventContext eventContext,
 			DirectoryHolder directoryHolder,
-			IndexWriterProvider indexWriterProvider, IndexReaderProvider indexReaderProvider) {
+			IndexWriterProvider indexWriterProvider, IndexReaderProvider indexReaderProvider,
+			List<MetricsGauge> gauges) {
 		this.eventContext = eventContext;
 		this.directoryHolder = directoryHolder;
 		this.indexWriterProvider = indexWriterProvider;
 		this.indexReaderProvider = indexReaderProvider;
+		this.gauges = gauges;
 	}
 
 	@Override
 	public void close() throws IOException {
+		try ( Closer<IOException> closer = new Closer<>() ) {
+			closer.pushAll( MetricsGauge::close, gauges );
+			closer.push( IndexAccessorImpl::clear, this );
+		}
+	}
+
+	private void clear() throws IOException {
 		try ( Closer<IOException> closer = new Closer<>() ) {
 			// Clear the reader first, as it may depend on the writer (see NearRealTimeIndexReaderProvider).
 			closer.push( IndexReaderProvider::clear, indexReaderProvider );
@@ -100,7 +128,7 @@ public void dropIndexIfExisting() {
 			// so that nobody will try to create new writers/readers concurrently;
 			// if that happens anyway, either this dropping of the index
 			// or the concurrent writes/reads will fail.
-			close();
+			clear();
 
 			Directory directory = directoryHolder.get();
 
@@ -116,8 +144,8 @@ public void dropIndexIfExisting() {
 			// Clear current writer/readers again, in case someone illegally
 			// tried to perform operations on the directory concurrently:
 			// that could result into writers/readers pointing to missing files.
-			// If nobody did anything illegal, this close() call is a noop.
-			close();
+			// If nobody did anything illegal, this clear() call is a noop.
+			clear();
 		}
 		catch (IOException | RuntimeException e) {
 			throw log.unableToDropIndexDirectory( e.getMessage(), eventContext, e );
@@ -180,6 +208,16 @@ public void cleanUpAfterFailure(Throwable throwable, Object failingOperation) {
 		}
 	}
 
+	@Override
+	public void cleanUpAfterRecoverableFailure(Throwable throwable, Object failingOperation) {
+		IndexWriterDelegatorImpl indexWriterDelegator = indexWriterProvider.getOrNull();
+		if ( indexWriterDelegator == null || indexWriterDelegator.isOpen() ) {
+			// The index writer is still usable: there is nothing to clean up.
+			return;
+		}
+		cleanUpAfterFailure( throwable, failingOperation );
+	}
+
 	@Override
 	public long computeSizeInBytes() {
 		long totalSize = 0L;
@@ -202,6 +240,176 @@ public long computeSizeInBytes() {
 		return totalSize;
 	}
 
+	@Override
+	public void backup(Path targetDirectory) {
+		try {
+			indexWriterProvider.getOrCreate().commit();
+			// Prevent the files of the last commit from being deleted while we copy them,
+			// even if new commits or merges happen concurrently.
+			IndexCommit commit = indexWriterProvider.snapshot();
+			try {
+				Files.createDirectories( targetDirectory );
+				try ( Directory target = FSDirectory.open( targetDirectory ) ) {
+					if ( target.listAll().length > 0 ) {
+						throw log.indexBackupTargetNotEmpty( targetDirectory );
+					}
+					IndexFileCopier.copy( directoryHolder.get(), target, commit.getFileNames() );
+				}
+			}
+			finally {
+				indexWriterProvider.releaseSnapshot( commit );
+			}
+		}
+		catch (IOException | RuntimeException e) {
+			throw log.unableToBackUpIndex( targetDirectory, e.getMessage(), eventContext, e );
+		}
+	}
+
+	@Override
+	public void restore(Path sourceDirectory) {
+		try ( Directory source = FSDirectory.open( sourceDirectory ) ) {
+			if ( !DirectoryReader.indexExists( source ) ) {
+				throw log.missingIndexBackup( sourceDirectory );
+			}
+			SegmentInfos segmentInfos = SegmentInfos.readLatestCommit( source );
+			// Excludes the segments file, which is written separately below.
+			Collection<String> fileNames = segmentInfos.files( false );
+			// Make sure the backup is complete and intact before touching the current index.
+			IndexFileCopier.checkIntegrity( source, segmentInfos.files( true ) );
+
+			// Clear current writer/readers so that they no longer hold on to the directory:
+			// see dropIndexIfExisting().
+			clear();
+
+			// The current index remains valid until the restored commit is written:
+			// files of the current index are left untouched, even those with the same name as a backup file
+			// but a different content, which can only happen if the index was re-created since the backup.
+			// Those are copied under a temporary name, so that a failure while copying doesn't affect the current index.
+			Directory directory = directoryHolder.get();
+			List<String> fileNamesToReplace = IndexFileCopier.copyChanged( source, directory, fileNames );
+			// Write the restored commit last, with a generation higher than that of any existing commit,
+			// so that it takes precedence over existing commits as soon as it's written.
+			// Like IndexFileCopier, this writes the segments file to a temporary file that is then renamed.
+			segmentInfos.setNextWriteGeneration( Math.max( segmentInfos.getGeneration(),
+					SegmentInfos.getLastCommitGeneration( directory ) ) );
+			segmentInfos.commit( directory );
+			// Only now that the restored commit is in place can we replace or remove the files of the previous index.
+			IndexFileCopier.replace( directory, fileNamesToReplace );
+			IndexFileCopier.deleteOthers( directory, new HashSet<>( segmentInfos.files( true ) ) );
+
+			clear();
+		}
+		catch (IOException | RuntimeException e) {
+			throw log.unableToRestoreIndex( sourceDirectory, e.getMessage(), eventContext, e );
+		}
+	}
+
+	/**
+	 * Copies documents matching the given query to another index, then commits that index.
+	 * <p>
+	 * Pending changes are committed first, so that they are copied, too.
+	 * Documents are copied segment by segment, without being re-analyzed.
+	 * <p>
+	 * Changes applied to this index while copying are not copied:
+	 * use {@link #copyDocumentChangesTo(IndexAccessorImpl, Query, IndexCommit)} to copy them afterwards.
+	 *
+	 * @param target The index to copy documents to.
+	 * @param query A query matching documents to copy.
+	 * Nested documents must match along with their root document.
+	 * @return A snapshot of the commit documents were copied from.
+	 * It must be {@link #releaseSnapshot(IndexCommit) released} once no longer needed.
+	 * @throws IOException If copying fails.
+	 */
+	public IndexCommit copyDocumentsTo(IndexAccessorImpl target, Query query) throws IOException {
+		indexWriterProvider.getOrCreate().commit();
+		IndexCommit commit = indexWriterProvider.snapshot();
+		try ( DirectoryReader reader = DirectoryReader.open( commit ) ) {
+			IndexWriterDelegatorImpl targetWriter = target.indexWriterProvider.getOrCreate();
+			targetWriter.addIndexes( filter( reader, query ) );
+			targetWriter.commit();
+		}
+		catch (IOException | RuntimeException e) {
+			indexWriterProvider.releaseSnapshot( commit );
+			throw e;
+		}
+		target.refresh();
+		return commit;
+	}
+
+	/**
+	 * Copies documents matching the given query that changed since a previous copy to another index,
+	 * then commits that index.
+	 * <p>
+	 * Pending changes are committed first, so that they are copied, too.
+	 * Documents that were added, updated or deleted since the previous copy
+	 * are deleted from the target index, then copied again if they still exist.
+	 *
+	 * @param target The index to copy documents to.
+	 * @param query A query matching documents to copy.
+	 * Nested documents must match along with their root document.
+	 * @param previousCommit The commit returned by {@link #copyDocumentsTo(IndexAccessorImpl, Query)}.
+	 * @throws IOException If copying fails.
+	 */
+	public void copyDocumentChangesTo(IndexAccessorImpl target, Query query, IndexCommit previousCommit)
+			throws IOException {
+		indexWriterProvider.getOrCreate().commit();
+		IndexCommit commit = indexWriterProvider.snapshot();
+		try ( DirectoryReader previousReader = DirectoryReader.open( previousCommit );
+				DirectoryReader reader = DirectoryReader.open( commit ) ) {
+			Set<BytesRef> changedIds = ChangedDocumentIds.collect( previousReader, reader,
+					MetadataFields.idFieldName() );
+			if ( changedIds.isEmpty() ) {
+				return;
+			}
+			Query changedDocumentsQuery = new TermInSetQuery( MetadataFields.idFieldName(), changedIds );
+			IndexWriterDelegatorImpl targetWriter = target.indexWriterProvider.getOrCreate();
+			targetWriter.deleteDocuments( changedDocumentsQuery );
+			targetWriter.addIndexes( filter( reader, new BooleanQuery.Builder()
+					.add( query, BooleanClause.Occur.FILTER )
+					.add( changedDocumentsQuery, BooleanClause.Occur.FILTER )
+					.build() ) );
+			targetWriter.commit();
+		}
+		finally {
+			indexWriterProvider.releaseSnapshot( commit );
+		}
+		target.refresh();
+	}
+
+	private static CodecReader[] filter(DirectoryReader reader, Query query) throws IOException {
+		List<LeafReaderContext> leaves = reader.leaves();
+		CodecReader[] filteredReaders = new CodecReader[leaves.size()];
+		for ( int i = 0; i < filteredReaders.length; i++ ) {
+			filteredReaders[i] = FilteredCodecReader.filter( (CodecReader) leaves.get( i ).reader(), query );
+		}
+		return filteredReaders;
+	}
+
+	/**
+	 * Deletes documents matching the given query, commits, and refreshes index readers.
+	 *
+	 * @param query A query matching documents to delete.
+	 * @throws IOException If deleting fails.
+	 */
+	public void deleteDocuments(Query query) throws IOException {
+		IndexWriterDelegatorImpl writer = indexWriterProvider.getOrCreate();
+		writer.deleteDocuments( query );
+		writer.commit();
+		refresh();
+	}
+
+	Directory directory() {
+		return directoryHolder.get();
+	}
+
+	IndexCommit snapshot() throws IOException {
+		return indexWriterProvider.snapshot();
+	}
+
+	public void releaseSnapshot(IndexCommit commit) throws IOException {
+		indexWriterProvider.releaseSnapshot( commit );
+	}
+
 	public Directory getDirectoryForTests() {
 		return directoryHolder.get();
 	}
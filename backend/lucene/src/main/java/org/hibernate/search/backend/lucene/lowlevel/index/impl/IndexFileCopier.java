@@ -0,0 +1,232 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.index.impl;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.lucene.codecs.CodecUtil;
+import org.apache.lucene.index.CorruptIndexException;
+import org.apache.lucene.index.IndexFileNames;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.store.FilterDirectory;
+import org.apache.lucene.store.IOContext;
+import org.apache.lucene.store.IndexInput;
+
+/**
+ * Copies index files from one directory to another.
+ * <p>
+ * When both directories are stored on the filesystem, files are copied with {@link FileChannel#transferTo},
+ * which lets the operating system copy data without going through the JVM heap.
+ * Otherwise, files are copied through Lucene's {@link Directory} API.
+ * <p>
+ * Segments files ({@code segments_N}) are copied last, to a temporary file that is then renamed,
+ * so that the target directory only looks like a valid index once all other files are there,
+ * even to concurrent readers.
+ */
+final class IndexFileCopier {
+
+	private static final String PENDING_PREFIX = "pending_";
+
+	private IndexFileCopier() {
+	}
+
+	static void copy(Directory source, Directory target, Collection<String> fileNames) throws IOException {
+		Path sourcePath = toPathOrNull( source );
+		Path targetPath = toPathOrNull( target );
+
+		List<String> orderedFileNames = new ArrayList<>( fileNames.size() );
+		List<String> segmentsFileNames = new ArrayList<>();
+		for ( String fileName : fileNames ) {
+			if ( fileName.startsWith( IndexFileNames.SEGMENTS ) ) {
+				segmentsFileNames.add( fileName );
+			}
+			else {
+				orderedFileNames.add( fileName );
+			}
+		}
+
+		for ( String fileName : orderedFileNames ) {
+			copy( source, sourcePath, target, targetPath, fileName, fileName );
+		}
+		target.sync( orderedFileNames );
+
+		for ( String fileName : segmentsFileNames ) {
+			String pendingFileName = PENDING_PREFIX + fileName;
+			deleteIfExists( target, pendingFileName );
+			copy( source, sourcePath, target, targetPath, fileName, pendingFileName );
+			target.sync( Collections.singleton( pendingFileName ) );
+			// Only happens with a different content for the same commit generation,
+			// i.e. if the index was dropped and re-created.
+			deleteIfExists( target, fileName );
+			target.rename( pendingFileName, fileName );
+		}
+		target.syncMetaData();
+	}
+
+	/**
+	 * Copies the given files, except those that already exist in the target directory with the same content.
+	 * <p>
+	 * Files are compared through their length and checksum:
+	 * Lucene never modifies index files once written, so this is enough to detect files that changed
+	 * because the index was dropped and re-created.
+	 * <p>
+	 * Files that exist in the target directory with a different content are still used by the index
+	 * currently in the target directory, so they are not replaced:
+	 * they are copied under a temporary name instead, and must be moved in place with {@link #replace(Directory, Collection)}
+	 * once the commit referencing them has been written.
+	 *
+	 * @return The names of files that were copied under a temporary name.
+	 */
+	static List<String> copyChanged(Directory source, Directory target, Collection<String> fileNames)
+			throws IOException {
+		Set<String> existingFileNames = new HashSet<>( Arrays.asList( target.listAll() ) );
+		List<String> fileNamesToCopy = new ArrayList<>();
+		List<String> fileNamesToReplace = new ArrayList<>();
+		for ( String fileName : fileNames ) {
+			if ( existingFileNames.contains( fileName ) ) {
+				if ( hasSameContent( source, target, fileName ) ) {
+					continue;
+				}
+				if ( !fileName.startsWith( IndexFileNames.SEGMENTS ) ) {
+					// Segments files are always copied under a temporary name then renamed: see copy().
+					fileNamesToReplace.add( fileName );
+					continue;
+				}
+			}
+			fileNamesToCopy.add( fileName );
+		}
+
+		Path sourcePath = toPathOrNull( source );
+		Path targetPath = toPathOrNull( target );
+		List<String> pendingFileNames = new ArrayList<>( fileNamesToReplace.size() );
+		for ( String fileName : fileNamesToReplace ) {
+			String pendingFileName = PENDING_PREFIX + fileName;
+			// Leftover from a previous, failed attempt.
+			deleteIfExists( target, pendingFileName );
+			copy( source, sourcePath, target, targetPath, fileName, pendingFileName );
+			pendingFileNames.add( pendingFileName );
+		}
+		target.sync( pendingFileNames );
+
+		copy( source, target, fileNamesToCopy );
+		return fileNamesToReplace;
+	}
+
+	/**
+	 * Moves files copied under a temporary name by {@link #copyChanged(Directory, Directory, Collection)} in place,
+	 * replacing existing files with the same name.
+	 * <p>
+	 * Until this completes, the commit referencing these files cannot be read,
+	 * so this should be called as soon as that commit was written.
+	 */
+	static void replace(Directory directory, Collection<String> fileNames) throws IOException {
+		if ( fileNames.isEmpty() ) {
+			return;
+		}
+		for ( String fileName : fileNames ) {
+			deleteIfExists( directory, fileName );
+			directory.rename( PENDING_PREFIX + fileName, fileName );
+		}
+		directory.syncMetaData();
+	}
+
+	/**
+	 * Checks that the given files exist and that their content matches their checksum.
+	 *
+	 * @throws IOException If a file is missing, truncated or corrupt.
+	 */
+	static void checkIntegrity(Directory directory, Collection<String> fileNames) throws IOException {
+		for ( String fileName : fileNames ) {
+			try ( IndexInput input = directory.openInput( fileName, IOContext.READONCE ) ) {
+				CodecUtil.checksumEntireFile( input );
+			}
+		}
+	}
+
+	/**
+	 * Deletes all files from the given directory except the given ones and the write lock,
+	 * ignoring failures, e.g. for files that are still open on platforms that do not allow deleting them.
+	 */
+	static void deleteOthers(Directory directory, Set<String> fileNamesToKeep) throws IOException {
+		for ( String fileName : directory.listAll() ) {
+			if ( fileNamesToKeep.contains( fileName ) || IndexWriter.WRITE_LOCK_NAME.equals( fileName ) ) {
+				continue;
+			}
+			try {
+				directory.deleteFile( fileName );
+			}
+			catch (IOException e) {
+				// Ignore: this will be attempted again next time.
+			}
+		}
+	}
+
+	private static boolean hasSameContent(Directory source, Directory target, String fileName) throws IOException {
+		if ( source.fileLength( fileName ) != target.fileLength( fileName ) ) {
+			return false;
+		}
+		try ( IndexInput sourceInput = source.openInput( fileName, IOContext.READONCE );
+				IndexInput targetInput = target.openInput( fileName, IOContext.READONCE ) ) {
+			return CodecUtil.retrieveChecksum( sourceInput ) == CodecUtil.retrieveChecksum( targetInput );
+		}
+		catch (CorruptIndexException e) {
+			// Probably a partially written file.
+			return false;
+		}
+	}
+
+	static void deleteIfExists(Directory directory, String fileName) throws IOException {
+		try {
+			directory.deleteFile( fileName );
+		}
+		catch (FileNotFoundException | NoSuchFileException e) {
+			// Nothing to do
+		}
+	}
+
+	private static void copy(Directory source, Path sourcePath, Directory target, Path targetPath,
+			String sourceFileName, String targetFileName)
+			throws IOException {
+		if ( sourcePath != null && targetPath != null ) {
+			transfer( sourcePath.resolve( sourceFileName ), targetPath.resolve( targetFileName ) );
+		}
+		else {
+			target.copyFrom( source, sourceFileName, targetFileName, IOContext.READONCE );
+		}
+	}
+
+	private static void transfer(Path source, Path target) throws IOException {
+		try ( FileChannel sourceChannel = FileChannel.open( source, StandardOpenOption.READ );
+				FileChannel targetChannel = FileChannel.open( target,
+						StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE ) ) {
+			long size = sourceChannel.size();
+			long position = 0L;
+			while ( position < size ) {
+				position += sourceChannel.transferTo( position, size - position, targetChannel );
+			}
+		}
+	}
+
+	private static Path toPathOrNull(Directory directory) {
+		Directory unwrapped = FilterDirectory.unwrap( directory );
+		return unwrapped instanceof FSDirectory ? ( (FSDirectory) unwrapped ).getDirectory() : null;
+	}
+}
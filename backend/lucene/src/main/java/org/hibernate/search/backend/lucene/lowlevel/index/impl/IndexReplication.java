@@ -0,0 +1,281 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.index.impl;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.lowlevel.index.ReplicationRoleName;
+import org.hibernate.search.engine.common.execution.spi.SimpleScheduledExecutor;
+import org.hibernate.search.engine.reporting.FailureContext;
+import org.hibernate.search.engine.reporting.FailureHandler;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+import org.hibernate.search.util.common.reporting.EventContext;
+
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexCommit;
+import org.apache.lucene.index.IndexFileNames;
+import org.apache.lucene.index.IndexNotFoundException;
+import org.apache.lucene.index.SegmentInfos;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+
+/**
+ * Periodically replicates an index through a replication directory shared between application instances.
+ * <p>
+ * On the primary, the last commit of the index writer is published to the replication directory:
+ * files that are not in the replication directory yet are copied, segments files last,
+ * then files that are no longer referenced by published commits that replicas may still be copying are deleted.
+ * <p>
+ * On replicas, the last commit published to the replication directory is copied to the local directory
+ * in the same way, then index readers are refreshed.
+ * Before copying a commit, each replica records the generation of that commit in a marker file
+ * of the replication directory, so that the primary keeps the files of that commit,
+ * and of any later commit, until the replica moves on to a more recent commit.
+ * Markers that were not updated for {@value #REPLICA_EXPIRATION_INTERVALS} replication intervals
+ * are considered to belong to replicas that no longer exist, and are ignored and deleted.
+ * <p>
+ * Since Lucene never modifies index files once written, only new files need to be copied.
+ * Files with the same name in both directories are compared through their checksum, which is cheap,
+ * to detect indexes that were dropped and re-created.
+ */
+public final class IndexReplication {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final String REPLICA_MARKER_PREFIX = "replica_";
+	static final int REPLICA_EXPIRATION_INTERVALS = 10;
+
+	private final ReplicationRoleName role;
+	private final Path replicationPath;
+	private final IndexAccessorImpl indexAccessor;
+	private final EventContext eventContext;
+	private final SimpleScheduledExecutor executor;
+	private final int interval;
+	private final FailureHandler failureHandler;
+
+	private Directory replicationDirectory;
+	private Future<?> nextReplication;
+	private boolean stopped = false;
+
+	private final String replicaMarkerName = REPLICA_MARKER_PREFIX + UUID.randomUUID();
+
+	private long lastGeneration = -1L;
+
+	public IndexReplication(ReplicationRoleName role, Path replicationPath, IndexAccessorImpl indexAccessor,
+			EventContext eventContext, SimpleScheduledExecutor executor, int interval,
+			FailureHandler failureHandler) {
+		this.role = role;
+		this.replicationPath = replicationPath;
+		this.indexAccessor = indexAccessor;
+		this.eventContext = eventContext;
+		this.executor = executor;
+		this.interval = interval;
+		this.failureHandler = failureHandler;
+	}
+
+	public synchronized void start() throws IOException {
+		Files.createDirectories( replicationPath );
+		replicationDirectory = FSDirectory.open( replicationPath );
+		scheduleNext();
+	}
+
+	public synchronized void stop() throws IOException {
+		stopped = true;
+		if ( nextReplication != null ) {
+			nextReplication.cancel( false );
+		}
+		if ( replicationDirectory != null ) {
+			if ( ReplicationRoleName.REPLICA.equals( role ) ) {
+				// This replica no longer needs any commit.
+				Files.deleteIfExists( replicationPath.resolve( replicaMarkerName ) );
+			}
+			replicationDirectory.close();
+		}
+	}
+
+	/**
+	 * Replicates the index immediately, in the calling thread.
+	 */
+	public synchronized void replicate() {
+		try {
+			if ( ReplicationRoleName.PRIMARY.equals( role ) ) {
+				publish();
+			}
+			else {
+				synchronize();
+			}
+		}
+		catch (IOException | RuntimeException e) {
+			throw log.unableToReplicateIndex( e.getMessage(), eventContext, e );
+		}
+	}
+
+	private synchronized void scheduleNext() {
+		if ( stopped ) {
+			return;
+		}
+		nextReplication = executor.schedule( this::run, interval, TimeUnit.MILLISECONDS );
+	}
+
+	private void run() {
+		try {
+			synchronized (this) {
+				if ( stopped ) {
+					return;
+				}
+				replicate();
+			}
+		}
+		catch (RuntimeException e) {
+			FailureContext.Builder failureContextBuilder = FailureContext.builder();
+			failureContextBuilder.throwable( e );
+			failureContextBuilder.failingOperation( "Index replication for " + eventContext.render() );
+			failureHandler.handle( failureContextBuilder.build() );
+		}
+		finally {
+			scheduleNext();
+		}
+	}
+
+	private void publish() throws IOException {
+		Directory localDirectory = indexAccessor.directory();
+		if ( !DirectoryReader.indexExists( localDirectory ) ) {
+			// Nothing to publish yet.
+			return;
+		}
+		IndexCommit commit = indexAccessor.snapshot();
+		try {
+			if ( commit.getGeneration() == lastGeneration ) {
+				return;
+			}
+			Collection<String> commitFiles = commit.getFileNames();
+			List<String> fileNamesToReplace =
+					IndexFileCopier.copyChanged( localDirectory, replicationDirectory, commitFiles );
+			IndexFileCopier.replace( replicationDirectory, fileNamesToReplace );
+
+			Set<String> filesToKeep = new HashSet<>( commitFiles );
+			// Always keep the previously published commit, which replicas may have started copying
+			// without having recorded it in their marker yet.
+			long oldestGenerationToKeep = Math.min( lastGeneration, commit.getGeneration() );
+			for ( Map.Entry<String, Long> marker : readLiveReplicaMarkers().entrySet() ) {
+				filesToKeep.add( marker.getKey() );
+				oldestGenerationToKeep = Math.min( oldestGenerationToKeep, marker.getValue() );
+			}
+			for ( String fileName : replicationDirectory.listAll() ) {
+				if ( isCommitToKeep( fileName, oldestGenerationToKeep ) ) {
+					try {
+						filesToKeep.addAll( SegmentInfos.readCommit( replicationDirectory, fileName ).files( true ) );
+					}
+					catch (IOException e) {
+						// Incomplete or corrupt commit: replicas cannot be copying it.
+					}
+				}
+			}
+			IndexFileCopier.deleteOthers( replicationDirectory, filesToKeep );
+
+			lastGeneration = commit.getGeneration();
+		}
+		finally {
+			indexAccessor.releaseSnapshot( commit );
+		}
+	}
+
+	private void synchronize() throws IOException {
+		SegmentInfos segmentInfos;
+		try {
+			segmentInfos = SegmentInfos.readLatestCommit( replicationDirectory );
+		}
+		catch (IndexNotFoundException e) {
+			// Nothing was published yet.
+			return;
+		}
+		// Tell the primary that this replica is about to copy this commit.
+		// Also done when there is nothing to copy, so that the primary knows this replica is still alive.
+		writeReplicaMarker( segmentInfos.getGeneration() );
+		if ( segmentInfos.getGeneration() == lastGeneration ) {
+			return;
+		}
+		// The primary may have published newer commits, and deleted this one,
+		// before it could see the marker: copy the latest commit, which the marker protects as well.
+		segmentInfos = SegmentInfos.readLatestCommit( replicationDirectory );
+		Directory localDirectory = indexAccessor.directory();
+		Collection<String> commitFiles = segmentInfos.files( true );
+		// Files of the current local index are only replaced once the replicated commit was written:
+		// until then, a failure leaves the local index as it was.
+		List<String> fileNamesToReplace =
+				IndexFileCopier.copyChanged( replicationDirectory, localDirectory, commitFiles );
+		IndexFileCopier.replace( localDirectory, fileNamesToReplace );
+		// Remove other commits in particular, so that index readers pick the replicated commit.
+		// Files still used by current index readers remain readable until these readers are closed,
+		// except on some platforms where deletion will fail and will be attempted again on the next replication.
+		IndexFileCopier.deleteOthers( localDirectory, new HashSet<>( commitFiles ) );
+
+		lastGeneration = segmentInfos.getGeneration();
+		indexAccessor.refresh();
+		// Open the refreshed index reader right away, so that new segments are warmed up on this thread
+		// instead of on the thread of the next search query.
+		indexAccessor.getIndexReader().decRef();
+	}
+
+	private void writeReplicaMarker(long generation) throws IOException {
+		Files.write( replicationPath.resolve( replicaMarkerName ),
+				Long.toString( generation ).getBytes( StandardCharsets.UTF_8 ) );
+	}
+
+	/**
+	 * @return The generation of the commit each live replica is copying or has copied, by replica marker file name.
+	 */
+	private Map<String, Long> readLiveReplicaMarkers() throws IOException {
+		Map<String, Long> markers = new HashMap<>();
+		long expirationMillis = System.currentTimeMillis() - (long) REPLICA_EXPIRATION_INTERVALS * interval;
+		for ( String fileName : replicationDirectory.listAll() ) {
+			if ( !fileName.startsWith( REPLICA_MARKER_PREFIX ) ) {
+				continue;
+			}
+			Path markerPath = replicationPath.resolve( fileName );
+			try {
+				if ( Files.getLastModifiedTime( markerPath ).toMillis() < expirationMillis ) {
+					// Stale marker: it will be deleted.
+					continue;
+				}
+				String content = new String( Files.readAllBytes( markerPath ), StandardCharsets.UTF_8 );
+				markers.put( fileName, Long.parseLong( content.trim() ) );
+			}
+			catch (IOException | NumberFormatException e) {
+				// Marker deleted or being written concurrently: keep it, but ignore its content this time.
+				markers.put( fileName, Long.MAX_VALUE );
+			}
+		}
+		return markers;
+	}
+
+	private static boolean isCommitToKeep(String fileName, long oldestGenerationToKeep) {
+		if ( !fileName.startsWith( IndexFileNames.SEGMENTS + "_" ) ) {
+			return false;
+		}
+		try {
+			return SegmentInfos.generationFromSegmentsFileName( fileName ) >= oldestGenerationToKeep;
+		}
+		catch (NumberFormatException e) {
+			return false;
+		}
+	}
+}
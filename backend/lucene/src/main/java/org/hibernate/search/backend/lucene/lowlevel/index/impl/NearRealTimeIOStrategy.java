@@ -6,15 +6,23 @@
  */
 package org.hibernate.search.backend.lucene.lowlevel.index.impl;
 
+import java.util.List;
+
 import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.AdaptiveRefreshInterval;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderProvider;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.NearRealTimeIndexReaderProvider;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.SegmentWarmup;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterConfigSource;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterProvider;
 import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
 import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+import org.hibernate.search.engine.common.metrics.spi.MetricsGauge;
+import org.hibernate.search.engine.common.metrics.spi.MetricsRegistry;
+import org.hibernate.search.engine.common.metrics.spi.MetricsTags;
+import org.hibernate.search.engine.common.metrics.spi.MetricsTimer;
 import org.hibernate.search.engine.common.timing.spi.TimingSource;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.util.common.reporting.EventContext;
@@ -33,50 +41,92 @@ public class NearRealTimeIOStrategy extends IOStrategy {
 					.withDefault( LuceneIndexSettings.Defaults.IO_REFRESH_INTERVAL )
 					.build();
 
+	private static final ConfigurationProperty<Boolean> ADAPTIVE_INTERVALS =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_ADAPTIVE_INTERVALS )
+					.asBoolean()
+					.withDefault( LuceneIndexSettings.Defaults.IO_ADAPTIVE_INTERVALS )
+					.build();
+
+	private static final ConfigurationProperty<Integer> COMMIT_MAX_PENDING_OPERATIONS =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_COMMIT_MAX_PENDING_OPERATIONS )
+					.asIntegerStrictlyPositive()
+					.withDefault( LuceneIndexSettings.Defaults.IO_COMMIT_MAX_PENDING_OPERATIONS )
+					.build();
+
 	public static NearRealTimeIOStrategy create(ConfigurationPropertySource propertySource,
-			TimingSource timingSource, BackendThreads threads, FailureHandler failureHandler) {
+			TimingSource timingSource, BackendThreads threads, FailureHandler failureHandler,
+			MetricsRegistry metricsRegistry) {
 		int commitInterval = COMMIT_INTERVAL.get( propertySource );
 		int refreshInterval = REFRESH_INTERVAL.get( propertySource );
+		boolean adaptiveIntervals = ADAPTIVE_INTERVALS.get( propertySource );
+		// 0 means commits are never triggered early.
+		int commitMaxPendingOperations = adaptiveIntervals ? COMMIT_MAX_PENDING_OPERATIONS.get( propertySource ) : 0;
 		return new NearRealTimeIOStrategy(
-				timingSource, commitInterval, refreshInterval,
-				threads, failureHandler
+				timingSource, commitInterval, commitMaxPendingOperations, refreshInterval, adaptiveIntervals,
+				threads, failureHandler, metricsRegistry
 		);
 	}
 
 	private final TimingSource timingSource;
 	private final int commitInterval;
+	private final int commitMaxPendingOperations;
 	private final int refreshInterval;
+	private final boolean adaptiveRefreshInterval;
 
-	private NearRealTimeIOStrategy(TimingSource timingSource, int commitInterval, int refreshInterval,
+	private NearRealTimeIOStrategy(TimingSource timingSource, int commitInterval, int commitMaxPendingOperations,
+			int refreshInterval, boolean adaptiveRefreshInterval,
 			BackendThreads threads,
-			FailureHandler failureHandler) {
-		super( threads, failureHandler );
+			FailureHandler failureHandler, MetricsRegistry metricsRegistry) {
+		super( threads, failureHandler, metricsRegistry );
 		this.timingSource = timingSource;
 		this.commitInterval = commitInterval;
+		this.commitMaxPendingOperations = commitMaxPendingOperations;
 		this.refreshInterval = refreshInterval;
+		// An adaptive interval is pointless if the upper bound is zero.
+		this.adaptiveRefreshInterval = adaptiveRefreshInterval && refreshInterval != 0;
 	}
 
 	@Override
 	IndexWriterProvider createIndexWriterProvider(String indexName, EventContext eventContext,
-			DirectoryHolder directoryHolder, IndexWriterConfigSource configSource) {
+			DirectoryHolder directoryHolder, IndexWriterConfigSource configSource,
+			SegmentWarmup segmentWarmup, MetricsTimer commitTimer) {
 		if ( commitInterval != 0 ) {
 			timingSource.ensureTimeEstimateIsInitialized();
 		}
 		return new IndexWriterProvider(
 				indexName, eventContext,
-				directoryHolder, configSource,
-				timingSource, commitInterval, threads,
-				failureHandler
+				directoryHolder, configSource, segmentWarmup,
+				timingSource, commitInterval, commitMaxPendingOperations, threads,
+				failureHandler, commitTimer
 		);
 	}
 
 	@Override
 	IndexReaderProvider createIndexReaderProvider(DirectoryHolder directoryHolder,
-			IndexWriterProvider indexWriterProvider) {
+			IndexWriterProvider indexWriterProvider, SegmentWarmup segmentWarmup, MetricsTimer refreshTimer) {
 		if ( refreshInterval != 0 ) {
 			timingSource.ensureTimeEstimateIsInitialized();
 		}
-		return new NearRealTimeIndexReaderProvider( indexWriterProvider, timingSource, refreshInterval );
+		return new NearRealTimeIndexReaderProvider( indexWriterProvider, timingSource, refreshInterval,
+				adaptiveRefreshInterval ? new AdaptiveRefreshInterval( timingSource, refreshInterval ) : null,
+				segmentWarmup,
+				// Warm up expired readers in the background, as long as queries are allowed to use expired readers.
+				segmentWarmup != null && refreshInterval != 0 ? threads.getRefreshExecutor() : null,
+				refreshTimer );
+	}
+
+	@Override
+	void addGauges(IndexWriterProvider indexWriterProvider, IndexReaderProvider indexReaderProvider,
+			MetricsTags metricsTags, List<MetricsGauge> gauges) {
+		super.addGauges( indexWriterProvider, indexReaderProvider, metricsTags, gauges );
+		AdaptiveRefreshInterval adaptiveInterval =
+				( (NearRealTimeIndexReaderProvider) indexReaderProvider ).adaptiveRefreshInterval();
+		if ( adaptiveInterval != null ) {
+			gauges.add( metricsRegistry.gauge( METRIC_REFRESH_INTERVAL, metricsTags,
+					adaptiveInterval, AdaptiveRefreshInterval::get ) );
+			gauges.add( metricsRegistry.gauge( METRIC_QUERY_RATE, metricsTags,
+					adaptiveInterval, AdaptiveRefreshInterval::queryRate ) );
+		}
 	}
 
 }
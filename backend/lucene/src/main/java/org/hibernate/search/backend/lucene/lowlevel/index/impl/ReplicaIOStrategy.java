@@ -0,0 +1,56 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.index.impl;
+
+import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.DirectoryIndexReaderProvider;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderProvider;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.SegmentWarmup;
+import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterConfigSource;
+import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterProvider;
+import org.hibernate.search.backend.lucene.lowlevel.writer.impl.ReplicaIndexWriterProvider;
+import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
+import org.hibernate.search.engine.common.metrics.spi.MetricsRegistry;
+import org.hibernate.search.engine.common.metrics.spi.MetricsTimer;
+import org.hibernate.search.engine.reporting.FailureHandler;
+import org.hibernate.search.util.common.reporting.EventContext;
+
+/**
+ * The strategy for replicas, where the index is never written to locally
+ * and index readers are refreshed after each {@link IndexReplication replication}.
+ */
+public class ReplicaIOStrategy extends IOStrategy {
+
+	public static ReplicaIOStrategy create(BackendThreads threads, FailureHandler failureHandler,
+			MetricsRegistry metricsRegistry) {
+		return new ReplicaIOStrategy( threads, failureHandler, metricsRegistry );
+	}
+
+	private ReplicaIOStrategy(BackendThreads threads, FailureHandler failureHandler, MetricsRegistry metricsRegistry) {
+		super( threads, failureHandler, metricsRegistry );
+	}
+
+	@Override
+	IndexWriterProvider createIndexWriterProvider(String indexName, EventContext eventContext,
+			DirectoryHolder directoryHolder, IndexWriterConfigSource configSource,
+			SegmentWarmup segmentWarmup, MetricsTimer commitTimer) {
+		return new ReplicaIndexWriterProvider(
+				indexName, eventContext,
+				directoryHolder, configSource,
+				threads,
+				failureHandler,
+				commitTimer
+		);
+	}
+
+	@Override
+	IndexReaderProvider createIndexReaderProvider(DirectoryHolder directoryHolder,
+			IndexWriterProvider indexWriterProvider, SegmentWarmup segmentWarmup, MetricsTimer refreshTimer) {
+		return new DirectoryIndexReaderProvider( directoryHolder, segmentWarmup, refreshTimer );
+	}
+
+}
@@ -0,0 +1,84 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.query.impl;
+
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.ConstantScoreScorer;
+import org.apache.lucene.search.ConstantScoreWeight;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.QueryVisitor;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.Scorer;
+import org.apache.lucene.search.Weight;
+
+/**
+ * A query matching all documents whose doc ID, relative to the top-level reader, is within a given range.
+ * <p>
+ * Only meaningful when executed against the exact same top-level reader used to compute the range,
+ * since the same segment may have a different doc base in a different top-level reader.
+ */
+public final class DocIdRangeQuery extends Query {
+	private final int minDocIdInclusive;
+	private final int maxDocIdExclusive;
+
+	public DocIdRangeQuery(int minDocIdInclusive, int maxDocIdExclusive) {
+		this.minDocIdInclusive = minDocIdInclusive;
+		this.maxDocIdExclusive = maxDocIdExclusive;
+	}
+
+	@Override
+	public String toString(String field) {
+		return getClass().getName() + "{[" + minDocIdInclusive + ", " + maxDocIdExclusive + ")}";
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if ( this == obj ) {
+			return true;
+		}
+		if ( obj == null || getClass() != obj.getClass() ) {
+			return false;
+		}
+		DocIdRangeQuery other = (DocIdRangeQuery) obj;
+		return minDocIdInclusive == other.minDocIdInclusive
+				&& maxDocIdExclusive == other.maxDocIdExclusive;
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * minDocIdInclusive + maxDocIdExclusive;
+	}
+
+	@Override
+	public Weight createWeight(IndexSearcher searcher, ScoreMode scoreMode, float boost) {
+		return new ConstantScoreWeight( this, 1.0f ) {
+			@Override
+			public Scorer scorer(LeafReaderContext context) {
+				int min = Math.max( minDocIdInclusive - context.docBase, 0 );
+				int max = Math.min( maxDocIdExclusive - context.docBase, context.reader().maxDoc() );
+				if ( min >= max ) {
+					return null; // Skip this leaf
+				}
+				return new ConstantScoreScorer( this, this.score(), scoreMode, DocIdSetIterator.range( min, max ) );
+			}
+
+			@Override
+			public boolean isCacheable(LeafReaderContext ctx) {
+				// The matching documents depend on the doc base of the leaf, not just on the leaf itself.
+				return false;
+			}
+		};
+	}
+
+	@Override
+	public void visit(QueryVisitor visitor) {
+		visitor.visitLeaf( this );
+	}
+
+}
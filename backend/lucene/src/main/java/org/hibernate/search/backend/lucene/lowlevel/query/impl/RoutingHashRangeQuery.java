@@ -0,0 +1,153 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.query.impl;
+
+import java.io.IOException;
+import java.util.Objects;
+
+import org.hibernate.search.backend.lucene.lowlevel.common.impl.MetadataFields;
+import org.hibernate.search.util.common.data.impl.HashFunction;
+
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.PostingsEnum;
+import org.apache.lucene.index.Terms;
+import org.apache.lucene.index.TermsEnum;
+import org.apache.lucene.search.ConstantScoreScorer;
+import org.apache.lucene.search.ConstantScoreWeight;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.QueryVisitor;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.Scorer;
+import org.apache.lucene.search.Weight;
+import org.apache.lucene.util.BitSetIterator;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.FixedBitSet;
+
+/**
+ * A query matching documents whose routing key hashes to a given range,
+ * or, for documents without a routing key, whose identifier hashes to that range.
+ * <p>
+ * This is the same key the range sharding strategy uses to pick a shard,
+ * so this query matches documents that belong to a given range of hashes, i.e. to a given shard.
+ * Nested documents bear the same routing key and identifier as their root document,
+ * so they are always matched along with their root document.
+ */
+public final class RoutingHashRangeQuery extends Query {
+
+	private final HashFunction hashFunction;
+	private final long lowerBound;
+	private final long upperBound;
+
+	/**
+	 * @param hashFunction The hash function to apply to routing keys and identifiers.
+	 * @param lowerBound The lower bound of the range of hashes, inclusive.
+	 * @param upperBound The upper bound of the range of hashes, exclusive.
+	 */
+	public RoutingHashRangeQuery(HashFunction hashFunction, long lowerBound, long upperBound) {
+		this.hashFunction = hashFunction;
+		this.lowerBound = lowerBound;
+		this.upperBound = upperBound;
+	}
+
+	@Override
+	public String toString(String field) {
+		return getClass().getName() + "{hashFunction=" + hashFunction
+				+ ", range=[" + lowerBound + ", " + upperBound + ")}";
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if ( this == obj ) {
+			return true;
+		}
+		if ( obj == null || getClass() != obj.getClass() ) {
+			return false;
+		}
+		RoutingHashRangeQuery other = (RoutingHashRangeQuery) obj;
+		return hashFunction.equals( other.hashFunction )
+				&& lowerBound == other.lowerBound
+				&& upperBound == other.upperBound;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash( hashFunction, lowerBound, upperBound );
+	}
+
+	@Override
+	public Weight createWeight(IndexSearcher searcher, ScoreMode scoreMode, float boost) {
+		return new ConstantScoreWeight( this, boost ) {
+			@Override
+			public Scorer scorer(LeafReaderContext context) throws IOException {
+				FixedBitSet matchingDocs = matchingDocs( context.reader() );
+				int cardinality = matchingDocs.cardinality();
+				if ( cardinality == 0 ) {
+					return null; // Skip this leaf
+				}
+				DocIdSetIterator iterator = new BitSetIterator( matchingDocs, cardinality );
+				return new ConstantScoreScorer( this, this.score(), scoreMode, iterator );
+			}
+
+			@Override
+			public boolean isCacheable(LeafReaderContext ctx) {
+				// This query is only used for rare, one-off operations: caching would only waste memory.
+				return false;
+			}
+		};
+	}
+
+	@Override
+	public void visit(QueryVisitor visitor) {
+		visitor.visitLeaf( this );
+	}
+
+	private FixedBitSet matchingDocs(LeafReader reader) throws IOException {
+		int maxDoc = reader.maxDoc();
+		FixedBitSet matchingDocs = new FixedBitSet( maxDoc );
+		FixedBitSet docsWithRoutingKey = new FixedBitSet( maxDoc );
+		collect( reader.terms( MetadataFields.routingKeyFieldName() ), null, docsWithRoutingKey, matchingDocs );
+		// Documents without a routing key are routed according to their identifier.
+		collect( reader.terms( MetadataFields.idFieldName() ), docsWithRoutingKey, null, matchingDocs );
+		return matchingDocs;
+	}
+
+	private void collect(Terms terms, FixedBitSet excludedDocs, FixedBitSet collectedDocs, FixedBitSet matchingDocs)
+			throws IOException {
+		if ( terms == null ) {
+			return;
+		}
+		TermsEnum termsEnum = terms.iterator();
+		PostingsEnum postings = null;
+		BytesRef term;
+		while ( ( term = termsEnum.next() ) != null ) {
+			boolean matches = isInRange( hashFunction.hash( term.utf8ToString() ) );
+			if ( !matches && collectedDocs == null ) {
+				// No need to iterate on postings
+				continue;
+			}
+			postings = termsEnum.postings( postings, PostingsEnum.NONE );
+			for ( int doc = postings.nextDoc(); doc != DocIdSetIterator.NO_MORE_DOCS; doc = postings.nextDoc() ) {
+				if ( excludedDocs != null && excludedDocs.get( doc ) ) {
+					continue;
+				}
+				if ( collectedDocs != null ) {
+					collectedDocs.set( doc );
+				}
+				if ( matches ) {
+					matchingDocs.set( doc );
+				}
+			}
+		}
+	}
+
+	private boolean isInRange(int hash) {
+		return lowerBound <= hash && hash < upperBound;
+	}
+}
@@ -0,0 +1,87 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.reader.impl;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.search.engine.common.timing.spi.TimingSource;
+
+/**
+ * A refresh interval that adapts to the observed query rate.
+ * <p>
+ * When queries are rare, refreshing the index reader on every change is cheap, so the interval is zero.
+ * As the query rate increases, the interval increases linearly up to the configured maximum,
+ * so that the cost of each refresh is amortized over more queries.
+ * <p>
+ * The query rate is measured over windows of {@link #QUERY_RATE_WINDOW} milliseconds.
+ * This class is thread-safe.
+ */
+public final class AdaptiveRefreshInterval {
+
+	static final long QUERY_RATE_WINDOW = 1000L;
+
+	/**
+	 * The query rate, in queries per second, from which the maximum refresh interval is used.
+	 */
+	static final double SATURATION_QUERY_RATE = 100.0;
+
+	private final TimingSource timingSource;
+	private final int maxRefreshInterval;
+
+	private final LongAdder queryCountInWindow = new LongAdder();
+	private volatile long windowStart;
+	private volatile double lastWindowQueryRate = 0.0;
+
+	/**
+	 * @param timingSource A timing source, whose time estimate must be initialized.
+	 * @param maxRefreshInterval The maximum refresh interval, in milliseconds.
+	 */
+	public AdaptiveRefreshInterval(TimingSource timingSource, int maxRefreshInterval) {
+		this.timingSource = timingSource;
+		this.maxRefreshInterval = maxRefreshInterval;
+		this.windowStart = timingSource.monotonicTimeEstimate();
+	}
+
+	void recordQuery() {
+		queryCountInWindow.increment();
+		long now = timingSource.monotonicTimeEstimate();
+		if ( now - windowStart < QUERY_RATE_WINDOW ) {
+			return;
+		}
+		synchronized (this) {
+			long elapsed = now - windowStart;
+			if ( elapsed >= QUERY_RATE_WINDOW ) {
+				lastWindowQueryRate = queryCountInWindow.sumThenReset() * 1000.0 / elapsed;
+				windowStart = now;
+			}
+		}
+	}
+
+	/**
+	 * @return The observed query rate, in queries per second.
+	 */
+	public double queryRate() {
+		long elapsed = timingSource.monotonicTimeEstimate() - windowStart;
+		if ( elapsed >= 2 * QUERY_RATE_WINDOW ) {
+			// No query ended the current window for a while: the rate dropped.
+			return queryCountInWindow.sum() * 1000.0 / elapsed;
+		}
+		return lastWindowQueryRate;
+	}
+
+	/**
+	 * @return The refresh interval to apply to the next index reader, in milliseconds.
+	 */
+	public int get() {
+		double queryRate = queryRate();
+		if ( queryRate >= SATURATION_QUERY_RATE ) {
+			return maxRefreshInterval;
+		}
+		return (int) ( maxRefreshInterval * queryRate / SATURATION_QUERY_RATE );
+	}
+
+}
@@ -0,0 +1,114 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.reader.impl;
+
+import java.io.IOException;
+
+import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
+import org.hibernate.search.engine.common.metrics.spi.MetricsTimer;
+
+import org.apache.lucene.index.DirectoryReader;
+
+/**
+ * An index reader holder that opens an index reader from the directory,
+ * for indexes that are not written to by an index writer in this JVM.
+ * <p>
+ * The index reader is instantiated once and shared among all threads,
+ * until {@link #refresh()} is called to signal that the directory changed.
+ */
+public class DirectoryIndexReaderProvider implements IndexReaderProvider {
+
+	private final DirectoryHolder directoryHolder;
+	private final SegmentWarmup segmentWarmup;
+	private final MetricsTimer refreshTimer;
+
+	/**
+	 * Current open IndexReader, or null when closed.
+	 */
+	private volatile DirectoryReader currentReader = null;
+
+	private volatile boolean refreshRequested = false;
+
+	public DirectoryIndexReaderProvider(DirectoryHolder directoryHolder, SegmentWarmup segmentWarmup,
+			MetricsTimer refreshTimer) {
+		this.directoryHolder = directoryHolder;
+		this.segmentWarmup = segmentWarmup;
+		this.refreshTimer = refreshTimer;
+	}
+
+	@Override
+	public synchronized void clear() throws IOException {
+		setCurrentReader( null );
+	}
+
+	@Override
+	public void refresh() {
+		refreshRequested = true;
+	}
+
+	@Override
+	public DirectoryReader getOrCreate() throws IOException {
+		DirectoryReader reader = currentReader;
+
+		// Optimistic locking and checks to avoid synchronization
+		if ( reader != null && !refreshRequested && reader.tryIncRef() ) {
+			return reader;
+		}
+
+		return getFreshIndexReader();
+	}
+
+	private synchronized DirectoryReader getFreshIndexReader() throws IOException {
+		DirectoryReader oldReader = currentReader;
+		DirectoryReader freshReader;
+		if ( oldReader == null ) {
+			refreshRequested = false;
+			freshReader = DirectoryReader.open( directoryHolder.get() );
+			warmUp( freshReader );
+		}
+		else {
+			// Reset the flag *before* refreshing, so that later refresh requests are not lost.
+			refreshRequested = false;
+			long start = System.nanoTime();
+			DirectoryReader newReaderOrNull = DirectoryReader.openIfChanged( oldReader );
+			refreshTimer.recordSince( start );
+			if ( newReaderOrNull == null ) {
+				// No change, keep the old reader
+				freshReader = oldReader;
+			}
+			else {
+				warmUp( newReaderOrNull );
+				freshReader = newReaderOrNull;
+			}
+		}
+
+		if ( oldReader != freshReader ) {
+			setCurrentReader( freshReader );
+		}
+
+		// At this point the reference count is at least one, for the holder.
+		// Let's also increment the reference for the caller.
+		freshReader.incRef();
+
+		return freshReader;
+	}
+
+	private void warmUp(DirectoryReader newReader) {
+		if ( segmentWarmup != null ) {
+			segmentWarmup.warmNewSegments( newReader );
+		}
+	}
+
+	private synchronized void setCurrentReader(DirectoryReader newReader) throws IOException {
+		DirectoryReader oldReader = currentReader;
+		currentReader = newReader;
+		if ( oldReader != null ) {
+			// Make sure to close the old reader as soon as no user thread is using it.
+			oldReader.decRef();
+		}
+	}
+}
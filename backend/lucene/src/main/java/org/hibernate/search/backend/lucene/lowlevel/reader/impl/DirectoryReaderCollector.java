@@ -6,10 +6,19 @@
  */
 package org.hibernate.search.backend.lucene.lowlevel.reader.impl;
 
+import java.io.IOException;
+
 import org.apache.lucene.index.DirectoryReader;
 
 public interface DirectoryReaderCollector {
 
-	void collect(String mappedTypeName, DirectoryReader directoryReader);
+	/**
+	 * @param mappedTypeName The name of the mapped type indexed in the given reader.
+	 * @param directoryReader The reader of a shard. The collector takes ownership of the reader.
+	 * @param statistics Statistics for the given reader, allowing to skip it if it cannot match.
+	 * @throws IOException If statistics cannot be computed.
+	 */
+	void collect(String mappedTypeName, DirectoryReader directoryReader, IndexReaderStatistics statistics)
+			throws IOException;
 
 }
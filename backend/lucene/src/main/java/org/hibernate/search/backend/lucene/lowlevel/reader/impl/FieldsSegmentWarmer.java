@@ -0,0 +1,131 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.reader.impl;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.hibernate.search.backend.lucene.lowlevel.reader.spi.SegmentWarmer;
+
+import org.apache.lucene.index.BinaryDocValues;
+import org.apache.lucene.index.FieldInfo;
+import org.apache.lucene.index.IndexOptions;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.NumericDocValues;
+import org.apache.lucene.index.SortedDocValues;
+import org.apache.lucene.index.SortedNumericDocValues;
+import org.apache.lucene.index.SortedSetDocValues;
+import org.apache.lucene.index.Terms;
+import org.apache.lucene.search.DocIdSetIterator;
+
+/**
+ * A segment warmer loading the data structures of a given list of fields:
+ * terms dictionaries, norms, and doc values (used for sorts, aggregations and projections).
+ */
+public final class FieldsSegmentWarmer implements SegmentWarmer {
+
+	private final List<String> fieldNames;
+
+	public FieldsSegmentWarmer(List<String> fieldNames) {
+		this.fieldNames = fieldNames;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[" + "fieldNames=" + fieldNames + "]";
+	}
+
+	@Override
+	public void warm(LeafReader reader) throws IOException {
+		for ( String fieldName : fieldNames ) {
+			FieldInfo fieldInfo = reader.getFieldInfos().fieldInfo( fieldName );
+			if ( fieldInfo == null ) {
+				// This field doesn't have any value in this segment.
+				continue;
+			}
+			if ( fieldInfo.getIndexOptions() != IndexOptions.NONE ) {
+				Terms terms = reader.terms( fieldName );
+				if ( terms != null ) {
+					terms.iterator().next();
+				}
+			}
+			if ( fieldInfo.hasNorms() ) {
+				warmNumeric( reader.getNormValues( fieldName ) );
+			}
+			switch ( fieldInfo.getDocValuesType() ) {
+				case NUMERIC:
+					warmNumeric( reader.getNumericDocValues( fieldName ) );
+					break;
+				case BINARY:
+					warmBinary( reader.getBinaryDocValues( fieldName ) );
+					break;
+				case SORTED:
+					warmSorted( reader.getSortedDocValues( fieldName ) );
+					break;
+				case SORTED_NUMERIC:
+					warmSortedNumeric( reader.getSortedNumericDocValues( fieldName ) );
+					break;
+				case SORTED_SET:
+					warmSortedSet( reader.getSortedSetDocValues( fieldName ) );
+					break;
+				case NONE:
+				default:
+					break;
+			}
+		}
+	}
+
+	private static void warmNumeric(NumericDocValues values) throws IOException {
+		if ( values == null ) {
+			return;
+		}
+		while ( values.nextDoc() != DocIdSetIterator.NO_MORE_DOCS ) {
+			values.longValue();
+		}
+	}
+
+	private static void warmBinary(BinaryDocValues values) throws IOException {
+		if ( values == null ) {
+			return;
+		}
+		while ( values.nextDoc() != DocIdSetIterator.NO_MORE_DOCS ) {
+			values.binaryValue();
+		}
+	}
+
+	private static void warmSorted(SortedDocValues values) throws IOException {
+		if ( values == null ) {
+			return;
+		}
+		while ( values.nextDoc() != DocIdSetIterator.NO_MORE_DOCS ) {
+			values.ordValue();
+		}
+	}
+
+	private static void warmSortedNumeric(SortedNumericDocValues values) throws IOException {
+		if ( values == null ) {
+			return;
+		}
+		while ( values.nextDoc() != DocIdSetIterator.NO_MORE_DOCS ) {
+			for ( int i = 0; i < values.docValueCount(); i++ ) {
+				values.nextValue();
+			}
+		}
+	}
+
+	private static void warmSortedSet(SortedSetDocValues values) throws IOException {
+		if ( values == null ) {
+			return;
+		}
+		while ( values.nextDoc() != DocIdSetIterator.NO_MORE_DOCS ) {
+			for ( int i = 0; i < values.docValueCount(); i++ ) {
+				values.nextOrd();
+			}
+		}
+	}
+
+}
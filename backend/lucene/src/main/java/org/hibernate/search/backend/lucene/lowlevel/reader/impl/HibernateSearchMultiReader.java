@@ -41,11 +41,17 @@ public class HibernateSearchMultiReader extends MultiReader {
 
 	public static HibernateSearchMultiReader open(Set<String> indexNames,
 			Collection<? extends ReadIndexManagerContext> indexManagerContexts, Set<String> routingKeys) {
+		return open( indexNames, indexManagerContexts, routingKeys, ShardPruning.none() );
+	}
+
+	public static HibernateSearchMultiReader open(Set<String> indexNames,
+			Collection<? extends ReadIndexManagerContext> indexManagerContexts, Set<String> routingKeys,
+			ShardPruning shardPruning) {
 		if ( indexManagerContexts.isEmpty() ) {
 			return null;
 		}
 		else {
-			Builder builder = new Builder();
+			Builder builder = new Builder( shardPruning );
 			try {
 				for ( ReadIndexManagerContext indexManagerContext : indexManagerContexts ) {
 					indexManagerContext.openIndexReaders( routingKeys, builder );
@@ -101,15 +107,28 @@ private static IndexReader[] toReaderArray(List<DirectoryReader> directoryReader
 	}
 
 	public static class Builder implements DirectoryReaderCollector {
+		private final ShardPruning shardPruning;
 		private final List<DirectoryReader> directoryReaders = new ArrayList<>();
 		private final Map<DirectoryReader, String> mappedTypeNameByDirectoryReader = new HashMap<>();
 
-		private Builder() {
+		private Builder(ShardPruning shardPruning) {
+			this.shardPruning = shardPruning;
 		}
 
 		@Override
-		public void collect(String mappedTypeName, DirectoryReader directoryReader) {
+		public void collect(String mappedTypeName, DirectoryReader directoryReader, IndexReaderStatistics statistics)
+				throws IOException {
+			// Register the reader first, so that it gets released even if pruning fails.
 			directoryReaders.add( directoryReader );
+			if ( !shardPruning.mayMatch( directoryReader, statistics ) ) {
+				// The shard cannot contain any match: don't search it at all.
+				directoryReaders.remove( directoryReaders.size() - 1 );
+				directoryReader.decRef();
+				if ( log.isTraceEnabled() ) {
+					log.tracef( "Skipping index reader %s: it cannot match %s", directoryReader, shardPruning );
+				}
+				return;
+			}
 			mappedTypeNameByDirectoryReader.put( directoryReader, mappedTypeName );
 		}
 
@@ -0,0 +1,176 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.reader.impl;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.PointValues;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.util.ArrayUtil;
+
+/**
+ * Statistics about the content of a given generation of an index reader,
+ * used to skip index readers that cannot possibly match a query.
+ * <p>
+ * Statistics are computed lazily, for each field that is actually needed, and then cached.
+ * They are computed from index structures that are already loaded in memory
+ * (point trees, field infos and term dictionaries), without reading any document,
+ * so they are cheap to compute.
+ * <p>
+ * Statistics include deleted documents: they are only ever used to prove that a reader
+ * <strong>cannot</strong> match, never that it does.
+ */
+public final class IndexReaderStatistics {
+
+	private final IndexReader.CacheKey readerKey;
+	private final Map<String, Optional<PointStatistics>> pointStatistics = new ConcurrentHashMap<>();
+	private final Map<String, Boolean> fieldPresence = new ConcurrentHashMap<>();
+	private final Map<Term, Boolean> termPresence = new ConcurrentHashMap<>();
+
+	public IndexReaderStatistics(IndexReader reader) {
+		// We only keep the key of the reader: keeping the reader itself would prevent it from being garbage-collected.
+		IndexReader.CacheHelper cacheHelper = reader.getReaderCacheHelper();
+		this.readerKey = cacheHelper == null ? null : cacheHelper.getKey();
+	}
+
+	/**
+	 * @param reader An index reader.
+	 * @return {@code true} if these statistics were computed for the same generation of the given reader,
+	 * {@code false} otherwise.
+	 */
+	public boolean isFor(IndexReader reader) {
+		IndexReader.CacheHelper cacheHelper = reader.getReaderCacheHelper();
+		return readerKey != null && cacheHelper != null && readerKey == cacheHelper.getKey();
+	}
+
+	/**
+	 * @param reader The index reader these statistics were created for.
+	 * @param field The name of a field.
+	 * @return The minimum and maximum point values of the given field across all segments,
+	 * or an empty optional if no segment has point values for that field.
+	 * @throws IOException If point values cannot be read.
+	 */
+	Optional<PointStatistics> points(IndexReader reader, String field) throws IOException {
+		Optional<PointStatistics> result = pointStatistics.get( field );
+		if ( result == null ) {
+			result = Optional.ofNullable( PointStatistics.compute( reader, field ) );
+			pointStatistics.put( field, result );
+		}
+		return result;
+	}
+
+	/**
+	 * @param reader The index reader these statistics were created for.
+	 * @param field The name of a field.
+	 * @return {@code true} if at least one segment has data (doc values, norms, points, ...) for the given field.
+	 */
+	boolean hasField(IndexReader reader, String field) {
+		return fieldPresence.computeIfAbsent( field, ignored -> {
+			for ( LeafReaderContext leaf : reader.leaves() ) {
+				if ( leaf.reader().getFieldInfos().fieldInfo( field ) != null ) {
+					return true;
+				}
+			}
+			return false;
+		} );
+	}
+
+	/**
+	 * @param reader The index reader these statistics were created for.
+	 * @param term A term.
+	 * @return {@code true} if at least one document contains the given term.
+	 * @throws IOException If the term dictionary cannot be read.
+	 */
+	boolean hasTerm(IndexReader reader, Term term) throws IOException {
+		Boolean result = termPresence.get( term );
+		if ( result == null ) {
+			result = reader.docFreq( term ) > 0;
+			termPresence.put( term, result );
+		}
+		return result;
+	}
+
+	static final class PointStatistics {
+
+		// Statistics for inconsistently indexed fields: they never allow to skip a reader.
+		private static final PointStatistics INCONSISTENT = new PointStatistics( -1, -1, null, null );
+
+		static PointStatistics compute(IndexReader reader, String field) throws IOException {
+			PointStatistics result = null;
+			for ( LeafReaderContext leaf : reader.leaves() ) {
+				PointValues values = leaf.reader().getPointValues( field );
+				if ( values == null ) {
+					continue;
+				}
+				PointStatistics leafStatistics = new PointStatistics( values.getNumIndexDimensions(),
+						values.getBytesPerDimension(), values.getMinPackedValue(), values.getMaxPackedValue() );
+				result = result == null ? leafStatistics : result.merge( leafStatistics );
+			}
+			return result;
+		}
+
+		private final int numDims;
+		private final int bytesPerDim;
+		private final byte[] minPackedValue;
+		private final byte[] maxPackedValue;
+
+		private PointStatistics(int numDims, int bytesPerDim, byte[] minPackedValue, byte[] maxPackedValue) {
+			this.numDims = numDims;
+			this.bytesPerDim = bytesPerDim;
+			this.minPackedValue = minPackedValue;
+			this.maxPackedValue = maxPackedValue;
+		}
+
+		/**
+		 * @param numDims The number of dimensions of the given points.
+		 * @param bytesPerDim The number of bytes per dimension of the given points.
+		 * @param lowerPoint The lower bound of a range, inclusive, packed.
+		 * @param upperPoint The upper bound of a range, inclusive, packed.
+		 * @return {@code true} if values of this field may be in the given range,
+		 * {@code false} if they definitely are not.
+		 */
+		boolean mayIntersect(int numDims, int bytesPerDim, byte[] lowerPoint, byte[] upperPoint) {
+			if ( this.numDims != numDims || this.bytesPerDim != bytesPerDim ) {
+				// Inconsistent indexing: let the query handle (or report) it.
+				return true;
+			}
+			ArrayUtil.ByteArrayComparator comparator = ArrayUtil.getUnsignedComparator( bytesPerDim );
+			for ( int dim = 0; dim < numDims; dim++ ) {
+				int offset = dim * bytesPerDim;
+				if ( comparator.compare( minPackedValue, offset, upperPoint, offset ) > 0
+						|| comparator.compare( maxPackedValue, offset, lowerPoint, offset ) < 0 ) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		private PointStatistics merge(PointStatistics other) {
+			if ( numDims != other.numDims || bytesPerDim != other.bytesPerDim ) {
+				return INCONSISTENT;
+			}
+			ArrayUtil.ByteArrayComparator comparator = ArrayUtil.getUnsignedComparator( bytesPerDim );
+			byte[] mergedMin = minPackedValue.clone();
+			byte[] mergedMax = maxPackedValue.clone();
+			for ( int dim = 0; dim < numDims; dim++ ) {
+				int offset = dim * bytesPerDim;
+				if ( comparator.compare( other.minPackedValue, offset, mergedMin, offset ) < 0 ) {
+					System.arraycopy( other.minPackedValue, offset, mergedMin, offset, bytesPerDim );
+				}
+				if ( comparator.compare( other.maxPackedValue, offset, mergedMax, offset ) > 0 ) {
+					System.arraycopy( other.maxPackedValue, offset, mergedMax, offset, bytesPerDim );
+				}
+			}
+			return new PointStatistics( numDims, bytesPerDim, mergedMin, mergedMax );
+		}
+	}
+}
@@ -7,8 +7,12 @@
 package org.hibernate.search.backend.lucene.lowlevel.reader.impl;
 
 import java.io.IOException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterProvider;
+import org.hibernate.search.engine.common.metrics.spi.MetricsTimer;
 import org.hibernate.search.engine.common.timing.spi.TimingSource;
 
 import org.apache.lucene.index.DirectoryReader;
@@ -22,6 +26,18 @@
  * i.e. as long as there were no changes
  * from the directory every time an index reader is requested.
  * <p>
+ * When an {@link AdaptiveRefreshInterval} is provided,
+ * the refresh interval of each new index reader is chosen according to the observed query rate,
+ * and the configured refresh interval is only an upper bound.
+ * <p>
+ * When a {@link SegmentWarmup} is provided, new segments of each new index reader are warmed up
+ * before the index reader is published: threads that do not trigger the refresh
+ * never use an index reader whose new segments are cold.
+ * When a refresh executor is provided as well, index readers that merely expired
+ * are refreshed and warmed up in the background,
+ * and queries keep using the previous index reader until the new one is warm.
+ * Refreshes that were {@link #refresh() forced} are still executed synchronously.
+ * <p>
  * Heavily inspired by {@code org.hibernate.search.backend.impl.lucene.NRTWorkspaceImpl} from Hibernate Search 5
  * by Sanne Grinovero.
  */
@@ -30,6 +46,12 @@ public class NearRealTimeIndexReaderProvider implements IndexReaderProvider {
 	private final IndexWriterProvider indexWriterProvider;
 	private final TimingSource timingSource;
 	private final int refreshInterval;
+	private final AdaptiveRefreshInterval adaptiveRefreshInterval;
+	private final SegmentWarmup segmentWarmup;
+	private final Executor refreshExecutor;
+	private final MetricsTimer refreshTimer;
+
+	private final AtomicBoolean backgroundRefreshInProgress = new AtomicBoolean( false );
 
 	/**
 	 * Current open IndexReader, or null when closed.
@@ -37,10 +59,22 @@ public class NearRealTimeIndexReaderProvider implements IndexReaderProvider {
 	private volatile IndexReaderEntry currentReaderEntry = null;
 
 	public NearRealTimeIndexReaderProvider(IndexWriterProvider indexWriterProvider,
-			TimingSource timingSource, int refreshInterval) {
+			TimingSource timingSource, int refreshInterval, AdaptiveRefreshInterval adaptiveRefreshInterval,
+			SegmentWarmup segmentWarmup, Executor refreshExecutor, MetricsTimer refreshTimer) {
 		this.indexWriterProvider = indexWriterProvider;
 		this.timingSource = timingSource;
 		this.refreshInterval = refreshInterval;
+		this.adaptiveRefreshInterval = adaptiveRefreshInterval;
+		this.segmentWarmup = segmentWarmup;
+		this.refreshExecutor = refreshExecutor;
+		this.refreshTimer = refreshTimer;
+	}
+
+	/**
+	 * @return The adaptive refresh interval, or {@code null} if the refresh interval is fixed.
+	 */
+	public AdaptiveRefreshInterval adaptiveRefreshInterval() {
+		return adaptiveRefreshInterval;
 	}
 
 	@Override
@@ -61,6 +95,10 @@ public void refresh() {
 
 	@Override
 	public DirectoryReader getOrCreate() throws IOException {
+		if ( adaptiveRefreshInterval != null ) {
+			adaptiveRefreshInterval.recordQuery();
+		}
+
 		IndexReaderEntry entry = currentReaderEntry;
 
 		// Optimistic locking and checks to avoid synchronization
@@ -70,6 +108,11 @@ public DirectoryReader getOrCreate() throws IOException {
 			if ( entry.isFresh() ) {
 				return entry.reader;
 			}
+			else if ( refreshExecutor != null && !entry.refreshForced ) {
+				// Keep using the expired reader while the new one is being warmed up.
+				refreshInBackground();
+				return entry.reader;
+			}
 			else {
 				entry.reader.decRef();
 			}
@@ -78,21 +121,60 @@ public DirectoryReader getOrCreate() throws IOException {
 		return getFreshIndexReader().reader;
 	}
 
+	private void refreshInBackground() {
+		if ( !backgroundRefreshInProgress.compareAndSet( false, true ) ) {
+			return;
+		}
+		try {
+			refreshExecutor.execute( () -> {
+				try {
+					refreshIfOpen();
+				}
+				catch (IOException | RuntimeException e) {
+					// Let the next query refresh synchronously, so that it reports the failure.
+					IndexReaderEntry entry = currentReaderEntry;
+					if ( entry != null ) {
+						entry.forceRefresh();
+					}
+				}
+				finally {
+					backgroundRefreshInProgress.set( false );
+				}
+			} );
+		}
+		catch (RejectedExecutionException e) {
+			// The backend is stopping.
+			backgroundRefreshInProgress.set( false );
+		}
+	}
+
+	private synchronized void refreshIfOpen() throws IOException {
+		if ( currentReaderEntry == null ) {
+			// Cleared concurrently: don't open a reader that nobody will close.
+			return;
+		}
+		getFreshIndexReader().reader.decRef();
+	}
+
 	private synchronized IndexReaderEntry getFreshIndexReader() throws IOException {
 		IndexReaderEntry oldEntry = currentReaderEntry;
 		IndexReaderEntry freshEntry;
 		if ( oldEntry == null ) {
 			DirectoryReader newReader = indexWriterProvider.getOrCreate().openReader();
-			freshEntry = new IndexReaderEntry( newReader, timingSource, refreshInterval );
+			warmUp( newReader );
+			freshEntry = new IndexReaderEntry( newReader, timingSource, currentRefreshInterval() );
 		}
 		else {
+			long start = System.nanoTime();
 			DirectoryReader newReaderOrNull = indexWriterProvider.getOrCreate().openReaderIfChanged( oldEntry.reader );
+			refreshTimer.recordSince( start );
 			if ( newReaderOrNull == null ) {
 				// No change, keep the old reader
 				freshEntry = oldEntry;
 			}
 			else {
-				freshEntry = new IndexReaderEntry( newReaderOrNull, timingSource, refreshInterval );
+				warmUp( newReaderOrNull );
+				freshEntry = new IndexReaderEntry( newReaderOrNull, timingSource, currentRefreshInterval() );
 			}
 		}
 
@@ -107,6 +189,17 @@ private synchronized IndexReaderEntry getFreshIndexReader() throws IOException {
 		return freshEntry;
 	}
 
+	private void warmUp(DirectoryReader newReader) {
+		if ( segmentWarmup != null ) {
+			// Only segments that are new to this reader will actually be warmed up.
+			segmentWarmup.warmNewSegments( newReader );
+		}
+	}
+
+	private int currentRefreshInterval() {
+		return adaptiveRefreshInterval == null ? refreshInterval : adaptiveRefreshInterval.get();
+	}
+
 	private synchronized void setCurrentReaderEntry(IndexReaderEntry newEntry) throws IOException {
 		IndexReaderEntry oldEntry = currentReaderEntry;
 		currentReaderEntry = newEntry;
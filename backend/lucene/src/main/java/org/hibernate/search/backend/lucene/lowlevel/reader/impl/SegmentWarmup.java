@@ -0,0 +1,84 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.reader.impl;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.lowlevel.reader.spi.SegmentWarmer;
+import org.hibernate.search.engine.common.metrics.spi.MetricsTimer;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+import org.hibernate.search.util.common.reporting.EventContext;
+
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.LeafReaderContext;
+
+/**
+ * Warms up new segments with {@link SegmentWarmer}s:
+ * merged segments through the index writer, as soon as the merge completes and before the segment is used,
+ * and new segments of refreshed index readers, before the refreshed index reader is published.
+ * <p>
+ * Each segment is warmed up only once,
+ * even if it results from a merge and later appears in a refreshed index reader.
+ */
+public final class SegmentWarmup implements IndexWriter.IndexReaderWarmer {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final List<SegmentWarmer> warmers;
+	private final EventContext eventContext;
+	private final MetricsTimer warmupTimer;
+
+	// Weak keys, so that we don't prevent segment cores from being garbage-collected once closed.
+	private final Set<IndexReader.CacheKey> warmedCoreKeys =
+			Collections.synchronizedSet( Collections.newSetFromMap( new WeakHashMap<>() ) );
+
+	public SegmentWarmup(List<SegmentWarmer> warmers, EventContext eventContext, MetricsTimer warmupTimer) {
+		this.warmers = warmers;
+		this.eventContext = eventContext;
+		this.warmupTimer = warmupTimer;
+	}
+
+	@Override
+	public void warm(LeafReader reader) {
+		IndexReader.CacheHelper coreCacheHelper = reader.getCoreCacheHelper();
+		if ( coreCacheHelper != null && !warmedCoreKeys.add( coreCacheHelper.getKey() ) ) {
+			// Already warmed up.
+			return;
+		}
+		long start = System.nanoTime();
+		for ( SegmentWarmer warmer : warmers ) {
+			try {
+				warmer.warm( reader );
+			}
+			catch (IOException | RuntimeException e) {
+				log.unableToWarmUpSegment( warmer, e.getMessage(), eventContext, e );
+			}
+		}
+		warmupTimer.recordSince( start );
+	}
+
+	/**
+	 * Warms up the segments of the given index reader that were not warmed up yet.
+	 *
+	 * @param reader A new index reader, not published yet.
+	 */
+	void warmNewSegments(DirectoryReader reader) {
+		for ( LeafReaderContext leaf : reader.leaves() ) {
+			warm( leaf.reader() );
+		}
+	}
+
+}
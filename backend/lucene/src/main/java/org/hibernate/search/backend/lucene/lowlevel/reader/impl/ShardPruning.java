@@ -0,0 +1,180 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.reader.impl;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.hibernate.search.backend.lucene.lowlevel.common.impl.MetadataFields;
+
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.ConstantScoreQuery;
+import org.apache.lucene.search.FieldExistsQuery;
+import org.apache.lucene.search.IndexOrDocValuesQuery;
+import org.apache.lucene.search.PointRangeQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.TermQuery;
+
+/**
+ * Constraints that every document matching a query must satisfy,
+ * used to skip whole shards that cannot possibly match that query
+ * before a search even starts.
+ * <p>
+ * Only required clauses are taken into account: range predicates on points and exists predicates.
+ * Shards are skipped based on {@link IndexReaderStatistics}.
+ * <p>
+ * Segments within a shard that is not skipped need no specific treatment:
+ * Lucene's point range queries already skip segments based on the same statistics,
+ * and a boolean query does not evaluate segments where one of its required clauses matches nothing.
+ */
+public final class ShardPruning {
+
+	private static final ShardPruning NONE = new ShardPruning( Collections.emptyList() );
+
+	public static ShardPruning none() {
+		return NONE;
+	}
+
+	public static ShardPruning of(Query query) {
+		List<Constraint> constraints = new ArrayList<>();
+		collectRequiredConstraints( query, constraints );
+		return constraints.isEmpty() ? NONE : new ShardPruning( constraints );
+	}
+
+	private static void collectRequiredConstraints(Query query, List<Constraint> constraints) {
+		if ( query instanceof BooleanQuery ) {
+			for ( BooleanClause clause : ( (BooleanQuery) query ).clauses() ) {
+				if ( clause.isRequired() ) {
+					collectRequiredConstraints( clause.getQuery(), constraints );
+				}
+			}
+		}
+		else if ( query instanceof ConstantScoreQuery ) {
+			collectRequiredConstraints( ( (ConstantScoreQuery) query ).getQuery(), constraints );
+		}
+		else if ( query instanceof BoostQuery ) {
+			collectRequiredConstraints( ( (BoostQuery) query ).getQuery(), constraints );
+		}
+		else if ( query instanceof IndexOrDocValuesQuery ) {
+			collectRequiredConstraints( ( (IndexOrDocValuesQuery) query ).getIndexQuery(), constraints );
+		}
+		else if ( query instanceof PointRangeQuery ) {
+			constraints.add( new PointRangeConstraint( (PointRangeQuery) query ) );
+		}
+		else if ( query instanceof FieldExistsQuery ) {
+			constraints.add( new FieldExistsConstraint( ( (FieldExistsQuery) query ).getField() ) );
+		}
+		else if ( query instanceof TermQuery
+				&& MetadataFields.fieldNamesFieldName().equals( ( (TermQuery) query ).getTerm().field() ) ) {
+			constraints.add( new TermExistsConstraint( ( (TermQuery) query ).getTerm() ) );
+		}
+		// Other queries are ignored: they just won't allow skipping shards.
+	}
+
+	private final List<Constraint> constraints;
+
+	private ShardPruning(List<Constraint> constraints) {
+		this.constraints = constraints;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[" + constraints + "]";
+	}
+
+	/**
+	 * @return {@code true} if this may lead to skipping shards, {@code false} if all shards will always be searched.
+	 */
+	public boolean isEnabled() {
+		return !constraints.isEmpty();
+	}
+
+	/**
+	 * @param reader The index reader of a shard.
+	 * @param statistics Statistics for that index reader.
+	 * @return {@code true} if the given shard may contain matching documents,
+	 * {@code false} if it definitely doesn't and can be skipped.
+	 * @throws IOException If statistics cannot be computed.
+	 */
+	boolean mayMatch(IndexReader reader, IndexReaderStatistics statistics) throws IOException {
+		for ( Constraint constraint : constraints ) {
+			if ( !constraint.mayMatch( reader, statistics ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private interface Constraint {
+		boolean mayMatch(IndexReader reader, IndexReaderStatistics statistics) throws IOException;
+	}
+
+	private static final class PointRangeConstraint implements Constraint {
+		private final PointRangeQuery query;
+
+		private PointRangeConstraint(PointRangeQuery query) {
+			this.query = query;
+		}
+
+		@Override
+		public String toString() {
+			return query.toString();
+		}
+
+		@Override
+		public boolean mayMatch(IndexReader reader, IndexReaderStatistics statistics) throws IOException {
+			Optional<IndexReaderStatistics.PointStatistics> points = statistics.points( reader, query.getField() );
+			// No points at all for this field: the range query cannot match.
+			return points.isPresent()
+					&& points.get().mayIntersect( query.getNumDims(), query.getBytesPerDim(),
+							query.getLowerPoint(), query.getUpperPoint() );
+		}
+	}
+
+	private static final class FieldExistsConstraint implements Constraint {
+		private final String field;
+
+		private FieldExistsConstraint(String field) {
+			this.field = field;
+		}
+
+		@Override
+		public String toString() {
+			return "exists(" + field + ")";
+		}
+
+		@Override
+		public boolean mayMatch(IndexReader reader, IndexReaderStatistics statistics) {
+			return statistics.hasField( reader, field );
+		}
+	}
+
+	private static final class TermExistsConstraint implements Constraint {
+		private final Term term;
+
+		private TermExistsConstraint(Term term) {
+			this.term = term;
+		}
+
+		@Override
+		public String toString() {
+			return term.toString();
+		}
+
+		@Override
+		public boolean mayMatch(IndexReader reader, IndexReaderStatistics statistics) throws IOException {
+			return statistics.hasTerm( reader, term );
+		}
+	}
+}
@@ -0,0 +1,40 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.reader.spi;
+
+import java.io.IOException;
+
+import org.hibernate.search.util.common.annotation.Incubating;
+
+import org.apache.lucene.index.LeafReader;
+
+/**
+ * A component warming up new index segments before they are used by search queries,
+ * so that the first queries do not pay for loading data structures
+ * (terms dictionaries, norms, doc values, ...) of new segments.
+ * <p>
+ * Warmers are called for segments resulting from a merge, before the merged segment is used,
+ * and for new segments of refreshed index readers, before the refreshed index reader is used.
+ * Warmers may for example run a few typical queries or sorts against the segment,
+ * by wrapping it in an {@link org.apache.lucene.search.IndexSearcher}.
+ * <p>
+ * Implementations must be thread-safe, as they may be called concurrently for different segments.
+ */
+@Incubating
+public interface SegmentWarmer {
+
+	/**
+	 * Warms up a segment.
+	 * <p>
+	 * Failures are logged and ignored: the segment will be used regardless.
+	 *
+	 * @param reader A reader for the segment to warm up.
+	 * @throws IOException If an I/O failure occurs.
+	 */
+	void warm(LeafReader reader) throws IOException;
+
+}
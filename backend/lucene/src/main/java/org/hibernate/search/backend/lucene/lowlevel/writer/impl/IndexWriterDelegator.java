@@ -24,7 +24,7 @@ public interface IndexWriterDelegator {
 
 	long updateDocuments(Term term, Iterable<? extends Iterable<? extends IndexableField>> docs) throws IOException;
 
-	long deleteDocuments(Term term) throws IOException;
+	long deleteDocuments(Term... terms) throws IOException;
 
 	long deleteDocuments(Query query) throws IOException;
 
@@ -11,11 +11,13 @@
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReentrantLock;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.engine.backend.orchestration.spi.SingletonTask;
 import org.hibernate.search.engine.common.execution.spi.SimpleScheduledExecutor;
+import org.hibernate.search.engine.common.metrics.spi.MetricsTimer;
 import org.hibernate.search.engine.common.timing.spi.TimingSource;
 import org.hibernate.search.engine.reporting.FailureContext;
 import org.hibernate.search.engine.reporting.FailureHandler;
@@ -23,8 +25,10 @@
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 import org.hibernate.search.util.common.reporting.EventContext;
 
+import org.apache.lucene.index.CodecReader;
 import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
 import org.apache.lucene.index.IndexableField;
 import org.apache.lucene.index.Term;
 import org.apache.lucene.search.Query;
@@ -36,27 +40,42 @@ public class IndexWriterDelegatorImpl implements IndexWriterDelegator {
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
+	/**
+	 * The fraction of the RAM buffer that, once used by uncommitted changes,
+	 * triggers a commit when the commit interval is adaptive.
+	 */
+	private static final double RAM_BUFFER_COMMIT_RATIO = 0.5;
+
 	private final IndexWriter delegate;
 	private final EventContext eventContext;
 	private final TimingSource timingSource;
 	private final int commitInterval;
+	private final int commitMaxPendingOperations;
 	private final FailureHandler failureHandler;
+	private final MetricsTimer commitTimer;
 
 	private final SingletonTask delayedCommitTask;
 	private final ReentrantLock commitLock = new ReentrantLock();
+	private final AtomicLong commitRequestCount = new AtomicLong();
 
 	private long commitExpiration;
+	private volatile long lastCommitSequenceNumber;
+	// Guarded by commitLock
+	private long commitRequestCountCoveredByLastCommit;
 
 	public IndexWriterDelegatorImpl(IndexWriter delegate, EventContext eventContext,
 			SimpleScheduledExecutor delayedCommitExecutor,
-			TimingSource timingSource, int commitInterval,
+			TimingSource timingSource, int commitInterval, int commitMaxPendingOperations,
 			FailureHandler failureHandler,
-			DelayedCommitFailureHandler delayedCommitFailureHandler) {
+			DelayedCommitFailureHandler delayedCommitFailureHandler,
+			MetricsTimer commitTimer) {
 		this.delegate = delegate;
 		this.eventContext = eventContext;
 		this.timingSource = timingSource;
 		this.commitInterval = commitInterval;
+		this.commitMaxPendingOperations = commitMaxPendingOperations;
 		this.failureHandler = failureHandler;
+		this.commitTimer = commitTimer;
 
 		if ( commitInterval == 0L ) {
 			delayedCommitTask = null;
@@ -71,6 +90,7 @@ public IndexWriterDelegatorImpl(IndexWriter delegate, EventContext eventContext,
 		}
 
 		updateCommitExpiration();
+		this.lastCommitSequenceNumber = delegate.getMaxCompletedSequenceNumber();
 	}
 
 	@Override
@@ -84,8 +104,8 @@ public long updateDocuments(Term term, Iterable<? extends Iterable<? extends Ind
 	}
 
 	@Override
-	public long deleteDocuments(Term term) throws IOException {
-		return delegate.deleteDocuments( term );
+	public long deleteDocuments(Term... terms) throws IOException {
+		return delegate.deleteDocuments( terms );
 	}
 
 	@Override
@@ -97,8 +117,28 @@ public void mergeSegments() throws IOException {
 		delegate.forceMerge( 1 );
 	}
 
+	public long addIndexes(CodecReader... readers) throws IOException {
+		return delegate.addIndexes( readers );
+	}
+
+	public void deleteUnusedFiles() throws IOException {
+		delegate.deleteUnusedFiles();
+	}
+
 	public void commit() {
-		doCommit();
+		long commitRequest = commitRequestCount.incrementAndGet();
+		commitLock.lock();
+		try {
+			if ( commitRequestCountCoveredByLastCommit >= commitRequest ) {
+				// Another thread started a commit after this request and completed it while we were waiting for the lock:
+				// our changes were committed, there's no need for another commit.
+				return;
+			}
+			doCommit();
+		}
+		finally {
+			commitLock.unlock();
+		}
 	}
 
 	public void commitOrDelay() {
@@ -130,6 +170,21 @@ public void commitOrDelay() {
 		}
 	}
 
+	/**
+	 * @return The number of operations applied to the index writer since the last commit.
+	 */
+	public long uncommittedOperationCount() {
+		return Math.max( 0L, delegate.getMaxCompletedSequenceNumber() - lastCommitSequenceNumber );
+	}
+
+	/**
+	 * @return {@code false} if the index writer was closed, in particular because of a fatal failure;
+	 * {@code true} otherwise.
+	 */
+	public boolean isOpen() {
+		return delegate.isOpen();
+	}
+
 	public DirectoryReader openReader() throws IOException {
 		return DirectoryReader.open( delegate );
 	}
@@ -188,7 +243,15 @@ private void doCommit() {
 			// NOTE: underlying Lucene code is using this pattern to sync on object block,
 			// which could be a problem with Loom:
 			// synchronized(commitLock)
+			// Any commit request made before this point will be covered by this commit.
+			long coveredCommitRequestCount = commitRequestCount.get();
+			// Any operation completed before this point will be covered by this commit.
+			long coveredSequenceNumber = delegate.getMaxCompletedSequenceNumber();
+			long start = System.nanoTime();
 			delegate.commit();
+			commitTimer.recordSince( start );
+			commitRequestCountCoveredByLastCommit = coveredCommitRequestCount;
+			lastCommitSequenceNumber = coveredSequenceNumber;
 			updateCommitExpiration();
 		}
 		catch (RuntimeException | IOException e) {
@@ -222,9 +285,24 @@ private long getTimeToCommit() {
 			return 0L;
 		}
 
+		if ( commitMaxPendingOperations > 0 && hasTooManyUncommittedChanges() ) {
+			// Adaptive interval: don't wait for the interval to elapse,
+			// so that commits remain reasonably cheap under heavy write load.
+			return 0L;
+		}
+
 		return commitExpiration - timingSource.monotonicTimeEstimate();
 	}
 
+	private boolean hasTooManyUncommittedChanges() {
+		if ( uncommittedOperationCount() >= commitMaxPendingOperations ) {
+			return true;
+		}
+		double ramBufferSizeMb = delegate.getConfig().getRAMBufferSizeMB();
+		return ramBufferSizeMb != IndexWriterConfig.DISABLE_AUTO_FLUSH
+				&& delegate.ramBytesUsed() >= ramBufferSizeMb * RAM_BUFFER_COMMIT_RATIO * 1024 * 1024;
+	}
+
 	private void updateCommitExpiration() {
 		commitExpiration = commitInterval == 0 ? 0L : timingSource.monotonicTimeEstimate() + commitInterval;
 	}
@@ -14,15 +14,20 @@
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
 import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
+import org.hibernate.search.engine.common.metrics.spi.MetricsTimer;
 import org.hibernate.search.engine.common.timing.spi.TimingSource;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 import org.hibernate.search.util.common.reporting.EventContext;
 
+import org.apache.lucene.index.IndexCommit;
 import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.IndexWriterConfig;
 import org.apache.lucene.index.IndexWriterConfig.OpenMode;
+import org.apache.lucene.index.KeepOnlyLastCommitDeletionPolicy;
 import org.apache.lucene.index.MergeScheduler;
+import org.apache.lucene.index.SnapshotDeletionPolicy;
+import org.apache.lucene.store.AlreadyClosedException;
 
 /**
  * @author Sanne Grinovero (C) 2011 Red Hat Inc.
@@ -35,10 +40,20 @@ public class IndexWriterProvider {
 	private final EventContext eventContext;
 	private final DirectoryHolder directoryHolder;
 	private final IndexWriterConfigSource configSource;
+	private final IndexWriter.IndexReaderWarmer mergedSegmentWarmer;
 	private final TimingSource timingSource;
 	private final int commitInterval;
+	private final int commitMaxPendingOperations;
 	private BackendThreads threads;
 	private final FailureHandler failureHandler;
+	private final MetricsTimer commitTimer;
+
+	/**
+	 * Shared by all successive index writers,
+	 * so that snapshots survive the index writer being re-created, e.g. after a failure.
+	 */
+	private final SnapshotDeletionPolicy snapshotDeletionPolicy =
+			new SnapshotDeletionPolicy( new KeepOnlyLastCommitDeletionPolicy() );
 
 	/**
 	 * Current open IndexWriter, or null when closed.
@@ -52,17 +67,22 @@ public class IndexWriterProvider {
 
 	public IndexWriterProvider(String indexName, EventContext eventContext,
 			DirectoryHolder directoryHolder, IndexWriterConfigSource configSource,
-			TimingSource timingSource, int commitInterval,
+			IndexWriter.IndexReaderWarmer mergedSegmentWarmer,
+			TimingSource timingSource, int commitInterval, int commitMaxPendingOperations,
 			BackendThreads threads,
-			FailureHandler failureHandler) {
+			FailureHandler failureHandler,
+			MetricsTimer commitTimer) {
 		this.indexName = indexName;
 		this.eventContext = eventContext;
 		this.directoryHolder = directoryHolder;
 		this.configSource = configSource;
+		this.mergedSegmentWarmer = mergedSegmentWarmer;
 		this.timingSource = timingSource;
 		this.commitInterval = commitInterval;
+		this.commitMaxPendingOperations = commitMaxPendingOperations;
 		this.threads = threads;
 		this.failureHandler = failureHandler;
+		this.commitTimer = commitTimer;
 	}
 
 	/**
@@ -113,6 +133,24 @@ public IndexWriterDelegatorImpl getOrNull() {
 		return currentWriter.get();
 	}
 
+	/**
+	 * @return The number of operations applied to the current index writer since its last commit,
+	 * or {@code 0} if there is no current index writer.
+	 */
+	public long uncommittedOperationCount() {
+		IndexWriterDelegatorImpl indexWriterDelegator = currentWriter.get();
+		if ( indexWriterDelegator == null ) {
+			return 0L;
+		}
+		try {
+			return indexWriterDelegator.uncommittedOperationCount();
+		}
+		catch (AlreadyClosedException e) {
+			// The writer was closed concurrently.
+			return 0L;
+		}
+	}
+
 	public IndexWriterDelegatorImpl getOrCreate() throws IOException {
 		IndexWriterDelegatorImpl indexWriterDelegator = currentWriter.get();
 		if ( indexWriterDelegator == null ) {
@@ -124,9 +162,10 @@ public IndexWriterDelegatorImpl getOrCreate() throws IOException {
 					indexWriterDelegator = new IndexWriterDelegatorImpl(
 							indexWriter, eventContext,
 							threads.getWriteExecutor(),
-							timingSource, commitInterval,
+							timingSource, commitInterval, commitMaxPendingOperations,
 							failureHandler,
-							this::clearAfterFailure
+							this::clearAfterFailure,
+							commitTimer
 					);
 					log.trace( "IndexWriter opened" );
 					currentWriter.set( indexWriterDelegator );
@@ -139,6 +178,34 @@ public IndexWriterDelegatorImpl getOrCreate() throws IOException {
 		return indexWriterDelegator;
 	}
 
+	/**
+	 * Prevents the files of the last commit from being deleted
+	 * until the returned commit is {@link #releaseSnapshot(IndexCommit) released}.
+	 * <p>
+	 * Changes that were not committed yet are not part of the snapshot.
+	 *
+	 * @return The snapshotted commit.
+	 */
+	public IndexCommit snapshot() throws IOException {
+		// Make sure an index writer, and thus the deletion policy, is initialized.
+		getOrCreate();
+		return snapshotDeletionPolicy.snapshot();
+	}
+
+	/**
+	 * Releases a commit previously returned by {@link #snapshot()},
+	 * allowing its files to be deleted if they are no longer used.
+	 *
+	 * @param commit The snapshotted commit.
+	 */
+	public void releaseSnapshot(IndexCommit commit) throws IOException {
+		snapshotDeletionPolicy.release( commit );
+		IndexWriterDelegatorImpl indexWriterDelegator = currentWriter.get();
+		if ( indexWriterDelegator != null ) {
+			indexWriterDelegator.deleteUnusedFiles();
+		}
+	}
+
 	private IndexWriter createNewIndexWriter() throws IOException {
 		// Each writer config can be attached only once to an IndexWriter
 		final IndexWriterConfig indexWriterConfig = createWriterConfig();
@@ -153,6 +220,10 @@ private IndexWriterConfig createWriterConfig() {
 		);
 		writerConfig.setMergeScheduler( mergeScheduler );
 		writerConfig.setOpenMode( OpenMode.CREATE_OR_APPEND );
+		writerConfig.setIndexDeletionPolicy( snapshotDeletionPolicy );
+		if ( mergedSegmentWarmer != null ) {
+			writerConfig.setMergedSegmentWarmer( mergedSegmentWarmer );
+		}
 		return writerConfig;
 	}
 }
@@ -0,0 +1,41 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.writer.impl;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
+import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
+import org.hibernate.search.engine.common.metrics.spi.MetricsTimer;
+import org.hibernate.search.engine.reporting.FailureHandler;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+import org.hibernate.search.util.common.reporting.EventContext;
+
+/**
+ * An index writer provider for replicas, which never creates an index writer:
+ * the content of the directory is entirely managed by replication.
+ */
+public class ReplicaIndexWriterProvider extends IndexWriterProvider {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final EventContext eventContext;
+
+	public ReplicaIndexWriterProvider(String indexName, EventContext eventContext,
+			DirectoryHolder directoryHolder, IndexWriterConfigSource configSource,
+			BackendThreads threads, FailureHandler failureHandler, MetricsTimer commitTimer) {
+		super( indexName, eventContext, directoryHolder, configSource, null,
+				null, 0, 0, threads, failureHandler, commitTimer );
+		this.eventContext = eventContext;
+	}
+
+	@Override
+	public IndexWriterDelegatorImpl getOrCreate() {
+		throw log.cannotWriteToReplicaIndex( eventContext );
+	}
+}
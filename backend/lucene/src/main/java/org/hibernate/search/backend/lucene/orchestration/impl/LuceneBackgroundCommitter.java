@@ -0,0 +1,82 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.orchestration.impl;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+
+import org.hibernate.search.engine.backend.orchestration.spi.SingletonTask;
+import org.hibernate.search.engine.common.execution.spi.SimpleScheduledExecutor;
+import org.hibernate.search.engine.reporting.FailureHandler;
+
+/**
+ * A background task committing the index writer on behalf of all indexing queues of an index.
+ * <p>
+ * Queues request a commit at the end of each batch and move on to the next batch immediately,
+ * so they keep writing to the index writer concurrently instead of waiting for each other's commits.
+ * Requests received while a commit is in progress result in a single subsequent commit.
+ */
+final class LuceneBackgroundCommitter {
+
+	private final SingletonTask task;
+
+	LuceneBackgroundCommitter(String name, LuceneBatchedWorkProcessor processor,
+			SimpleScheduledExecutor executor, FailureHandler failureHandler) {
+		this.task = new SingletonTask( name, new CommitWorker( processor ),
+				new CommitScheduler( executor ), failureHandler );
+	}
+
+	/**
+	 * Ensures the index writer will be committed, or a delayed commit will be scheduled,
+	 * after all changes applied before this call.
+	 */
+	void requestCommitOrDelay() {
+		task.ensureScheduled();
+	}
+
+	CompletableFuture<?> completion() {
+		return task.completion();
+	}
+
+	void stop() {
+		task.stop();
+	}
+
+	private static final class CommitWorker implements SingletonTask.Worker {
+		private final CompletableFuture<?> completedFuture = CompletableFuture.completedFuture( null );
+		private final LuceneBatchedWorkProcessor processor;
+
+		private CommitWorker(LuceneBatchedWorkProcessor processor) {
+			this.processor = processor;
+		}
+
+		@Override
+		public CompletableFuture<?> work() {
+			processor.commitOrDelay( "Commit after batches of index works" );
+			return completedFuture;
+		}
+
+		@Override
+		public void complete() {
+			// Nothing to do
+		}
+	}
+
+	private static final class CommitScheduler implements SingletonTask.Scheduler {
+		private final SimpleScheduledExecutor delegate;
+
+		private CommitScheduler(SimpleScheduledExecutor delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public Future<?> schedule(Runnable runnable) {
+			// Schedule the task for execution as soon as possible.
+			return delegate.submit( runnable );
+		}
+	}
+}
@@ -22,6 +22,10 @@
 
 	@Override
 	public void submitTo(LuceneBatchedWorkProcessor processor) {
+		processor.submit( this );
+	}
+
+	void executeWith(LuceneBatchedWorkProcessor processor) {
 		try {
 			T result = processor.submit( work );
 			future.complete( result );
@@ -31,6 +35,35 @@ public void submitTo(LuceneBatchedWorkProcessor processor) {
 		}
 	}
 
+	/**
+	 * Completes this work when the given work completes, with the same outcome.
+	 * <p>
+	 * Used when this work was skipped because the given work overrides its effects.
+	 *
+	 * @param overridingWork The work overriding this work.
+	 */
+	@SuppressWarnings("unchecked") // Works on the same document return the same type of result
+	void completeAs(LuceneBatchedWork<?> overridingWork) {
+		overridingWork.future.whenComplete( (result, throwable) -> {
+			if ( throwable != null ) {
+				markAsFailed( throwable );
+			}
+			else {
+				future.complete( (T) result );
+			}
+		} );
+	}
+
+	/**
+	 * Completes this work after it was applied to the index writer as part of a bulk.
+	 *
+	 * @param sequenceNumber The sequence number returned by the index writer for the bulk.
+	 */
+	@SuppressWarnings("unchecked") // Only single-document works, returning a Long, are executed in bulks
+	void completeAsPartOfBulk(long sequenceNumber) {
+		future.complete( (T) (Long) sequenceNumber );
+	}
+
 	@Override
 	public void markAsFailed(Throwable t) {
 		future.completeExceptionally( t );
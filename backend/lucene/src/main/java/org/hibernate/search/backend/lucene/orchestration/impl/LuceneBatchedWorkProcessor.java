@@ -10,6 +10,7 @@
 
 import org.hibernate.search.backend.lucene.lowlevel.index.impl.IndexAccessor;
 import org.hibernate.search.backend.lucene.work.impl.IndexingWork;
+import org.hibernate.search.backend.lucene.work.impl.IndexingWorkBulk;
 import org.hibernate.search.engine.backend.orchestration.spi.BatchedWorkProcessor;
 import org.hibernate.search.util.common.reporting.EventContext;
 
@@ -22,11 +23,23 @@ public class LuceneBatchedWorkProcessor implements BatchedWorkProcessor {
 
 	private final IndexAccessor indexAccessor;
 	private final IndexAccessorWorkExecutionContext context;
+	private final LuceneBackgroundCommitter backgroundCommitter;
 
 	public LuceneBatchedWorkProcessor(EventContext eventContext,
 			IndexAccessor indexAccessor) {
 		this.indexAccessor = indexAccessor;
 		this.context = new IndexAccessorWorkExecutionContext( eventContext, indexAccessor );
+		this.backgroundCommitter = null;
+	}
+
+	LuceneBatchedWorkProcessor(LuceneBatchedWorkProcessor original) {
+		this( original, original.backgroundCommitter );
+	}
+
+	LuceneBatchedWorkProcessor(LuceneBatchedWorkProcessor original, LuceneBackgroundCommitter backgroundCommitter) {
+		this.indexAccessor = original.indexAccessor;
+		this.context = original.context;
+		this.backgroundCommitter = backgroundCommitter;
 	}
 
 	@Override
@@ -36,38 +49,64 @@ public void beginBatch() {
 
 	@Override
 	public CompletableFuture<?> endBatch() {
-		try {
-			indexAccessor.commitOrDelay();
-		}
-		catch (RuntimeException e) {
-			indexAccessor.cleanUpAfterFailure( e, "Commit after a batch of index works" );
-			// The exception was reported to the failure handler, no need to propagate it.
-		}
+		commitOrDelayOrRequest( "Commit after a batch of index works" );
 		// Everything was already executed, so just return a completed future.
 		return CompletableFuture.completedFuture( null );
 	}
 
 	@Override
 	public void complete() {
+		commitOrDelayOrRequest( "Commit after completion of all remaining index works" );
+	}
+
+	public void submit(LuceneBatchedWork<?> work) {
+		work.executeWith( this );
+	}
+
+	public <T> T submit(IndexingWork<T> work) {
 		try {
-			indexAccessor.commitOrDelay();
+			return work.execute( context );
 		}
 		catch (RuntimeException e) {
-			indexAccessor.cleanUpAfterFailure( e, "Commit after completion of all remaining index works" );
-			// The exception was reported to the failure handler, no need to propagate it.
+			indexAccessor.cleanUpAfterFailure( e, work.getInfo() );
+			throw e;
 		}
 	}
 
-	public <T> T submit(IndexingWork<T> work) {
+	long submit(IndexingWorkBulk bulk) {
+		int workCount = bulk.size();
 		try {
-			return work.execute( context );
+			return bulk.execute( context );
 		}
 		catch (RuntimeException e) {
-			indexAccessor.cleanUpAfterFailure( e, work.getInfo() );
+			// Callers execute the works again one by one and report those that fail:
+			// don't report the failure of the bulk itself.
+			indexAccessor.cleanUpAfterRecoverableFailure( e, "Bulk of " + workCount + " index works" );
 			throw e;
 		}
 	}
 
+	void commitOrDelay(String operation) {
+		try {
+			indexAccessor.commitOrDelay();
+		}
+		catch (RuntimeException e) {
+			indexAccessor.cleanUpAfterFailure( e, operation );
+			// The exception was reported to the failure handler, no need to propagate it.
+		}
+	}
+
+	private void commitOrDelayOrRequest(String operation) {
+		if ( backgroundCommitter != null ) {
+			// Don't block this queue: the commit will happen in the background,
+			// possibly along with commits requested by other queues.
+			backgroundCommitter.requestCommitOrDelay();
+		}
+		else {
+			commitOrDelay( operation );
+		}
+	}
+
 	// Note this may be called outside of a batch
 	public void forceCommit() {
 		try {
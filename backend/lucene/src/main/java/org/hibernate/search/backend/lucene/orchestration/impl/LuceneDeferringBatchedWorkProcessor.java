@@ -0,0 +1,229 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.orchestration.impl;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.lucene.work.impl.IndexingWorkBulk;
+import org.hibernate.search.backend.lucene.work.impl.SingleDocumentIndexingWork;
+import org.hibernate.search.engine.common.metrics.spi.MetricsCounter;
+import org.hibernate.search.engine.common.metrics.spi.MetricsDistributionSummary;
+
+/**
+ * A processor that defers the execution of single-document works until the end of the batch,
+ * so that they can be optimized before being applied to the index writer:
+ * <ul>
+ *     <li>When coalescing is enabled, works overridden by a later work on the same document within the same batch
+ *     are skipped. Skipped works complete when the work overriding them completes, with the same outcome.</li>
+ *     <li>When bulk writes are enabled, consecutive works are grouped into an {@link IndexingWorkBulk}
+ *     and applied to the index writer with a single call for deletions and a single call for additions.
+ *     If a bulk fails, its works are executed again one by one,
+ *     so that only works that actually fail are reported as failed.</li>
+ * </ul>
+ * <p>
+ * Works that are not skipped are applied in the order they were submitted in,
+ * so the ordering guarantees of the serial orchestrator are preserved.
+ * <p>
+ * Contrary to {@link LuceneBatchedWorkProcessor}, this processor holds per-batch state
+ * and thus is <strong>not</strong> thread-safe: each indexing queue must use its own instance.
+ */
+public class LuceneDeferringBatchedWorkProcessor extends LuceneBatchedWorkProcessor {
+
+	/**
+	 * The name of the counter reporting the number of works that were skipped
+	 * because a later work on the same document overrode them.
+	 */
+	public static final String METRIC_COALESCED_WORKS = "hibernate.search.lucene.indexing.coalesced";
+
+	/**
+	 * The name of the distribution summary reporting the number of works applied to the index writer in each bulk.
+	 */
+	public static final String METRIC_BULK_SIZE = "hibernate.search.lucene.indexing.bulk.size";
+
+	/**
+	 * The maximum number of works in a single bulk,
+	 * to avoid buffering an unreasonable amount of documents in a single block of the index writer.
+	 */
+	static final int MAX_BULK_SIZE = 1000;
+
+	private final boolean coalesceWorks;
+	private final MetricsCounter coalescedWorksCounter;
+	private final IndexingWorkBulk bulk;
+	private final MetricsDistributionSummary bulkSizeSummary;
+
+	private final List<LuceneBatchedWork<?>> pendingWorks = new ArrayList<>();
+	private final List<LuceneBatchedWork<?>> bulkWorks = new ArrayList<>();
+
+	public LuceneDeferringBatchedWorkProcessor(LuceneBatchedWorkProcessor original,
+			boolean coalesceWorks, MetricsCounter coalescedWorksCounter,
+			boolean bulkWrites, MetricsDistributionSummary bulkSizeSummary) {
+		super( original );
+		this.coalesceWorks = coalesceWorks;
+		this.coalescedWorksCounter = coalescedWorksCounter;
+		this.bulk = bulkWrites ? new IndexingWorkBulk( MAX_BULK_SIZE ) : null;
+		this.bulkSizeSummary = bulkSizeSummary;
+	}
+
+	@Override
+	public void submit(LuceneBatchedWork<?> work) {
+		if ( work.work instanceof SingleDocumentIndexingWork ) {
+			pendingWorks.add( work );
+		}
+		else {
+			// We don't know which documents this work affects: don't defer works across it.
+			executePendingWorks();
+			super.submit( work );
+		}
+	}
+
+	@Override
+	public CompletableFuture<?> endBatch() {
+		executePendingWorks();
+		return super.endBatch();
+	}
+
+	private void executePendingWorks() {
+		if ( pendingWorks.isEmpty() ) {
+			return;
+		}
+		try {
+			List<LuceneBatchedWork<?>> worksToExecute = coalesceWorks ? coalescePendingWorks() : pendingWorks;
+			for ( LuceneBatchedWork<?> work : worksToExecute ) {
+				if ( bulk == null || !addToBulk( work ) ) {
+					executeBulk();
+					executeSafely( work );
+				}
+			}
+			executeBulk();
+		}
+		finally {
+			pendingWorks.clear();
+			bulkWorks.clear();
+			if ( bulk != null ) {
+				bulk.clear();
+			}
+		}
+	}
+
+	private List<LuceneBatchedWork<?>> coalescePendingWorks() {
+		int workCount = pendingWorks.size();
+
+		// For each document, find the last work that overrides the effects of previous works.
+		Map<DocumentKey, Integer> lastOverridingWorkIndexByDocument = new HashMap<>();
+		for ( int i = 0; i < workCount; i++ ) {
+			SingleDocumentIndexingWork work = (SingleDocumentIndexingWork) pendingWorks.get( i ).work;
+			if ( work.overridesPreviousWorks() ) {
+				lastOverridingWorkIndexByDocument.put( new DocumentKey( work ), i );
+			}
+		}
+
+		List<LuceneBatchedWork<?>> worksToExecute = new ArrayList<>( workCount );
+		int coalescedWorkCount = 0;
+		for ( int i = 0; i < workCount; i++ ) {
+			LuceneBatchedWork<?> batchedWork = pendingWorks.get( i );
+			SingleDocumentIndexingWork work = (SingleDocumentIndexingWork) batchedWork.work;
+			Integer lastOverridingWorkIndex = lastOverridingWorkIndexByDocument.get( new DocumentKey( work ) );
+			if ( lastOverridingWorkIndex != null && lastOverridingWorkIndex > i ) {
+				// A later work will override the effects of this work: skip it.
+				batchedWork.completeAs( pendingWorks.get( lastOverridingWorkIndex ) );
+				++coalescedWorkCount;
+			}
+			else {
+				worksToExecute.add( batchedWork );
+			}
+		}
+
+		if ( coalescedWorkCount > 0 ) {
+			coalescedWorksCounter.increment( coalescedWorkCount );
+		}
+		return worksToExecute;
+	}
+
+	private boolean addToBulk(LuceneBatchedWork<?> batchedWork) {
+		SingleDocumentIndexingWork work = (SingleDocumentIndexingWork) batchedWork.work;
+		if ( !work.addTo( bulk ) ) {
+			if ( bulk.isEmpty() ) {
+				// This work cannot be part of any bulk.
+				return false;
+			}
+			// This work conflicts with the current bulk: execute the bulk and start a new one.
+			executeBulk();
+			if ( !work.addTo( bulk ) ) {
+				return false;
+			}
+		}
+		bulkWorks.add( batchedWork );
+		return true;
+	}
+
+	private void executeBulk() {
+		if ( bulkWorks.isEmpty() ) {
+			return;
+		}
+		try {
+			bulkSizeSummary.record( bulkWorks.size() );
+			long sequenceNumber = submit( bulk );
+			for ( LuceneBatchedWork<?> work : bulkWorks ) {
+				work.completeAsPartOfBulk( sequenceNumber );
+			}
+		}
+		catch (RuntimeException e) {
+			// Lucene discarded the documents of the bulk, without affecting previous works,
+			// and executing deletions again is harmless:
+			// execute the works of the bulk one by one, so that only works that actually fail are reported as failed.
+			for ( LuceneBatchedWork<?> work : bulkWorks ) {
+				executeSafely( work );
+			}
+		}
+		finally {
+			bulkWorks.clear();
+			bulk.clear();
+		}
+	}
+
+	private void executeSafely(LuceneBatchedWork<?> work) {
+		try {
+			work.executeWith( this );
+		}
+		catch (Throwable e) {
+			work.markAsFailed( e );
+		}
+	}
+
+	private static final class DocumentKey {
+		private final String tenantId;
+		private final String documentIdentifier;
+
+		private DocumentKey(SingleDocumentIndexingWork work) {
+			this.tenantId = work.getTenantId();
+			this.documentIdentifier = work.getDocumentIdentifier();
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if ( obj == this ) {
+				return true;
+			}
+			if ( obj == null || obj.getClass() != getClass() ) {
+				return false;
+			}
+			DocumentKey other = (DocumentKey) obj;
+			return Objects.equals( tenantId, other.tenantId )
+					&& documentIdentifier.equals( other.documentIdentifier );
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash( tenantId, documentIdentifier );
+		}
+	}
+}
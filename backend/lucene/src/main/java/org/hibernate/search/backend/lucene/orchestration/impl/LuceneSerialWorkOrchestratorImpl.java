@@ -12,9 +12,12 @@
 import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
 import org.hibernate.search.engine.backend.orchestration.spi.AbstractWorkOrchestrator;
 import org.hibernate.search.engine.backend.orchestration.spi.BatchingExecutor;
+import org.hibernate.search.engine.backend.work.execution.IndexingQueueStrategyName;
 import org.hibernate.search.engine.backend.work.execution.OperationSubmitter;
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
 import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+import org.hibernate.search.engine.common.metrics.spi.MetricsRegistry;
+import org.hibernate.search.engine.common.metrics.spi.MetricsTags;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.util.common.data.impl.HashTable;
 import org.hibernate.search.util.common.data.impl.ModuloHashTable;
@@ -37,10 +40,43 @@
 					.withDefault( LuceneIndexSettings.Defaults.INDEXING_QUEUE_SIZE )
 					.build();
 
+	private static final ConfigurationProperty<IndexingQueueStrategyName> QUEUE_STRATEGY =
+			ConfigurationProperty.forKey( LuceneIndexSettings.INDEXING_QUEUE_STRATEGY )
+					.as( IndexingQueueStrategyName.class, IndexingQueueStrategyName::of )
+					.withDefault( LuceneIndexSettings.Defaults.INDEXING_QUEUE_STRATEGY )
+					.build();
+
+	private static final ConfigurationProperty<Integer> MAX_LINGER =
+			ConfigurationProperty.forKey( LuceneIndexSettings.INDEXING_MAX_LINGER )
+					.asIntegerPositiveOrZero()
+					.withDefault( LuceneIndexSettings.Defaults.INDEXING_MAX_LINGER )
+					.build();
+
+	private static final ConfigurationProperty<Boolean> COALESCE_WORKS =
+			ConfigurationProperty.forKey( LuceneIndexSettings.INDEXING_COALESCE_WORKS )
+					.asBoolean()
+					.withDefault( LuceneIndexSettings.Defaults.INDEXING_COALESCE_WORKS )
+					.build();
+
+	private static final ConfigurationProperty<Boolean> BULK_WRITES =
+			ConfigurationProperty.forKey( LuceneIndexSettings.INDEXING_BULK_WRITES )
+					.asBoolean()
+					.withDefault( LuceneIndexSettings.Defaults.INDEXING_BULK_WRITES )
+					.build();
+
+	private static final ConfigurationProperty<Boolean> BACKGROUND_COMMIT =
+			ConfigurationProperty.forKey( LuceneIndexSettings.INDEXING_BACKGROUND_COMMIT )
+					.asBoolean()
+					.withDefault( LuceneIndexSettings.Defaults.INDEXING_BACKGROUND_COMMIT )
+					.build();
+
 	private final LuceneBatchedWorkProcessor processor;
 	private final BackendThreads threads;
 	private final FailureHandler failureHandler;
+	private final MetricsRegistry metricsRegistry;
+	private final MetricsTags metricsTags;
 
+	private LuceneBackgroundCommitter backgroundCommitter;
 	private HashTable<BatchingExecutor<LuceneBatchedWorkProcessor, LuceneBatchedWork<?>>> executors;
 
 	/**
@@ -48,15 +84,20 @@
 	 * @param processor A processor to use in the background thread.
 	 * @param threads The threads for this backend.
 	 * @param failureHandler A failure handler to report failures of the background thread.
+	 * @param metricsRegistry A registry to report metrics of the indexing queues to.
+	 * @param metricsTags The tags to attach to metrics of the indexing queues.
 	 */
 	public LuceneSerialWorkOrchestratorImpl(
 			String name, LuceneBatchedWorkProcessor processor,
 			BackendThreads threads,
-			FailureHandler failureHandler) {
+			FailureHandler failureHandler,
+			MetricsRegistry metricsRegistry, MetricsTags metricsTags) {
 		super( name );
 		this.processor = processor;
 		this.threads = threads;
 		this.failureHandler = failureHandler;
+		this.metricsRegistry = metricsRegistry;
+		this.metricsTags = metricsTags;
 	}
 
 	@Override
@@ -69,20 +110,58 @@ public void forceRefreshInCurrentThread() {
 		processor.forceRefresh();
 	}
 
+	/**
+	 * @return A future that will complete once all works submitted so far have been executed,
+	 * provided no other work is submitted in the meantime.
+	 */
+	public CompletableFuture<?> pendingWorksCompletion() {
+		return completion();
+	}
+
 	@Override
 	protected void doStart(ConfigurationPropertySource propertySource) {
 		int queueCount = QUEUE_COUNT.get( propertySource );
 		int queueSize = QUEUE_SIZE.get( propertySource );
+		IndexingQueueStrategyName queueStrategy = QUEUE_STRATEGY.get( propertySource );
+		int maxLinger = MAX_LINGER.get( propertySource );
+		boolean coalesceWorks = COALESCE_WORKS.get( propertySource );
+		boolean bulkWrites = BULK_WRITES.get( propertySource );
+		boolean backgroundCommit = BACKGROUND_COMMIT.get( propertySource );
+
+		LuceneBatchedWorkProcessor sharedProcessor;
+		if ( backgroundCommit ) {
+			backgroundCommitter = new LuceneBackgroundCommitter( name() + " - Committer", processor,
+					threads.getWriteExecutor(), failureHandler );
+			sharedProcessor = new LuceneBatchedWorkProcessor( processor, backgroundCommitter );
+		}
+		else {
+			backgroundCommitter = null;
+			sharedProcessor = processor;
+		}
 
 		executors = new ModuloHashTable<>( SimpleHashFunction.INSTANCE, queueCount );
 		for ( int i = 0; i < executors.size(); i++ ) {
+			MetricsTags queueMetricsTags = metricsTags.and( MetricsTags.QUEUE, String.valueOf( i ) );
+			// The deferring processor holds per-batch state, so each queue needs its own.
+			LuceneBatchedWorkProcessor queueProcessor = coalesceWorks || bulkWrites
+					? new LuceneDeferringBatchedWorkProcessor( sharedProcessor,
+							coalesceWorks,
+							metricsRegistry.counter( LuceneDeferringBatchedWorkProcessor.METRIC_COALESCED_WORKS,
+									queueMetricsTags ),
+							bulkWrites,
+							metricsRegistry.distributionSummary( LuceneDeferringBatchedWorkProcessor.METRIC_BULK_SIZE,
+									queueMetricsTags ) )
+					: sharedProcessor;
 			executors.set( i, new BatchingExecutor<>(
 					name() + " - " + i,
-					processor,
+					queueProcessor,
 					queueSize,
 					true,
+					queueStrategy,
+					maxLinger,
 					failureHandler,
-					blockingRetryProducer
+					blockingRetryProducer,
+					metricsRegistry, queueMetricsTags
 			) );
 		}
 
@@ -102,13 +181,19 @@ protected CompletableFuture<?> completion() {
 		for ( int i = 0; i < executors.size(); i++ ) {
 			completions[i] = executors.get( i ).completion();
 		}
-		return CompletableFuture.allOf( completions );
+		CompletableFuture<?> executorsCompletion = CompletableFuture.allOf( completions );
+		if ( backgroundCommitter == null ) {
+			return executorsCompletion;
+		}
+		// Executors request commits when they complete: wait for those too.
+		return executorsCompletion.thenCompose( ignored -> backgroundCommitter.completion() );
 	}
 
 	@Override
 	protected void doStop() {
 		try ( Closer<RuntimeException> closer = new Closer<>() ) {
 			closer.pushAll( BatchingExecutor::stop, executors );
+			closer.push( LuceneBackgroundCommitter::stop, backgroundCommitter );
 		}
 	}
 
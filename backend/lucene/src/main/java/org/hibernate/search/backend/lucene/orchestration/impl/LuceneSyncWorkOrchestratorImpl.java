@@ -9,24 +9,30 @@
 import java.io.IOException;
 import java.lang.invoke.MethodHandles;
 import java.util.Collection;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import org.hibernate.search.backend.lucene.cache.impl.LuceneQueryCachingContext;
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.HibernateSearchMultiReader;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderMetadataResolver;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.ReadIndexManagerContext;
+import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
 import org.hibernate.search.backend.lucene.work.impl.ReadWork;
 import org.hibernate.search.backend.lucene.work.impl.ReadWorkExecutionContext;
 import org.hibernate.search.engine.backend.orchestration.spi.AbstractWorkOrchestrator;
 import org.hibernate.search.engine.backend.work.execution.OperationSubmitter;
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
+import org.hibernate.search.engine.common.metrics.spi.MetricsTimer;
 import org.hibernate.search.engine.reporting.spi.EventContexts;
 import org.hibernate.search.util.common.impl.SuppressingCloser;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 import org.hibernate.search.util.common.reporting.EventContext;
 
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.similarities.Similarity;
 
@@ -36,15 +42,30 @@
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
+	/**
+	 * The name of the timer reporting the duration of read works: searches, counts, explains, ...
+	 */
+	public static final String METRIC_READ = "hibernate.search.lucene.read";
+
 	private final Similarity similarity;
 	private final LuceneQueryCachingContext cachingContext;
+	private final BackendThreads threads;
+	private final int sliceMaxDocs;
+	private final int sliceMaxSegments;
+	private final MetricsTimer readTimer;
 
 	public LuceneSyncWorkOrchestratorImpl(String name, Similarity similarity,
-			LuceneQueryCachingContext cachingContext) {
+			LuceneQueryCachingContext cachingContext,
+			BackendThreads threads, int sliceMaxDocs, int sliceMaxSegments,
+			MetricsTimer readTimer) {
 		super( name );
 		this.similarity = similarity;
 		start( null ); // Nothing to start, just force the superclass to go to the right state.
 		this.cachingContext = cachingContext;
+		this.threads = threads;
+		this.sliceMaxDocs = sliceMaxDocs;
+		this.sliceMaxSegments = sliceMaxSegments;
+		this.readTimer = readTimer;
 	}
 
 	@Override
@@ -52,7 +73,7 @@ public <T> T submit(Set<String> indexNames, Collection<? extends ReadIndexManage
 			Set<String> routingKeys, ReadWork<T> work,
 			HibernateSearchMultiReader indexReader) {
 		WorkExecution<T> workExecution = new WorkExecution<>(
-				similarity, indexNames, indexManagerContexts, routingKeys, work, indexReader, cachingContext
+				this, indexNames, indexManagerContexts, routingKeys, work, indexReader
 		);
 		Throwable throwable = null;
 		try {
@@ -101,22 +122,33 @@ protected void doStop() {
 		// Nothing to do
 	}
 
+	private IndexSearcher createSearcher(IndexReader indexReader) {
+		Executor queryExecutor = threads.getQueryExecutor().orElse( null );
+		IndexSearcher searcher = queryExecutor == null
+				? new IndexSearcher( indexReader )
+				: new SlicingIndexSearcher( indexReader, queryExecutor, sliceMaxDocs, sliceMaxSegments );
+		searcher.setSimilarity( similarity );
+
+		cachingContext.queryCache().ifPresent( searcher::setQueryCache );
+		cachingContext.queryCachingPolicy().ifPresent( searcher::setQueryCachingPolicy );
+
+		return searcher;
+	}
+
 	static class WorkExecution<T> implements AutoCloseable, ReadWorkExecutionContext {
-		private final Similarity similarity;
+		private final LuceneSyncWorkOrchestratorImpl orchestrator;
 		private final Set<String> indexNames;
 		private final HibernateSearchMultiReader indexReader;
 		private final ReadWork<T> work;
 		private final boolean closeIndexReader;
-		private final LuceneQueryCachingContext cachingContext;
 
 		private T result;
 
-		WorkExecution(Similarity similarity, Set<String> indexNames,
+		WorkExecution(LuceneSyncWorkOrchestratorImpl orchestrator, Set<String> indexNames,
 				Collection<? extends ReadIndexManagerContext> indexManagerContexts,
 				Set<String> routingKeys, ReadWork<T> work,
-				HibernateSearchMultiReader indexReader,
-				LuceneQueryCachingContext cachingContext) {
-			this.similarity = similarity;
+				HibernateSearchMultiReader indexReader) {
+			this.orchestrator = orchestrator;
 			this.indexNames = indexNames;
 			this.work = work;
 
@@ -128,18 +160,11 @@ protected void doStop() {
 				this.indexReader = indexReader;
 				this.closeIndexReader = false;
 			}
-			this.cachingContext = cachingContext;
 		}
 
 		@Override
 		public IndexSearcher createSearcher() {
-			IndexSearcher searcher = new IndexSearcher( indexReader );
-			searcher.setSimilarity( similarity );
-
-			cachingContext.queryCache().ifPresent( searcher::setQueryCache );
-			cachingContext.queryCachingPolicy().ifPresent( searcher::setQueryCachingPolicy );
-
-			return searcher;
+			return orchestrator.createSearcher( indexReader );
 		}
 
 		@Override
@@ -153,7 +178,14 @@ public EventContext getEventContext() {
 		}
 
 		public void execute() {
-			result = work.execute( this );
+			long start = System.nanoTime();
+			try {
+				result = work.execute( this );
+			}
+			finally {
+				// Failed or timed out reads count too: they are often the slowest ones.
+				orchestrator.readTimer.recordSince( start );
+			}
 		}
 
 		public T getResult() {
@@ -175,4 +207,28 @@ public void close() {
 		}
 	}
 
+	/**
+	 * An index searcher that executes queries concurrently over slices of the index segments,
+	 * using the given executor.
+	 * <p>
+	 * Leaves of the reader span all targeted shards,
+	 * so a single slice may include segments from multiple shards.
+	 */
+	private static final class SlicingIndexSearcher extends IndexSearcher {
+		private final int sliceMaxDocs;
+		private final int sliceMaxSegments;
+
+		SlicingIndexSearcher(IndexReader indexReader, Executor executor, int sliceMaxDocs, int sliceMaxSegments) {
+			super( indexReader, executor );
+			this.sliceMaxDocs = sliceMaxDocs;
+			this.sliceMaxSegments = sliceMaxSegments;
+		}
+
+		@Override
+		protected LeafSlice[] slices(List<LeafReaderContext> leaves) {
+			// Slices are computed lazily, after this constructor returned.
+			return slices( leaves, sliceMaxDocs, sliceMaxSegments );
+		}
+	}
+
 }
@@ -6,10 +6,16 @@
  */
 package org.hibernate.search.backend.lucene.resources.impl;
 
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
 import org.hibernate.search.backend.lucene.cfg.spi.LuceneBackendSpiSettings;
 import org.hibernate.search.backend.lucene.work.spi.LuceneWorkExecutorProvider;
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
 import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+import org.hibernate.search.engine.common.execution.spi.DelegatingSimpleScheduledExecutor;
 import org.hibernate.search.engine.common.execution.spi.SimpleScheduledExecutor;
 import org.hibernate.search.engine.environment.bean.BeanHolder;
 import org.hibernate.search.engine.environment.bean.BeanReference;
@@ -27,10 +33,20 @@ public class BackendThreads {
 							.asBeanReference( LuceneWorkExecutorProvider.class )
 							.withDefault( LuceneBackendSpiSettings.Defaults.BACKEND_WORK_EXECUTOR_PROVIDER )
 							.build();
+
+	private static final ConfigurationProperty<Integer> QUERY_CONCURRENCY_THREAD_POOL_SIZE =
+			ConfigurationProperty.forKey( LuceneBackendSettings.QUERY_CONCURRENCY_THREAD_POOL_SIZE )
+					.asIntegerStrictlyPositive()
+					.withDefault( LuceneBackendSettings.Defaults.QUERY_CONCURRENCY_THREAD_POOL_SIZE )
+					.build();
+
 	private final String prefix;
 
 	private ThreadPoolProvider threadPoolProvider;
 	private SimpleScheduledExecutor writeExecutor;
+	private ExecutorService queryExecutor;
+	private SimpleScheduledExecutor replicationExecutor;
+	private ExecutorService refreshExecutor;
 
 	public BackendThreads(String prefix) {
 		this.prefix = prefix;
@@ -64,11 +80,20 @@ public String recommendedThreadNamePrefix() {
 				}
 			} );
 		}
+
+		int queryThreadPoolSize = QUERY_CONCURRENCY_THREAD_POOL_SIZE.get( propertySource );
+		if ( queryThreadPoolSize > 1 ) {
+			this.queryExecutor = threadPoolProvider.newFixedThreadPool( queryThreadPoolSize,
+					prefix + " - Query thread" );
+		}
 	}
 
-	public void onStop() {
+	public synchronized void onStop() {
 		try ( Closer<RuntimeException> closer = new Closer<>() ) {
 			closer.push( SimpleScheduledExecutor::shutdownNow, writeExecutor );
+			closer.push( ExecutorService::shutdownNow, queryExecutor );
+			closer.push( SimpleScheduledExecutor::shutdownNow, replicationExecutor );
+			closer.push( ExecutorService::shutdownNow, refreshExecutor );
 		}
 	}
 
@@ -82,6 +107,43 @@ public SimpleScheduledExecutor getWriteExecutor() {
 		return writeExecutor;
 	}
 
+	/**
+	 * @return The executor to use for executing a single search query concurrently over multiple index segments,
+	 * or an empty optional if intra-query concurrency is disabled.
+	 */
+	public Optional<Executor> getQueryExecutor() {
+		checkStarted();
+		return Optional.ofNullable( queryExecutor );
+	}
+
+	/**
+	 * @return The executor to use for index replication, created on first call.
+	 * Replication may copy entire indexes, so it must not use the write executor:
+	 * that would delay indexing works.
+	 */
+	public synchronized SimpleScheduledExecutor getReplicationExecutor() {
+		checkStarted();
+		if ( replicationExecutor == null ) {
+			replicationExecutor = new DelegatingSimpleScheduledExecutor(
+					threadPoolProvider.newScheduledExecutor( 1, prefix + " - Replication thread" ),
+					threadPoolProvider.isScheduledExecutorBlocking()
+			);
+		}
+		return replicationExecutor;
+	}
+
+	/**
+	 * @return The executor to use for refreshing index readers and warming up their new segments in the background,
+	 * created on first call.
+	 */
+	public synchronized Executor getRefreshExecutor() {
+		checkStarted();
+		if ( refreshExecutor == null ) {
+			refreshExecutor = threadPoolProvider.newFixedThreadPool( 1, prefix + " - Refresh thread" );
+		}
+		return refreshExecutor;
+	}
+
 	private void checkStarted() {
 		if ( writeExecutor == null ) {
 			throw new AssertionFailure(
@@ -6,9 +6,13 @@
  */
 package org.hibernate.search.backend.lucene.schema.management.impl;
 
+import java.nio.file.Path;
 import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.BinaryOperator;
+import java.util.function.Function;
 
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneParallelWorkOrchestrator;
 import org.hibernate.search.backend.lucene.work.impl.IndexManagementWork;
@@ -84,6 +88,29 @@ public CompletableFuture<Long> computeSizeInBytes(OperationSubmitter operationSu
 		return totalSizeFuture;
 	}
 
+	public CompletableFuture<?> backup(Path targetDirectory, OperationSubmitter operationSubmitter) {
+		return doSubmitPerShard( luceneWorkFactory::backup, targetDirectory, operationSubmitter );
+	}
+
+	public CompletableFuture<?> restore(Path sourceDirectory, OperationSubmitter operationSubmitter) {
+		return doSubmitPerShard( luceneWorkFactory::restore, sourceDirectory, operationSubmitter );
+	}
+
+	// Each shard uses its own subdirectory, if sharding is enabled.
+	private CompletableFuture<?> doSubmitPerShard(Function<Path, IndexManagementWork<?>> workFactory,
+			Path rootDirectory, OperationSubmitter operationSubmitter) {
+		Map<Optional<String>, LuceneParallelWorkOrchestrator> orchestrators =
+				indexManagerContext.allManagementOrchestratorsByShardId();
+		CompletableFuture<?>[] futures = new CompletableFuture[orchestrators.size()];
+		int i = 0;
+		for ( Map.Entry<Optional<String>, LuceneParallelWorkOrchestrator> entry : orchestrators.entrySet() ) {
+			Path shardDirectory = entry.getKey().map( rootDirectory::resolve ).orElse( rootDirectory );
+			futures[i] = entry.getValue().submit( workFactory.apply( shardDirectory ), operationSubmitter );
+			++i;
+		}
+		return CompletableFuture.allOf( futures );
+	}
+
 	private CompletableFuture<?> doSubmit(IndexManagementWork<?> work, OperationSubmitter operationSubmitter) {
 		Collection<LuceneParallelWorkOrchestrator> orchestrators =
 				indexManagerContext.allManagementOrchestrators();
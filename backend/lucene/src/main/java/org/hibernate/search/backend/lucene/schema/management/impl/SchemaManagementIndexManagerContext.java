@@ -7,6 +7,7 @@
 package org.hibernate.search.backend.lucene.schema.management.impl;
 
 import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneParallelWorkOrchestrator;
@@ -15,5 +16,11 @@ public interface SchemaManagementIndexManagerContext {
 
 	Collection<LuceneParallelWorkOrchestrator> allManagementOrchestrators();
 
+	/**
+	 * @return The management orchestrators of all shards, by shard identifier.
+	 * The shard identifier is empty if sharding is disabled.
+	 */
+	Map<Optional<String>, LuceneParallelWorkOrchestrator> allManagementOrchestratorsByShardId();
+
 	Optional<String> backendName();
 }
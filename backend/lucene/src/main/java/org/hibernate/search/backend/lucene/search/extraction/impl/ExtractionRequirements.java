@@ -53,8 +53,8 @@ private ExtractionRequirements(Builder builder) {
 	}
 
 	public LuceneCollectors createCollectors(IndexSearcher indexSearcher, Query originalLuceneQuery, Sort sort,
-			IndexReaderMetadataResolver metadataResolver, int maxDocs, int offset, TimeoutManager timeoutManager,
-			int requestedTotalHitCountThreshold)
+			IndexReaderMetadataResolver metadataResolver, int maxDocs, int offset, ScoreDoc after,
+			TimeoutManager timeoutManager, int requestedTotalHitCountThreshold)
 			throws IOException {
 		// Necessary to unwrap boolean queries with a single clause, in particular:
 		// we have optimizations in place when there is a single query and this query is a MatchAllDocsQuery.
@@ -83,7 +83,7 @@ public LuceneCollectors createCollectors(IndexSearcher indexSearcher, Query orig
 
 		if ( maxDocs > 0 ) {
 			if ( sort == null || isDescendingScoreSort( sort ) ) {
-				topDocsCollectorManager = new HibernateSearchTopScoreDocCollectorManager( offset, maxDocs, null,
+				topDocsCollectorManager = new HibernateSearchTopScoreDocCollectorManager( offset, maxDocs, after,
 						totalHitCountThreshold, true );
 			}
 			else {
@@ -95,8 +95,8 @@ public LuceneCollectors createCollectors(IndexSearcher indexSearcher, Query orig
 					// If there's a SCORE sort field, make sure we remember that, so that later we can optimize rescoring
 					scoreSortFieldIndexForRescoring = getScoreSortFieldIndexOrNull( sort );
 				}
-				topDocsCollectorManager = new HibernateSearchTopFieldCollectorManager( offset, sort, maxDocs, null,
-						totalHitCountThreshold, true );
+				topDocsCollectorManager = new HibernateSearchTopFieldCollectorManager( offset, sort, maxDocs,
+						(FieldDoc) after, totalHitCountThreshold, true );
 			}
 			collectorsForAllMatchingDocsBuilder.add( LuceneCollectors.TOP_DOCS_KEY, topDocsCollectorManager );
 		}
@@ -218,7 +218,10 @@ public TopDocs reduce(Collection<TopScoreDocCollector> collectors) {
 			for ( TopScoreDocCollector collector : collectors ) {
 				topDocs[i++] = collector.topDocs();
 			}
-			return TopDocs.merge( offset, numHits, topDocs );
+			// numHits includes the offset, while merge() expects the number of hits to return after the offset.
+			// This matters when there are multiple collectors (concurrent search),
+			// as the merged hits are no longer capped by the hits of a single collector.
+			return TopDocs.merge( offset, Math.max( 0, numHits - offset ), topDocs );
 		}
 	}
 
@@ -242,7 +245,8 @@ public TopFieldDocs reduce(Collection<TopFieldCollector> collectors) {
 			for ( TopFieldCollector collector : collectors ) {
 				topDocs[i++] = collector.topDocs();
 			}
-			return TopDocs.merge( sort, offset, numHits, topDocs );
+			// See HibernateSearchTopScoreDocCollectorManager#reduce
+			return TopDocs.merge( sort, offset, Math.max( 0, numHits - offset ), topDocs );
 		}
 	}
 }
@@ -0,0 +1,59 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.query;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.engine.cfg.spi.ParseUtils;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+public enum ScrollStrategyName {
+
+	/**
+	 * The default strategy,
+	 * where the query is re-executed with an offset and an increasingly large limit
+	 * every time the hits fetched so far have been consumed.
+	 * <p>
+	 * Cheap for short scrolls, but the cost of each re-execution grows with the number of hits already scrolled through.
+	 */
+	OFFSET( "offset" ),
+	/**
+	 * A strategy where the query is re-executed with a constant limit
+	 * every time the hits fetched so far have been consumed,
+	 * only collecting hits sorted after the last hit returned so far.
+	 * <p>
+	 * Each re-execution uses a bounded amount of memory, regardless of the number of hits already scrolled through,
+	 * and may skip non-competitive hits when the sort allows it.
+	 */
+	SEARCH_AFTER( "search-after" );
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	// This method conforms to the MicroProfile Config specification. Do not change its signature.
+	public static ScrollStrategyName of(String value) {
+		return ParseUtils.parseDiscreteValues(
+				ScrollStrategyName.values(),
+				ScrollStrategyName::externalRepresentation,
+				log::invalidScrollStrategyName,
+				value
+		);
+	}
+
+	private final String externalRepresentation;
+
+	ScrollStrategyName(String externalRepresentation) {
+		this.externalRepresentation = externalRepresentation;
+	}
+
+	/**
+	 * @return The expected string representation in configuration properties.
+	 */
+	private String externalRepresentation() {
+		return externalRepresentation;
+	}
+}
@@ -0,0 +1,100 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.query.impl;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.HibernateSearchMultiReader;
+import org.hibernate.search.backend.lucene.orchestration.impl.LuceneSyncWorkOrchestrator;
+import org.hibernate.search.engine.reporting.spi.EventContexts;
+import org.hibernate.search.engine.search.query.spi.SearchQueryBatchElement;
+import org.hibernate.search.engine.search.query.spi.SearchQueryBatchExecutor;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * Executes batched queries targeting the same indexes with the same routing keys
+ * on a single index reader, instead of opening one reader per query.
+ */
+final class LuceneSearchQueryBatchExecutor implements SearchQueryBatchExecutor {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final LuceneSyncWorkOrchestrator queryOrchestrator;
+	private final Set<String> indexNames;
+	private final Set<String> routingKeys;
+
+	LuceneSearchQueryBatchExecutor(LuceneSyncWorkOrchestrator queryOrchestrator, Set<String> indexNames,
+			Set<String> routingKeys) {
+		this.queryOrchestrator = queryOrchestrator;
+		this.indexNames = indexNames;
+		this.routingKeys = routingKeys;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[indexNames=" + indexNames + ", routingKeys=" + routingKeys + "]";
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if ( this == o ) {
+			return true;
+		}
+		if ( o == null || getClass() != o.getClass() ) {
+			return false;
+		}
+		LuceneSearchQueryBatchExecutor that = (LuceneSearchQueryBatchExecutor) o;
+		return queryOrchestrator == that.queryOrchestrator
+				&& indexNames.equals( that.indexNames )
+				&& Objects.equals( routingKeys, that.routingKeys );
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash( System.identityHashCode( queryOrchestrator ), indexNames, routingKeys );
+	}
+
+	@Override
+	public void execute(List<? extends SearchQueryBatchElement<?>> elements) {
+		if ( elements.size() == 1 ) {
+			SearchQueryBatchExecutor.executeSeparately( elements.get( 0 ) );
+			return;
+		}
+
+		// All elements target the same indexes with the same routing keys, so any query can open the reader.
+		HibernateSearchMultiReader indexReader = ( (LuceneSearchQueryImpl<?>) elements.get( 0 ).query() )
+				.openIndexReader();
+		try {
+			for ( SearchQueryBatchElement<?> element : elements ) {
+				execute( element, indexReader );
+			}
+		}
+		finally {
+			try {
+				indexReader.close();
+			}
+			catch (IOException | RuntimeException e) {
+				log.unableToCloseIndexReader( EventContexts.fromIndexNames( indexNames ), e );
+			}
+		}
+	}
+
+	private static <H> void execute(SearchQueryBatchElement<H> element, HibernateSearchMultiReader indexReader) {
+		try {
+			element.complete( ( (LuceneSearchQueryImpl<H>) element.query() )
+					.fetch( indexReader, element.offset(), element.limit() ) );
+		}
+		catch (RuntimeException e) {
+			element.fail( e );
+		}
+	}
+}
@@ -23,6 +23,7 @@
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.lowlevel.common.impl.MetadataFields;
 import org.hibernate.search.backend.lucene.lowlevel.query.impl.Queries;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.ShardPruning;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneSyncWorkOrchestrator;
 import org.hibernate.search.backend.lucene.search.aggregation.impl.AggregationRequestContext;
 import org.hibernate.search.backend.lucene.search.aggregation.impl.LuceneSearchAggregation;
@@ -33,6 +34,7 @@
 import org.hibernate.search.backend.lucene.search.projection.impl.LuceneSearchProjection;
 import org.hibernate.search.backend.lucene.search.projection.impl.ProjectionRequestContext;
 import org.hibernate.search.backend.lucene.search.query.LuceneSearchQuery;
+import org.hibernate.search.backend.lucene.search.query.ScrollStrategyName;
 import org.hibernate.search.backend.lucene.search.sort.impl.LuceneSearchSort;
 import org.hibernate.search.backend.lucene.search.sort.impl.LuceneSearchSortCollector;
 import org.hibernate.search.backend.lucene.work.impl.LuceneWorkFactory;
@@ -61,6 +63,8 @@
 
 	private final LuceneWorkFactory workFactory;
 	private final LuceneSyncWorkOrchestrator queryOrchestrator;
+	private final ScrollStrategyName scrollStrategyName;
+	private final boolean shardPruning;
 
 	private final LuceneSearchQueryIndexScope<?> scope;
 	private final BackendSessionContext sessionContext;
@@ -82,12 +86,16 @@
 	public LuceneSearchQueryBuilder(
 			LuceneWorkFactory workFactory,
 			LuceneSyncWorkOrchestrator queryOrchestrator,
+			ScrollStrategyName scrollStrategyName,
+			boolean shardPruning,
 			LuceneSearchQueryIndexScope<?> scope,
 			BackendSessionContext sessionContext,
 			SearchLoadingContextBuilder<?, ?> loadingContextBuilder,
 			LuceneSearchProjection<H> rootProjection) {
 		this.workFactory = workFactory;
 		this.queryOrchestrator = queryOrchestrator;
+		this.scrollStrategyName = scrollStrategyName;
+		this.shardPruning = shardPruning;
 
 		this.scope = scope;
 		this.sessionContext = sessionContext;
@@ -284,7 +292,7 @@ public LuceneSearchQuery<H> build() {
 		);
 
 		return new LuceneSearchQueryImpl<>(
-				queryOrchestrator, workFactory,
+				queryOrchestrator, workFactory, scrollStrategyName,
 				scope,
 				sessionContext,
 				loadingContext,
@@ -292,6 +300,7 @@ public LuceneSearchQuery<H> build() {
 				timeoutManager,
 				definitiveLuceneQuery,
 				luceneSort,
+				shardPruning ? ShardPruning.of( definitiveLuceneQuery ) : ShardPruning.none(),
 				searcher, totalHitCountThreshold
 		);
 	}
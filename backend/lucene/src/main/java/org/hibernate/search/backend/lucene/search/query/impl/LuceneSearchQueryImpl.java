@@ -6,19 +6,27 @@
  */
 package org.hibernate.search.backend.lucene.search.query.impl;
 
+import java.io.IOException;
 import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.lowlevel.query.impl.DocIdRangeQuery;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.HibernateSearchMultiReader;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.ShardPruning;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneSyncWorkOrchestrator;
 import org.hibernate.search.backend.lucene.search.common.impl.LuceneSearchIndexContext;
 import org.hibernate.search.backend.lucene.search.query.LuceneSearchQuery;
 import org.hibernate.search.backend.lucene.search.query.LuceneSearchResult;
 import org.hibernate.search.backend.lucene.search.query.LuceneSearchScroll;
+import org.hibernate.search.backend.lucene.search.query.ScrollStrategyName;
 import org.hibernate.search.backend.lucene.work.impl.LuceneSearcher;
 import org.hibernate.search.backend.lucene.work.impl.LuceneWorkFactory;
 import org.hibernate.search.backend.lucene.work.impl.ReadWork;
@@ -26,11 +34,14 @@
 import org.hibernate.search.engine.backend.types.converter.runtime.ToDocumentValueConvertContext;
 import org.hibernate.search.engine.backend.types.converter.spi.DslConverter;
 import org.hibernate.search.engine.common.dsl.spi.DslExtensionState;
+import org.hibernate.search.engine.reporting.spi.EventContexts;
 import org.hibernate.search.engine.search.loading.spi.SearchLoadingContext;
 import org.hibernate.search.engine.search.query.SearchQueryExtension;
 import org.hibernate.search.engine.search.query.spi.AbstractSearchQuery;
+import org.hibernate.search.engine.search.query.spi.SearchQueryBatchExecutor;
 import org.hibernate.search.engine.search.timeout.spi.TimeoutManager;
 import org.hibernate.search.util.common.impl.Contracts;
+import org.hibernate.search.util.common.impl.Futures;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 import org.apache.lucene.search.Explanation;
@@ -44,28 +55,32 @@
 
 	private final LuceneSyncWorkOrchestrator queryOrchestrator;
 	private final LuceneWorkFactory workFactory;
+	private final ScrollStrategyName scrollStrategyName;
 	private final LuceneSearchQueryIndexScope<?> scope;
 	private final BackendSessionContext sessionContext;
 	private final SearchLoadingContext<?> loadingContext;
 	private final Set<String> routingKeys;
 	private final Query luceneQuery;
 	private final Sort luceneSort;
+	private final ShardPruning shardPruning;
 	private final LuceneSearcher<LuceneLoadableSearchResult<H>, LuceneExtractableSearchResult<H>> searcher;
 	private final Long totalHitCountThreshold;
 
 	private TimeoutManager timeoutManager;
 
 	LuceneSearchQueryImpl(LuceneSyncWorkOrchestrator queryOrchestrator,
-			LuceneWorkFactory workFactory, LuceneSearchQueryIndexScope<?> scope,
+			LuceneWorkFactory workFactory, ScrollStrategyName scrollStrategyName,
+			LuceneSearchQueryIndexScope<?> scope,
 			BackendSessionContext sessionContext,
 			SearchLoadingContext<?> loadingContext,
 			Set<String> routingKeys,
 			TimeoutManager timeoutManager,
-			Query luceneQuery, Sort luceneSort,
+			Query luceneQuery, Sort luceneSort, ShardPruning shardPruning,
 			LuceneSearcher<LuceneLoadableSearchResult<H>, LuceneExtractableSearchResult<H>> searcher,
 			Long totalHitCountThreshold) {
 		this.queryOrchestrator = queryOrchestrator;
 		this.workFactory = workFactory;
+		this.scrollStrategyName = scrollStrategyName;
 		this.scope = scope;
 		this.sessionContext = sessionContext;
 		this.loadingContext = loadingContext;
@@ -73,6 +88,7 @@
 		this.timeoutManager = timeoutManager;
 		this.luceneQuery = luceneQuery;
 		this.luceneSort = luceneSort;
+		this.shardPruning = shardPruning;
 		this.searcher = searcher;
 		this.totalHitCountThreshold = totalHitCountThreshold;
 	}
@@ -96,30 +112,76 @@ public <Q> Q extension(SearchQueryExtension<Q, H> extension) {
 
 	@Override
 	public LuceneSearchResult<H> fetch(Integer offset, Integer limit) {
-		return doFetch( offset, limit, true );
+		return doFetch( offset, limit, true, null );
 	}
 
 	@Override
 	public List<H> fetchHits(Integer offset, Integer limit) {
-		return doFetch( offset, limit, false ).hits();
+		return doFetch( offset, limit, false, null ).hits();
 	}
 
 	@Override
 	public long fetchTotalHitCount() {
 		timeoutManager.start();
 		ReadWork<Integer> work = workFactory.count( searcher );
-		Integer result = doSubmit( work );
+		Integer result = doSubmitWithPruning( work, null );
 		timeoutManager.stop();
 		return result;
 	}
 
+	// Lucene executes searches in-process, without any I/O we could wait for asynchronously:
+	// the async methods simply execute in the calling thread.
+
+	@Override
+	public CompletionStage<LuceneSearchResult<H>> fetchAsync(Integer offset, Integer limit) {
+		return Futures.create( () -> CompletableFuture.completedFuture( fetch( offset, limit ) ) );
+	}
+
+	@Override
+	public CompletionStage<List<H>> fetchHitsAsync(Integer offset, Integer limit) {
+		return Futures.create( () -> CompletableFuture.completedFuture( fetchHits( offset, limit ) ) );
+	}
+
+	@Override
+	public CompletionStage<Long> fetchTotalHitCountAsync() {
+		return Futures.create( () -> CompletableFuture.completedFuture( fetchTotalHitCount() ) );
+	}
+
 	@Override
 	public LuceneSearchScroll<H> scroll(int chunkSize) {
-		Set<String> indexNames = scope.hibernateSearchIndexNames();
-		HibernateSearchMultiReader indexReader = HibernateSearchMultiReader.open(
-				indexNames, scope.indexes(), routingKeys );
+		HibernateSearchMultiReader indexReader = openIndexReader();
 		return new LuceneSearchScrollImpl<>( queryOrchestrator, workFactory, scope, routingKeys, timeoutManager,
-				searcher, totalHitCountThreshold( true ), indexReader, chunkSize );
+				searcher, totalHitCountThreshold( true ), indexReader, chunkSize,
+				ScrollStrategyName.SEARCH_AFTER.equals( scrollStrategyName ) );
+	}
+
+	@Override
+	public List<LuceneSearchScroll<H>> scroll(int chunkSize, int sliceCount) {
+		Contracts.assertStrictlyPositive( sliceCount, "sliceCount" );
+		if ( sliceCount == 1 ) {
+			return Collections.singletonList( scroll( chunkSize ) );
+		}
+		HibernateSearchMultiReader indexReader = openIndexReader();
+		// All slices share the same reader, so that they partition the exact same set of documents.
+		// Each slice covers a contiguous range of doc IDs, regardless of how documents are spread across shards
+		// and segments.
+		int maxDoc = indexReader.maxDoc();
+		List<LuceneSearchScroll<H>> scrolls = new ArrayList<>( sliceCount );
+		for ( int i = 0; i < sliceCount; i++ ) {
+			if ( i > 0 ) {
+				// Each scroll will decrement the usage counter when closed.
+				indexReader.incRef();
+			}
+			Query sliceFilter = new DocIdRangeQuery( (int) ( (long) maxDoc * i / sliceCount ),
+					(int) ( (long) maxDoc * ( i + 1 ) / sliceCount ) );
+			// Slices may be consumed concurrently: each needs its own timeout manager.
+			TimeoutManager sliceTimeoutManager = timeoutManager.copy();
+			scrolls.add( new LuceneSearchScrollImpl<>( queryOrchestrator, workFactory, scope, routingKeys,
+					sliceTimeoutManager, searcher.withFilter( sliceFilter, sliceTimeoutManager ),
+					totalHitCountThreshold( true ), indexReader, chunkSize,
+					ScrollStrategyName.SEARCH_AFTER.equals( scrollStrategyName ) ) );
+		}
+		return scrolls;
 	}
 
 	@Override
@@ -170,11 +232,26 @@ public void failAfter(long timeout, TimeUnit timeUnit) {
 		searcher.setTimeoutManager( timeoutManager );
 	}
 
-	private LuceneSearchResult<H> doFetch(Integer offset, Integer limit, boolean trackTotalHitCount) {
+	@Override
+	public SearchQueryBatchExecutor batchExecutor() {
+		return new LuceneSearchQueryBatchExecutor( queryOrchestrator, scope.hibernateSearchIndexNames(), routingKeys );
+	}
+
+	LuceneSearchResult<H> fetch(HibernateSearchMultiReader indexReader, Integer offset, Integer limit) {
+		return doFetch( offset, limit, true, indexReader );
+	}
+
+	HibernateSearchMultiReader openIndexReader() {
+		return HibernateSearchMultiReader.open( scope.hibernateSearchIndexNames(), scope.indexes(), routingKeys,
+				shardPruning );
+	}
+
+	private LuceneSearchResult<H> doFetch(Integer offset, Integer limit, boolean trackTotalHitCount,
+			HibernateSearchMultiReader indexReader) {
 		timeoutManager.start();
 		ReadWork<LuceneLoadableSearchResult<H>> work = workFactory.search( searcher, offset, limit,
 				totalHitCountThreshold( trackTotalHitCount ) );
-		LuceneSearchResult<H> result = doSubmit( work )
+		LuceneSearchResult<H> result = doSubmitWithPruning( work, indexReader )
 				/*
 				 * WARNING: the following call must run in the user thread.
 				 * If we introduce async processing, we will have to add a loadAsync method here,
@@ -199,11 +276,43 @@ private Explanation doExplain(String typeName, String id) {
 	}
 
 	private <T> T doSubmit(ReadWork<T> work) {
+		return doSubmit( work, null );
+	}
+
+	private <T> T doSubmitWithPruning(ReadWork<T> work, HibernateSearchMultiReader indexReader) {
+		if ( indexReader != null || !shardPruning.isEnabled() ) {
+			// Either the reader is provided, and may be shared with other queries,
+			// or there is nothing to prune and the orchestrator will open the exact same reader.
+			return doSubmit( work, indexReader );
+		}
+		HibernateSearchMultiReader prunedIndexReader = openIndexReader();
+		try {
+			return doSubmit( work, prunedIndexReader );
+		}
+		finally {
+			closeIndexReader( prunedIndexReader );
+		}
+	}
+
+	private void closeIndexReader(HibernateSearchMultiReader indexReader) {
+		if ( indexReader == null ) {
+			return;
+		}
+		try {
+			indexReader.close();
+		}
+		catch (IOException | RuntimeException e) {
+			log.unableToCloseIndexReader( EventContexts.fromIndexNames( scope.hibernateSearchIndexNames() ), e );
+		}
+	}
+
+	private <T> T doSubmit(ReadWork<T> work, HibernateSearchMultiReader indexReader) {
 		return queryOrchestrator.submit(
 				scope.hibernateSearchIndexNames(),
 				scope.indexes(),
 				routingKeys,
-				work
+				work,
+				indexReader
 		);
 	}
 
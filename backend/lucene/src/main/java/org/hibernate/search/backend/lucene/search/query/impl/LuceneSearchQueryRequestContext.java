@@ -8,6 +8,7 @@
 
 import java.util.Set;
 
+import org.hibernate.search.backend.lucene.lowlevel.query.impl.Queries;
 import org.hibernate.search.engine.backend.session.spi.BackendSessionContext;
 import org.hibernate.search.engine.search.loading.spi.SearchLoadingContext;
 
@@ -53,6 +54,11 @@ SearchLoadingContext<?> getLoadingContext() {
 		return loadingContext;
 	}
 
+	LuceneSearchQueryRequestContext withFilter(Query filter) {
+		return new LuceneSearchQueryRequestContext( queryIndexScope, sessionContext, loadingContext,
+				Queries.boolFilter( luceneQuery, filter ), luceneSort, routingKeys );
+	}
+
 	Query getLuceneQuery() {
 		return luceneQuery;
 	}
@@ -10,6 +10,8 @@
 import java.lang.invoke.MethodHandles;
 import java.util.Collections;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.HibernateSearchMultiReader;
@@ -21,9 +23,13 @@
 import org.hibernate.search.backend.lucene.work.impl.LuceneWorkFactory;
 import org.hibernate.search.backend.lucene.work.impl.ReadWork;
 import org.hibernate.search.engine.reporting.spi.EventContexts;
+import org.hibernate.search.engine.search.query.SearchResultTotal;
 import org.hibernate.search.engine.search.timeout.spi.TimeoutManager;
+import org.hibernate.search.util.common.impl.Futures;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
+import org.apache.lucene.search.ScoreDoc;
+
 public class LuceneSearchScrollImpl<H> implements LuceneSearchScroll<H> {
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
@@ -40,11 +46,14 @@
 	// specific to this scroll instance:
 	private final HibernateSearchMultiReader indexReader;
 	private final int chunkSize;
+	private final boolean searchAfter;
 
 	private int nextChunkOffset = 0;
 	private int currentPageLimit;
 	private LuceneExtractableSearchResult<H> currentPage;
 	private int currentPageOffset = 0;
+	private SearchResultTotal total;
+	private boolean closed = false;
 
 	public LuceneSearchScrollImpl(LuceneSyncWorkOrchestrator queryOrchestrator,
 			LuceneWorkFactory workFactory, LuceneSearchQueryIndexScope<?> scope,
@@ -52,7 +61,7 @@ public LuceneSearchScrollImpl(LuceneSyncWorkOrchestrator queryOrchestrator,
 			TimeoutManager timeoutManager,
 			LuceneSearcher<LuceneLoadableSearchResult<H>, LuceneExtractableSearchResult<H>> searcher,
 			int totalHitCountThreshold,
-			HibernateSearchMultiReader indexReader, int chunkSize) {
+			HibernateSearchMultiReader indexReader, int chunkSize, boolean searchAfter) {
 		this.queryOrchestrator = queryOrchestrator;
 		this.workFactory = workFactory;
 		this.scope = scope;
@@ -62,13 +71,20 @@ public LuceneSearchScrollImpl(LuceneSyncWorkOrchestrator queryOrchestrator,
 		this.totalHitCountThreshold = totalHitCountThreshold;
 		this.indexReader = indexReader;
 		this.chunkSize = chunkSize;
+		this.searchAfter = searchAfter;
 		this.currentPageLimit = chunkSize * 4; // Will fetch the topdocs for the first 4 pages initially
 	}
 
 	@Override
 	public void close() {
+		if ( closed ) {
+			return;
+		}
+		closed = true;
 		try {
-			indexReader.close();
+			// The reader may be shared with other scrolls (see sliced scrolls):
+			// decrement the usage counter instead of closing the reader directly.
+			indexReader.decRef();
 		}
 		catch (IOException | RuntimeException e) {
 			log.unableToCloseIndexReader( EventContexts.fromIndexNames( scope.hibernateSearchIndexNames() ), e );
@@ -86,22 +102,33 @@ public LuceneSearchScrollResult<H> next() {
 		}
 	}
 
+	@Override
+	public CompletionStage<LuceneSearchScrollResult<H>> nextAsync() {
+		// Lucene executes searches in-process: just execute in the calling thread.
+		return Futures.create( () -> CompletableFuture.completedFuture( next() ) );
+	}
+
 	private LuceneSearchScrollResult<H> doNext() {
-		if ( currentPage == null || nextChunkOffset + chunkSize > currentPageLimit + currentPageOffset ) {
-			if ( currentPage != null ) {
-				currentPageLimit *= 2;
-			}
-			currentPageOffset = nextChunkOffset;
+		if ( currentPage == null ) {
 			currentPage = doSubmitWithIndexReader(
 					workFactory.scroll( searcher, currentPageOffset, currentPageLimit, totalHitCountThreshold ),
 					indexReader );
+			total = currentPage.total();
+		}
+		else if ( nextChunkOffset + chunkSize > currentPageLimit + currentPageOffset ) {
+			if ( searchAfter ) {
+				fetchNextPageAfterCurrentPage();
+			}
+			else {
+				fetchNextPageWithOffset();
+			}
 		}
 
 		int nextChunkStartIndexInPage = nextChunkOffset - currentPageOffset;
 
 		// no more results check
 		if ( nextChunkStartIndexInPage >= currentPage.hitSize() ) {
-			return new LuceneSearchScrollResultImpl<>( currentPage.total(), false, Collections.emptyList(),
+			return new LuceneSearchScrollResultImpl<>( total, false, Collections.emptyList(),
 					timeoutManager.tookTime(), timeoutManager.isTimedOut() );
 		}
 
@@ -118,19 +145,42 @@ private LuceneSearchScrollResult<H> doNext() {
 
 		/*
 		 * WARNING: the following call must run in the user thread.
-		 * If we introduce async processing, we will have to add a nextAsync method here,
-		 * as well as in ProjectionHitMapper and EntityLoader.
-		 * This method may not be easy to implement for blocking mappers,
-		 * so we may choose to throw exceptions for those.
+		 * Since Lucene executes searches in-process, nextAsync() relies on this method,
+		 * so this holds even for asynchronous execution.
 		 */
 		LuceneSearchResult<H> result = loadableSearchResult.loadBlocking();
 
 		// increasing the index for further next(s)
 		nextChunkOffset += chunkSize;
-		return new LuceneSearchScrollResultImpl<>( currentPage.total(), true, result.hits(),
+		return new LuceneSearchScrollResultImpl<>( total, true, result.hits(),
 				result.took(), result.timedOut() );
 	}
 
+	private void fetchNextPageWithOffset() {
+		currentPageLimit *= 2;
+		currentPageOffset = nextChunkOffset;
+		currentPage = doSubmitWithIndexReader(
+				workFactory.scroll( searcher, currentPageOffset, currentPageLimit, totalHitCountThreshold ),
+				indexReader );
+		total = currentPage.total();
+	}
+
+	private void fetchNextPageAfterCurrentPage() {
+		if ( currentPage.hitSize() < currentPageLimit ) {
+			// The current page was not full: there are no more hits after it.
+			return;
+		}
+		// Chunks are aligned on page boundaries, so the last hit of the current page
+		// is the last hit returned to the caller.
+		ScoreDoc after = currentPage.scoreDoc( currentPageLimit - 1 );
+		currentPageOffset += currentPageLimit;
+		// We already know the total hit count from the first page,
+		// and not tracking it allows Lucene to skip non-competitive hits.
+		currentPage = doSubmitWithIndexReader(
+				workFactory.scrollAfter( searcher, after, currentPageLimit, 0 ),
+				indexReader );
+	}
+
 	private <T> T doSubmitWithIndexReader(ReadWork<T> work, HibernateSearchMultiReader indexReader) {
 		return queryOrchestrator.submit(
 				scope.hibernateSearchIndexNames(),
@@ -100,6 +100,13 @@ public CompletableFuture<?> delete(DocumentReferenceProvider referenceProvider,
 	private <T> CompletableFuture<T> submit(String documentId, String routingKey, IndexingWork<T> work,
 			DocumentCommitStrategy commitStrategy, DocumentRefreshStrategy refreshStrategy,
 			OperationSubmitter operationSubmitter) {
+		return indexManagerContext.withStableRouting( () -> doSubmit( documentId, routingKey, work,
+				commitStrategy, refreshStrategy, operationSubmitter ) );
+	}
+
+	private <T> CompletableFuture<T> doSubmit(String documentId, String routingKey, IndexingWork<T> work,
+			DocumentCommitStrategy commitStrategy, DocumentRefreshStrategy refreshStrategy,
+			OperationSubmitter operationSubmitter) {
 		// Route the work to the appropriate shard
 		LuceneSerialWorkOrchestrator orchestrator = indexManagerContext.indexingOrchestrator( documentId, routingKey );
 
@@ -37,7 +37,7 @@ public class LuceneIndexIndexingPlan implements IndexIndexingPlan {
 	private final DocumentCommitStrategy commitStrategy;
 	private final DocumentRefreshStrategy refreshStrategy;
 
-	private final Map<LuceneSerialWorkOrchestrator, List<SingleDocumentIndexingWork>> worksByOrchestrator = new HashMap<>();
+	private final List<RoutedWork> works = new ArrayList<>();
 
 	public LuceneIndexIndexingPlan(LuceneWorkFactory factory,
 			WorkExecutionIndexManagerContext indexManagerContext,
@@ -95,39 +95,63 @@ public void delete(DocumentReferenceProvider referenceProvider) {
 	@Override
 	public CompletableFuture<MultiEntityOperationExecutionReport> executeAndReport(OperationSubmitter operationSubmitter) {
 		try {
-			List<CompletableFuture<MultiEntityOperationExecutionReport>> shardReportFutures = new ArrayList<>();
-			for ( Map.Entry<LuceneSerialWorkOrchestrator, List<SingleDocumentIndexingWork>> entry : worksByOrchestrator
-					.entrySet() ) {
-				LuceneSerialWorkOrchestrator orchestrator = entry.getKey();
-				List<SingleDocumentIndexingWork> works = entry.getValue();
-				LuceneIndexIndexingPlanExecution execution = new LuceneIndexIndexingPlanExecution(
-						orchestrator, entityReferenceFactory,
-						commitStrategy, refreshStrategy,
-						works
-				);
-				shardReportFutures.add( execution.execute( operationSubmitter ) );
-			}
-			return MultiEntityOperationExecutionReport.allOf( shardReportFutures );
+			// Route works when submitting them, not when collecting them,
+			// so that shards being split in the meantime are taken into account.
+			return indexManagerContext.withStableRouting( () -> routeAndExecute( operationSubmitter ) );
 		}
 		finally {
-			worksByOrchestrator.clear();
+			works.clear();
 		}
 	}
 
 	@Override
 	public void discard() {
-		worksByOrchestrator.clear();
+		works.clear();
+	}
+
+	private CompletableFuture<MultiEntityOperationExecutionReport> routeAndExecute(
+			OperationSubmitter operationSubmitter) {
+		Map<LuceneSerialWorkOrchestrator, List<SingleDocumentIndexingWork>> worksByOrchestrator = new HashMap<>();
+		for ( RoutedWork routedWork : works ) {
+			// Route the work to the appropriate shard
+			LuceneSerialWorkOrchestrator orchestrator =
+					indexManagerContext.indexingOrchestrator( routedWork.documentId, routedWork.routingKey );
+			List<SingleDocumentIndexingWork> orchestratorWorks = worksByOrchestrator.get( orchestrator );
+			if ( orchestratorWorks == null ) {
+				orchestratorWorks = new ArrayList<>();
+				worksByOrchestrator.put( orchestrator, orchestratorWorks );
+			}
+			orchestratorWorks.add( routedWork.work );
+		}
+
+		List<CompletableFuture<MultiEntityOperationExecutionReport>> shardReportFutures = new ArrayList<>();
+		for ( Map.Entry<LuceneSerialWorkOrchestrator, List<SingleDocumentIndexingWork>> entry : worksByOrchestrator
+				.entrySet() ) {
+			LuceneSerialWorkOrchestrator orchestrator = entry.getKey();
+			List<SingleDocumentIndexingWork> orchestratorWorks = entry.getValue();
+			LuceneIndexIndexingPlanExecution execution = new LuceneIndexIndexingPlanExecution(
+					orchestrator, entityReferenceFactory,
+					commitStrategy, refreshStrategy,
+					orchestratorWorks
+			);
+			shardReportFutures.add( execution.execute( operationSubmitter ) );
+		}
+		return MultiEntityOperationExecutionReport.allOf( shardReportFutures );
 	}
 
 	private void collect(String documentId, String routingKey, SingleDocumentIndexingWork work) {
-		// Route the work to the appropriate shard
-		LuceneSerialWorkOrchestrator orchestrator = indexManagerContext.indexingOrchestrator( documentId, routingKey );
+		works.add( new RoutedWork( documentId, routingKey, work ) );
+	}
+
+	private static final class RoutedWork {
+		private final String documentId;
+		private final String routingKey;
+		private final SingleDocumentIndexingWork work;
 
-		List<SingleDocumentIndexingWork> works = worksByOrchestrator.get( orchestrator );
-		if ( works == null ) {
-			works = new ArrayList<>();
-			worksByOrchestrator.put( orchestrator, works );
+		private RoutedWork(String documentId, String routingKey, SingleDocumentIndexingWork work) {
+			this.documentId = documentId;
+			this.routingKey = routingKey;
+			this.work = work;
 		}
-		works.add( work );
 	}
 }
@@ -8,6 +8,7 @@
 
 import java.util.List;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneParallelWorkOrchestrator;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneSerialWorkOrchestrator;
@@ -29,6 +30,17 @@ public interface WorkExecutionIndexManagerContext {
 
 	LuceneSerialWorkOrchestrator indexingOrchestrator(String documentId, String routingKey);
 
+	/**
+	 * Executes an action that routes works to {@link #indexingOrchestrator(String, String) indexing orchestrators}
+	 * and submits them, making sure the routing does not change until the action returns,
+	 * e.g. because a shard is being split.
+	 *
+	 * @param action The action to execute.
+	 * @param <T> The type of the action's result.
+	 * @return The action's result.
+	 */
+	<T> T withStableRouting(Supplier<T> action);
+
 	List<LuceneParallelWorkOrchestrator> managementOrchestrators(Set<String> routingKeys);
 
 	List<LuceneParallelWorkOrchestrator> allManagementOrchestrators();
@@ -45,6 +45,16 @@ public Object getEntityIdentifier() {
 		return entityIdentifier;
 	}
 
+	@Override
+	public String getTenantId() {
+		return tenantId;
+	}
+
+	@Override
+	public String getDocumentIdentifier() {
+		return documentIdentifier;
+	}
+
 	@Override
 	public String getQueuingKey() {
 		return documentIdentifier;
@@ -39,4 +39,15 @@ public Long execute(IndexingWorkExecutionContext context) {
 		}
 	}
 
+	@Override
+	public boolean overridesPreviousWorks() {
+		// Adding does not remove previous versions of the document.
+		return false;
+	}
+
+	@Override
+	public boolean addTo(IndexingWorkBulk bulk) {
+		return bulk.add( documentIdentifier, indexEntry );
+	}
+
 }
@@ -0,0 +1,34 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.work.impl;
+
+import java.nio.file.Path;
+
+public class BackupWork implements IndexManagementWork<Void> {
+
+	private final Path targetDirectory;
+
+	BackupWork(Path targetDirectory) {
+		this.targetDirectory = targetDirectory;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[targetDirectory=" + targetDirectory + "]";
+	}
+
+	@Override
+	public Void execute(IndexManagementWorkExecutionContext context) {
+		context.getIndexAccessor().backup( targetDirectory );
+		return null;
+	}
+
+	@Override
+	public Object getInfo() {
+		return this;
+	}
+}
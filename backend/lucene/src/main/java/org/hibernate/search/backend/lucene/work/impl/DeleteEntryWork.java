@@ -51,4 +51,18 @@ public Long execute(IndexingWorkExecutionContext context) {
 		}
 	}
 
+	@Override
+	public boolean overridesPreviousWorks() {
+		return true;
+	}
+
+	@Override
+	public boolean addTo(IndexingWorkBulk bulk) {
+		if ( filter != null ) {
+			// The deletion requires a query: leave it to execute().
+			return false;
+		}
+		return bulk.delete( documentIdentifier );
+	}
+
 }
@@ -0,0 +1,139 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.work.impl;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.search.backend.lucene.document.impl.LuceneIndexEntry;
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.lowlevel.common.impl.MetadataFields;
+import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterDelegator;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.index.Term;
+
+/**
+ * A group of single-document works applied to the index writer in as few calls as possible:
+ * one call to {@link IndexWriterDelegator#deleteDocuments(Term...)} for all deletions,
+ * then one call to {@link IndexWriterDelegator#addDocuments(Iterable)} adding all documents as a single block.
+ * <p>
+ * Since all deletions are applied before all additions,
+ * a work deleting a document that was added by a previous work in the same bulk cannot be part of that bulk:
+ * {@link SingleDocumentIndexingWork#addTo(IndexingWorkBulk)} will return {@code false} in that case,
+ * and the bulk must be executed before that work.
+ * <p>
+ * This class is not thread-safe.
+ */
+public final class IndexingWorkBulk {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final int maxSize;
+
+	private final List<Term> deleteTerms = new ArrayList<>();
+	private final List<Document> documents = new ArrayList<>();
+	private final Set<String> addedDocumentIdentifiers = new HashSet<>();
+	private int size = 0;
+
+	/**
+	 * @param maxSize The maximum number of works in a single bulk.
+	 */
+	public IndexingWorkBulk(int maxSize) {
+		this.maxSize = maxSize;
+	}
+
+	/**
+	 * @return The number of works in this bulk.
+	 */
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Applies all works in this bulk to the index writer, then clears this bulk.
+	 *
+	 * @param context The execution context.
+	 * @return The sequence number of the last operation applied to the index writer.
+	 */
+	public long execute(IndexingWorkExecutionContext context) {
+		try {
+			IndexWriterDelegator indexWriterDelegator = context.getIndexWriterDelegator();
+			long sequenceNumber = 0L;
+			if ( !deleteTerms.isEmpty() ) {
+				sequenceNumber = indexWriterDelegator.deleteDocuments( deleteTerms.toArray( new Term[0] ) );
+			}
+			if ( !documents.isEmpty() ) {
+				sequenceNumber = indexWriterDelegator.addDocuments( documents );
+			}
+			return sequenceNumber;
+		}
+		catch (IOException e) {
+			throw log.unableToExecuteIndexingWorkBulk( size, e.getMessage(), context.getEventContext(), e );
+		}
+		finally {
+			clear();
+		}
+	}
+
+	public void clear() {
+		deleteTerms.clear();
+		documents.clear();
+		addedDocumentIdentifiers.clear();
+		size = 0;
+	}
+
+	boolean add(String documentIdentifier, LuceneIndexEntry indexEntry) {
+		if ( size >= maxSize ) {
+			return false;
+		}
+		addDocuments( documentIdentifier, indexEntry );
+		++size;
+		return true;
+	}
+
+	boolean update(String documentIdentifier, LuceneIndexEntry indexEntry) {
+		if ( size >= maxSize || addedDocumentIdentifiers.contains( documentIdentifier ) ) {
+			return false;
+		}
+		deleteTerms.add( idTerm( documentIdentifier ) );
+		addDocuments( documentIdentifier, indexEntry );
+		++size;
+		return true;
+	}
+
+	boolean delete(String documentIdentifier) {
+		if ( size >= maxSize || addedDocumentIdentifiers.contains( documentIdentifier ) ) {
+			return false;
+		}
+		deleteTerms.add( idTerm( documentIdentifier ) );
+		++size;
+		return true;
+	}
+
+	private void addDocuments(String documentIdentifier, LuceneIndexEntry indexEntry) {
+		addedDocumentIdentifiers.add( documentIdentifier );
+		// Each entry is itself a block (nested documents followed by the root document),
+		// so concatenating entries preserves the structure expected by nested queries.
+		for ( Document document : indexEntry ) {
+			documents.add( document );
+		}
+	}
+
+	private static Term idTerm(String documentIdentifier) {
+		return new Term( MetadataFields.idFieldName(), documentIdentifier );
+	}
+}
@@ -14,6 +14,7 @@
 import org.apache.lucene.search.Explanation;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
 
 public interface LuceneSearcher<R, ER> {
 
@@ -22,7 +23,7 @@ R search(IndexSearcher indexSearcher, IndexReaderMetadataResolver metadataResolv
 			throws IOException;
 
 	ER scroll(IndexSearcher indexSearcher, IndexReaderMetadataResolver metadataResolver,
-			int offset, int limit, int totalHitCountThreshold)
+			int offset, ScoreDoc after, int limit, int totalHitCountThreshold)
 			throws IOException;
 
 	int count(IndexSearcher indexSearcher) throws IOException;
@@ -32,4 +33,11 @@ ER scroll(IndexSearcher indexSearcher, IndexReaderMetadataResolver metadataResol
 	Query getLuceneQueryForExceptions();
 
 	void setTimeoutManager(TimeoutManager timeoutManager);
+
+	/**
+	 * @param filter A filter to apply on top of the query of this searcher.
+	 * @param timeoutManager The timeout manager to use in the new searcher.
+	 * @return A new searcher, identical to this one except for the additional filter and the timeout manager.
+	 */
+	LuceneSearcher<R, ER> withFilter(Query filter, TimeoutManager timeoutManager);
 }
@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.backend.lucene.work.impl;
 
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
@@ -18,6 +19,7 @@
 import org.apache.lucene.search.Explanation;
 import org.apache.lucene.search.MatchAllDocsQuery;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
 
 public final class LuceneWorkFactory {
 
@@ -55,6 +57,14 @@ public IndexManagementWork<Long> computeSizeInBytes() {
 		return new ComputeSizeInBytesWork();
 	}
 
+	public IndexManagementWork<Void> backup(Path targetDirectory) {
+		return new BackupWork( targetDirectory );
+	}
+
+	public IndexManagementWork<Void> restore(Path sourceDirectory) {
+		return new RestoreWork( sourceDirectory );
+	}
+
 	public SingleDocumentIndexingWork add(String tenantId, String entityTypeName, Object entityIdentifier,
 			String documentIdentifier, LuceneIndexEntry indexEntry) {
 		return new AddEntryWork( tenantId, entityTypeName, entityIdentifier,
@@ -92,7 +102,12 @@ public <R> ReadWork<R> search(LuceneSearcher<R, ?> searcher, Integer offset, Int
 	}
 
 	public <ER> ReadWork<ER> scroll(LuceneSearcher<?, ER> searcher, int offset, int limit, int totalHitCountThreshold) {
-		return new ScrollWork<>( searcher, offset, limit, totalHitCountThreshold );
+		return new ScrollWork<>( searcher, offset, null, limit, totalHitCountThreshold );
+	}
+
+	public <ER> ReadWork<ER> scrollAfter(LuceneSearcher<?, ER> searcher, ScoreDoc after, int limit,
+			int totalHitCountThreshold) {
+		return new ScrollWork<>( searcher, 0, after, limit, totalHitCountThreshold );
 	}
 
 	public ReadWork<Integer> count(LuceneSearcher<?, ?> searcher) {
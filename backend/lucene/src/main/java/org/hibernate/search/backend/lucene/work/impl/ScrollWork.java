@@ -13,6 +13,7 @@
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.ScoreDoc;
 
 public class ScrollWork<ER> implements ReadWork<ER> {
 
@@ -21,11 +22,13 @@
 	private final LuceneSearcher<?, ER> searcher;
 
 	private final int offset;
+	private final ScoreDoc after;
 	private final int limit;
 	private final int totalHitCountThreshold;
 
-	ScrollWork(LuceneSearcher<?, ER> searcher, int offset, int limit, int totalHitCountThreshold) {
+	ScrollWork(LuceneSearcher<?, ER> searcher, int offset, ScoreDoc after, int limit, int totalHitCountThreshold) {
 		this.offset = offset;
+		this.after = after;
 		this.limit = limit;
 		this.searcher = searcher;
 		this.totalHitCountThreshold = totalHitCountThreshold;
@@ -36,7 +39,7 @@ public ER execute(ReadWorkExecutionContext context) {
 		try {
 			IndexSearcher indexSearcher = context.createSearcher();
 
-			return searcher.scroll( indexSearcher, context.getIndexReaderMetadataResolver(), offset, limit,
+			return searcher.scroll( indexSearcher, context.getIndexReaderMetadataResolver(), offset, after, limit,
 					totalHitCountThreshold );
 		}
 		catch (IOException e) {
@@ -50,6 +53,8 @@ public String toString() {
 		StringBuilder sb = new StringBuilder( getClass().getSimpleName() )
 				.append( "[" )
 				.append( "searcher=" ).append( searcher )
+				.append( ", offset=" ).append( offset )
+				.append( ", after=" ).append( after )
 				.append( ", limit=" ).append( limit )
 				.append( "]" );
 		return sb.toString();
@@ -13,4 +13,24 @@ public interface SingleDocumentIndexingWork extends IndexingWork<Long> {
 
 	Object getEntityIdentifier();
 
+	String getTenantId();
+
+	String getDocumentIdentifier();
+
+	/**
+	 * @return {@code true} if executing this work removes any previous version of the document,
+	 * i.e. if the effects of previous works on the same document are overridden by this work.
+	 */
+	boolean overridesPreviousWorks();
+
+	/**
+	 * Attempts to add this work to the given bulk, so that it gets applied to the index writer
+	 * along with other works in a single call.
+	 *
+	 * @param bulk The bulk to add this work to.
+	 * @return {@code true} if this work was added to the bulk,
+	 * {@code false} if it cannot be part of this bulk and must be executed separately.
+	 */
+	boolean addTo(IndexingWorkBulk bulk);
+
 }
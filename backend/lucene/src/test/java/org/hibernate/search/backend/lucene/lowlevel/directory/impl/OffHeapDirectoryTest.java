@@ -0,0 +1,73 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.directory.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+
+import org.hibernate.search.engine.reporting.spi.EventContexts;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.apache.lucene.store.IOContext;
+import org.apache.lucene.store.IndexOutput;
+import org.apache.lucene.store.SingleInstanceLockFactory;
+
+class OffHeapDirectoryTest {
+
+	private static final int FILE_SIZE = 10_000;
+
+	private OffHeapDirectory directory;
+
+	@BeforeEach
+	void setup() {
+		directory = new OffHeapDirectory( new SingleInstanceLockFactory(), Long.MAX_VALUE,
+				EventContexts.fromIndexName( "myIndex" ) );
+	}
+
+	@AfterEach
+	void cleanup() throws IOException {
+		directory.close();
+	}
+
+	@Test
+	void deleteFile() throws IOException {
+		try ( IndexOutput output = directory.createOutput( "file", IOContext.DEFAULT ) ) {
+			output.writeBytes( new byte[FILE_SIZE], FILE_SIZE );
+		}
+		assertThat( directory.usedBytes() ).isGreaterThanOrEqualTo( FILE_SIZE );
+
+		directory.deleteFile( "file" );
+		assertThat( directory.usedBytes() ).isZero();
+	}
+
+	@Test
+	void deleteFile_outputStillOpen() throws IOException {
+		try ( IndexOutput output = directory.createOutput( "file", IOContext.DEFAULT ) ) {
+			output.writeBytes( new byte[FILE_SIZE], FILE_SIZE );
+			directory.deleteFile( "file" );
+		}
+		assertThat( directory.listAll() ).isEmpty();
+		assertThat( directory.usedBytes() ).isZero();
+	}
+
+	@Test
+	void rename() throws IOException {
+		try ( IndexOutput output = directory.createOutput( "file", IOContext.DEFAULT ) ) {
+			output.writeBytes( new byte[FILE_SIZE], FILE_SIZE );
+		}
+		directory.rename( "file", "renamed" );
+		assertThat( directory.usedBytes() ).isGreaterThanOrEqualTo( FILE_SIZE );
+
+		directory.deleteFile( "renamed" );
+		assertThat( directory.usedBytes() ).isZero();
+	}
+
+}
@@ -0,0 +1,120 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.index.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.NoMergePolicy;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.index.TieredMergePolicy;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.util.BytesRef;
+
+class ChangedDocumentIdsTest {
+
+	private static final String ID_FIELD = "id";
+
+	private Directory directory;
+	private IndexWriter writer;
+
+	@BeforeEach
+	void start() throws IOException {
+		directory = new ByteBuffersDirectory();
+		writer = new IndexWriter( directory, new IndexWriterConfig()
+				// Only merge segments when tests ask for it.
+				.setMergePolicy( NoMergePolicy.INSTANCE ) );
+	}
+
+	@AfterEach
+	void close() throws IOException {
+		writer.close();
+		directory.close();
+	}
+
+	@Test
+	void noChange() throws IOException {
+		index( "1", "2", "3" );
+		writer.commit();
+
+		try ( DirectoryReader previous = DirectoryReader.open( directory );
+				DirectoryReader current = DirectoryReader.open( directory ) ) {
+			assertThat( collect( previous, current ) ).isEmpty();
+		}
+	}
+
+	@Test
+	void addUpdateDelete() throws IOException {
+		index( "1", "2", "3" );
+		writer.commit();
+
+		try ( DirectoryReader previous = DirectoryReader.open( directory ) ) {
+			index( "4" );
+			writer.updateDocument( new Term( ID_FIELD, "2" ), document( "2" ) );
+			writer.deleteDocuments( new Term( ID_FIELD, "3" ) );
+			writer.commit();
+
+			try ( DirectoryReader current = DirectoryReader.open( directory ) ) {
+				assertThat( collect( previous, current ) ).containsExactlyInAnyOrder( "2", "3", "4" );
+			}
+		}
+	}
+
+	@Test
+	void merge() throws IOException {
+		index( "1", "2" );
+		writer.commit();
+		index( "3", "4" );
+		writer.commit();
+
+		try ( DirectoryReader previous = DirectoryReader.open( directory ) ) {
+			writer.deleteDocuments( new Term( ID_FIELD, "1" ) );
+			writer.getConfig().setMergePolicy( new TieredMergePolicy() );
+			writer.forceMerge( 1 );
+			writer.commit();
+
+			try ( DirectoryReader current = DirectoryReader.open( directory ) ) {
+				// Merged documents are reported as changed, even though they didn't change: that's expected.
+				assertThat( collect( previous, current ) ).contains( "1" );
+			}
+		}
+	}
+
+	private void index(String... ids) throws IOException {
+		for ( String id : ids ) {
+			writer.addDocument( document( id ) );
+		}
+		// Flush, so that each call creates a new segment.
+		writer.flush();
+	}
+
+	private static Document document(String id) {
+		Document document = new Document();
+		document.add( new StringField( ID_FIELD, id, Field.Store.NO ) );
+		return document;
+	}
+
+	private static Set<String> collect(DirectoryReader previous, DirectoryReader current) throws IOException {
+		return ChangedDocumentIds.collect( previous, current, ID_FIELD ).stream()
+				.map( BytesRef::utf8ToString )
+				.collect( Collectors.toSet() );
+	}
+}
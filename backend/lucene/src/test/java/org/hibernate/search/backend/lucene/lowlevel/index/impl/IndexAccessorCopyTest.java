@@ -0,0 +1,159 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.index.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.hibernate.search.backend.lucene.lowlevel.common.impl.AnalyzerConstants;
+import org.hibernate.search.backend.lucene.lowlevel.common.impl.MetadataFields;
+import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderProvider;
+import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterConfigSource;
+import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterProvider;
+import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
+import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
+import org.hibernate.search.engine.common.metrics.spi.MetricsTimer;
+import org.hibernate.search.engine.environment.thread.impl.EmbeddedThreadProvider;
+import org.hibernate.search.engine.reporting.spi.EventContexts;
+import org.hibernate.search.util.common.reporting.EventContext;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.apache.lucene.codecs.Codec;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexCommit;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.MultiBits;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.similarities.BM25Similarity;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.util.Bits;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@MockitoSettings(strictness = Strictness.STRICT_STUBS)
+class IndexAccessorCopyTest {
+
+	private static final Query MOVED_QUERY = new TermQuery( new Term( "moved", "true" ) );
+
+	@Mock
+	private DirectoryHolder sourceDirectoryHolderMock;
+	@Mock
+	private DirectoryHolder targetDirectoryHolderMock;
+	@Mock
+	private IndexReaderProvider indexReaderProviderMock;
+	@Mock
+	private BackendThreads threadsMock;
+	@Mock
+	private MetricsTimer commitTimerMock;
+
+	private final Directory sourceDirectory = new ByteBuffersDirectory();
+	private final Directory targetDirectory = new ByteBuffersDirectory();
+	private IndexAccessorImpl source;
+	private IndexAccessorImpl target;
+
+	@BeforeEach
+	void start() {
+		when( sourceDirectoryHolderMock.get() ).thenReturn( sourceDirectory );
+		when( targetDirectoryHolderMock.get() ).thenReturn( targetDirectory );
+		when( threadsMock.getThreadProvider() ).thenReturn( new EmbeddedThreadProvider() );
+		source = createAccessor( "source", sourceDirectoryHolderMock );
+		target = createAccessor( "target", targetDirectoryHolderMock );
+	}
+
+	@AfterEach
+	void close() throws IOException {
+		source.close();
+		target.close();
+		sourceDirectory.close();
+		targetDirectory.close();
+	}
+
+	@Test
+	void copyDocumentChangesTo() throws IOException {
+		IndexWriter sourceWriter = source.getWriterForTests();
+		sourceWriter.addDocument( document( "1", "initial", true ) );
+		sourceWriter.addDocument( document( "2", "initial", true ) );
+		sourceWriter.addDocument( document( "3", "initial", true ) );
+		sourceWriter.addDocument( document( "4", "initial", false ) );
+
+		IndexCommit copiedCommit = source.copyDocumentsTo( target, MOVED_QUERY );
+		try {
+			assertThat( readDocuments( targetDirectory ) )
+					.containsExactlyInAnyOrder( "1=initial", "2=initial", "3=initial" );
+
+			// Changes applied while copying are not copied yet...
+			sourceWriter.updateDocument( idTerm( "2" ), document( "2", "updated", true ) );
+			sourceWriter.deleteDocuments( idTerm( "3" ) );
+			sourceWriter.addDocument( document( "5", "initial", true ) );
+			sourceWriter.addDocument( document( "6", "initial", false ) );
+
+			// ... until we copy them explicitly.
+			source.copyDocumentChangesTo( target, MOVED_QUERY, copiedCommit );
+		}
+		finally {
+			source.releaseSnapshot( copiedCommit );
+		}
+
+		assertThat( readDocuments( targetDirectory ) )
+				.containsExactlyInAnyOrder( "1=initial", "2=updated", "5=initial" );
+	}
+
+	private IndexAccessorImpl createAccessor(String name, DirectoryHolder directoryHolder) {
+		EventContext eventContext = EventContexts.fromIndexName( name );
+		IndexWriterConfigSource configSource = IndexWriterConfigSource.create( new BM25Similarity(),
+				AnalyzerConstants.KEYWORD_ANALYZER, Codec.getDefault(), ConfigurationPropertySource.empty(),
+				eventContext );
+		IndexWriterProvider indexWriterProvider = new IndexWriterProvider( name, eventContext, directoryHolder,
+				configSource, null, null, 0, 0, threadsMock, null, commitTimerMock );
+		return new IndexAccessorImpl( eventContext, directoryHolder, indexWriterProvider, indexReaderProviderMock,
+				Collections.emptyList() );
+	}
+
+	private static Term idTerm(String id) {
+		return new Term( MetadataFields.idFieldName(), id );
+	}
+
+	private static Document document(String id, String value, boolean moved) {
+		Document document = new Document();
+		document.add( new StringField( MetadataFields.idFieldName(), id, Field.Store.YES ) );
+		document.add( new StringField( "value", value, Field.Store.YES ) );
+		document.add( new StringField( "moved", String.valueOf( moved ), Field.Store.NO ) );
+		return document;
+	}
+
+	private static List<String> readDocuments(Directory directory) throws IOException {
+		try ( DirectoryReader reader = DirectoryReader.open( directory ) ) {
+			StoredFields storedFields = reader.storedFields();
+			Bits liveDocs = MultiBits.getLiveDocs( reader );
+			List<String> documents = new ArrayList<>();
+			for ( int i = 0; i < reader.maxDoc(); i++ ) {
+				if ( liveDocs == null || liveDocs.get( i ) ) {
+					Document document = storedFields.document( i );
+					documents.add( document.get( MetadataFields.idFieldName() ) + "=" + document.get( "value" ) );
+				}
+			}
+			return documents;
+		}
+	}
+}
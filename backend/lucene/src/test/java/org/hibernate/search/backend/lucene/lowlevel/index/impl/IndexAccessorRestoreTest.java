@@ -0,0 +1,160 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.index.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collections;
+
+import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderProvider;
+import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterProvider;
+import org.hibernate.search.engine.reporting.spi.EventContexts;
+import org.hibernate.search.util.common.SearchException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexFileNames;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.store.FilterDirectory;
+import org.apache.lucene.store.IOContext;
+import org.apache.lucene.store.IndexOutput;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@MockitoSettings(strictness = Strictness.STRICT_STUBS)
+class IndexAccessorRestoreTest {
+
+	@TempDir
+	Path backupPath;
+
+	@Mock
+	private DirectoryHolder directoryHolderMock;
+	@Mock
+	private IndexReaderProvider indexReaderProviderMock;
+	@Mock
+	private IndexWriterProvider indexWriterProviderMock;
+
+	private FailingDirectory directory;
+	private IndexAccessorImpl accessor;
+
+	@BeforeEach
+	void start() {
+		directory = new FailingDirectory( new ByteBuffersDirectory() );
+		when( directoryHolderMock.get() ).thenReturn( directory );
+		accessor = new IndexAccessorImpl( EventContexts.fromIndexName( "SomeIndexName" ), directoryHolderMock,
+				indexWriterProviderMock, indexReaderProviderMock, Collections.emptyList() );
+	}
+
+	@AfterEach
+	void close() throws IOException {
+		accessor.close();
+		directory.close();
+	}
+
+	@Test
+	void restore() throws IOException {
+		try ( Directory backup = FSDirectory.open( backupPath ) ) {
+			writeDocument( backup, "backup" );
+		}
+
+		accessor.restore( backupPath );
+
+		assertThat( readDocuments( directory ) ).containsExactly( "backup" );
+	}
+
+	@Test
+	void restore_overReCreatedIndex() throws IOException {
+		// The index was re-created since the backup: both contain files with the same names, but different content.
+		try ( Directory backup = FSDirectory.open( backupPath ) ) {
+			writeDocument( backup, "backup" );
+		}
+		writeDocument( directory, "current" );
+
+		accessor.restore( backupPath );
+
+		assertThat( readDocuments( directory ) ).containsExactly( "backup" );
+		assertThat( directory.listAll() ).noneMatch( name -> name.startsWith( "pending_" ) );
+	}
+
+	@Test
+	void restore_overReCreatedIndex_failure() throws IOException {
+		try ( Directory backup = FSDirectory.open( backupPath ) ) {
+			writeDocument( backup, "backup" );
+		}
+		writeDocument( directory, "current" );
+
+		// Fail after all other files were copied, when writing the restored commit.
+		directory.failOnPendingCommit = true;
+		assertThatThrownBy( () -> accessor.restore( backupPath ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContainingAll( "Unable to restore the index", "Simulated failure" );
+
+		// The current index must still be usable.
+		assertThat( readDocuments( directory ) ).containsExactly( "current" );
+
+		// Restoring again must succeed.
+		directory.failOnPendingCommit = false;
+		accessor.restore( backupPath );
+
+		assertThat( readDocuments( directory ) ).containsExactly( "backup" );
+		assertThat( directory.listAll() ).noneMatch( name -> name.startsWith( "pending_" ) );
+	}
+
+	private static void writeDocument(Directory directory, String value) throws IOException {
+		try ( IndexWriter writer = new IndexWriter( directory, new IndexWriterConfig() ) ) {
+			Document document = new Document();
+			document.add( new StringField( "value", value, Field.Store.YES ) );
+			writer.addDocument( document );
+			writer.commit();
+		}
+	}
+
+	private static String[] readDocuments(Directory directory) throws IOException {
+		try ( DirectoryReader reader = DirectoryReader.open( directory ) ) {
+			StoredFields storedFields = reader.storedFields();
+			String[] values = new String[reader.maxDoc()];
+			for ( int i = 0; i < values.length; i++ ) {
+				values[i] = storedFields.document( i ).get( "value" );
+			}
+			return values;
+		}
+	}
+
+	private static class FailingDirectory extends FilterDirectory {
+		private boolean failOnPendingCommit;
+
+		FailingDirectory(Directory in) {
+			super( in );
+		}
+
+		@Override
+		public IndexOutput createOutput(String name, IOContext context) throws IOException {
+			if ( failOnPendingCommit && name.startsWith( IndexFileNames.PENDING_SEGMENTS ) ) {
+				throw new IOException( "Simulated failure" );
+			}
+			return super.createOutput( name, context );
+		}
+	}
+}
@@ -16,6 +16,7 @@
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.nio.file.NoSuchFileException;
+import java.util.Collections;
 
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderProvider;
@@ -59,7 +60,7 @@ class IndexAccessorTest {
 	@BeforeEach
 	void start() throws IOException {
 		accessor = new IndexAccessorImpl( indexEventContext, directoryHolderMock,
-				indexWriterProviderMock, indexReaderProviderMock );
+				indexWriterProviderMock, indexReaderProviderMock, Collections.emptyList() );
 	}
 
 	@AfterEach
@@ -202,6 +203,35 @@ void cleanUpAfterFailure_closeFailure() {
 		verifyNoOtherIndexInteractions();
 	}
 
+	@Test
+	void cleanUpAfterRecoverableFailure() {
+		Throwable exception = new RuntimeException( "Some message" );
+		Object failingOperation = "Some operation description";
+
+		when( indexWriterProviderMock.getOrNull() ).thenReturn( indexWriterDelegatorMock );
+		when( indexWriterDelegatorMock.isOpen() ).thenReturn( true );
+
+		accessor.cleanUpAfterRecoverableFailure( exception, failingOperation );
+
+		// The index writer is still usable: it must not be closed, and the failure must not be reported.
+		verifyNoOtherIndexInteractions();
+	}
+
+	@Test
+	void cleanUpAfterRecoverableFailure_writerClosed() throws IOException {
+		Throwable exception = new RuntimeException( "Some message" );
+		Object failingOperation = "Some operation description";
+
+		when( indexWriterProviderMock.getOrNull() ).thenReturn( indexWriterDelegatorMock );
+		when( indexWriterDelegatorMock.isOpen() ).thenReturn( false );
+
+		accessor.cleanUpAfterRecoverableFailure( exception, failingOperation );
+
+		verify( indexWriterProviderMock ).clearAfterFailure( exception, failingOperation );
+		verify( indexReaderProviderMock ).clear();
+		verifyNoOtherIndexInteractions();
+	}
+
 	@Test
 	void ccomputeSizeInBytes() throws IOException {
 		when( directoryHolderMock.get() ).thenReturn( directoryMock );
@@ -0,0 +1,83 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.reader.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import org.hibernate.search.engine.common.timing.spi.TimingSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@MockitoSettings(strictness = Strictness.STRICT_STUBS)
+class AdaptiveRefreshIntervalTest {
+
+	private static final int MAX_REFRESH_INTERVAL = 1000;
+
+	@Mock
+	private TimingSource timingSourceMock;
+
+	private long time = 0L;
+
+	private AdaptiveRefreshInterval interval;
+
+	@BeforeEach
+	void start() {
+		when( timingSourceMock.monotonicTimeEstimate() ).thenAnswer( ignored -> time );
+		interval = new AdaptiveRefreshInterval( timingSourceMock, MAX_REFRESH_INTERVAL );
+	}
+
+	@Test
+	void noQuery() {
+		assertThat( interval.queryRate() ).isZero();
+		assertThat( interval.get() ).isZero();
+	}
+
+	@Test
+	void lowQueryRate() {
+		// 10 queries per second
+		simulateQueries( 10, 100L, 2 );
+
+		assertThat( interval.queryRate() ).isEqualTo( 10.0 );
+		assertThat( interval.get() ).isEqualTo( MAX_REFRESH_INTERVAL / 10 );
+	}
+
+	@Test
+	void highQueryRate() {
+		// 1000 queries per second
+		simulateQueries( 1000, 1L, 2 );
+
+		assertThat( interval.queryRate() ).isEqualTo( 1000.0 );
+		assertThat( interval.get() ).isEqualTo( MAX_REFRESH_INTERVAL );
+	}
+
+	@Test
+	void queriesStop() {
+		simulateQueries( 1000, 1L, 2 );
+		assertThat( interval.get() ).isEqualTo( MAX_REFRESH_INTERVAL );
+
+		// No query for a while: the rate must drop even though no query ended the window.
+		time += 10 * AdaptiveRefreshInterval.QUERY_RATE_WINDOW;
+		assertThat( interval.queryRate() ).isLessThan( 1.0 );
+		assertThat( interval.get() ).isLessThan( MAX_REFRESH_INTERVAL / 100 );
+	}
+
+	private void simulateQueries(int queriesPerWindow, long timeBetweenQueries, int windowCount) {
+		for ( int window = 0; window < windowCount; window++ ) {
+			for ( int i = 0; i < queriesPerWindow; i++ ) {
+				time += timeBetweenQueries;
+				interval.recordQuery();
+			}
+		}
+	}
+
+}
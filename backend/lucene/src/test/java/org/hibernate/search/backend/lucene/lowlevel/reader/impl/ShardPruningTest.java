@@ -0,0 +1,142 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.reader.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+
+import org.hibernate.search.backend.lucene.lowlevel.common.impl.MetadataFields;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.IntPoint;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.FieldExistsQuery;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.store.ByteBuffersDirectory;
+
+class ShardPruningTest {
+
+	private ByteBuffersDirectory directory;
+	private IndexWriter writer;
+	private DirectoryReader reader;
+
+	@BeforeEach
+	void setup() throws IOException {
+		directory = new ByteBuffersDirectory();
+		writer = new IndexWriter( directory, new IndexWriterConfig() );
+		// Two segments: values 2010-2015, then 2020-2022.
+		for ( int year = 2010; year <= 2015; year++ ) {
+			writer.addDocument( document( year ) );
+		}
+		writer.commit();
+		for ( int year = 2020; year <= 2022; year++ ) {
+			writer.addDocument( document( year ) );
+		}
+		writer.commit();
+		reader = DirectoryReader.open( writer );
+	}
+
+	@AfterEach
+	void cleanup() throws IOException {
+		reader.close();
+		writer.close();
+		directory.close();
+	}
+
+	@Test
+	void noConstraint() {
+		assertThat( ShardPruning.of( new MatchAllDocsQuery() ).isEnabled() ).isFalse();
+		assertThat( ShardPruning.of( new TermQuery( new Term( "text", "foo" ) ) ).isEnabled() ).isFalse();
+	}
+
+	@Test
+	void range() throws IOException {
+		assertThat( mayMatch( IntPoint.newRangeQuery( "year", 2012, 2013 ) ) ).isTrue();
+		// Between the two segments: each segment could not match, but the shard as a whole might.
+		assertThat( mayMatch( IntPoint.newRangeQuery( "year", 2016, 2019 ) ) ).isTrue();
+		assertThat( mayMatch( IntPoint.newRangeQuery( "year", 2022, 2030 ) ) ).isTrue();
+		assertThat( mayMatch( IntPoint.newRangeQuery( "year", 2023, 2030 ) ) ).isFalse();
+		assertThat( mayMatch( IntPoint.newRangeQuery( "year", 2000, 2009 ) ) ).isFalse();
+		assertThat( mayMatch( IntPoint.newRangeQuery( "unknownField", 2000, 2030 ) ) ).isFalse();
+	}
+
+	@Test
+	void exists() throws IOException {
+		assertThat( mayMatch( new FieldExistsQuery( "year" ) ) ).isTrue();
+		assertThat( mayMatch( new FieldExistsQuery( "unknownField" ) ) ).isFalse();
+		assertThat( mayMatch( new TermQuery( new Term( MetadataFields.fieldNamesFieldName(), "year" ) ) ) )
+				.isTrue();
+		assertThat( mayMatch( new TermQuery( new Term( MetadataFields.fieldNamesFieldName(), "unknownField" ) ) ) )
+				.isFalse();
+	}
+
+	@Test
+	void boolean_requiredClauses() throws IOException {
+		Query outOfRange = IntPoint.newRangeQuery( "year", 2023, 2030 );
+		Query inRange = IntPoint.newRangeQuery( "year", 2012, 2013 );
+
+		assertThat( mayMatch( new BooleanQuery.Builder()
+				.add( new TermQuery( new Term( "text", "foo" ) ), BooleanClause.Occur.MUST )
+				.add( outOfRange, BooleanClause.Occur.FILTER )
+				.build() ) ).isFalse();
+		assertThat( mayMatch( new BooleanQuery.Builder()
+				.add( inRange, BooleanClause.Occur.MUST )
+				.add( new BooleanQuery.Builder().add( outOfRange, BooleanClause.Occur.MUST ).build(),
+						BooleanClause.Occur.FILTER )
+				.build() ) ).isFalse();
+		// Optional and prohibited clauses must be ignored.
+		assertThat( mayMatch( new BooleanQuery.Builder()
+				.add( inRange, BooleanClause.Occur.SHOULD )
+				.add( outOfRange, BooleanClause.Occur.SHOULD )
+				.build() ) ).isTrue();
+		assertThat( mayMatch( new BooleanQuery.Builder()
+				.add( new MatchAllDocsQuery(), BooleanClause.Occur.MUST )
+				.add( outOfRange, BooleanClause.Occur.MUST_NOT )
+				.build() ) ).isTrue();
+	}
+
+	@Test
+	void statistics_cachedPerReaderGeneration() throws IOException {
+		IndexReaderStatistics statistics = new IndexReaderStatistics( reader );
+		assertThat( statistics.isFor( reader ) ).isTrue();
+
+		writer.addDocument( document( 2030 ) );
+		try ( DirectoryReader refreshedReader = DirectoryReader.openIfChanged( reader ) ) {
+			assertThat( refreshedReader ).isNotNull();
+			assertThat( statistics.isFor( refreshedReader ) ).isFalse();
+			ShardPruning pruning = ShardPruning.of( IntPoint.newRangeQuery( "year", 2023, 2030 ) );
+			assertThat( pruning.mayMatch( refreshedReader, new IndexReaderStatistics( refreshedReader ) ) ).isTrue();
+		}
+	}
+
+	private boolean mayMatch(Query query) throws IOException {
+		return ShardPruning.of( query ).mayMatch( reader, new IndexReaderStatistics( reader ) );
+	}
+
+	private static Document document(int year) {
+		Document document = new Document();
+		document.add( new IntPoint( "year", year ) );
+		document.add( new NumericDocValuesField( "year", year ) );
+		document.add( new StringField( MetadataFields.fieldNamesFieldName(), "year", Field.Store.NO ) );
+		return document;
+	}
+}
@@ -20,11 +20,16 @@
 import static org.mockito.Mockito.withSettings;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.backend.lucene.lowlevel.index.impl.IndexAccessor;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterDelegator;
 import org.hibernate.search.backend.lucene.work.impl.IndexingWork;
 import org.hibernate.search.backend.lucene.work.impl.IndexingWorkExecutionContext;
+import org.hibernate.search.engine.common.execution.spi.SimpleScheduledExecutor;
+import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.engine.reporting.spi.EventContexts;
 import org.hibernate.search.util.common.reporting.EventContext;
 
@@ -176,6 +181,46 @@ void error_batchCommit() throws IOException {
 		checkCompleteWithNothingToCommit();
 	}
 
+	@Test
+	void backgroundCommit() throws IOException {
+		List<Runnable> scheduledCommits = new ArrayList<>();
+		SimpleScheduledExecutor executorMock = mock( SimpleScheduledExecutor.class );
+		when( executorMock.submit( any() ) ).thenAnswer( invocation -> {
+			scheduledCommits.add( invocation.getArgument( 0 ) );
+			return CompletableFuture.completedFuture( null );
+		} );
+		LuceneBackgroundCommitter committer = new LuceneBackgroundCommitter( "committer", processor,
+				executorMock, mock( FailureHandler.class ) );
+		LuceneBatchedWorkProcessor queue1Processor = new LuceneBatchedWorkProcessor( processor, committer );
+		LuceneBatchedWorkProcessor queue2Processor = new LuceneBatchedWorkProcessor( processor, committer );
+
+		queue1Processor.beginBatch();
+		queue2Processor.beginBatch();
+		testSuccessfulWriteWorks( 10 );
+		verifyNoOtherIndexInteractionsAndClear();
+
+		queue1Processor.endBatch();
+		queue2Processor.endBatch();
+		// Queues must not commit themselves...
+		verify( indexAccessorMock, never() ).commitOrDelay();
+		// ... but request a single commit from the background committer.
+		assertThat( scheduledCommits ).hasSize( 1 );
+
+		scheduledCommits.get( 0 ).run();
+		verify( indexAccessorMock ).commitOrDelay();
+		verifyNoOtherIndexInteractionsAndClear();
+		assertThat( committer.completion() ).isDone();
+
+		// Commit failures are handled in the background, like batch commit failures
+		RuntimeException commitException = new RuntimeException( "Some message" );
+		doThrow( commitException ).when( indexAccessorMock ).commitOrDelay();
+		queue1Processor.endBatch();
+		assertThat( scheduledCommits ).hasSize( 2 );
+		scheduledCommits.get( 1 ).run();
+		verify( indexAccessorMock )
+				.cleanUpAfterFailure( commitException, "Commit after batches of index works" );
+	}
+
 	private void testSuccessfulWriteWorks(int workCount) throws IOException {
 		ArgumentCaptor<IndexingWorkExecutionContext> contextCapture =
 				ArgumentCaptor.forClass( IndexingWorkExecutionContext.class );
@@ -0,0 +1,386 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.orchestration.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.search.backend.lucene.document.impl.LuceneIndexEntry;
+import org.hibernate.search.backend.lucene.lowlevel.common.impl.MetadataFields;
+import org.hibernate.search.backend.lucene.lowlevel.index.impl.IndexAccessor;
+import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterDelegator;
+import org.hibernate.search.backend.lucene.multitenancy.impl.NoMultiTenancyStrategy;
+import org.hibernate.search.backend.lucene.work.impl.LuceneWorkFactory;
+import org.hibernate.search.backend.lucene.work.impl.SingleDocumentIndexingWork;
+import org.hibernate.search.engine.reporting.spi.EventContexts;
+import org.hibernate.search.util.common.impl.Futures;
+import org.hibernate.search.util.common.reporting.EventContext;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.index.Term;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@MockitoSettings(strictness = Strictness.STRICT_STUBS)
+class LuceneDeferringBatchedWorkProcessorTest {
+
+	private static final String INDEX_NAME = "SomeIndexName";
+
+	private final EventContext indexEventContext = EventContexts.fromIndexName( INDEX_NAME );
+
+	@Mock
+	private IndexAccessor indexAccessorMock;
+
+	@Mock
+	private IndexWriterDelegator indexWriterDelegatorMock;
+
+	private final LongAdder coalescedWorks = new LongAdder();
+	private final List<Double> bulkSizes = new ArrayList<>();
+
+	private final LuceneWorkFactory workFactory = new LuceneWorkFactory( new NoMultiTenancyStrategy() );
+
+	private LuceneDeferringBatchedWorkProcessor processor;
+
+	private long nextWorkResult = 0L;
+
+	@BeforeEach
+	void setup() {
+		processor = processor( true, false );
+	}
+
+	@Test
+	void overriddenWorksAreSkipped() {
+		LuceneBatchedWork<Long> add1 = work( null, "1", false );
+		LuceneBatchedWork<Long> update1 = work( null, "1", true );
+		LuceneBatchedWork<Long> update2 = work( null, "2", true );
+		LuceneBatchedWork<Long> lastUpdate1 = work( null, "1", true );
+		LuceneBatchedWork<Long> delete2 = work( null, "2", true );
+		LuceneBatchedWork<Long> add3 = work( null, "3", false );
+
+		processor.beginBatch();
+		submit( add1, update1, update2, lastUpdate1, delete2, add3 );
+		// Nothing is executed until the end of the batch
+		verify( add1.work, never() ).execute( any() );
+		assertThat( add1.future ).isNotDone();
+
+		processor.endBatch();
+		verify( indexAccessorMock ).commitOrDelay();
+
+		verify( add1.work, never() ).execute( any() );
+		verify( update1.work, never() ).execute( any() );
+		verify( update2.work, never() ).execute( any() );
+		InOrder inOrder = inOrder( lastUpdate1.work, delete2.work, add3.work );
+		inOrder.verify( lastUpdate1.work ).execute( any() );
+		inOrder.verify( delete2.work ).execute( any() );
+		inOrder.verify( add3.work ).execute( any() );
+
+		// Skipped works complete with the outcome of the work that overrode them
+		assertThat( add1.future ).isCompletedWithValue( lastUpdate1.future.join() );
+		assertThat( update1.future ).isCompletedWithValue( lastUpdate1.future.join() );
+		assertThat( update2.future ).isCompletedWithValue( delete2.future.join() );
+		assertThat( add3.future ).isCompleted();
+
+		assertThat( coalescedWorks.sum() ).isEqualTo( 3L );
+	}
+
+	@Test
+	void worksAfterLastOverridingWorkAreExecuted() {
+		LuceneBatchedWork<Long> delete1 = work( null, "1", true );
+		LuceneBatchedWork<Long> update1 = work( null, "1", true );
+		LuceneBatchedWork<Long> add1 = work( null, "1", false );
+		LuceneBatchedWork<Long> otherAdd1 = work( null, "1", false );
+
+		processor.beginBatch();
+		submit( delete1, update1, add1, otherAdd1 );
+		processor.endBatch();
+
+		verify( delete1.work, never() ).execute( any() );
+		InOrder inOrder = inOrder( update1.work, add1.work, otherAdd1.work );
+		inOrder.verify( update1.work ).execute( any() );
+		inOrder.verify( add1.work ).execute( any() );
+		inOrder.verify( otherAdd1.work ).execute( any() );
+
+		assertThat( coalescedWorks.sum() ).isEqualTo( 1L );
+	}
+
+	@Test
+	void differentTenants() {
+		LuceneBatchedWork<Long> updateTenant1 = work( "tenant1", "1", true );
+		LuceneBatchedWork<Long> updateTenant2 = work( "tenant2", "1", true );
+
+		processor.beginBatch();
+		submit( updateTenant1, updateTenant2 );
+		processor.endBatch();
+
+		verify( updateTenant1.work ).execute( any() );
+		verify( updateTenant2.work ).execute( any() );
+		assertThat( coalescedWorks.sum() ).isZero();
+	}
+
+	@Test
+	void noCoalescingAcrossBatches() {
+		LuceneBatchedWork<Long> update1 = work( null, "1", true );
+		LuceneBatchedWork<Long> otherUpdate1 = work( null, "1", true );
+
+		processor.beginBatch();
+		submit( update1 );
+		processor.endBatch();
+		processor.beginBatch();
+		submit( otherUpdate1 );
+		processor.endBatch();
+
+		verify( update1.work ).execute( any() );
+		verify( otherUpdate1.work ).execute( any() );
+		assertThat( coalescedWorks.sum() ).isZero();
+	}
+
+	@Test
+	void error_overridingWork() {
+		LuceneBatchedWork<Long> update1 = work( null, "1", true );
+		LuceneBatchedWork<Long> failingUpdate1 = work( null, "1", true );
+		LuceneBatchedWork<Long> update2 = work( null, "2", true );
+		RuntimeException workException = new RuntimeException( "Some message" );
+		when( failingUpdate1.work.execute( any() ) ).thenThrow( workException );
+
+		processor.beginBatch();
+		submit( update1, failingUpdate1, update2 );
+		processor.endBatch();
+
+		verify( indexAccessorMock ).cleanUpAfterFailure( workException, "work_1" );
+		assertThat( failingUpdate1.future ).isCompletedExceptionally();
+		assertThat( update1.future ).isCompletedExceptionally();
+		assertThat( Futures.getThrowableNow( update1.future ) ).isSameAs( workException );
+		// Subsequent works must be executed regardless of previous failures in the same batch
+		assertThat( update2.future ).isCompleted();
+	}
+
+	@Test
+	void bulkWrites() throws IOException {
+		processor = processor( false, true );
+		when( indexAccessorMock.getIndexWriterDelegator() ).thenReturn( indexWriterDelegatorMock );
+		when( indexWriterDelegatorMock.deleteDocuments( any( Term[].class ) ) ).thenReturn( 41L );
+		List<List<Object>> addedBlocks = recordAddedBlocks( 42L );
+
+		LuceneIndexEntry entry1 = indexEntry();
+		LuceneIndexEntry entry2 = indexEntry();
+		LuceneIndexEntry entry3 = indexEntry();
+		LuceneBatchedWork<Long> add1 = batchedWork( workFactory.add( null, "type", 1, "1", entry1 ) );
+		LuceneBatchedWork<Long> add2 = batchedWork( workFactory.add( null, "type", 2, "2", entry2 ) );
+		LuceneBatchedWork<Long> update3 = batchedWork( workFactory.update( null, "type", 3, "3", entry3 ) );
+		LuceneBatchedWork<Long> delete4 = batchedWork( workFactory.delete( null, "type", 4, "4" ) );
+
+		processor.beginBatch();
+		submit( add1, add2, update3, delete4 );
+		processor.endBatch();
+
+		// A single call for all deletions, then a single call for all additions
+		InOrder inOrder = inOrder( indexWriterDelegatorMock );
+		inOrder.verify( indexWriterDelegatorMock ).deleteDocuments( idTerm( "3" ), idTerm( "4" ) );
+		inOrder.verify( indexWriterDelegatorMock ).addDocuments( any() );
+		verify( indexWriterDelegatorMock, never() ).updateDocuments( any(), any() );
+		assertThat( addedBlocks ).containsExactly( documents( entry1, entry2, entry3 ) );
+
+		assertThat( add1.future ).isCompletedWithValue( 42L );
+		assertThat( add2.future ).isCompletedWithValue( 42L );
+		assertThat( update3.future ).isCompletedWithValue( 42L );
+		assertThat( delete4.future ).isCompletedWithValue( 42L );
+		assertThat( bulkSizes ).containsExactly( 4.0 );
+	}
+
+	@Test
+	void bulkWrites_deletionOfAddedDocument() throws IOException {
+		processor = processor( false, true );
+		when( indexAccessorMock.getIndexWriterDelegator() ).thenReturn( indexWriterDelegatorMock );
+		when( indexWriterDelegatorMock.deleteDocuments( any( Term[].class ) ) ).thenReturn( 43L );
+		List<List<Object>> addedBlocks = recordAddedBlocks( 42L );
+
+		LuceneIndexEntry entry1 = indexEntry();
+		LuceneIndexEntry otherEntry1 = indexEntry();
+		LuceneBatchedWork<Long> add1 = batchedWork( workFactory.add( null, "type", 1, "1", entry1 ) );
+		LuceneBatchedWork<Long> update1 = batchedWork( workFactory.update( null, "type", 1, "1", otherEntry1 ) );
+
+		processor.beginBatch();
+		submit( add1, update1 );
+		processor.endBatch();
+
+		// The update must not be applied before the addition it overrides: it goes to a separate bulk
+		InOrder inOrder = inOrder( indexWriterDelegatorMock );
+		inOrder.verify( indexWriterDelegatorMock ).addDocuments( any() );
+		inOrder.verify( indexWriterDelegatorMock ).deleteDocuments( idTerm( "1" ) );
+		inOrder.verify( indexWriterDelegatorMock ).addDocuments( any() );
+		assertThat( addedBlocks ).containsExactly( documents( entry1 ), documents( otherEntry1 ) );
+
+		assertThat( add1.future ).isCompletedWithValue( 42L );
+		assertThat( update1.future ).isCompletedWithValue( 42L );
+		assertThat( bulkSizes ).containsExactly( 1.0, 1.0 );
+	}
+
+	@Test
+	void bulkWrites_nonBulkableWork() throws IOException {
+		processor = processor( false, true );
+		when( indexAccessorMock.getIndexWriterDelegator() ).thenReturn( indexWriterDelegatorMock );
+		List<List<Object>> addedBlocks = recordAddedBlocks( 42L );
+
+		LuceneIndexEntry entry1 = indexEntry();
+		LuceneIndexEntry entry3 = indexEntry();
+		LuceneBatchedWork<Long> add1 = batchedWork( workFactory.add( null, "type", 1, "1", entry1 ) );
+		LuceneBatchedWork<Long> nonBulkable2 = work( null, "2", true );
+		LuceneBatchedWork<Long> add3 = batchedWork( workFactory.add( null, "type", 3, "3", entry3 ) );
+
+		processor.beginBatch();
+		submit( add1, nonBulkable2, add3 );
+		processor.endBatch();
+
+		InOrder inOrder = inOrder( indexWriterDelegatorMock, nonBulkable2.work );
+		inOrder.verify( indexWriterDelegatorMock ).addDocuments( any() );
+		inOrder.verify( nonBulkable2.work ).execute( any() );
+		inOrder.verify( indexWriterDelegatorMock ).addDocuments( any() );
+		assertThat( addedBlocks ).containsExactly( documents( entry1 ), documents( entry3 ) );
+
+		assertThat( nonBulkable2.future ).isCompleted();
+		assertThat( bulkSizes ).containsExactly( 1.0, 1.0 );
+	}
+
+	@Test
+	void bulkWrites_error_fallbackToIndividualExecution() throws IOException {
+		processor = processor( false, true );
+		when( indexAccessorMock.getIndexWriterDelegator() ).thenReturn( indexWriterDelegatorMock );
+		IOException bulkException = new IOException( "Some message" );
+		when( indexWriterDelegatorMock.addDocuments( any() ) )
+				.thenThrow( bulkException )
+				.thenReturn( 42L );
+		when( indexWriterDelegatorMock.updateDocuments( any(), any() ) ).thenReturn( 43L );
+
+		LuceneIndexEntry entry1 = indexEntry();
+		LuceneIndexEntry entry2 = indexEntry();
+		LuceneBatchedWork<Long> add1 = batchedWork( workFactory.add( null, "type", 1, "1", entry1 ) );
+		LuceneBatchedWork<Long> update2 = batchedWork( workFactory.update( null, "type", 2, "2", entry2 ) );
+
+		processor.beginBatch();
+		submit( add1, update2 );
+		processor.endBatch();
+
+		verify( indexAccessorMock ).cleanUpAfterRecoverableFailure( any(), eq( "Bulk of 2 index works" ) );
+		verify( indexAccessorMock, never() ).cleanUpAfterFailure( any(), any() );
+		// Works are executed again, one by one
+		verify( indexWriterDelegatorMock ).addDocuments( entry1 );
+		verify( indexWriterDelegatorMock ).updateDocuments( idTerm( "2" ), entry2 );
+
+		assertThat( add1.future ).isCompletedWithValue( 42L );
+		assertThat( update2.future ).isCompletedWithValue( 43L );
+	}
+
+	@Test
+	void coalesceWorksAndBulkWrites() throws IOException {
+		processor = processor( true, true );
+		when( indexAccessorMock.getIndexWriterDelegator() ).thenReturn( indexWriterDelegatorMock );
+		when( indexWriterDelegatorMock.deleteDocuments( any( Term[].class ) ) ).thenReturn( 41L );
+		List<List<Object>> addedBlocks = recordAddedBlocks( 42L );
+
+		LuceneIndexEntry entry1 = indexEntry();
+		LuceneIndexEntry otherEntry1 = indexEntry();
+		LuceneBatchedWork<Long> add1 = batchedWork( workFactory.add( null, "type", 1, "1", entry1 ) );
+		LuceneBatchedWork<Long> update1 = batchedWork( workFactory.update( null, "type", 1, "1", otherEntry1 ) );
+
+		processor.beginBatch();
+		submit( add1, update1 );
+		processor.endBatch();
+
+		// The addition is coalesced, so the update can be part of the same bulk... which contains only the update
+		verify( indexWriterDelegatorMock ).deleteDocuments( idTerm( "1" ) );
+		assertThat( addedBlocks ).containsExactly( documents( otherEntry1 ) );
+
+		assertThat( add1.future ).isCompletedWithValue( 42L );
+		assertThat( update1.future ).isCompletedWithValue( 42L );
+		assertThat( coalescedWorks.sum() ).isEqualTo( 1L );
+		assertThat( bulkSizes ).containsExactly( 1.0 );
+	}
+
+	private LuceneDeferringBatchedWorkProcessor processor(boolean coalesceWorks, boolean bulkWrites) {
+		return new LuceneDeferringBatchedWorkProcessor(
+				new LuceneBatchedWorkProcessor( indexEventContext, indexAccessorMock ),
+				coalesceWorks, coalescedWorks::add,
+				bulkWrites, bulkSizes::add
+		);
+	}
+
+	private List<List<Object>> recordAddedBlocks(long sequenceNumber) throws IOException {
+		List<List<Object>> addedBlocks = new ArrayList<>();
+		when( indexWriterDelegatorMock.addDocuments( any() ) ).thenAnswer( invocation -> {
+			// Copy the block, as the bulk reuses its list of documents
+			List<Object> block = new ArrayList<>();
+			for ( Object document : invocation.<Iterable<?>>getArgument( 0 ) ) {
+				block.add( document );
+			}
+			addedBlocks.add( block );
+			return sequenceNumber;
+		} );
+		return addedBlocks;
+	}
+
+	private static LuceneIndexEntry indexEntry() {
+		LuceneIndexEntry entry = mock( LuceneIndexEntry.class, withSettings().strictness( Strictness.LENIENT ) );
+		List<Document> documents = Arrays.asList( new Document(), new Document() );
+		when( entry.iterator() ).thenAnswer( ignored -> documents.iterator() );
+		return entry;
+	}
+
+	private static List<Object> documents(LuceneIndexEntry... entries) {
+		List<Object> documents = new ArrayList<>();
+		for ( LuceneIndexEntry entry : entries ) {
+			for ( Document document : entry ) {
+				documents.add( document );
+			}
+		}
+		return documents;
+	}
+
+	private static Term idTerm(String documentIdentifier) {
+		return new Term( MetadataFields.idFieldName(), documentIdentifier );
+	}
+
+	private static LuceneBatchedWork<Long> batchedWork(SingleDocumentIndexingWork work) {
+		return new LuceneBatchedWork<>( work, new CompletableFuture<>() );
+	}
+
+	private void submit(LuceneBatchedWork<?>... works) {
+		for ( LuceneBatchedWork<?> work : works ) {
+			work.submitTo( processor );
+		}
+	}
+
+	private LuceneBatchedWork<Long> work(String tenantId, String documentId, boolean overridesPreviousWorks) {
+		long result = nextWorkResult++;
+		SingleDocumentIndexingWork workMock = mock( SingleDocumentIndexingWork.class,
+				withSettings().name( "work_" + result ).strictness( Strictness.LENIENT ) );
+		when( workMock.getTenantId() ).thenReturn( tenantId );
+		when( workMock.getDocumentIdentifier() ).thenReturn( documentId );
+		when( workMock.overridesPreviousWorks() ).thenReturn( overridesPreviousWorks );
+		when( workMock.getInfo() ).thenReturn( "work_" + result );
+		when( workMock.execute( any() ) ).thenReturn( result );
+		return new LuceneBatchedWork<>( workMock, new CompletableFuture<>() );
+	}
+}
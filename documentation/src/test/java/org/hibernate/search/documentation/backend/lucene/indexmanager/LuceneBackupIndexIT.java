@@ -0,0 +1,61 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.documentation.backend.lucene.indexmanager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Path;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import org.hibernate.search.backend.lucene.index.LuceneIndexManager;
+import org.hibernate.search.documentation.backend.lucene.analyzer.Book;
+import org.hibernate.search.documentation.testsupport.BackendConfigurations;
+import org.hibernate.search.documentation.testsupport.DocumentationSetupHelper;
+import org.hibernate.search.engine.backend.index.IndexManager;
+import org.hibernate.search.mapper.orm.Search;
+import org.hibernate.search.mapper.orm.mapping.SearchMapping;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.api.io.TempDir;
+
+class LuceneBackupIndexIT {
+
+	@RegisterExtension
+	public DocumentationSetupHelper setupHelper =
+			DocumentationSetupHelper.withSingleBackend( BackendConfigurations.simple() );
+
+	@TempDir
+	public Path temporaryFolder;
+
+	private EntityManagerFactory entityManagerFactory;
+
+	@BeforeEach
+	void setup() {
+		entityManagerFactory = setupHelper.start().setup( Book.class );
+	}
+
+	@Test
+	void backupAndRestore() {
+		Path backupDirectory = temporaryFolder.resolve( "backup" );
+		//tag::backupAndRestore[]
+		SearchMapping mapping = /* ... */ // <1>
+				//end::backupAndRestore[]
+				Search.mapping( entityManagerFactory );
+		//tag::backupAndRestore[]
+		IndexManager indexManager = mapping.indexManager( "Book" ); // <2>
+		LuceneIndexManager luceneIndexManager = indexManager.unwrap( LuceneIndexManager.class ); // <3>
+		luceneIndexManager.backup( backupDirectory ); // <4>
+		// ...
+		luceneIndexManager.restore( backupDirectory ); // <5>
+		//end::backupAndRestore[]
+		assertThat( backupDirectory ).isNotEmptyDirectory();
+	}
+
+}
@@ -13,8 +13,14 @@
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 
 import jakarta.persistence.EntityGraph;
@@ -28,6 +34,8 @@
 import org.hibernate.search.documentation.testsupport.BackendConfigurations;
 import org.hibernate.search.documentation.testsupport.DocumentationSetupHelper;
 import org.hibernate.search.engine.search.query.SearchQuery;
+import org.hibernate.search.engine.search.query.SearchQueryBatch;
+import org.hibernate.search.engine.search.query.SearchQueryBatchItem;
 import org.hibernate.search.engine.search.query.SearchResult;
 import org.hibernate.search.engine.search.query.SearchResultTotal;
 import org.hibernate.search.engine.search.query.SearchScroll;
@@ -288,6 +296,96 @@ void scrolling() {
 		} );
 	}
 
+	@Test
+	void scrolling_sliced() {
+		with( entityManagerFactory ).runInTransaction( entityManager -> {
+			SearchSession searchSession = Search.session( entityManager );
+			List<Integer> collectedIds = Collections.synchronizedList( new ArrayList<>() );
+			ExecutorService executor = Executors.newFixedThreadPool( 4 );
+
+			try {
+				// tag::fetching-scrolling-sliced[]
+				List<? extends SearchScroll<Integer>> scrolls = searchSession.search( Book.class )
+						.select( f -> f.id( Integer.class ) ) // <1>
+						.where( f -> f.matchAll() )
+						.scroll( 20, 4 ); // <2>
+				List<Future<?>> futures = new ArrayList<>();
+				for ( SearchScroll<Integer> slice : scrolls ) {
+					futures.add( executor.submit( () -> { // <3>
+						try ( SearchScroll<Integer> scroll = slice ) { // <4>
+							for ( SearchScrollResult<Integer> chunk = scroll.next();
+									chunk.hasHits(); chunk = scroll.next() ) {
+								for ( Integer id : chunk.hits() ) {
+									// ... do something with the hits ...
+									// end::fetching-scrolling-sliced[]
+									collectedIds.add( id );
+									// tag::fetching-scrolling-sliced[]
+								}
+							}
+						}
+					} ) );
+				}
+				for ( Future<?> future : futures ) {
+					future.get(); // <5>
+				}
+				// end::fetching-scrolling-sliced[]
+			}
+			catch (InterruptedException | ExecutionException e) {
+				throw new IllegalStateException( e );
+			}
+			finally {
+				executor.shutdownNow();
+			}
+
+			assertThat( collectedIds ).containsExactlyInAnyOrder( BOOK1_ID, BOOK2_ID, BOOK3_ID, BOOK4_ID );
+		} );
+	}
+
+	@Test
+	void async() {
+		with( entityManagerFactory ).runInTransaction( entityManager -> {
+			SearchSession searchSession = Search.session( entityManager );
+			// tag::fetching-async[]
+			CompletionStage<? extends SearchResult<Integer>> future = searchSession.search( Book.class )
+					.select( f -> f.id( Integer.class ) ) // <1>
+					.where( f -> f.matchAll() )
+					.fetchAsync( 20 ); // <2>
+			// ... do something else while the query executes ...
+			SearchResult<Integer> result = future.toCompletableFuture().join(); // <3>
+			// end::fetching-async[]
+
+			assertThat( result.total().hitCount() ).isEqualTo( 4 );
+			assertThat( result.hits() ).containsExactlyInAnyOrder( BOOK1_ID, BOOK2_ID, BOOK3_ID, BOOK4_ID );
+		} );
+	}
+
+	@Test
+	void batch() {
+		with( entityManagerFactory ).runInTransaction( entityManager -> {
+			SearchSession searchSession = Search.session( entityManager );
+			// tag::fetching-batch[]
+			SearchQuery<Book> booksQuery = searchSession.search( Book.class )
+					.where( f -> f.match().field( "title" ).matching( "robot" ) )
+					.toQuery(); // <1>
+			SearchQuery<Integer> countQuery = searchSession.search( Book.class )
+					.select( f -> f.id( Integer.class ) )
+					.where( f -> f.matchAll() )
+					.toQuery(); // <1>
+
+			SearchQueryBatch batch = SearchQueryBatch.create(); // <2>
+			SearchQueryBatchItem<Book> booksItem = batch.add( booksQuery, 20 ); // <3>
+			SearchQueryBatchItem<Integer> countItem = batch.add( countQuery, 0 ); // <3>
+			batch.execute(); // <4>
+
+			List<Book> books = booksItem.result().hits(); // <5>
+			long totalBookCount = countItem.result().total().hitCount(); // <5>
+			// end::fetching-batch[]
+
+			assertThat( books ).extracting( Book::getId ).containsExactlyInAnyOrder( BOOK1_ID, BOOK3_ID );
+			assertThat( totalBookCount ).isEqualTo( 4 );
+		} );
+	}
+
 	@Test
 	void searchQuery() {
 		with( entityManagerFactory ).runInTransaction( entityManager -> {
@@ -0,0 +1,311 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.backend.orchestration.impl;
+
+import java.util.AbstractQueue;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.hibernate.search.util.common.impl.Contracts;
+
+/**
+ * A bounded, array-backed, FIFO blocking queue
+ * where producers never acquire a lock.
+ * <p>
+ * Producers claim a slot by incrementing a shared index with a CAS,
+ * then publish their element into that slot.
+ * When the queue is full, blocking producers back off by parking for increasingly long periods,
+ * up to {@link #MAX_PRODUCER_BACKOFF_NANOS}, until there is room in the queue.
+ * <p>
+ * The queue is optimized for a single consumer:
+ * consumer operations ({@link #poll()}, {@link #drainTo(Collection, int)}, ...) are serialized through a lock,
+ * which is uncontended as long as a single thread consumes the queue.
+ * <p>
+ * Removal of arbitrary elements is not supported,
+ * and iterators reflect the state of the queue at the time they were created.
+ *
+ * @param <E> The type of elements.
+ */
+public final class MpscBoundedBlockingQueue<E> extends AbstractQueue<E> implements BlockingQueue<E> {
+
+	private static final long MIN_PRODUCER_BACKOFF_NANOS = TimeUnit.MICROSECONDS.toNanos( 1 );
+	private static final long MAX_PRODUCER_BACKOFF_NANOS = TimeUnit.MILLISECONDS.toNanos( 1 );
+
+	private final int capacity;
+	private final int mask;
+	private final AtomicReferenceArray<E> buffer;
+
+	/**
+	 * The index of the next slot to claim for producers.
+	 */
+	private final AtomicLong producerIndex = new AtomicLong();
+	/**
+	 * The index of the next slot to consume.
+	 * Only ever updated by the consumer, while holding {@link #consumerLock}.
+	 */
+	private final AtomicLong consumerIndex = new AtomicLong();
+
+	private final ReentrantLock consumerLock = new ReentrantLock();
+	/**
+	 * The consumer thread currently waiting for an element, if any.
+	 * Producers unpark that thread after publishing an element.
+	 */
+	private volatile Thread waitingConsumer;
+
+	public MpscBoundedBlockingQueue(int capacity) {
+		if ( capacity <= 0 || capacity > ( 1 << 30 ) ) {
+			throw new IllegalArgumentException( "Invalid capacity: " + capacity );
+		}
+		this.capacity = capacity;
+		int bufferLength = Integer.highestOneBit( capacity - 1 ) << 1;
+		if ( bufferLength == 0 ) {
+			// capacity == 1
+			bufferLength = 1;
+		}
+		this.mask = bufferLength - 1;
+		this.buffer = new AtomicReferenceArray<>( bufferLength );
+	}
+
+	@Override
+	public boolean offer(E element) {
+		Contracts.assertNotNull( element, "element" );
+		long index;
+		do {
+			index = producerIndex.get();
+			if ( index - consumerIndex.get() >= capacity ) {
+				return false;
+			}
+		}
+		while ( !producerIndex.compareAndSet( index, index + 1 ) );
+		// The slot is ours: the consumer will wait for this write if it sees the incremented producer index first.
+		buffer.lazySet( offset( index ), element );
+		Thread consumer = waitingConsumer;
+		if ( consumer != null ) {
+			LockSupport.unpark( consumer );
+		}
+		return true;
+	}
+
+	@Override
+	public void put(E element) throws InterruptedException {
+		long backoff = MIN_PRODUCER_BACKOFF_NANOS;
+		while ( !offer( element ) ) {
+			backoff = backOff( backoff );
+		}
+	}
+
+	@Override
+	public boolean offer(E element, long timeout, TimeUnit unit) throws InterruptedException {
+		long deadline = System.nanoTime() + unit.toNanos( timeout );
+		long backoff = MIN_PRODUCER_BACKOFF_NANOS;
+		while ( !offer( element ) ) {
+			if ( deadline - System.nanoTime() <= 0 ) {
+				return false;
+			}
+			backoff = backOff( backoff );
+		}
+		return true;
+	}
+
+	@Override
+	public E poll() {
+		consumerLock.lock();
+		try {
+			return doPoll( true );
+		}
+		finally {
+			consumerLock.unlock();
+		}
+	}
+
+	@Override
+	public E poll(long timeout, TimeUnit unit) throws InterruptedException {
+		consumerLock.lockInterruptibly();
+		try {
+			E element = doPoll( true );
+			if ( element != null ) {
+				return element;
+			}
+			long deadline = System.nanoTime() + unit.toNanos( timeout );
+			waitingConsumer = Thread.currentThread();
+			try {
+				while ( true ) {
+					element = doPoll( true );
+					if ( element != null ) {
+						return element;
+					}
+					long remaining = deadline - System.nanoTime();
+					if ( remaining <= 0 ) {
+						return null;
+					}
+					LockSupport.parkNanos( this, remaining );
+					if ( Thread.interrupted() ) {
+						throw new InterruptedException();
+					}
+				}
+			}
+			finally {
+				waitingConsumer = null;
+			}
+		}
+		finally {
+			consumerLock.unlock();
+		}
+	}
+
+	@Override
+	public E take() throws InterruptedException {
+		consumerLock.lockInterruptibly();
+		try {
+			E element = doPoll( true );
+			if ( element != null ) {
+				return element;
+			}
+			waitingConsumer = Thread.currentThread();
+			try {
+				while ( true ) {
+					element = doPoll( true );
+					if ( element != null ) {
+						return element;
+					}
+					LockSupport.park( this );
+					if ( Thread.interrupted() ) {
+						throw new InterruptedException();
+					}
+				}
+			}
+			finally {
+				waitingConsumer = null;
+			}
+		}
+		finally {
+			consumerLock.unlock();
+		}
+	}
+
+	@Override
+	public E peek() {
+		consumerLock.lock();
+		try {
+			return doPoll( false );
+		}
+		finally {
+			consumerLock.unlock();
+		}
+	}
+
+	@Override
+	public int drainTo(Collection<? super E> collection) {
+		return drainTo( collection, Integer.MAX_VALUE );
+	}
+
+	@Override
+	public int drainTo(Collection<? super E> collection, int maxElements) {
+		Contracts.assertNotNull( collection, "collection" );
+		if ( collection == this ) {
+			throw new IllegalArgumentException( "Cannot drain a queue to itself" );
+		}
+		consumerLock.lock();
+		try {
+			int count = 0;
+			E element;
+			while ( count < maxElements && ( element = doPoll( true ) ) != null ) {
+				collection.add( element );
+				++count;
+			}
+			return count;
+		}
+		finally {
+			consumerLock.unlock();
+		}
+	}
+
+	@Override
+	public int size() {
+		// Read the consumer index first, so that the difference is never negative in practice.
+		long consumed = consumerIndex.get();
+		long produced = producerIndex.get();
+		return (int) Math.max( 0L, Math.min( capacity, produced - consumed ) );
+	}
+
+	@Override
+	public int remainingCapacity() {
+		return capacity - size();
+	}
+
+	@Override
+	public Iterator<E> iterator() {
+		List<E> snapshot = new ArrayList<>();
+		consumerLock.lock();
+		try {
+			long produced = producerIndex.get();
+			for ( long index = consumerIndex.get(); index < produced; index++ ) {
+				E element = buffer.get( offset( index ) );
+				// Elements that are not published yet are simply ignored.
+				if ( element != null ) {
+					snapshot.add( element );
+				}
+			}
+		}
+		finally {
+			consumerLock.unlock();
+		}
+		return Collections.unmodifiableList( snapshot ).iterator();
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[capacity=" + capacity + ", size=" + size() + "]";
+	}
+
+	/**
+	 * Must be called while holding {@link #consumerLock}.
+	 */
+	private E doPoll(boolean remove) {
+		long index = consumerIndex.get();
+		int offset = offset( index );
+		E element = buffer.get( offset );
+		if ( element == null ) {
+			if ( index == producerIndex.get() ) {
+				// The queue is empty.
+				return null;
+			}
+			// A producer claimed this slot, but did not publish its element yet: it will very soon.
+			do {
+				Thread.onSpinWait();
+				element = buffer.get( offset );
+			}
+			while ( element == null );
+		}
+		if ( remove ) {
+			buffer.lazySet( offset, null );
+			consumerIndex.lazySet( index + 1 );
+		}
+		return element;
+	}
+
+	private int offset(long index) {
+		return (int) index & mask;
+	}
+
+	private long backOff(long backoff) throws InterruptedException {
+		LockSupport.parkNanos( this, backoff );
+		if ( Thread.interrupted() ) {
+			throw new InterruptedException();
+		}
+		return Math.min( backoff * 2, MAX_PRODUCER_BACKOFF_NANOS );
+	}
+}
@@ -13,11 +13,18 @@
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
+import org.hibernate.search.engine.backend.orchestration.impl.MpscBoundedBlockingQueue;
+import org.hibernate.search.engine.backend.work.execution.IndexingQueueStrategyName;
 import org.hibernate.search.engine.backend.work.execution.OperationSubmitter;
 import org.hibernate.search.engine.common.execution.spi.SimpleScheduledExecutor;
+import org.hibernate.search.engine.common.metrics.spi.MetricsDistributionSummary;
+import org.hibernate.search.engine.common.metrics.spi.MetricsGauge;
+import org.hibernate.search.engine.common.metrics.spi.MetricsRegistry;
+import org.hibernate.search.engine.common.metrics.spi.MetricsTags;
 import org.hibernate.search.engine.logging.impl.Log;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.util.common.AssertionFailure;
@@ -35,6 +42,15 @@
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 	private static final BiConsumer<? super BatchedWork<?>, Throwable> ASYNC_FAILURE_REPORTER = BatchedWork::markAsFailed;
 
+	/**
+	 * The name of the gauge reporting the number of works waiting in the queue of an executor.
+	 */
+	public static final String METRIC_QUEUE_SIZE = "hibernate.search.indexing.queue.size";
+	/**
+	 * The name of the distribution summary reporting the number of works processed in each batch.
+	 */
+	public static final String METRIC_BATCH_SIZE = "hibernate.search.indexing.batch.size";
+
 	private final String name;
 
 	private final FailureHandler failureHandler;
@@ -42,8 +58,11 @@
 	private final BlockingQueue<W> workQueue;
 	private final BatchWorker<P, ? super W> worker;
 	private final Consumer<? super W> blockingRetryProducer;
+	private final MetricsRegistry metricsRegistry;
+	private final MetricsTags metricsTags;
 
 	private SingletonTask processingTask;
+	private MetricsGauge queueSizeGauge;
 
 	/**
 	 * @param name The name of the executor thread (and of this executor when reporting errors)
@@ -59,11 +78,53 @@
 	public BatchingExecutor(String name,
 			P processor, int maxTasksPerBatch, boolean fair,
 			FailureHandler failureHandler, Consumer<? super W> blockingRetryProducer) {
+		this( name, processor, maxTasksPerBatch, fair, IndexingQueueStrategyName.BLOCKING, 0,
+				failureHandler, blockingRetryProducer, MetricsRegistry.noOp(), MetricsTags.empty() );
+	}
+
+	/**
+	 * @param name The name of the executor thread (and of this executor when reporting errors)
+	 * @param processor A task processor. May not be thread-safe.
+	 * @param maxTasksPerBatch The maximum number of tasks to process in a single batch.
+	 * Higher values mean more opportunity for the processor to optimize execution, but higher heap consumption.
+	 * @param fair if {@code true} tasks are always submitted to the
+	 * processor in FIFO order, if {@code false} tasks submitted
+	 * when the internal queue is full may be submitted out of order.
+	 * Ignored with the {@link IndexingQueueStrategyName#LOCK_FREE lock-free} queue strategy, which is always FIFO.
+	 * @param queueStrategy The implementation of the internal queue.
+	 * @param maxLinger The maximum time, in milliseconds, to wait for more tasks before processing a batch,
+	 * when tasks accumulated in the queue while the previous batch was being processed.
+	 * Waiting does not occupy a thread of the executor passed to {@link #start(SimpleScheduledExecutor)}:
+	 * processing of the batch is simply scheduled for later.
+	 * {@code 0} to never wait.
+	 * @param failureHandler A failure handler to report failures of the background thread.
+	 * @param blockingRetryProducer A retry work producer that would be called in case of offloading operation submitter and full queue.
+	 * @param metricsRegistry A registry to report the queue size (see {@link #METRIC_QUEUE_SIZE})
+	 * and batch sizes (see {@link #METRIC_BATCH_SIZE}) to.
+	 * @param metricsTags The tags to attach to metrics reported by this executor.
+	 */
+	public BatchingExecutor(String name,
+			P processor, int maxTasksPerBatch, boolean fair,
+			IndexingQueueStrategyName queueStrategy, int maxLinger,
+			FailureHandler failureHandler, Consumer<? super W> blockingRetryProducer,
+			MetricsRegistry metricsRegistry, MetricsTags metricsTags) {
 		this.name = name;
 		this.failureHandler = failureHandler;
 		this.blockingRetryProducer = blockingRetryProducer;
-		this.workQueue = new ArrayBlockingQueue<>( maxTasksPerBatch, fair );
-		this.worker = new BatchWorker<>( name, processor, workQueue, maxTasksPerBatch );
+		this.metricsRegistry = metricsRegistry;
+		this.metricsTags = metricsTags;
+		switch ( queueStrategy ) {
+			case LOCK_FREE:
+				this.workQueue = new MpscBoundedBlockingQueue<>( maxTasksPerBatch );
+				break;
+			case BLOCKING:
+			default:
+				this.workQueue = new ArrayBlockingQueue<>( maxTasksPerBatch, fair );
+				break;
+		}
+		this.worker = new BatchWorker<>( name, processor, workQueue, maxTasksPerBatch,
+				TimeUnit.MILLISECONDS.toNanos( maxLinger ),
+				metricsRegistry.distributionSummary( METRIC_BATCH_SIZE, metricsTags ) );
 	}
 
 	@Override
@@ -88,6 +149,8 @@ public synchronized void start(SimpleScheduledExecutor executorService) {
 				new BatchScheduler( executorService ),
 				failureHandler
 		);
+		worker.start( executorService, processingTask::ensureScheduled );
+		queueSizeGauge = metricsRegistry.gauge( METRIC_QUEUE_SIZE, metricsTags, workQueue, BlockingQueue::size );
 	}
 
 	/**
@@ -100,11 +163,15 @@ public synchronized void stop() {
 		log.stoppingExecutor( name );
 
 		workQueue.clear();
+		worker.stop();
 
 		// It's possible that processing was successfully scheduled in the executor service but had no chance to run,
 		// so we need to release waiting threads:
 		processingTask.stop();
 		processingTask = null;
+
+		queueSizeGauge.close();
+		queueSizeGauge = null;
 	}
 
 	/**
@@ -131,6 +198,7 @@ public void submit(W work, OperationSubmitter operationSubmitter) throws Interru
 		}
 		operationSubmitter.submitToQueue( workQueue, work, blockingRetryProducer, ASYNC_FAILURE_REPORTER );
 		processingTask.ensureScheduled();
+		worker.afterSubmit();
 	}
 
 	/**
@@ -156,19 +224,55 @@ public CompletableFuture<?> completion() {
 		private final P processor;
 		private final BlockingQueue<W> workQueue;
 		private final int maxTasksPerBatch;
+		private final long maxLingerNanos;
 		private final List<W> workBuffer;
+		private final MetricsDistributionSummary batchSizeSummary;
+
+		private SimpleScheduledExecutor delayExecutor;
+		private Runnable rescheduler;
+
+		/**
+		 * While waiting for more works, a future completing when we're done waiting; {@code null} otherwise.
+		 */
+		private volatile CompletableFuture<Void> lingerEnd;
+		private volatile int lingeringBatchSize;
+		private Future<?> lingerTimeout;
 
 		private BatchWorker(String name, P processor, BlockingQueue<W> workQueue,
-				int maxTasksPerBatch) {
+				int maxTasksPerBatch, long maxLingerNanos, MetricsDistributionSummary batchSizeSummary) {
 			this.name = name;
 			this.processor = processor;
 			this.workQueue = workQueue;
 			this.maxTasksPerBatch = maxTasksPerBatch;
+			this.maxLingerNanos = maxLingerNanos;
 			this.workBuffer = new ArrayList<>( maxTasksPerBatch );
+			this.batchSizeSummary = batchSizeSummary;
+		}
+
+		void start(SimpleScheduledExecutor delayExecutor, Runnable rescheduler) {
+			this.delayExecutor = delayExecutor;
+			this.rescheduler = rescheduler;
+		}
+
+		void stop() {
+			if ( lingerTimeout != null ) {
+				lingerTimeout.cancel( false );
+				lingerTimeout = null;
+			}
+			lingerEnd = null;
 		}
 
 		@Override
 		public CompletableFuture<?> work() {
+			if ( lingerEnd != null ) {
+				// We were waiting for more works: take those that arrived in the meantime, then process the batch.
+				lingerEnd = null;
+				lingerTimeout.cancel( false );
+				lingerTimeout = null;
+				workQueue.drainTo( workBuffer, maxTasksPerBatch - workBuffer.size() );
+				return processBatch();
+			}
+
 			workBuffer.clear();
 			workQueue.drainTo( workBuffer, maxTasksPerBatch );
 
@@ -177,7 +281,33 @@ public CompletableFuture<?> work() {
 				return completedFuture;
 			}
 
+			// More than one work means works accumulated while the previous batch was being processed:
+			// we're under load, so wait a little for more works in order to amortize the cost of each batch.
+			// Under light load, works are processed one at a time, without any added latency.
+			if ( maxLingerNanos > 0 && workBuffer.size() > 1 && workBuffer.size() < maxTasksPerBatch ) {
+				CompletableFuture<?> future = lingerForMoreWorks();
+				if ( future != null ) {
+					return future;
+				}
+			}
+
+			return processBatch();
+		}
+
+		/**
+		 * Called after each submission, from the submitting thread.
+		 */
+		void afterSubmit() {
+			CompletableFuture<Void> currentLingerEnd = lingerEnd;
+			if ( currentLingerEnd != null && lingeringBatchSize + workQueue.size() >= maxTasksPerBatch ) {
+				// The batch is full: no need to wait any longer.
+				stopLingering( currentLingerEnd );
+			}
+		}
+
+		private CompletableFuture<?> processBatch() {
 			int workCount = workBuffer.size();
+			batchSizeSummary.record( workCount );
 			boolean traceEnabled = log.isTraceEnabled();
 			if ( traceEnabled ) {
 				log.tracef( "Processing %d works in executor '%s'", workCount, name );
@@ -208,6 +338,38 @@ public CompletableFuture<?> work() {
 		public void complete() {
 			processor.complete();
 		}
+
+		/**
+		 * Waits for more works without occupying a thread:
+		 * returns a future that completes when the batch is full or the max linger time elapsed,
+		 * after making sure this worker will run again to process the batch.
+		 *
+		 * @return A future, or {@code null} if waiting is not possible.
+		 */
+		private CompletableFuture<?> lingerForMoreWorks() {
+			CompletableFuture<Void> future = new CompletableFuture<>();
+			lingeringBatchSize = workBuffer.size();
+			lingerEnd = future;
+			try {
+				lingerTimeout = delayExecutor.schedule( () -> stopLingering( future ),
+						maxLingerNanos, TimeUnit.NANOSECONDS );
+			}
+			catch (RuntimeException e) {
+				// The executor is probably shutting down: just process the works we already have.
+				lingerEnd = null;
+				return null;
+			}
+			// Works submitted before we set lingerEnd may already fill the batch.
+			afterSubmit();
+			return future;
+		}
+
+		private void stopLingering(CompletableFuture<Void> future) {
+			// Make sure the task runs again once this future completes, even if no work was submitted,
+			// so that it processes the works we already have.
+			rescheduler.run();
+			future.complete( null );
+		}
 	}
 
 	private static final class BatchScheduler implements SingletonTask.Scheduler {
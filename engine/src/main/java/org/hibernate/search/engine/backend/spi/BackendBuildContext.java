@@ -8,6 +8,7 @@
 
 import java.util.Optional;
 
+import org.hibernate.search.engine.common.metrics.spi.MetricsRegistry;
 import org.hibernate.search.engine.common.timing.spi.TimingSource;
 import org.hibernate.search.engine.environment.bean.BeanResolver;
 import org.hibernate.search.engine.environment.classpath.spi.ClassResolver;
@@ -32,6 +33,8 @@ public interface BackendBuildContext {
 
 	TimingSource timingSource();
 
+	MetricsRegistry metricsRegistry();
+
 	boolean multiTenancyEnabled();
 
 	Optional<String> backendName();
@@ -0,0 +1,63 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.backend.work.execution;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.engine.cfg.spi.ParseUtils;
+import org.hibernate.search.engine.logging.impl.Log;
+import org.hibernate.search.util.common.annotation.Incubating;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * The implementation of indexing queues,
+ * i.e. the queues where indexing works wait before being processed in batches by a background thread.
+ */
+@Incubating
+public enum IndexingQueueStrategyName {
+
+	/**
+	 * A lock-based, array-backed queue.
+	 * <p>
+	 * Threads submitting works contend on a single lock per queue,
+	 * which is fine under moderate concurrency.
+	 */
+	BLOCKING( "blocking" ),
+	/**
+	 * A lock-free, array-backed queue optimized for many concurrent producers and a single consumer.
+	 * <p>
+	 * Threads submitting works never acquire a lock, unless the queue is full,
+	 * in which case they back off until there is room in the queue.
+	 * Reduces contention when many threads submit works to the same queue concurrently.
+	 */
+	LOCK_FREE( "lock-free" );
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	// This method conforms to the MicroProfile Config specification. Do not change its signature.
+	public static IndexingQueueStrategyName of(String value) {
+		return ParseUtils.parseDiscreteValues(
+				IndexingQueueStrategyName.values(),
+				IndexingQueueStrategyName::externalRepresentation,
+				log::invalidIndexingQueueStrategyName,
+				value
+		);
+	}
+
+	private final String externalRepresentation;
+
+	IndexingQueueStrategyName(String externalRepresentation) {
+		this.externalRepresentation = externalRepresentation;
+	}
+
+	/**
+	 * @return The expected string representation in configuration properties.
+	 */
+	public String externalRepresentation() {
+		return externalRepresentation;
+	}
+}
@@ -10,6 +10,8 @@
 import java.util.List;
 
 import org.hibernate.search.engine.cfg.EngineSettings;
+import org.hibernate.search.engine.common.metrics.impl.NoOpMetricsRegistry;
+import org.hibernate.search.engine.common.metrics.spi.MetricsRegistry;
 import org.hibernate.search.engine.environment.bean.BeanReference;
 import org.hibernate.search.engine.environment.bean.spi.BeanConfigurer;
 import org.hibernate.search.engine.environment.thread.impl.EmbeddedThreadProvider;
@@ -49,6 +51,16 @@ private EngineSpiSettings() {
 	 */
 	public static final String THREAD_PROVIDER = PREFIX + Radicals.THREAD_PROVIDER;
 
+	/**
+	 * The {@link MetricsRegistry} used to report metrics on the hot paths of backends,
+	 * such as indexing queue depths, batch sizes, commit, refresh and query durations.
+	 * <p>
+	 * Expects a reference to a bean of type {@link MetricsRegistry}.
+	 * <p>
+	 * Defaults to {@link Defaults#METRICS_REGISTRY}, a registry that ignores all measurements.
+	 */
+	public static final String METRICS_REGISTRY = PREFIX + Radicals.METRICS_REGISTRY;
+
 	/**
 	 * Configuration property keys without the {@link #PREFIX prefix}.
 	 */
@@ -59,6 +71,7 @@ private Radicals() {
 
 		public static final String BEAN_CONFIGURERS = "bean_configurers";
 		public static final String THREAD_PROVIDER = "thread_provider";
+		public static final String METRICS_REGISTRY = "metrics_registry";
 	}
 
 	/**
@@ -72,5 +85,7 @@ private Defaults() {
 		public static final List<BeanReference<? extends BeanConfigurer>> BEAN_CONFIGURERS = Collections.emptyList();
 		public static final BeanReference<? extends ThreadProvider> THREAD_PROVIDER =
 				BeanReference.of( ThreadProvider.class, EmbeddedThreadProvider.NAME );
+		public static final BeanReference<? extends MetricsRegistry> METRICS_REGISTRY =
+				BeanReference.of( MetricsRegistry.class, NoOpMetricsRegistry.NAME );
 	}
 }
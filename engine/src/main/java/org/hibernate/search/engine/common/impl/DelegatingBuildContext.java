@@ -7,6 +7,7 @@
 package org.hibernate.search.engine.common.impl;
 
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
+import org.hibernate.search.engine.common.metrics.spi.MetricsRegistry;
 import org.hibernate.search.engine.common.resources.impl.EngineThreads;
 import org.hibernate.search.engine.common.timing.spi.TimingSource;
 import org.hibernate.search.engine.environment.bean.BeanResolver;
@@ -54,4 +55,8 @@ public EngineThreads engineThreads() {
 	public TimingSource timingSource() {
 		return delegate.getTimingSource();
 	}
+
+	public MetricsRegistry metricsRegistry() {
+		return delegate.getMetricsRegistry();
+	}
 }
@@ -7,6 +7,7 @@
 package org.hibernate.search.engine.common.impl;
 
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
+import org.hibernate.search.engine.common.metrics.spi.MetricsRegistry;
 import org.hibernate.search.engine.common.resources.impl.EngineThreads;
 import org.hibernate.search.engine.common.timing.spi.TimingSource;
 import org.hibernate.search.engine.environment.bean.BeanResolver;
@@ -30,13 +31,15 @@ class RootBuildContext {
 
 	private final EngineThreads engineThreads;
 	private final TimingSource timingSource;
+	private final MetricsRegistry metricsRegistry;
 
 	RootBuildContext(ConfigurationPropertySource propertySource,
 			ClassResolver classResolver, ResourceResolver resourceResolver,
 			BeanResolver beanResolver,
 			FailureCollector failureCollector,
 			ThreadPoolProvider threadPoolProvider, FailureHandler failureHandler,
-			EngineThreads engineThreads, TimingSource timingSource) {
+			EngineThreads engineThreads, TimingSource timingSource,
+			MetricsRegistry metricsRegistry) {
 		this.propertySource = propertySource;
 		this.classResolver = classResolver;
 		this.resourceResolver = resourceResolver;
@@ -46,6 +49,7 @@ class RootBuildContext {
 		this.failureHandler = failureHandler;
 		this.engineThreads = engineThreads;
 		this.timingSource = timingSource;
+		this.metricsRegistry = metricsRegistry;
 	}
 
 	ConfigurationPropertySource getConfigurationPropertySource() {
@@ -83,4 +87,8 @@ EngineThreads getEngineThreads() {
 	TimingSource getTimingSource() {
 		return timingSource;
 	}
+
+	MetricsRegistry getMetricsRegistry() {
+		return metricsRegistry;
+	}
 }
@@ -17,6 +17,7 @@
 import org.hibernate.search.engine.cfg.EngineSettings;
 import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
 import org.hibernate.search.engine.cfg.spi.EngineSpiSettings;
+import org.hibernate.search.engine.common.metrics.spi.MetricsRegistry;
 import org.hibernate.search.engine.common.resources.impl.EngineThreads;
 import org.hibernate.search.engine.common.spi.SearchIntegration;
 import org.hibernate.search.engine.common.spi.SearchIntegrationEnvironment;
@@ -62,6 +63,12 @@ public class SearchIntegrationBuilder implements SearchIntegration.Builder {
 					.withDefault( EngineSpiSettings.Defaults.THREAD_PROVIDER )
 					.build();
 
+	private static final ConfigurationProperty<BeanReference<? extends MetricsRegistry>> METRICS_REGISTRY =
+			ConfigurationProperty.forKey( EngineSpiSettings.Radicals.METRICS_REGISTRY )
+					.asBeanReference( MetricsRegistry.class )
+					.withDefault( EngineSpiSettings.Defaults.METRICS_REGISTRY )
+					.build();
+
 	private final SearchIntegrationEnvironment environment;
 	private final Optional<SearchIntegrationImpl> previousIntegration;
 	private final Map<MappingKey<?, ?>, MappingInitiator<?, ?>> mappingInitiators = new LinkedHashMap<>();
@@ -102,6 +109,7 @@ public SearchIntegrationPartialBuildState prepareBuild() {
 		BeanResolver beanResolver = environment.beanResolver();
 		BeanHolder<? extends FailureHandler> failureHandlerHolder = null;
 		BeanHolder<? extends ThreadProvider> threadProviderHolder = null;
+		BeanHolder<? extends MetricsRegistry> metricsRegistryHolder = null;
 		IndexManagerBuildingStateHolder indexManagerBuildingStateHolder = null;
 		// Use a LinkedHashMap for deterministic iteration
 		List<MappingBuildingState<?, ?>> mappingBuildingStates = new ArrayList<>();
@@ -125,11 +133,13 @@ public SearchIntegrationPartialBuildState prepareBuild() {
 			engineThreads = new EngineThreads( threadPoolProvider );
 			timingSource = new DefaultTimingSource( engineThreads );
 
+			metricsRegistryHolder = METRICS_REGISTRY.getAndTransform( propertySource, beanResolver::resolve );
+
 			RootBuildContext rootBuildContext = new RootBuildContext(
 					propertySource,
 					environment.classResolver(), environment.resourceResolver(), beanResolver,
 					failureCollector, threadPoolProvider, failureHandler,
-					engineThreads, timingSource
+					engineThreads, timingSource, metricsRegistryHolder.get()
 			);
 
 			indexManagerBuildingStateHolder =
@@ -195,6 +205,7 @@ public SearchIntegrationPartialBuildState prepareBuild() {
 					environment.beanProvider(), beanResolver,
 					failureHandlerHolder,
 					threadPoolProvider,
+					metricsRegistryHolder,
 					partiallyBuiltMappings,
 					indexManagerBuildingStateHolder.getBackendNonStartedStates(),
 					indexManagerBuildingStateHolder.getIndexManagersNonStartedStates(),
@@ -239,6 +250,7 @@ public SearchIntegrationPartialBuildState prepareBuild() {
 			closer.pushAll( holder -> holder.closeOnFailure( closer ), indexManagerBuildingStateHolder );
 			// Close environment resources before aborting
 			closer.pushAll( BeanHolder::close, threadProviderHolder );
+			closer.pushAll( BeanHolder::close, metricsRegistryHolder );
 			closer.pushAll( SearchIntegrationEnvironment::close, environment );
 			closer.push( EngineThreads::onStop, engineThreads );
 			closer.push( TimingSource::stop, timingSource );
@@ -0,0 +1,84 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.common.metrics.impl;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+import org.hibernate.search.engine.common.metrics.spi.MetricsCounter;
+import org.hibernate.search.engine.common.metrics.spi.MetricsDistributionSummary;
+import org.hibernate.search.engine.common.metrics.spi.MetricsGauge;
+import org.hibernate.search.engine.common.metrics.spi.MetricsRegistry;
+import org.hibernate.search.engine.common.metrics.spi.MetricsTags;
+import org.hibernate.search.engine.common.metrics.spi.MetricsTimer;
+
+/**
+ * A metrics registry that ignores all measurements.
+ * <p>
+ * All meters are stateless singletons, so instrumented code paths only pay for a virtual call.
+ */
+public final class NoOpMetricsRegistry
+		implements MetricsRegistry, MetricsCounter, MetricsTimer, MetricsDistributionSummary, MetricsGauge {
+
+	public static final String NAME = "no-op";
+
+	public static final NoOpMetricsRegistry INSTANCE = new NoOpMetricsRegistry();
+
+	private NoOpMetricsRegistry() {
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName();
+	}
+
+	@Override
+	public MetricsCounter counter(String name, MetricsTags tags) {
+		return this;
+	}
+
+	@Override
+	public MetricsTimer timer(String name, MetricsTags tags) {
+		return this;
+	}
+
+	@Override
+	public MetricsDistributionSummary distributionSummary(String name, MetricsTags tags) {
+		return this;
+	}
+
+	@Override
+	public <T> MetricsGauge gauge(String name, MetricsTags tags, T stateObject,
+			ToDoubleFunction<T> valueFunction) {
+		return this;
+	}
+
+	@Override
+	public void increment(long amount) {
+		// No-op
+	}
+
+	@Override
+	public void record(long amount, TimeUnit unit) {
+		// No-op
+	}
+
+	@Override
+	public void recordSince(long startNanos) {
+		// No-op: don't even read the clock
+	}
+
+	@Override
+	public void record(double amount) {
+		// No-op
+	}
+
+	@Override
+	public void close() {
+		// No-op
+	}
+}
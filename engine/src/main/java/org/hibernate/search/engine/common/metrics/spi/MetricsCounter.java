@@ -0,0 +1,28 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.common.metrics.spi;
+
+/**
+ * A meter tracking a monotonically increasing count.
+ *
+ * @see MetricsRegistry#counter(String, MetricsTags)
+ */
+public interface MetricsCounter {
+
+	/**
+	 * Increment the counter by one.
+	 */
+	default void increment() {
+		increment( 1L );
+	}
+
+	/**
+	 * @param amount The amount to add to the counter. Must be positive or zero.
+	 */
+	void increment(long amount);
+
+}
@@ -0,0 +1,21 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.common.metrics.spi;
+
+/**
+ * A meter tracking the distribution of arbitrary values, such as batch sizes.
+ *
+ * @see MetricsRegistry#distributionSummary(String, MetricsTags)
+ */
+public interface MetricsDistributionSummary {
+
+	/**
+	 * @param amount The value to record. Must be positive or zero.
+	 */
+	void record(double amount);
+
+}
@@ -0,0 +1,22 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.common.metrics.spi;
+
+/**
+ * A handle to a gauge registered in a {@link MetricsRegistry}.
+ *
+ * @see MetricsRegistry#gauge(String, MetricsTags, Object, java.util.function.ToDoubleFunction)
+ */
+public interface MetricsGauge extends AutoCloseable {
+
+	/**
+	 * Remove the gauge from the registry.
+	 */
+	@Override
+	void close();
+
+}
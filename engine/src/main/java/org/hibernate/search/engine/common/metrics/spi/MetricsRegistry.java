@@ -0,0 +1,67 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.common.metrics.spi;
+
+import java.util.function.ToDoubleFunction;
+
+import org.hibernate.search.engine.common.metrics.impl.NoOpMetricsRegistry;
+
+/**
+ * A registry of metrics, used to report measurements on hot paths of Hibernate Search:
+ * queue depths, batch sizes, commit, refresh and query durations, and so on.
+ * <p>
+ * Implementations are expected to be thin adapters to a metrics library such as Micrometer:
+ * meters are identified by a dot-separated, lowercase name and a set of {@link MetricsTags tags},
+ * and counters, timers, distribution summaries and gauges have the same semantics as in Micrometer.
+ * <p>
+ * Meters are retrieved once, when the component they instrument is created,
+ * then used repeatedly; implementations must make recording cheap and thread-safe.
+ */
+public interface MetricsRegistry {
+
+	/**
+	 * @param name The name of the counter.
+	 * @param tags The tags of the counter.
+	 * @return A counter, i.e. a meter tracking a monotonically increasing count.
+	 */
+	MetricsCounter counter(String name, MetricsTags tags);
+
+	/**
+	 * @param name The name of the timer.
+	 * @param tags The tags of the timer.
+	 * @return A timer, i.e. a meter tracking the count and duration of short-lived events.
+	 */
+	MetricsTimer timer(String name, MetricsTags tags);
+
+	/**
+	 * @param name The name of the distribution summary.
+	 * @param tags The tags of the distribution summary.
+	 * @return A distribution summary, i.e. a meter tracking the distribution of arbitrary values (sizes, ...).
+	 */
+	MetricsDistributionSummary distributionSummary(String name, MetricsTags tags);
+
+	/**
+	 * Register a gauge, i.e. a meter whose value is sampled on demand from a state object.
+	 *
+	 * @param name The name of the gauge.
+	 * @param tags The tags of the gauge.
+	 * @param stateObject The object to sample the gauge value from.
+	 * @param valueFunction A function returning the current value of the gauge for the given state object.
+	 * @param <T> The type of the state object.
+	 * @return A handle that must be closed when the state object is no longer in use,
+	 * in order to remove the gauge from the registry.
+	 */
+	<T> MetricsGauge gauge(String name, MetricsTags tags, T stateObject, ToDoubleFunction<T> valueFunction);
+
+	/**
+	 * @return A registry that ignores all measurements.
+	 */
+	static MetricsRegistry noOp() {
+		return NoOpMetricsRegistry.INSTANCE;
+	}
+
+}
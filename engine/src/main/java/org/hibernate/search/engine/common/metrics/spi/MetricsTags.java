@@ -0,0 +1,114 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.common.metrics.spi;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.hibernate.search.util.common.impl.Contracts;
+
+/**
+ * An immutable, ordered set of key/value pairs attached to a meter,
+ * e.g. the name of the backend, index or shard the meter relates to.
+ */
+public final class MetricsTags {
+
+	public static final String BACKEND = "backend";
+	public static final String INDEX = "index";
+	public static final String SHARD = "shard";
+	public static final String QUEUE = "queue";
+
+	/**
+	 * The value of the {@link #BACKEND} tag for the default backend.
+	 */
+	public static final String DEFAULT_BACKEND = "<default>";
+
+	private static final MetricsTags EMPTY = new MetricsTags( new String[0] );
+
+	public static MetricsTags empty() {
+		return EMPTY;
+	}
+
+	public static MetricsTags of(String key, String value) {
+		return EMPTY.and( key, value );
+	}
+
+	/**
+	 * @param backendName The name of a backend, or an empty optional for the default backend.
+	 * @return Tags identifying the given backend.
+	 */
+	public static MetricsTags backend(Optional<String> backendName) {
+		return of( BACKEND, backendName.orElse( DEFAULT_BACKEND ) );
+	}
+
+	/**
+	 * Keys and values, alternating.
+	 */
+	private final String[] keysAndValues;
+
+	private MetricsTags(String[] keysAndValues) {
+		this.keysAndValues = keysAndValues;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if ( obj == this ) {
+			return true;
+		}
+		if ( obj == null || obj.getClass() != getClass() ) {
+			return false;
+		}
+		MetricsTags other = (MetricsTags) obj;
+		return Arrays.equals( keysAndValues, other.keysAndValues );
+	}
+
+	@Override
+	public int hashCode() {
+		return Arrays.hashCode( keysAndValues );
+	}
+
+	@Override
+	public String toString() {
+		return asMap().toString();
+	}
+
+	/**
+	 * @param key The key of the tag to add.
+	 * @param value The value of the tag to add.
+	 * @return A copy of these tags, with the given tag added, or replaced if a tag with the same key already exists.
+	 */
+	public MetricsTags and(String key, String value) {
+		Contracts.assertNotNullNorEmpty( key, "key" );
+		Contracts.assertNotNull( value, "value" );
+		for ( int i = 0; i < keysAndValues.length; i += 2 ) {
+			if ( keysAndValues[i].equals( key ) ) {
+				String[] copy = keysAndValues.clone();
+				copy[i + 1] = value;
+				return new MetricsTags( copy );
+			}
+		}
+		String[] copy = Arrays.copyOf( keysAndValues, keysAndValues.length + 2 );
+		copy[keysAndValues.length] = key;
+		copy[keysAndValues.length + 1] = value;
+		return new MetricsTags( copy );
+	}
+
+	/**
+	 * @return The tags as an unmodifiable map, in the order they were added.
+	 */
+	public Map<String, String> asMap() {
+		Map<String, String> map = new LinkedHashMap<>();
+		for ( int i = 0; i < keysAndValues.length; i += 2 ) {
+			map.put( keysAndValues[i], keysAndValues[i + 1] );
+		}
+		return Collections.unmodifiableMap( map );
+	}
+
+}
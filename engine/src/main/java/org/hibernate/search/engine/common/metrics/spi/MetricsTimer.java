@@ -0,0 +1,33 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.common.metrics.spi;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A meter tracking the count and duration of short-lived events.
+ *
+ * @see MetricsRegistry#timer(String, MetricsTags)
+ */
+public interface MetricsTimer {
+
+	/**
+	 * @param amount The duration of an event.
+	 * @param unit The unit of {@code amount}.
+	 */
+	void record(long amount, TimeUnit unit);
+
+	/**
+	 * Record the duration of an event that started at the given time and ended now.
+	 *
+	 * @param startNanos The time the event started at, as returned by {@link System#nanoTime()}.
+	 */
+	default void recordSince(long startNanos) {
+		record( System.nanoTime() - startNanos, TimeUnit.NANOSECONDS );
+	}
+
+}
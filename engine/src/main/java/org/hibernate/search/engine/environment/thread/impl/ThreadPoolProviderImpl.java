@@ -67,6 +67,19 @@ public ThreadPoolExecutor newFixedThreadPool(int threads, String threadNamePrefi
 		);
 	}
 
+	@Override
+	public ThreadPoolExecutor newFixedVirtualThreadPool(int threads, String threadNamePrefix) {
+		return new ThreadPoolExecutor(
+				threads,
+				threads,
+				0L,
+				TimeUnit.MILLISECONDS,
+				new LinkedBlockingQueue<>( QUEUE_MAX_LENGTH ),
+				VirtualThreadFactory.create( threadProviderHolder.get(), threadNamePrefix ),
+				new BlockPolicy()
+		);
+	}
+
 	@Override
 	public ScheduledExecutorService newScheduledExecutor(int threads, String threadNamePrefix) {
 		ScheduledThreadPoolExecutor result = new ScheduledThreadPoolExecutor(
@@ -0,0 +1,62 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.environment.thread.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.search.engine.environment.thread.spi.ThreadProvider;
+import org.hibernate.search.engine.logging.impl.Log;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * A thread factory creating virtual threads.
+ * <p>
+ * Virtual threads are only available on JDK 21+,
+ * so the JDK API is accessed reflectively.
+ * Thread names are still assigned by the {@link ThreadProvider},
+ * so that virtual threads can be identified the same way as platform threads.
+ */
+final class VirtualThreadFactory implements ThreadFactory {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	static VirtualThreadFactory create(ThreadProvider threadProvider, String threadNamePrefix) {
+		ThreadFactory delegate;
+		try {
+			Method ofVirtual = Thread.class.getMethod( "ofVirtual" );
+			Method factory = Class.forName( "java.lang.Thread$Builder" ).getMethod( "factory" );
+			delegate = (ThreadFactory) factory.invoke( ofVirtual.invoke( null ) );
+		}
+		catch (NoSuchMethodException | ClassNotFoundException | IllegalAccessException | InvocationTargetException |
+				RuntimeException e) {
+			throw log.virtualThreadsNotSupported( System.getProperty( "java.version" ), e );
+		}
+		return new VirtualThreadFactory( delegate, threadProvider, threadNamePrefix );
+	}
+
+	private final ThreadFactory delegate;
+	private final ThreadProvider threadProvider;
+	private final String threadNamePrefix;
+	private final AtomicInteger threadNumber = new AtomicInteger( 0 );
+
+	private VirtualThreadFactory(ThreadFactory delegate, ThreadProvider threadProvider, String threadNamePrefix) {
+		this.delegate = delegate;
+		this.threadProvider = threadProvider;
+		this.threadNamePrefix = threadNamePrefix;
+	}
+
+	@Override
+	public Thread newThread(Runnable r) {
+		Thread thread = delegate.newThread( r );
+		thread.setName( threadProvider.createThreadName( threadNamePrefix, threadNumber.getAndIncrement() ) );
+		return thread;
+	}
+}
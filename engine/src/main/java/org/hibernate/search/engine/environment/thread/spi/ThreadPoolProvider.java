@@ -46,6 +46,26 @@ public interface ThreadPoolProvider {
 	 */
 	ThreadPoolExecutor newFixedThreadPool(int threads, String threadNamePrefix, int queueSize);
 
+	/**
+	 * Creates a new fixed size {@link ThreadPoolExecutor} running tasks in virtual threads.
+	 * <p>
+	 * Apart from the type of threads, the executor behaves like the one returned by
+	 * {@link #newFixedThreadPool(int, String)}.
+	 * Virtual threads are cheap, so the number of threads can be much higher
+	 * than for platform threads, as long as tasks are mostly waiting on I/O.
+	 * <p>
+	 * The default implementation ignores the request for virtual threads
+	 * and delegates to {@link #newFixedThreadPool(int, String)}.
+	 *
+	 * @param threads the number of threads
+	 * @param threadNamePrefix a label to identify the threads; useful for profiling.
+	 * @return the new ExecutorService
+	 * @throws org.hibernate.search.util.common.SearchException If the JVM does not support virtual threads.
+	 */
+	default ThreadPoolExecutor newFixedVirtualThreadPool(int threads, String threadNamePrefix) {
+		return newFixedThreadPool( threads, threadNamePrefix );
+	}
+
 	/**
 	 * Creates a new fixed size {@link ScheduledExecutorService}.
 	 * <p>
@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.engine.impl;
 
+import org.hibernate.search.engine.common.metrics.impl.NoOpMetricsRegistry;
+import org.hibernate.search.engine.common.metrics.spi.MetricsRegistry;
 import org.hibernate.search.engine.environment.bean.BeanHolder;
 import org.hibernate.search.engine.environment.bean.spi.BeanConfigurationContext;
 import org.hibernate.search.engine.environment.bean.spi.BeanConfigurer;
@@ -25,5 +27,9 @@ public void configure(BeanConfigurationContext context) {
 				FailureHandler.class, LogFailureHandler.NAME,
 				beanResolver -> BeanHolder.of( new LogFailureHandler() )
 		);
+		context.define(
+				MetricsRegistry.class, NoOpMetricsRegistry.NAME,
+				beanResolver -> BeanHolder.of( NoOpMetricsRegistry.INSTANCE )
+		);
 	}
 }
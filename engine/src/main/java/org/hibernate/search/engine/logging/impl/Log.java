@@ -581,4 +581,18 @@ SearchException cannotIncludeAndExcludePathsWithinSameFilter(Set<String> include
 			value = "Cannot use rewrite method '%1$s': this method does not accept parameter 'n', but it was specified."
 					+ " Use another version of the rewrite(...) method that does not accept parameter 'n'.")
 	SearchException nonParameterizedRewriteMethodWithParameter(RewriteMethod rewriteMethod);
+
+	@Message(id = ID_OFFSET + 123,
+			value = "Cannot retrieve the result of a query added to a batch: the batch was not executed yet."
+					+ " Call execute() on the batch before retrieving results.")
+	SearchException searchQueryBatchNotExecuted();
+
+	@Message(id = ID_OFFSET + 124,
+			value = "Invalid indexing queue strategy name: '%1$s'. Valid names are: %2$s.")
+	SearchException invalidIndexingQueueStrategyName(String invalidRepresentation, List<String> validRepresentations);
+
+	@Message(id = ID_OFFSET + 125,
+			value = "Unable to create virtual threads: this JVM (version '%1$s') does not support virtual threads."
+					+ " Virtual threads require Java 21 or later.")
+	SearchException virtualThreadsNotSupported(String javaVersion, @Cause Throwable cause);
 }
@@ -6,6 +6,9 @@
  */
 package org.hibernate.search.engine.search.query;
 
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
 /**
  * A base interface for subtypes of {@link SearchFetchable} allowing to
  * easily override the result type for all relevant methods.
@@ -26,7 +29,16 @@
 	@Override
 	R fetchAll();
 
+	@Override
+	CompletionStage<R> fetchAsync(Integer limit);
+
+	@Override
+	CompletionStage<R> fetchAsync(Integer offset, Integer limit);
+
 	@Override
 	SC scroll(int chunkSize);
 
+	@Override
+	List<SC> scroll(int chunkSize, int sliceCount);
+
 }
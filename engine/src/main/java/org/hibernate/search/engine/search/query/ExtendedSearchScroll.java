@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.engine.search.query;
 
+import java.util.concurrent.CompletionStage;
+
 /**
  * A base interface for subtypes of {@link SearchScroll} allowing to
  * easily override the result type for all relevant methods.
@@ -19,4 +21,7 @@
 	@Override
 	R next();
 
+	@Override
+	CompletionStage<R> nextAsync();
+
 }
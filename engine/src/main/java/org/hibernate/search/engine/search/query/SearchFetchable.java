@@ -8,10 +8,12 @@
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
 
 import org.hibernate.search.util.common.SearchException;
 import org.hibernate.search.util.common.SearchTimeoutException;
+import org.hibernate.search.util.common.annotation.Incubating;
 
 /**
  * A component allowing to fetch search results.
@@ -140,6 +142,78 @@
 	 */
 	List<H> fetchAllHits();
 
+	/**
+	 * Execute the query asynchronously and return the {@link SearchResult}.
+	 * <p>
+	 * See {@link #fetchAsync(Integer, Integer)} for details about asynchronous execution.
+	 *
+	 * @param limit The maximum number of hits to be included in the {@link SearchResult}. {@code null} means no limit.
+	 * @return A {@link CompletionStage} eventually holding the {@link SearchResult},
+	 * or completed exceptionally with the same exceptions as {@link #fetch(Integer)}.
+	 */
+	@Incubating
+	CompletionStage<? extends SearchResult<H>> fetchAsync(Integer limit);
+
+	/**
+	 * Execute the query asynchronously and return the {@link SearchResult}.
+	 * <p>
+	 * Whether the calling thread is blocked during the execution depends on the backend:
+	 * the Elasticsearch backend sends the request without waiting for the response
+	 * (if the request cannot be submitted right away, the returned stage completes exceptionally
+	 * with a {@link java.util.concurrent.RejectedExecutionException}),
+	 * while the Lucene backend, which executes searches in-process, executes the query in the calling thread
+	 * and returns an already completed stage.
+	 * <p>
+	 * Hits that require loading (e.g. entities) may be loaded in another thread than the calling thread:
+	 * the Elasticsearch backend loads them in a dedicated thread pool,
+	 * never in the threads handling HTTP responses.
+	 * Loading involves blocking that thread;
+	 * to avoid blocking any thread, use projections that do not require loading.
+	 *
+	 * @param offset The number of hits to skip before adding the hits to the {@link SearchResult}. {@code null} means no offset.
+	 * @param limit The maximum number of hits to be included in the {@link SearchResult}. {@code null} means no limit.
+	 * @return A {@link CompletionStage} eventually holding the {@link SearchResult},
+	 * or completed exceptionally with the same exceptions as {@link #fetch(Integer, Integer)}.
+	 */
+	@Incubating
+	CompletionStage<? extends SearchResult<H>> fetchAsync(Integer offset, Integer limit);
+
+	/**
+	 * Execute the query asynchronously and return the hits as a {@link List}.
+	 * <p>
+	 * See {@link #fetchAsync(Integer, Integer)} for details about asynchronous execution.
+	 *
+	 * @param limit The maximum number of hits to be returned by this method. {@code null} means no limit.
+	 * @return A {@link CompletionStage} eventually holding the query hits,
+	 * or completed exceptionally with the same exceptions as {@link #fetchHits(Integer)}.
+	 */
+	@Incubating
+	CompletionStage<List<H>> fetchHitsAsync(Integer limit);
+
+	/**
+	 * Execute the query asynchronously and return the hits as a {@link List}.
+	 * <p>
+	 * See {@link #fetchAsync(Integer, Integer)} for details about asynchronous execution.
+	 *
+	 * @param offset The number of hits to skip. {@code null} means no offset.
+	 * @param limit The maximum number of hits to be returned by this method. {@code null} means no limit.
+	 * @return A {@link CompletionStage} eventually holding the query hits,
+	 * or completed exceptionally with the same exceptions as {@link #fetchHits(Integer, Integer)}.
+	 */
+	@Incubating
+	CompletionStage<List<H>> fetchHitsAsync(Integer offset, Integer limit);
+
+	/**
+	 * Execute the query asynchronously and return the total hit count.
+	 * <p>
+	 * See {@link #fetchAsync(Integer, Integer)} for details about asynchronous execution.
+	 *
+	 * @return A {@link CompletionStage} eventually holding the total number of matching entities,
+	 * or completed exceptionally with the same exceptions as {@link #fetchTotalHitCount()}.
+	 */
+	@Incubating
+	CompletionStage<Long> fetchTotalHitCountAsync();
+
 	/**
 	 * Execute the query continuously to deliver results in small chunks through a {@link SearchScroll}.
 	 * <p>
@@ -151,4 +225,30 @@
 	 */
 	SearchScroll<H> scroll(int chunkSize);
 
+	/**
+	 * Execute the query continuously to deliver results in small chunks through multiple {@link SearchScroll}s,
+	 * each scroll covering a distinct slice of the hits.
+	 * <p>
+	 * Useful to process very large datasets in parallel:
+	 * scrolls are independent and can be consumed concurrently, each from a different thread,
+	 * as long as a given scroll is only ever used from one thread at a time.
+	 * The union of hits returned by all scrolls is the same as the hits returned by {@link #scroll(int)},
+	 * but the order of hits is only guaranteed within a given slice,
+	 * and the total hit count of each scroll only reflects the hits of its own slice.
+	 * <p>
+	 * Hits that require loading (e.g. entities) are loaded through the same loading context for all scrolls,
+	 * which generally does not support concurrent access:
+	 * consume scrolls sequentially in that case, or use projections that do not require loading.
+	 * <p>
+	 * Each scroll must be {@link SearchScroll#close() closed} independently.
+	 *
+	 * @param chunkSize The maximum number of hits to be returned for each call to {@link SearchScroll#next()}
+	 * on each scroll.
+	 * @param sliceCount The number of slices, i.e. the number of scrolls to return.
+	 * @return A list of {@code sliceCount} {@link SearchScroll}s.
+	 * @throws IllegalArgumentException if passed 0 or less for {@code chunkSize} or {@code sliceCount}.
+	 */
+	@Incubating
+	List<? extends SearchScroll<H>> scroll(int chunkSize, int sliceCount);
+
 }
@@ -0,0 +1,70 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.query;
+
+import org.hibernate.search.engine.search.query.impl.SearchQueryBatchImpl;
+import org.hibernate.search.util.common.annotation.Incubating;
+
+/**
+ * A batch of search queries, to be executed together.
+ * <p>
+ * Executing queries as a batch allows backends to reduce the overhead of executing each query separately:
+ * the Elasticsearch backend sends queries targeting the same cluster in a single {@code _msearch} request,
+ * and the Lucene backend executes queries targeting the same indexes on a single index reader.
+ * <p>
+ * Queries are executed when calling {@link #execute()};
+ * results, or failures, can then be retrieved from the {@link SearchQueryBatchItem}
+ * returned when each query was {@link #add(SearchQuery, Integer, Integer) added}.
+ * The failure of one query does not affect other queries in the same batch.
+ */
+@Incubating
+public interface SearchQueryBatch {
+
+	/**
+	 * @return A new, empty batch.
+	 */
+	static SearchQueryBatch create() {
+		return new SearchQueryBatchImpl();
+	}
+
+	/**
+	 * Add a query to this batch,
+	 * to be executed when {@link #execute()} is called,
+	 * limiting to {@code limit} hits.
+	 *
+	 * @param query The query to add.
+	 * @param limit The maximum number of hits to be included in the {@link SearchResult}. {@code null} means no limit.
+	 * @param <H> The type of query hits.
+	 * @return An item allowing to retrieve the result of this query once the batch has been executed.
+	 * @see SearchFetchable#fetch(Integer)
+	 */
+	<H> SearchQueryBatchItem<H> add(SearchQuery<H> query, Integer limit);
+
+	/**
+	 * Add a query to this batch,
+	 * to be executed when {@link #execute()} is called,
+	 * skipping {@code offset} hits and limiting to {@code limit} hits.
+	 *
+	 * @param query The query to add.
+	 * @param offset The number of hits to skip before adding the hits to the {@link SearchResult}. {@code null} means no offset.
+	 * @param limit The maximum number of hits to be included in the {@link SearchResult}. {@code null} means no limit.
+	 * @param <H> The type of query hits.
+	 * @return An item allowing to retrieve the result of this query once the batch has been executed.
+	 * @see SearchFetchable#fetch(Integer, Integer)
+	 */
+	<H> SearchQueryBatchItem<H> add(SearchQuery<H> query, Integer offset, Integer limit);
+
+	/**
+	 * Execute all queries added to this batch since the last call to this method,
+	 * blocking until all of them have been executed and their hits have been loaded.
+	 * <p>
+	 * Failures of individual queries are not propagated by this method:
+	 * they are reported through {@link SearchQueryBatchItem#result()}.
+	 */
+	void execute();
+
+}
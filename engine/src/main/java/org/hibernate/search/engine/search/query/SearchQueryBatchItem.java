@@ -0,0 +1,42 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.query;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.common.SearchTimeoutException;
+import org.hibernate.search.util.common.annotation.Incubating;
+
+/**
+ * A query added to a {@link SearchQueryBatch}.
+ *
+ * @param <H> The type of query hits.
+ */
+@Incubating
+public interface SearchQueryBatchItem<H> {
+
+	/**
+	 * @return The {@link SearchResult} of the query.
+	 * @throws SearchException If the batch was not executed yet,
+	 * or if something went wrong while executing the query.
+	 * @throws SearchTimeoutException If a
+	 * {@link org.hibernate.search.engine.search.query.dsl.SearchQueryOptionsStep#failAfter(long, TimeUnit) failure timeout was set}
+	 * and was reached while executing the query.
+	 * @throws RuntimeException If something went wrong while loading entities. The exact type depends on the mapper,
+	 * e.g. HibernateException/PersistenceException for the Hibernate ORM mapper.
+	 */
+	SearchResult<H> result();
+
+	/**
+	 * @return The failure that occurred while executing the query, or an empty optional if the query succeeded.
+	 * @throws SearchException If the batch was not executed yet.
+	 */
+	Optional<RuntimeException> failure();
+
+}
@@ -6,6 +6,10 @@
  */
 package org.hibernate.search.engine.search.query;
 
+import java.util.concurrent.CompletionStage;
+
+import org.hibernate.search.util.common.annotation.Incubating;
+
 /**
  * An ongoing query execution delivering hits continuously from a single snapshot of the index.
  * <p>
@@ -36,4 +40,18 @@
 	 */
 	SearchScrollResult<H> next();
 
+	/**
+	 * Asynchronously returns the next chunk, with at most {@code chunkSize} hits.
+	 * <p>
+	 * See {@link SearchFetchable#fetchAsync(Integer, Integer)} for details about asynchronous execution.
+	 * <p>
+	 * Calls to {@link #next()} or {@code nextAsync()} must not be issued
+	 * until the stage returned by the previous call to {@code nextAsync()} is complete.
+	 *
+	 * @return A {@link CompletionStage} eventually holding the next {@link SearchScrollResult}.
+	 * @see SearchFetchable#scroll(int)
+	 */
+	@Incubating
+	CompletionStage<? extends SearchScrollResult<H>> nextAsync();
+
 }
@@ -6,6 +6,9 @@
  */
 package org.hibernate.search.engine.search.query.dsl.spi;
 
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
 import org.hibernate.search.engine.search.aggregation.dsl.SearchAggregationFactory;
 import org.hibernate.search.engine.search.loading.spi.SearchLoadingContextBuilder;
 import org.hibernate.search.engine.search.predicate.dsl.SearchPredicateFactory;
@@ -53,8 +56,23 @@ public R fetch(Integer offset, Integer limit) {
 		return toQuery().fetch( offset, limit );
 	}
 
+	@Override
+	public CompletionStage<R> fetchAsync(Integer limit) {
+		return toQuery().fetchAsync( limit );
+	}
+
+	@Override
+	public CompletionStage<R> fetchAsync(Integer offset, Integer limit) {
+		return toQuery().fetchAsync( offset, limit );
+	}
+
 	@Override
 	public SCR scroll(int chunkSize) {
 		return toQuery().scroll( chunkSize );
 	}
+
+	@Override
+	public List<SCR> scroll(int chunkSize, int sliceCount) {
+		return toQuery().scroll( chunkSize, sliceCount );
+	}
 }
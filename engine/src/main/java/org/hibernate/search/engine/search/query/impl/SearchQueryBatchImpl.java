@@ -0,0 +1,71 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.query.impl;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.search.engine.search.query.SearchQuery;
+import org.hibernate.search.engine.search.query.SearchQueryBatch;
+import org.hibernate.search.engine.search.query.SearchQueryBatchItem;
+import org.hibernate.search.engine.search.query.spi.SearchQueryBatchElement;
+import org.hibernate.search.engine.search.query.spi.SearchQueryBatchExecutor;
+import org.hibernate.search.engine.search.query.spi.SearchQueryImplementor;
+import org.hibernate.search.util.common.impl.Contracts;
+
+public final class SearchQueryBatchImpl implements SearchQueryBatch {
+
+	private List<SearchQueryBatchElement<?>> elements = new ArrayList<>();
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[elements=" + elements + "]";
+	}
+
+	@Override
+	public <H> SearchQueryBatchItem<H> add(SearchQuery<H> query, Integer limit) {
+		return add( query, null, limit );
+	}
+
+	@Override
+	public <H> SearchQueryBatchItem<H> add(SearchQuery<H> query, Integer offset, Integer limit) {
+		Contracts.assertNotNull( query, "query" );
+		SearchQueryBatchElement<H> element = new SearchQueryBatchElement<>( (SearchQueryImplementor<H>) query,
+				offset, limit );
+		elements.add( element );
+		return element;
+	}
+
+	@Override
+	public void execute() {
+		List<SearchQueryBatchElement<?>> toExecute = elements;
+		elements = new ArrayList<>();
+
+		Map<SearchQueryBatchExecutor, List<SearchQueryBatchElement<?>>> elementsByExecutor = new LinkedHashMap<>();
+		for ( SearchQueryBatchElement<?> element : toExecute ) {
+			elementsByExecutor.computeIfAbsent( element.query().batchExecutor(), ignored -> new ArrayList<>() )
+					.add( element );
+		}
+
+		for ( Map.Entry<SearchQueryBatchExecutor, List<SearchQueryBatchElement<?>>> entry : elementsByExecutor.entrySet() ) {
+			List<SearchQueryBatchElement<?>> group = entry.getValue();
+			try {
+				entry.getKey().execute( group );
+			}
+			catch (RuntimeException e) {
+				// Do not let a failing executor affect other groups.
+				for ( SearchQueryBatchElement<?> element : group ) {
+					if ( !element.isDone() ) {
+						element.fail( e );
+					}
+				}
+			}
+		}
+	}
+}
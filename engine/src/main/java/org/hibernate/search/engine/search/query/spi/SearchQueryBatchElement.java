@@ -0,0 +1,106 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.query.spi;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Optional;
+import java.util.StringJoiner;
+
+import org.hibernate.search.engine.logging.impl.Log;
+import org.hibernate.search.engine.search.query.SearchQueryBatch;
+import org.hibernate.search.engine.search.query.SearchQueryBatchItem;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * A query added to a {@link SearchQueryBatch}, along with its paging,
+ * to be executed by a {@link SearchQueryBatchExecutor}.
+ *
+ * @param <H> The type of query hits.
+ */
+public final class SearchQueryBatchElement<H> implements SearchQueryBatchItem<H> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final SearchQueryImplementor<H> query;
+	private final Integer offset;
+	private final Integer limit;
+
+	private SearchResult<H> result;
+	private RuntimeException failure;
+
+	public SearchQueryBatchElement(SearchQueryImplementor<H> query, Integer offset, Integer limit) {
+		this.query = query;
+		this.offset = offset;
+		this.limit = limit;
+	}
+
+	@Override
+	public String toString() {
+		return new StringJoiner( ", ", SearchQueryBatchElement.class.getSimpleName() + "[", "]" )
+				.add( "query=" + query )
+				.add( "offset=" + offset )
+				.add( "limit=" + limit )
+				.toString();
+	}
+
+	@Override
+	public SearchResult<H> result() {
+		checkDone();
+		if ( failure != null ) {
+			throw failure;
+		}
+		return result;
+	}
+
+	@Override
+	public Optional<RuntimeException> failure() {
+		checkDone();
+		return Optional.ofNullable( failure );
+	}
+
+	public SearchQueryImplementor<H> query() {
+		return query;
+	}
+
+	public Integer offset() {
+		return offset;
+	}
+
+	public Integer limit() {
+		return limit;
+	}
+
+	/**
+	 * @return {@code true} if this element was already executed, successfully or not.
+	 */
+	public boolean isDone() {
+		return result != null || failure != null;
+	}
+
+	/**
+	 * Marks this element as executed successfully.
+	 * @param result The result of the query.
+	 */
+	public void complete(SearchResult<H> result) {
+		this.result = result;
+	}
+
+	/**
+	 * Marks this element as failed.
+	 * @param failure The failure that occurred while executing the query.
+	 */
+	public void fail(RuntimeException failure) {
+		this.failure = failure;
+	}
+
+	private void checkDone() {
+		if ( !isDone() ) {
+			throw log.searchQueryBatchNotExecuted();
+		}
+	}
+}
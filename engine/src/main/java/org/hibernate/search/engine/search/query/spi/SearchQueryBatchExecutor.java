@@ -0,0 +1,56 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.query.spi;
+
+import java.util.List;
+
+import org.hibernate.search.engine.search.query.SearchQueryBatch;
+
+/**
+ * An executor for queries added to a {@link SearchQueryBatch}.
+ * <p>
+ * Queries whose {@link SearchQueryImplementor#batchExecutor() executors} are {@link Object#equals(Object) equal}
+ * will be passed to a single call to {@link #execute(List)}.
+ */
+public interface SearchQueryBatchExecutor {
+
+	/**
+	 * An executor that simply executes each query separately.
+	 */
+	SearchQueryBatchExecutor SEQUENTIAL = elements -> {
+		for ( SearchQueryBatchElement<?> element : elements ) {
+			executeSeparately( element );
+		}
+	};
+
+	/**
+	 * Executes the given elements, blocking until all of them have been executed and their hits have been loaded.
+	 * <p>
+	 * Implementations must {@link SearchQueryBatchElement#complete(org.hibernate.search.engine.search.query.SearchResult) complete}
+	 * or {@link SearchQueryBatchElement#fail(RuntimeException) fail} each element,
+	 * and must not let the failure of one element affect other elements.
+	 *
+	 * @param elements The elements to execute.
+	 */
+	void execute(List<? extends SearchQueryBatchElement<?>> elements);
+
+	/**
+	 * Executes the given element on its own, using {@link SearchQueryImplementor#fetch(Integer, Integer)}.
+	 *
+	 * @param element The element to execute.
+	 * @param <H> The type of query hits.
+	 */
+	static <H> void executeSeparately(SearchQueryBatchElement<H> element) {
+		try {
+			element.complete( element.query().fetch( element.offset(), element.limit() ) );
+		}
+		catch (RuntimeException e) {
+			element.fail( e );
+		}
+	}
+
+}
@@ -9,6 +9,7 @@
 import java.util.concurrent.TimeUnit;
 
 import org.hibernate.search.engine.search.query.SearchQuery;
+import org.hibernate.search.engine.search.query.SearchQueryBatch;
 
 /**
  * Defines the "service program contract" for {@link SearchQuery}.
@@ -21,4 +22,12 @@
 public interface SearchQueryImplementor<H> extends SearchQuery<H> {
 
 	void failAfter(long timeout, TimeUnit timeUnit);
+
+	/**
+	 * @return The executor to use when this query is executed as part of a {@link SearchQueryBatch}.
+	 * Queries whose executors are {@link Object#equals(Object) equal} will be executed together.
+	 */
+	default SearchQueryBatchExecutor batchExecutor() {
+		return SearchQueryBatchExecutor.SEQUENTIAL;
+	}
 }
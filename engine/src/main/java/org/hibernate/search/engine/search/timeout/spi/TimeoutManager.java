@@ -78,6 +78,14 @@ public TimeoutManager(TimingSource timingSource, Long timeoutValue, TimeUnit tim
 		}
 	}
 
+	/**
+	 * @return A new timeout manager with the same timeout settings as this one,
+	 * but with its own state, so that it can be started and stopped independently.
+	 */
+	public TimeoutManager copy() {
+		return new TimeoutManager( timingSource, timeoutValue, timeoutUnit, type );
+	}
+
 	/**
 	 * we start counting from this method call (if needed)
 	 */
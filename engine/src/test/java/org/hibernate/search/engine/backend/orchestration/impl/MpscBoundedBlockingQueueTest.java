@@ -0,0 +1,148 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.backend.orchestration.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class MpscBoundedBlockingQueueTest {
+
+	private final ExecutorService producerExecutor = Executors.newCachedThreadPool();
+
+	@AfterEach
+	void cleanup() {
+		producerExecutor.shutdownNow();
+	}
+
+	@Test
+	void fifo() {
+		MpscBoundedBlockingQueue<Integer> queue = new MpscBoundedBlockingQueue<>( 3 );
+		assertThat( queue.poll() ).isNull();
+		assertThat( queue.offer( 1 ) ).isTrue();
+		assertThat( queue.offer( 2 ) ).isTrue();
+		assertThat( queue.peek() ).isEqualTo( 1 );
+		assertThat( queue.poll() ).isEqualTo( 1 );
+		assertThat( queue.offer( 3 ) ).isTrue();
+		assertThat( queue.offer( 4 ) ).isTrue();
+		assertThat( queue ).containsExactly( 2, 3, 4 );
+
+		List<Integer> drained = new ArrayList<>();
+		assertThat( queue.drainTo( drained, 2 ) ).isEqualTo( 2 );
+		assertThat( drained ).containsExactly( 2, 3 );
+		assertThat( queue.poll() ).isEqualTo( 4 );
+		assertThat( queue ).isEmpty();
+	}
+
+	@Test
+	void capacity() {
+		// Not a power of two: the capacity must still be honored exactly.
+		MpscBoundedBlockingQueue<Integer> queue = new MpscBoundedBlockingQueue<>( 3 );
+		assertThat( queue.remainingCapacity() ).isEqualTo( 3 );
+		assertThat( queue.offer( 1 ) ).isTrue();
+		assertThat( queue.offer( 2 ) ).isTrue();
+		assertThat( queue.offer( 3 ) ).isTrue();
+		assertThat( queue.offer( 4 ) ).isFalse();
+		assertThat( queue ).hasSize( 3 );
+		assertThat( queue.remainingCapacity() ).isZero();
+
+		queue.clear();
+		assertThat( queue ).isEmpty();
+		assertThat( queue.remainingCapacity() ).isEqualTo( 3 );
+	}
+
+	@Test
+	void put_blocksUntilRoom() throws Exception {
+		MpscBoundedBlockingQueue<Integer> queue = new MpscBoundedBlockingQueue<>( 1 );
+		queue.put( 1 );
+		assertThat( queue.offer( 2, 10, TimeUnit.MILLISECONDS ) ).isFalse();
+
+		CompletableFuture<Void> put = CompletableFuture.runAsync( () -> {
+			try {
+				queue.put( 2 );
+			}
+			catch (InterruptedException e) {
+				throw new IllegalStateException( e );
+			}
+		}, producerExecutor );
+		Thread.sleep( 50 );
+		assertThat( put ).isNotDone();
+
+		assertThat( queue.poll() ).isEqualTo( 1 );
+		put.get( 10, TimeUnit.SECONDS );
+		assertThat( queue.poll() ).isEqualTo( 2 );
+	}
+
+	@Test
+	void poll_timeout() throws Exception {
+		MpscBoundedBlockingQueue<Integer> queue = new MpscBoundedBlockingQueue<>( 4 );
+		assertThat( queue.poll( 10, TimeUnit.MILLISECONDS ) ).isNull();
+
+		CompletableFuture.runAsync( () -> {
+			try {
+				Thread.sleep( 50 );
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			queue.offer( 1 );
+		}, producerExecutor );
+		assertThat( queue.poll( 10, TimeUnit.SECONDS ) ).isEqualTo( 1 );
+	}
+
+	@Test
+	void concurrentProducers() throws Exception {
+		int producerCount = 8;
+		int elementsPerProducer = 20_000;
+		MpscBoundedBlockingQueue<long[]> queue = new MpscBoundedBlockingQueue<>( 100 );
+
+		List<CompletableFuture<Void>> producers = new ArrayList<>();
+		for ( int i = 0; i < producerCount; i++ ) {
+			long producerId = i;
+			producers.add( CompletableFuture.runAsync( () -> {
+				try {
+					for ( long j = 0; j < elementsPerProducer; j++ ) {
+						queue.put( new long[] { producerId, j } );
+					}
+				}
+				catch (InterruptedException e) {
+					throw new IllegalStateException( e );
+				}
+			}, producerExecutor ) );
+		}
+
+		// Every element must be received exactly once, in the order each producer submitted them.
+		long[] nextExpectedPerProducer = new long[producerCount];
+		List<long[]> buffer = new ArrayList<>();
+		int received = 0;
+		while ( received < producerCount * elementsPerProducer ) {
+			buffer.clear();
+			if ( queue.drainTo( buffer, 50 ) == 0 ) {
+				long[] element = queue.poll( 10, TimeUnit.SECONDS );
+				assertThat( element ).as( "element received before timeout" ).isNotNull();
+				buffer.add( element );
+			}
+			for ( long[] element : buffer ) {
+				int producerId = (int) element[0];
+				assertThat( element[1] ).isEqualTo( nextExpectedPerProducer[producerId] );
+				nextExpectedPerProducer[producerId]++;
+				received++;
+			}
+		}
+
+		CompletableFuture.allOf( producers.toArray( new CompletableFuture[0] ) ).get( 10, TimeUnit.SECONDS );
+		assertThat( queue ).isEmpty();
+	}
+}
@@ -27,15 +27,21 @@
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 
+import org.hibernate.search.engine.backend.work.execution.IndexingQueueStrategyName;
 import org.hibernate.search.engine.backend.work.execution.OperationSubmitter;
 import org.hibernate.search.engine.common.execution.spi.DelegatingSimpleScheduledExecutor;
+import org.hibernate.search.engine.common.metrics.spi.MetricsRegistry;
+import org.hibernate.search.engine.common.metrics.spi.MetricsTags;
 import org.hibernate.search.engine.environment.bean.BeanHolder;
 import org.hibernate.search.engine.environment.thread.impl.EmbeddedThreadProvider;
 import org.hibernate.search.engine.environment.thread.impl.ThreadPoolProviderImpl;
@@ -47,6 +53,7 @@
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.MethodSource;
 
 import org.awaitility.Awaitility;
@@ -64,9 +71,12 @@ class BatchingExecutorTest {
 
 	public static List<? extends Arguments> params() {
 		List<Arguments> params = new ArrayList<>();
-		params.add( Arguments.of( "BLOCKING", OperationSubmitter.blocking() ) );
-		params.add( Arguments.of( "REJECTING", OperationSubmitter.rejecting() ) );
-		params.add( Arguments.of( "OFFLOADING", OperationSubmitter.offloading( CompletableFuture::runAsync ) ) );
+		for ( IndexingQueueStrategyName queueStrategy : IndexingQueueStrategyName.values() ) {
+			params.add( Arguments.of( "BLOCKING", OperationSubmitter.blocking(), queueStrategy ) );
+			params.add( Arguments.of( "REJECTING", OperationSubmitter.rejecting(), queueStrategy ) );
+			params.add( Arguments.of( "OFFLOADING", OperationSubmitter.offloading( CompletableFuture::runAsync ),
+					queueStrategy ) );
+		}
 
 		return params;
 	}
@@ -103,10 +113,12 @@ void cleanup() {
 		executor.stop();
 	}
 
-	@ParameterizedTest(name = "operation submitter = {0}")
+	@ParameterizedTest(name = "operation submitter = {0}, queue strategy = {2}")
 	@MethodSource("params")
-	void simple_batchEndsImmediately(String name, OperationSubmitter operationSubmitter) throws InterruptedException {
-		createAndStartExecutor( 2, true );
+	void simple_batchEndsImmediately(String name, OperationSubmitter operationSubmitter,
+			IndexingQueueStrategyName queueStrategy)
+			throws InterruptedException {
+		createAndStartExecutor( 2, true, queueStrategy );
 
 		StubWork work1Mock = workMock( 1 );
 		// The batch is already completed when the endBatch() method returns,
@@ -126,11 +138,12 @@ void simple_batchEndsImmediately(String name, OperationSubmitter operationSubmit
 		checkPostExecution( operationSubmitter );
 	}
 
-	@ParameterizedTest(name = "operation submitter = {0}")
+	@ParameterizedTest(name = "operation submitter = {0}, queue strategy = {2}")
 	@MethodSource("params")
-	void simple_batchEndsLater_someAdditionalWorkBeforeComplete(String name, OperationSubmitter operationSubmitter)
+	void simple_batchEndsLater_someAdditionalWorkBeforeComplete(String name, OperationSubmitter operationSubmitter,
+			IndexingQueueStrategyName queueStrategy)
 			throws InterruptedException {
-		createAndStartExecutor( 2, true );
+		createAndStartExecutor( 2, true, queueStrategy );
 
 		StubWork work1Mock = workMock( 1 );
 		// The batch is not yet completed when the endBatch() method returns,
@@ -186,11 +199,12 @@ void simple_batchEndsLater_someAdditionalWorkBeforeComplete(String name, Operati
 		checkPostExecution( operationSubmitter );
 	}
 
-	@ParameterizedTest(name = "operation submitter = {0}")
+	@ParameterizedTest(name = "operation submitter = {0}, queue strategy = {2}")
 	@MethodSource("params")
-	void simple_batchEndsLater_noAdditionalWork(String name, OperationSubmitter operationSubmitter)
+	void simple_batchEndsLater_noAdditionalWork(String name, OperationSubmitter operationSubmitter,
+			IndexingQueueStrategyName queueStrategy)
 			throws InterruptedException {
-		createAndStartExecutor( 2, true );
+		createAndStartExecutor( 2, true, queueStrategy );
 
 		StubWork work1Mock = workMock( 1 );
 		// The batch is not yet completed when the endBatch() method returns,
@@ -219,10 +233,12 @@ void simple_batchEndsLater_noAdditionalWork(String name, OperationSubmitter oper
 		checkPostExecution( operationSubmitter );
 	}
 
-	@ParameterizedTest(name = "operation submitter = {0}")
+	@ParameterizedTest(name = "operation submitter = {0}, queue strategy = {2}")
 	@MethodSource("params")
-	void beginBatchFailure(String name, OperationSubmitter operationSubmitter) throws InterruptedException {
-		createAndStartExecutor( 4, true );
+	void beginBatchFailure(String name, OperationSubmitter operationSubmitter,
+			IndexingQueueStrategyName queueStrategy)
+			throws InterruptedException {
+		createAndStartExecutor( 4, true, queueStrategy );
 
 		SimulatedFailure simulatedFailure = new SimulatedFailure();
 
@@ -258,10 +274,12 @@ void beginBatchFailure(String name, OperationSubmitter operationSubmitter) throw
 		checkPostExecution( operationSubmitter );
 	}
 
-	@ParameterizedTest(name = "operation submitter = {0}")
+	@ParameterizedTest(name = "operation submitter = {0}, queue strategy = {2}")
 	@MethodSource("params")
-	void submitFailure(String name, OperationSubmitter operationSubmitter) throws InterruptedException {
-		createAndStartExecutor( 4, true );
+	void submitFailure(String name, OperationSubmitter operationSubmitter,
+			IndexingQueueStrategyName queueStrategy)
+			throws InterruptedException {
+		createAndStartExecutor( 4, true, queueStrategy );
 
 		SimulatedFailure simulatedFailure = new SimulatedFailure();
 
@@ -300,10 +318,12 @@ void submitFailure(String name, OperationSubmitter operationSubmitter) throws In
 		checkPostExecution( operationSubmitter );
 	}
 
-	@ParameterizedTest(name = "operation submitter = {0}")
+	@ParameterizedTest(name = "operation submitter = {0}, queue strategy = {2}")
 	@MethodSource("params")
-	void endBatchFailure(String name, OperationSubmitter operationSubmitter) throws InterruptedException {
-		createAndStartExecutor( 4, true );
+	void endBatchFailure(String name, OperationSubmitter operationSubmitter,
+			IndexingQueueStrategyName queueStrategy)
+			throws InterruptedException {
+		createAndStartExecutor( 4, true, queueStrategy );
 
 		SimulatedFailure simulatedFailure = new SimulatedFailure();
 
@@ -375,11 +395,85 @@ void simple_newTasksBlockedException() throws InterruptedException {
 		checkPostExecution( operationSubmitter );
 	}
 
-	@ParameterizedTest(name = "operation submitter = {0}")
+	@ParameterizedTest(name = "queue strategy = {0}")
+	@EnumSource(IndexingQueueStrategyName.class)
+	void maxLinger(IndexingQueueStrategyName queueStrategy) throws InterruptedException {
+		// Use a max linger long enough that the test would time out if the executor waited for it to elapse.
+		createAndStartExecutor( 4, true, queueStrategy, 600_000, w -> fail( "Work shouldn't be offloaded." ) );
+		OperationSubmitter operationSubmitter = OperationSubmitter.blocking();
+
+		// Under light load, the blocking work is processed immediately (see blockExecutor).
+		Runnable unblockExecutorSwitch = blockExecutor( operationSubmitter );
+
+		StubWork work1Mock = workMock( 1 );
+		StubWork work2Mock = workMock( 2 );
+		StubWork work3Mock = workMock( 3 );
+		StubWork work4Mock = workMock( 4 );
+		executor.submit( work1Mock, operationSubmitter );
+		executor.submit( work2Mock, operationSubmitter );
+
+		when( processorMock.endBatch() ).thenReturn( CompletableFuture.completedFuture( null ) );
+		unblockExecutorSwitch.run();
+
+		// Works accumulated while the previous batch was being processed:
+		// the executor waits for more works until the batch is full.
+		executor.submit( work3Mock, operationSubmitter );
+		executor.submit( work4Mock, operationSubmitter );
+
+		verifyAsynchronouslyAndReset( inOrder -> {
+			inOrder.verify( processorMock ).beginBatch();
+			inOrder.verify( work1Mock ).submitTo( processorMock );
+			inOrder.verify( work2Mock ).submitTo( processorMock );
+			inOrder.verify( work3Mock ).submitTo( processorMock );
+			inOrder.verify( work4Mock ).submitTo( processorMock );
+			inOrder.verify( processorMock ).endBatch();
+			inOrder.verify( processorMock ).complete();
+		} );
+
+		// Submitting other works should start the executor/processor again, without waiting
+		checkPostExecution( operationSubmitter );
+	}
+
+	@ParameterizedTest(name = "queue strategy = {0}")
+	@EnumSource(IndexingQueueStrategyName.class)
+	void maxLinger_doesNotBlockThread(IndexingQueueStrategyName queueStrategy)
+			throws InterruptedException, ExecutionException, TimeoutException {
+		// A single thread: if lingering blocked it, no other task could run until the max linger elapsed.
+		createAndStartExecutor( 4, true, queueStrategy, 2_000, w -> fail( "Work shouldn't be offloaded." ), 1 );
+		OperationSubmitter operationSubmitter = OperationSubmitter.blocking();
+
+		Runnable unblockExecutorSwitch = blockExecutor( operationSubmitter );
+
+		StubWork work1Mock = workMock( 1 );
+		StubWork work2Mock = workMock( 2 );
+		executor.submit( work1Mock, operationSubmitter );
+		executor.submit( work2Mock, operationSubmitter );
+
+		when( processorMock.endBatch() ).thenReturn( CompletableFuture.completedFuture( null ) );
+		unblockExecutorSwitch.run();
+
+		// The executor is now waiting for more works, but other tasks can still use the thread.
+		executorService.submit( () -> {} ).get( 1, TimeUnit.SECONDS );
+		verifyNoInteractions( work1Mock, work2Mock );
+
+		// Once the max linger elapsed, the incomplete batch is processed.
+		verifyAsynchronouslyAndReset( inOrder -> {
+			inOrder.verify( processorMock ).beginBatch();
+			inOrder.verify( work1Mock ).submitTo( processorMock );
+			inOrder.verify( work2Mock ).submitTo( processorMock );
+			inOrder.verify( processorMock ).endBatch();
+			inOrder.verify( processorMock ).complete();
+		} );
+
+		checkPostExecution( operationSubmitter );
+	}
+
+	@ParameterizedTest(name = "operation submitter = {0}, queue strategy = {2}")
 	@MethodSource("params")
-	void simple_newTasksBlockedWaitAndCompletes(String name, OperationSubmitter operationSubmitter)
+	void simple_newTasksBlockedWaitAndCompletes(String name, OperationSubmitter operationSubmitter,
+			IndexingQueueStrategyName queueStrategy)
 			throws InterruptedException {
-		createAndStartExecutor( 2, true );
+		createAndStartExecutor( 2, true, queueStrategy );
 
 		assumeTrue(
 				OperationSubmitter.blocking().equals( operationSubmitter ),
@@ -443,12 +537,13 @@ void simple_newTasksBlockedWaitAndCompletes(String name, OperationSubmitter oper
 		checkPostExecution( operationSubmitter );
 	}
 
-	@ParameterizedTest(name = "operation submitter = {0}")
+	@ParameterizedTest(name = "operation submitter = {0}, queue strategy = {2}")
 	@MethodSource("params")
-	void simple_newTasksBlockedAndOffloadedCompletes(String name, OperationSubmitter operationSubmitter)
+	void simple_newTasksBlockedAndOffloadedCompletes(String name, OperationSubmitter operationSubmitter,
+			IndexingQueueStrategyName queueStrategy)
 			throws InterruptedException {
 		AtomicReference<Runnable> offloadAction = new AtomicReference<>( () -> {} );
-		createAndStartExecutor( 2, true, w -> offloadAction.get().run() );
+		createAndStartExecutor( 2, true, queueStrategy, w -> offloadAction.get().run() );
 
 		assumeFalse(
 				OperationSubmitter.blocking().equals( operationSubmitter )
@@ -543,18 +638,34 @@ private Runnable blockExecutor(OperationSubmitter operationSubmitter)
 	}
 
 	private void createAndStartExecutor(int maxTasksPerBatch, boolean fair) {
-		createAndStartExecutor( maxTasksPerBatch, fair, w -> fail( "Work shouldn't be offloaded." ) );
+		createAndStartExecutor( maxTasksPerBatch, fair, IndexingQueueStrategyName.BLOCKING );
+	}
+
+	private void createAndStartExecutor(int maxTasksPerBatch, boolean fair, IndexingQueueStrategyName queueStrategy) {
+		createAndStartExecutor( maxTasksPerBatch, fair, queueStrategy, w -> fail( "Work shouldn't be offloaded." ) );
 	}
 
-	private void createAndStartExecutor(int maxTasksPerBatch, boolean fair,
+	private void createAndStartExecutor(int maxTasksPerBatch, boolean fair, IndexingQueueStrategyName queueStrategy,
 			Consumer<? super BatchedWork<? super StubWorkProcessor>> blockingRetryProducer) {
+		createAndStartExecutor( maxTasksPerBatch, fair, queueStrategy, 0, blockingRetryProducer );
+	}
+
+	private void createAndStartExecutor(int maxTasksPerBatch, boolean fair, IndexingQueueStrategyName queueStrategy,
+			int maxLinger, Consumer<? super BatchedWork<? super StubWorkProcessor>> blockingRetryProducer) {
+		createAndStartExecutor( maxTasksPerBatch, fair, queueStrategy, maxLinger, blockingRetryProducer, 4 );
+	}
+
+	private void createAndStartExecutor(int maxTasksPerBatch, boolean fair, IndexingQueueStrategyName queueStrategy,
+			int maxLinger, Consumer<? super BatchedWork<? super StubWorkProcessor>> blockingRetryProducer,
+			int threads) {
 		this.executor = new BatchingExecutor<>(
-				NAME, processorMock, maxTasksPerBatch, fair, failureHandlerMock, blockingRetryProducer
+				NAME, processorMock, maxTasksPerBatch, fair, queueStrategy, maxLinger,
+				failureHandlerMock, blockingRetryProducer, MetricsRegistry.noOp(), MetricsTags.empty()
 		);
 
 		// Having multiple threads should not matter:
 		// the batching executor takes care of executing in only one thread at a time.
-		this.executorService = threadPoolProvider.newScheduledExecutor( 4, "BatchingExecutorTest" );
+		this.executorService = threadPoolProvider.newScheduledExecutor( threads, "BatchingExecutorTest" );
 
 		executor.start( new DelegatingSimpleScheduledExecutor( executorService, true ) );
 		verifyAsynchronouslyAndReset( inOrder -> {
@@ -18,6 +18,7 @@
 
 import org.hibernate.search.engine.backend.index.spi.IndexManagerImplementor;
 import org.hibernate.search.engine.backend.spi.BackendImplementor;
+import org.hibernate.search.engine.common.metrics.spi.MetricsRegistry;
 import org.hibernate.search.engine.common.resources.impl.EngineThreads;
 import org.hibernate.search.engine.common.timing.spi.TimingSource;
 import org.hibernate.search.engine.environment.bean.BeanHolder;
@@ -49,6 +50,9 @@ class SearchIntegrationImplTest {
 	@Mock
 	private ThreadPoolProviderImpl threadPoolProviderMock;
 
+	@Mock
+	private BeanHolder<? extends MetricsRegistry> metricsRegistryHolderMock;
+
 	@Mock
 	private MappingImplementor<?> mapping1Mock;
 
@@ -90,7 +94,8 @@ void setup() {
 		indexManagers.put( "index2", indexManager2Mock );
 
 		searchIntegration = new SearchIntegrationImpl( beanProviderMock, failureHandlerHolderMock,
-				threadPoolProviderMock, mappings, backends, indexManagers, engineThreadsMock, timingSourceMock );
+				threadPoolProviderMock, metricsRegistryHolderMock, mappings, backends, indexManagers, engineThreadsMock,
+				timingSourceMock );
 	}
 
 	@Test
@@ -106,8 +111,8 @@ void close_success() {
 
 		Object[] mocks = {
 				mapping1Mock, mapping2Mock, indexManager1Mock, indexManager2Mock,
-				backend1Mock, backend2Mock, threadPoolProviderMock, failureHandlerHolderMock, beanProviderMock,
-				engineThreadsMock, timingSourceMock
+				backend1Mock, backend2Mock, threadPoolProviderMock, failureHandlerHolderMock, metricsRegistryHolderMock,
+				beanProviderMock, engineThreadsMock, timingSourceMock
 		};
 
 		InOrder inOrder = Mockito.inOrder( mocks );
@@ -133,6 +138,7 @@ void close_success() {
 		// Then engine resources
 		inOrder.verify( threadPoolProviderMock ).close();
 		inOrder.verify( failureHandlerHolderMock ).close();
+		inOrder.verify( metricsRegistryHolderMock ).close();
 		inOrder.verify( beanProviderMock ).close();
 		inOrder.verify( engineThreadsMock ).onStop();
 		inOrder.verify( timingSourceMock ).stop();
@@ -0,0 +1,62 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.common.metrics.spi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+class MetricsTagsTest {
+
+	@Test
+	void empty() {
+		assertThat( MetricsTags.empty().asMap() ).isEmpty();
+	}
+
+	@Test
+	void backend() {
+		assertThat( MetricsTags.backend( Optional.empty() ).asMap() )
+				.containsExactly( entry( MetricsTags.BACKEND, MetricsTags.DEFAULT_BACKEND ) );
+		assertThat( MetricsTags.backend( Optional.of( "myBackend" ) ).asMap() )
+				.containsExactly( entry( MetricsTags.BACKEND, "myBackend" ) );
+	}
+
+	@Test
+	void and_preservesOrder() {
+		MetricsTags tags = MetricsTags.of( MetricsTags.BACKEND, "b" )
+				.and( MetricsTags.INDEX, "i" )
+				.and( MetricsTags.SHARD, "0" );
+		assertThat( tags.asMap() ).containsExactly(
+				entry( MetricsTags.BACKEND, "b" ),
+				entry( MetricsTags.INDEX, "i" ),
+				entry( MetricsTags.SHARD, "0" )
+		);
+	}
+
+	@Test
+	void and_replacesExistingKey() {
+		MetricsTags original = MetricsTags.of( MetricsTags.BACKEND, "b" ).and( MetricsTags.QUEUE, "0" );
+		MetricsTags replaced = original.and( MetricsTags.QUEUE, "1" );
+		assertThat( replaced.asMap() ).containsExactly(
+				entry( MetricsTags.BACKEND, "b" ),
+				entry( MetricsTags.QUEUE, "1" )
+		);
+		// Tags are immutable
+		assertThat( original.asMap() ).containsEntry( MetricsTags.QUEUE, "0" );
+	}
+
+	@Test
+	void equalsAndHashCode() {
+		MetricsTags tags1 = MetricsTags.of( MetricsTags.BACKEND, "b" ).and( MetricsTags.INDEX, "i" );
+		MetricsTags tags2 = MetricsTags.of( MetricsTags.BACKEND, "b" ).and( MetricsTags.INDEX, "i" );
+		assertThat( tags1 ).isEqualTo( tags2 ).hasSameHashCodeAs( tags2 );
+		assertThat( tags1 ).isNotEqualTo( MetricsTags.of( MetricsTags.BACKEND, "b" ) );
+	}
+}
@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.integrationtest.backend.elasticsearch.client;
 
+import static com.github.tomakehurst.wiremock.client.WireMock.containing;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
 import static com.github.tomakehurst.wiremock.client.WireMock.equalToJson;
 import static com.github.tomakehurst.wiremock.client.WireMock.get;
 import static com.github.tomakehurst.wiremock.client.WireMock.post;
@@ -23,7 +25,9 @@
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
@@ -37,6 +41,7 @@
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
 
 import javax.net.ssl.SSLContext;
 
@@ -303,6 +308,104 @@ void pathPrefix_uris() {
 		}
 	}
 
+	@RetryExtension.TestWithRetry
+	void compression() {
+		String payload = "{ \"foo\": \"bar\" }";
+		String statusMessage = "StatusMessage";
+		String responseBody = "{ \"foo\": \"bar\" }";
+		wireMockRule1.stubFor( post( urlPathMatching( "/myIndex/myType" ) )
+				.withHeader( "Content-Encoding", equalTo( "gzip" ) )
+				.withRequestBody( equalToJson( payload ) )
+				.andMatching( httpProtocol() )
+				.willReturn( elasticsearchResponse().withStatus( 200 )
+						.withStatusMessage( statusMessage )
+						.withBody( responseBody ) ) );
+
+		try ( ElasticsearchClientImplementor client = createClient(
+				properties -> {
+					properties.accept( ElasticsearchBackendSettings.COMPRESSION_ENABLED, true );
+				}
+		) ) {
+			ElasticsearchResponse result = doPost( client, "/myIndex/myType", payload );
+			assertThat( result.statusCode() ).as( "status code" ).isEqualTo( 200 );
+			assertThat( result.statusMessage() ).as( "status message" ).isEqualTo( statusMessage );
+			assertJsonEquals( responseBody, result.body().toString() );
+
+			wireMockRule1.verify(
+					postRequestedFor( urlPathMatching( "/myIndex/myType" ) )
+							.withHeader( "Content-Encoding", equalTo( "gzip" ) )
+							.withHeader( "Accept-Encoding", containing( "gzip" ) )
+							.andMatching( httpProtocol() )
+			);
+		}
+	}
+
+	@RetryExtension.TestWithRetry
+	void compression_gzipResponse() throws IOException {
+		String payload = "{ \"foo\": \"bar\" }";
+		String statusMessage = "StatusMessage";
+		String responseBody = "{ \"foo\": \"bar\", \"compressed\": true }";
+		wireMockRule1.stubFor( post( urlPathMatching( "/myIndex/myType" ) )
+				.withHeader( "Content-Encoding", equalTo( "gzip" ) )
+				.withRequestBody( equalToJson( payload ) )
+				.andMatching( httpProtocol() )
+				.willReturn( elasticsearchResponse().withStatus( 200 )
+						.withStatusMessage( statusMessage )
+						// The response body is compressed by the server, like Elasticsearch does
+						// when the request has "Accept-Encoding: gzip" and http.compression is enabled.
+						.withHeader( "Content-Encoding", "gzip" )
+						.withBody( gzip( responseBody ) ) ) );
+
+		try ( ElasticsearchClientImplementor client = createClient(
+				properties -> {
+					properties.accept( ElasticsearchBackendSettings.COMPRESSION_ENABLED, true );
+				}
+		) ) {
+			ElasticsearchResponse result = doPost( client, "/myIndex/myType", payload );
+			assertThat( result.statusCode() ).as( "status code" ).isEqualTo( 200 );
+			assertThat( result.statusMessage() ).as( "status message" ).isEqualTo( statusMessage );
+			assertJsonEquals( responseBody, result.body().toString() );
+
+			wireMockRule1.verify(
+					postRequestedFor( urlPathMatching( "/myIndex/myType" ) )
+							.withHeader( "Accept-Encoding", containing( "gzip" ) )
+							.andMatching( httpProtocol() )
+			);
+		}
+	}
+
+	@RetryExtension.TestWithRetry
+	void compression_manyRequests() {
+		String payload = "{ \"foo\": \"bar\" }";
+		String responseBody = "{ \"foo\": \"bar\" }";
+		wireMockRule1.stubFor( post( urlPathMatching( "/myIndex/myType" ) )
+				.withHeader( "Content-Encoding", equalTo( "gzip" ) )
+				.withRequestBody( equalToJson( payload ) )
+				.andMatching( httpProtocol() )
+				.willReturn( elasticsearchResponse().withStatus( 200 )
+						.withBody( responseBody ) ) );
+
+		try ( ElasticsearchClientImplementor client = createClient(
+				properties -> {
+					properties.accept( ElasticsearchBackendSettings.COMPRESSION_ENABLED, true );
+				}
+		) ) {
+			// More requests than the client pools buffers for serialization:
+			// request bodies must be serialized correctly even once the pool has been used many times over.
+			int requestCount = 600;
+			for ( int i = 0; i < requestCount; i++ ) {
+				ElasticsearchResponse result = doPost( client, "/myIndex/myType", payload );
+				assertThat( result.statusCode() ).as( "status code" ).isEqualTo( 200 );
+			}
+
+			wireMockRule1.verify( requestCount,
+					postRequestedFor( urlPathMatching( "/myIndex/myType" ) )
+							.withHeader( "Content-Encoding", equalTo( "gzip" ) )
+							.withRequestBody( equalToJson( payload ) )
+			);
+		}
+	}
+
 	@RetryExtension.TestWithRetry
 	@TestForIssue(jiraKey = "HSEARCH-2274")
 	void simple_https() {
@@ -1224,6 +1327,14 @@ private static ResponseDefinitionBuilder elasticsearchResponse() {
 		return ResponseDefinitionBuilder.okForEmptyJson();
 	}
 
+	private static byte[] gzip(String content) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try ( GZIPOutputStream gzip = new GZIPOutputStream( bytes ) ) {
+			gzip.write( content.getBytes( StandardCharsets.UTF_8 ) );
+		}
+		return bytes.toByteArray();
+	}
+
 	private String dummyNodeInfoResponse(int... ports) {
 		JsonObject body = new JsonObject();
 		body.addProperty( "cluster_name", "foo-cluster.local" );
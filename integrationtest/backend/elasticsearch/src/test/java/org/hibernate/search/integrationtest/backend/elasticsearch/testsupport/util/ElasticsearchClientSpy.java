@@ -6,8 +6,10 @@
  */
 package org.hibernate.search.integrationtest.backend.elasticsearch.testsupport.util;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.hibernate.search.backend.elasticsearch.ElasticsearchVersion;
@@ -32,6 +34,7 @@
 public class ElasticsearchClientSpy implements BeforeEachCallback, AfterEachCallback {
 	private final AtomicInteger createdClientCount = new AtomicInteger();
 	private final AtomicInteger requestCount = new AtomicInteger();
+	private final List<ElasticsearchRequest> requests = new CopyOnWriteArrayList<>();
 	private final CallQueue<ElasticsearchClientSubmitCall> expectations = new CallQueue<>( () -> false );
 
 	private ElasticsearchClientSpy() {
@@ -79,6 +82,10 @@ public int getRequestCount() {
 		return requestCount.get();
 	}
 
+	public List<ElasticsearchRequest> getRequests() {
+		return requests;
+	}
+
 	public BeanReference<ElasticsearchClientFactory> factoryReference() {
 		return beanResolver -> BeanHolder.of( new SpyingElasticsearchClientFactory( new ElasticsearchClientFactoryImpl() ) );
 	}
@@ -126,6 +133,7 @@ public void close() {
 		@Override
 		public CompletableFuture<ElasticsearchResponse> submit(ElasticsearchRequest request) {
 			requestCount.incrementAndGet();
+			requests.add( request );
 			return expectations.verify(
 					new ElasticsearchClientSubmitCall( request ),
 					// If there was an expectation, check it is met and forward the request to the actual client
@@ -0,0 +1,153 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.elasticsearch.work;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.elasticsearch.cfg.ElasticsearchBackendSettings;
+import org.hibernate.search.backend.elasticsearch.cfg.ElasticsearchIndexSettings;
+import org.hibernate.search.backend.elasticsearch.cfg.impl.ElasticsearchBackendImplSettings;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.work.execution.OperationSubmitter;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.engine.backend.work.execution.spi.UnsupportedOperationBehavior;
+import org.hibernate.search.integrationtest.backend.elasticsearch.testsupport.util.ElasticsearchClientSpy;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.extension.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+/**
+ * Test indexing with {@link ElasticsearchBackendSettings#INDEXING_SHARED_QUEUES shared indexing queues}.
+ */
+class ElasticsearchSharedIndexingQueuesIT {
+
+	private static final int DOCUMENT_COUNT = 100;
+
+	@RegisterExtension
+	public final SearchSetupHelper setupHelper = SearchSetupHelper.create();
+
+	@RegisterExtension
+	public ElasticsearchClientSpy clientSpy = ElasticsearchClientSpy.create();
+
+	private final SimpleMappedIndex<IndexBinding> index1 = SimpleMappedIndex.of( IndexBinding::new ).name( "index1" );
+	private final SimpleMappedIndex<IndexBinding> index2 = SimpleMappedIndex.of( IndexBinding::new ).name( "index2" );
+
+	@BeforeEach
+	void setup() {
+		setupHelper.start()
+				.withBackendProperty( ElasticsearchBackendImplSettings.CLIENT_FACTORY, clientSpy.factoryReference() )
+				.withBackendProperty( ElasticsearchBackendSettings.INDEXING_SHARED_QUEUES, true )
+				// A single queue, so that works for both indexes end up in the same bulk requests.
+				.withBackendProperty( ElasticsearchIndexSettings.INDEXING_QUEUE_COUNT, 1 )
+				// Index-level overrides are ignored when queues are shared.
+				.withIndexProperty( index2.name(), ElasticsearchIndexSettings.INDEXING_QUEUE_COUNT, 4 )
+				.withIndexes( index1, index2 )
+				.setup();
+	}
+
+	@Test
+	void multipleIndexes() {
+		List<CompletableFuture<?>> futures = new ArrayList<>();
+		for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+			futures.add( add( index1, i, "text1" ) );
+			futures.add( add( index2, i, "text2" ) );
+		}
+		CompletableFuture.allOf( futures.toArray( new CompletableFuture[0] ) ).join();
+		refresh();
+
+		assertBulkRequestsTargetBothIndexes();
+		assertThat( index1.query().where( f -> f.match().field( "string" ).matching( "text1" ) ).fetchTotalHitCount() )
+				.isEqualTo( DOCUMENT_COUNT );
+		assertThat( index2.query().where( f -> f.match().field( "string" ).matching( "text2" ) ).fetchTotalHitCount() )
+				.isEqualTo( DOCUMENT_COUNT );
+	}
+
+	@Test
+	void ordering() {
+		List<CompletableFuture<?>> futures = new ArrayList<>();
+		for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+			futures.add( add( index1, i, "initial" ) );
+			futures.add( add( index2, i, "initial" ) );
+			futures.add( add( index1, i, "updated" ) );
+			if ( i % 2 == 0 ) {
+				IndexIndexingPlan plan = index2.createIndexingPlan();
+				plan.delete( referenceProvider( String.valueOf( i ) ) );
+				futures.add( plan.execute( OperationSubmitter.blocking() ) );
+			}
+		}
+		CompletableFuture.allOf( futures.toArray( new CompletableFuture[0] ) ).join();
+		refresh();
+
+		assertBulkRequestsTargetBothIndexes();
+		// Works targeting the same document must have been executed in the order they were submitted.
+		assertThat( index1.query().where( f -> f.match().field( "string" ).matching( "updated" ) ).fetchTotalHitCount() )
+				.isEqualTo( DOCUMENT_COUNT );
+		assertThat( index1.query().where( f -> f.match().field( "string" ).matching( "initial" ) ).fetchTotalHitCount() )
+				.isZero();
+		assertThat( index2.query().where( f -> f.matchAll() ).fetchTotalHitCount() )
+				.isEqualTo( DOCUMENT_COUNT / 2 );
+	}
+
+	private static CompletableFuture<?> add(SimpleMappedIndex<IndexBinding> index, int id, String text) {
+		IndexIndexingPlan plan = index.createIndexingPlan();
+		plan.addOrUpdate( referenceProvider( String.valueOf( id ) ),
+				document -> document.addValue( index.binding().string, text ) );
+		return plan.execute( OperationSubmitter.blocking() );
+	}
+
+	private void assertBulkRequestsTargetBothIndexes() {
+		// Without shared queues, each bulk request would only target a single index.
+		assertThat( clientSpy.getRequests() )
+				.filteredOn( request -> request.path().endsWith( "_bulk" ) )
+				.anySatisfy( request -> assertThat( bulkedIndexNames( request ) ).hasSize( 2 ) );
+	}
+
+	private static Set<String> bulkedIndexNames(ElasticsearchRequest request) {
+		Set<String> indexNames = new HashSet<>();
+		for ( JsonObject bodyPart : request.bodyParts() ) {
+			// Bulk requests alternate action metadata, e.g. {"index":{"_index":...}}, and document sources.
+			for ( Map.Entry<String, JsonElement> entry : bodyPart.entrySet() ) {
+				if ( entry.getValue().isJsonObject() && entry.getValue().getAsJsonObject().has( "_index" ) ) {
+					indexNames.add( entry.getValue().getAsJsonObject().get( "_index" ).getAsString() );
+				}
+			}
+		}
+		return indexNames;
+	}
+
+	private void refresh() {
+		for ( SimpleMappedIndex<?> index : new SimpleMappedIndex<?>[] { index1, index2 } ) {
+			index.createWorkspace()
+					.refresh( OperationSubmitter.blocking(), UnsupportedOperationBehavior.FAIL )
+					.join();
+		}
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<String> string;
+
+		IndexBinding(IndexSchemaElement root) {
+			string = root.field( "string", f -> f.asString() ).toReference();
+		}
+	}
+}
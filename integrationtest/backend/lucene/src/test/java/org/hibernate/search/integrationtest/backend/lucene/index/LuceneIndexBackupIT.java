@@ -0,0 +1,177 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.documentProvider;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.stream.Stream;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.index.LuceneIndexManager;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.work.execution.OperationSubmitter;
+import org.hibernate.search.engine.backend.work.execution.spi.UnsupportedOperationBehavior;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.extension.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class LuceneIndexBackupIT {
+
+	private static final int SHARD_COUNT = 3;
+
+	@RegisterExtension
+	public final SearchSetupHelper setupHelper = SearchSetupHelper.create();
+
+	@TempDir
+	public Path backupDirectory;
+
+	private final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	@ParameterizedTest(name = "directoryType = {0}")
+	@ValueSource(strings = { "local-filesystem", "local-heap" })
+	void backupAndRestore(String directoryType) {
+		setupHelper.start()
+				.withBackendProperty( LuceneIndexSettings.DIRECTORY_TYPE, directoryType )
+				.withIndex( index )
+				.setup();
+		LuceneIndexManager indexApi = index.toApi().unwrap( LuceneIndexManager.class );
+
+		indexDocuments( 0, 100 );
+		// Changes that were not committed yet must be part of the backup.
+		indexApi.backup( backupDirectory );
+
+		indexDocuments( 100, 150 );
+		assertThat( countDocuments() ).isEqualTo( 150L );
+
+		indexApi.restore( backupDirectory );
+		assertThat( countDocuments() ).isEqualTo( 100L );
+
+		// The restored index must still be writable.
+		indexDocuments( 100, 110 );
+		assertThat( countDocuments() ).isEqualTo( 110L );
+	}
+
+	@Test
+	void sharding() {
+		setupHelper.start()
+				.withIndexProperty( index.name(), LuceneIndexSettings.SHARDING_STRATEGY, "hash" )
+				.withIndexProperty( index.name(), LuceneIndexSettings.SHARDING_NUMBER_OF_SHARDS, SHARD_COUNT )
+				.withIndex( index )
+				.setup();
+		LuceneIndexManager indexApi = index.toApi().unwrap( LuceneIndexManager.class );
+
+		indexDocuments( 0, 100 );
+		indexApi.backupAsync( backupDirectory, OperationSubmitter.blocking() ).toCompletableFuture().join();
+		assertThat( backupDirectory.resolve( "0" ) ).isDirectory();
+		assertThat( backupDirectory.resolve( "2" ) ).isDirectory();
+
+		index.createWorkspace().purge( Collections.emptySet(), OperationSubmitter.blocking(),
+				UnsupportedOperationBehavior.FAIL ).join();
+		refresh();
+		assertThat( countDocuments() ).isZero();
+
+		indexApi.restoreAsync( backupDirectory, OperationSubmitter.blocking() ).toCompletableFuture().join();
+		assertThat( countDocuments() ).isEqualTo( 100L );
+	}
+
+	@Test
+	void backup_targetNotEmpty() throws IOException {
+		setupHelper.start().withIndex( index ).setup();
+		LuceneIndexManager indexApi = index.toApi().unwrap( LuceneIndexManager.class );
+		Files.createFile( backupDirectory.resolve( "someFile" ) );
+
+		assertThatThrownBy( () -> indexApi.backup( backupDirectory ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContainingAll( "Unable to back up the index to directory",
+						"is not empty. Index backups can only be written to empty or missing directories" );
+	}
+
+	@Test
+	void restore_missingBackup() {
+		setupHelper.start().withIndex( index ).setup();
+		LuceneIndexManager indexApi = index.toApi().unwrap( LuceneIndexManager.class );
+		indexDocuments( 0, 10 );
+
+		assertThatThrownBy( () -> indexApi.restore( backupDirectory ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContainingAll( "Unable to restore the index from directory",
+						"does not contain an index backup" );
+		// The index must be left untouched.
+		assertThat( countDocuments() ).isEqualTo( 10L );
+	}
+
+	@Test
+	void restore_incompleteBackup() throws IOException {
+		setupHelper.start()
+				.withBackendProperty( LuceneIndexSettings.DIRECTORY_TYPE, "local-filesystem" )
+				.withIndex( index )
+				.setup();
+		LuceneIndexManager indexApi = index.toApi().unwrap( LuceneIndexManager.class );
+		indexDocuments( 0, 10 );
+		indexApi.backup( backupDirectory );
+		indexDocuments( 10, 20 );
+
+		// Remove a data file referenced by the backed up commit,
+		// but not one that is necessary to read the commit itself (segments_N, *.si).
+		try ( Stream<Path> files = Files.list( backupDirectory ) ) {
+			Path dataFile = files.filter( file -> {
+				String fileName = file.getFileName().toString();
+				return !fileName.startsWith( "segments" ) && !fileName.endsWith( ".si" );
+			} )
+					.findFirst().get();
+			Files.delete( dataFile );
+		}
+
+		assertThatThrownBy( () -> indexApi.restore( backupDirectory ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContainingAll( "Unable to restore the index from directory" );
+		// The index must be left untouched.
+		assertThat( countDocuments() ).isEqualTo( 20L );
+		indexDocuments( 20, 30 );
+		assertThat( countDocuments() ).isEqualTo( 30L );
+	}
+
+	private void indexDocuments(int start, int end) {
+		IndexBinding binding = index.binding();
+		index.bulkIndexer()
+				.add( end - start, i -> documentProvider(
+						String.valueOf( start + i ),
+						document -> document.addValue( binding.string, "value" + ( start + i ) )
+				) )
+				.join();
+		refresh();
+	}
+
+	private void refresh() {
+		index.createWorkspace().refresh( OperationSubmitter.blocking(), UnsupportedOperationBehavior.FAIL ).join();
+	}
+
+	private long countDocuments() {
+		return index.query().where( f -> f.matchAll() ).fetchTotalHitCount();
+	}
+
+	private static class IndexBinding {
+		private final IndexFieldReference<String> string;
+
+		IndexBinding(IndexSchemaElement root) {
+			string = root.field( "string", f -> f.asString() ).toReference();
+		}
+	}
+}
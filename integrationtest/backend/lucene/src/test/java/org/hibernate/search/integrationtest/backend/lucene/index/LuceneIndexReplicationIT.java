@@ -0,0 +1,232 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.documentProvider;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.index.impl.LuceneIndexManagerImpl;
+import org.hibernate.search.backend.lucene.index.impl.Shard;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.engine.backend.work.execution.OperationSubmitter;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.engine.backend.work.execution.spi.UnsupportedOperationBehavior;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.extension.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.apache.lucene.index.IndexFileNames;
+import org.awaitility.Awaitility;
+
+/**
+ * Test {@link LuceneIndexSettings#IO_REPLICATION_ROLE replication} of an index
+ * between a primary and a replica, each simulating a separate application instance.
+ */
+class LuceneIndexReplicationIT {
+
+	private static final String INDEX_NAME = "replicatedIndex";
+
+	@RegisterExtension
+	public final SearchSetupHelper primarySetupHelper = SearchSetupHelper.create();
+
+	@RegisterExtension
+	public final SearchSetupHelper replicaSetupHelper = SearchSetupHelper.create();
+
+	@TempDir
+	public Path replicationRoot;
+
+	@TempDir
+	public Path primaryRoot;
+
+	@TempDir
+	public Path replicaRoot;
+
+	private final SimpleMappedIndex<IndexBinding> primaryIndex = SimpleMappedIndex.of( IndexBinding::new )
+			.name( INDEX_NAME );
+	private final SimpleMappedIndex<IndexBinding> replicaIndex = SimpleMappedIndex.of( IndexBinding::new )
+			.name( INDEX_NAME );
+
+	@Test
+	void replicate() {
+		// Use a very long interval so that replication only happens when the test triggers it.
+		setup( 3_600_000 );
+
+		indexDocuments( 0, 100 );
+		assertThat( countDocuments( replicaIndex ) ).isZero();
+
+		replicate( primaryIndex );
+		// The replica only picks up published commits when it polls the replication directory.
+		assertThat( countDocuments( replicaIndex ) ).isZero();
+		replicate( replicaIndex );
+		assertThat( countDocuments( replicaIndex ) ).isEqualTo( 100L );
+
+		// Subsequent replications copy new segments and pick up deletions.
+		indexDocuments( 100, 150 );
+		deleteDocument( "0" );
+		replicate( primaryIndex );
+		replicate( replicaIndex );
+		assertThat( countDocuments( replicaIndex ) ).isEqualTo( 149L );
+		assertThat( replicaIndex.query().where( f -> f.id().matching( "0" ) ).fetchTotalHitCount() ).isZero();
+	}
+
+	@Test
+	void replicate_keepCommitsUntilReplicasMoveOn() throws IOException {
+		setup( 3_600_000 );
+
+		indexDocuments( 0, 10 );
+		replicate( primaryIndex );
+		replicate( replicaIndex );
+		List<String> replicatedCommit = publishedCommits();
+		assertThat( replicatedCommit ).hasSize( 1 );
+
+		// The replica didn't move on from the first commit yet, e.g. because it's slow to copy it:
+		// the primary must keep that commit, even after publishing several others.
+		for ( int i = 1; i <= 3; i++ ) {
+			indexDocuments( i * 10, ( i + 1 ) * 10 );
+			replicate( primaryIndex );
+		}
+		assertThat( publishedCommits() ).containsAll( replicatedCommit );
+
+		// Once the replica moved on, the primary can delete the commits it no longer needs.
+		replicate( replicaIndex );
+		assertThat( countDocuments( replicaIndex ) ).isEqualTo( 40L );
+		indexDocuments( 40, 50 );
+		replicate( primaryIndex );
+		assertThat( publishedCommits() ).doesNotContainAnyElementsOf( replicatedCommit )
+				// The previously published commit is always kept.
+				.hasSize( 2 );
+	}
+
+	@Test
+	void replicate_background() {
+		setup( 50 );
+
+		indexDocuments( 0, 100 );
+		Awaitility.await().untilAsserted( () -> assertThat( countDocuments( replicaIndex ) ).isEqualTo( 100L ) );
+
+		indexDocuments( 100, 150 );
+		Awaitility.await().untilAsserted( () -> assertThat( countDocuments( replicaIndex ) ).isEqualTo( 150L ) );
+	}
+
+	@Test
+	void replica_readOnly() {
+		setup( 3_600_000 );
+
+		IndexIndexingPlan plan = replicaIndex.createIndexingPlan();
+		plan.add( referenceProvider( "1" ), document -> document.addValue( replicaIndex.binding().text, "text" ) );
+		assertThatThrownBy( () -> plan.execute( OperationSubmitter.blocking() ).join() )
+				.hasRootCauseInstanceOf( SearchException.class )
+				.hasStackTraceContaining( "this index is a replica, and replicas are read-only" );
+	}
+
+	@Test
+	void missingRoot() {
+		assertThatThrownBy( () -> primarySetupHelper.start()
+				.withBackendProperty( LuceneIndexSettings.IO_REPLICATION_ROLE, "primary" )
+				.withIndex( primaryIndex )
+				.setup() )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContainingAll( "Missing replication root",
+						LuceneIndexSettings.IO_REPLICATION_ROOT, "'PRIMARY'" );
+	}
+
+	@Test
+	void invalidRole() {
+		assertThatThrownBy( () -> primarySetupHelper.start()
+				.withBackendProperty( LuceneIndexSettings.IO_REPLICATION_ROLE, "some_invalid_name" )
+				.withIndex( primaryIndex )
+				.setup() )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContainingAll( "Invalid replication role name: 'some_invalid_name'",
+						"Valid names are: [none, primary, replica]" );
+	}
+
+	private void setup(int interval) {
+		primarySetupHelper.start()
+				.withBackendProperty( LuceneIndexSettings.DIRECTORY_TYPE, "local-filesystem" )
+				.withBackendProperty( LuceneIndexSettings.DIRECTORY_ROOT, primaryRoot.toString() )
+				.withBackendProperty( LuceneIndexSettings.IO_REPLICATION_ROLE, "primary" )
+				.withBackendProperty( LuceneIndexSettings.IO_REPLICATION_ROOT, replicationRoot.toString() )
+				.withBackendProperty( LuceneIndexSettings.IO_REPLICATION_INTERVAL, interval )
+				.withIndex( primaryIndex )
+				.setup();
+		replicaSetupHelper.start()
+				.withBackendProperty( LuceneIndexSettings.DIRECTORY_TYPE, "local-filesystem" )
+				.withBackendProperty( LuceneIndexSettings.DIRECTORY_ROOT, replicaRoot.toString() )
+				.withBackendProperty( LuceneIndexSettings.IO_REPLICATION_ROLE, "replica" )
+				.withBackendProperty( LuceneIndexSettings.IO_REPLICATION_ROOT, replicationRoot.toString() )
+				.withBackendProperty( LuceneIndexSettings.IO_REPLICATION_INTERVAL, interval )
+				.withIndex( replicaIndex )
+				.setup();
+	}
+
+	private void indexDocuments(int from, int to) {
+		primaryIndex.bulkIndexer()
+				.add( to - from, i -> documentProvider( String.valueOf( from + i ),
+						document -> document.addValue( primaryIndex.binding().text, "text" + ( from + i ) ) ) )
+				.join();
+		// Only committed changes are replicated.
+		flush();
+	}
+
+	private void deleteDocument(String id) {
+		IndexIndexingPlan plan = primaryIndex.createIndexingPlan( DocumentCommitStrategy.NONE,
+				DocumentRefreshStrategy.NONE );
+		plan.delete( referenceProvider( id ) );
+		plan.execute( OperationSubmitter.blocking() ).join();
+		flush();
+	}
+
+	private void flush() {
+		primaryIndex.createWorkspace()
+				.flush( OperationSubmitter.blocking(), UnsupportedOperationBehavior.FAIL )
+				.join();
+	}
+
+	private static void replicate(SimpleMappedIndex<IndexBinding> index) {
+		for ( Shard shard : index.unwrapForTests( LuceneIndexManagerImpl.class ).getShardsForTests() ) {
+			shard.replicationForTests().replicate();
+		}
+	}
+
+	private List<String> publishedCommits() throws IOException {
+		try ( Stream<Path> files = Files.list( replicationRoot.resolve( INDEX_NAME ) ) ) {
+			return files.map( path -> path.getFileName().toString() )
+					.filter( name -> name.startsWith( IndexFileNames.SEGMENTS + "_" ) )
+					.collect( Collectors.toList() );
+		}
+	}
+
+	private static long countDocuments(SimpleMappedIndex<IndexBinding> index) {
+		return index.query().where( f -> f.matchAll() ).fetchTotalHitCount();
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<String> text;
+
+		IndexBinding(IndexSchemaElement root) {
+			text = root.field( "text", f -> f.asString() ).toReference();
+		}
+	}
+}
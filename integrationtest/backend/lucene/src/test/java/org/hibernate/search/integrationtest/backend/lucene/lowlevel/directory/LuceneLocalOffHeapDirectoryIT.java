@@ -0,0 +1,69 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.lowlevel.directory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.index.impl.LuceneIndexManagerImpl;
+import org.hibernate.search.backend.lucene.index.impl.Shard;
+import org.hibernate.search.backend.lucene.lowlevel.directory.impl.OffHeapDirectory;
+import org.hibernate.search.backend.lucene.lowlevel.index.impl.IndexAccessorImpl;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.common.reporting.FailureReportUtils;
+
+import org.junit.jupiter.api.Test;
+
+class LuceneLocalOffHeapDirectoryIT extends AbstractBuiltInDirectoryIT {
+
+	@Test
+	void test() {
+		setup( c -> c );
+
+		checkIndexingAndQuerying();
+
+		LuceneIndexManagerImpl luceneIndexManager = index.unwrapForTests( LuceneIndexManagerImpl.class );
+		assertThat( luceneIndexManager.getShardsForTests() )
+				.extracting( Shard::indexAccessorForTests )
+				.extracting( IndexAccessorImpl::getDirectoryForTests )
+				.isNotEmpty()
+				.allSatisfy( directory -> assertThat( directory ).isInstanceOfSatisfying( OffHeapDirectory.class,
+						offHeapDirectory -> assertThat( offHeapDirectory.usedBytes() ).isPositive() ) );
+	}
+
+	@Test
+	void maxSize() {
+		assertThatThrownBy( () -> setup( c -> c.withBackendProperty(
+				LuceneIndexSettings.DIRECTORY_MAX_SIZE, 1L
+		) ) )
+				.isInstanceOf( SearchException.class )
+				.satisfies( FailureReportUtils.hasFailureReport()
+						.indexContext( index.name() )
+						.failure(
+								"Unable to allocate",
+								"the directory would exceed its maximum size of 1 bytes"
+						)
+				);
+	}
+
+	@Override
+	protected Object getDirectoryType() {
+		return "local-offheap";
+	}
+
+	@Override
+	protected boolean isFSDirectory() {
+		return false;
+	}
+
+	@Override
+	protected String getDefaultLockClassName() {
+		return SINGLE_INSTANCE_LOCK_FQN;
+	}
+
+}
@@ -154,6 +154,35 @@ void ioStrategyDefault_refreshIntervalPositive_refreshStrategyForce(DocumentComm
 		assertThatQuery( query ).hasTotalHitCount( 1 );
 	}
 
+	@ParameterizedTest(name = "Commit strategy {0}, commit_interval {1}")
+	@MethodSource("params")
+	void ioStrategyDefault_refreshIntervalPositive_adaptive_lowQueryRate(DocumentCommitStrategy commitStrategy,
+			Integer commitInterval) {
+		setupHelper.start()
+				.withIndex( index )
+				.withBackendProperty( LuceneIndexSettings.IO_REFRESH_INTERVAL, NON_ZERO_DELAY )
+				.withBackendProperty( LuceneIndexSettings.IO_ADAPTIVE_INTERVALS, true )
+				.withBackendProperty( LuceneIndexSettings.IO_COMMIT_INTERVAL, commitInterval )
+				.setup();
+
+		SearchQuery<DocumentReference> query = index.createScope().query()
+				.where( f -> f.match().field( "text" ).matching( "text1" ) )
+				.toQuery();
+
+		assertThatQuery( query ).hasNoHits();
+
+		IndexIndexingPlan plan = index.createIndexingPlan(
+				commitStrategy, // This is irrelevant
+				DocumentRefreshStrategy.NONE // The refresh interval is adaptive, and queries are rare
+		);
+		plan.add( referenceProvider( "1" ), document -> document.addValue( index.binding().textField, "text1" ) );
+		plan.execute( OperationSubmitter.blocking() ).join();
+
+		// The refresh interval is only an upper bound: with so few queries, readers are refreshed on every change,
+		// and thus should be up-to-date immediately after indexing finishes
+		assertThatQuery( query ).hasTotalHitCount( 1 );
+	}
+
 	@ParameterizedTest(name = "Commit strategy {0}, commit_interval {1}")
 	@MethodSource("params")
 	void ioStrategyDebug(DocumentCommitStrategy commitStrategy, Integer commitInterval) {
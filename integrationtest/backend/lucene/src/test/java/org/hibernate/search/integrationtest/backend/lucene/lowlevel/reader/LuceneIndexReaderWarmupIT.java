@@ -0,0 +1,150 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.lowlevel.reader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThatQuery;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.lowlevel.reader.spi.SegmentWarmer;
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.engine.backend.work.execution.OperationSubmitter;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.engine.backend.work.execution.spi.UnsupportedOperationBehavior;
+import org.hibernate.search.engine.environment.bean.BeanReference;
+import org.hibernate.search.engine.search.query.SearchQuery;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.extension.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.SegmentReader;
+import org.awaitility.Awaitility;
+
+/**
+ * Test that {@link LuceneIndexSettings#IO_WARMUP_WARMER segment warmers} are applied
+ * to new segments before they are used by search queries.
+ */
+class LuceneIndexReaderWarmupIT {
+
+	@RegisterExtension
+	public final SearchSetupHelper setupHelper = SearchSetupHelper.create();
+
+	private final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	private final RecordingSegmentWarmer warmer = new RecordingSegmentWarmer();
+
+	@Test
+	void refreshAndMerge() {
+		setupHelper.start()
+				.withIndex( index )
+				.withBackendProperty( LuceneIndexSettings.IO_WARMUP_WARMER, BeanReference.ofInstance( warmer ) )
+				.withBackendProperty( LuceneIndexSettings.IO_WARMUP_FIELDS, "text,sortable" )
+				.setup();
+
+		SearchQuery<DocumentReference> query = index.createScope().query()
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "sortable" ) )
+				.toQuery();
+
+		assertThatQuery( query ).hasNoHits();
+		assertThat( warmer.warmedSegments ).isEmpty();
+
+		// Each indexing plan creates a new segment, which must be warmed up before the query uses it
+		index( "1" );
+		assertThatQuery( query ).hasTotalHitCount( 1 );
+		assertThat( warmer.warmedSegments ).hasSize( 1 );
+
+		index( "2" );
+		assertThatQuery( query ).hasTotalHitCount( 2 );
+		// The first segment must not be warmed up again
+		assertThat( warmer.warmedSegments ).hasSize( 2 ).doesNotHaveDuplicates();
+
+		// The merged segment must be warmed up, once, even though it appears in a refreshed reader afterwards
+		index.createWorkspace().mergeSegments( OperationSubmitter.blocking(), UnsupportedOperationBehavior.FAIL ).join();
+		assertThatQuery( query ).hasTotalHitCount( 2 );
+		assertThat( warmer.warmedSegments ).hasSize( 3 ).doesNotHaveDuplicates();
+	}
+
+	@Test
+	void refreshInterval() {
+		setupHelper.start()
+				.withIndex( index )
+				.withBackendProperty( LuceneIndexSettings.IO_WARMUP_WARMER, BeanReference.ofInstance( warmer ) )
+				.withBackendProperty( LuceneIndexSettings.IO_REFRESH_INTERVAL, 100 )
+				.setup();
+
+		SearchQuery<DocumentReference> query = index.createScope().query()
+				.where( f -> f.matchAll() )
+				.toQuery();
+
+		assertThatQuery( query ).hasNoHits();
+
+		// Expired index readers are refreshed and warmed up in the background, not in the thread of the query
+		index( "1" );
+		Awaitility.await().untilAsserted( () -> assertThatQuery( query ).hasTotalHitCount( 1 ) );
+		assertThat( warmer.warmedSegments ).hasSize( 1 );
+		assertThat( warmer.threadNames ).singleElement().asString().contains( "Refresh thread" );
+	}
+
+	@Test
+	void failingWarmer() {
+		setupHelper.start()
+				.withIndex( index )
+				.withBackendProperty( LuceneIndexSettings.IO_WARMUP_WARMER, BeanReference.ofInstance(
+						(SegmentWarmer) reader -> {
+							throw new IllegalStateException( "Simulated failure" );
+						} ) )
+				.setup();
+
+		// Failures must be logged, but must not prevent the segment from being used
+		index( "1" );
+		assertThatQuery( index.createScope().query().where( f -> f.matchAll() ).toQuery() )
+				.hasTotalHitCount( 1 );
+	}
+
+	private void index(String id) {
+		IndexIndexingPlan plan = index.createIndexingPlan( DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE );
+		plan.add( referenceProvider( id ), document -> {
+			document.addValue( index.binding().textField, "text" + id );
+			document.addValue( index.binding().sortableField, id );
+		} );
+		plan.execute( OperationSubmitter.blocking() ).join();
+	}
+
+	private static class RecordingSegmentWarmer implements SegmentWarmer {
+		private final List<String> warmedSegments = new CopyOnWriteArrayList<>();
+		private final List<String> threadNames = new CopyOnWriteArrayList<>();
+
+		@Override
+		public void warm(LeafReader reader) {
+			warmedSegments.add( ( (SegmentReader) reader ).getSegmentName() );
+			threadNames.add( Thread.currentThread().getName() );
+		}
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<String> textField;
+		final IndexFieldReference<String> sortableField;
+
+		IndexBinding(IndexSchemaElement root) {
+			textField = root.field( "text", c -> c.asString() ).toReference();
+			sortableField = root.field( "sortable", c -> c.asString().sortable( Sortable.YES ) ).toReference();
+		}
+	}
+}
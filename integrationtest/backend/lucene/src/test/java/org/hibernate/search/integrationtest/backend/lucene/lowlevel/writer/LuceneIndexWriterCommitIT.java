@@ -11,8 +11,10 @@
 import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
 import org.hibernate.search.backend.lucene.lowlevel.common.impl.MetadataFields;
@@ -26,6 +28,7 @@
 import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapping;
 import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingSchemaManagementStrategy;
 
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.RegisterExtension;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
@@ -43,15 +46,22 @@ class LuceneIndexWriterCommitIT {
 	 */
 	private static final int NON_ZERO_DELAY = 1000;
 
+	private static final int CONCURRENT_DOCUMENT_COUNT = 200;
+
+	private static final int MAX_PENDING_OPERATIONS = 10;
+
 	public static List<? extends Arguments> params() {
 		return Arrays.asList(
-				Arguments.of( "debug", null ),
-				Arguments.of( null, null ),
-				Arguments.of( null, 0 ),
-				Arguments.of( null, NON_ZERO_DELAY ),
-				Arguments.of( "near-real-time", null ),
-				Arguments.of( "near-real-time", 0 ),
-				Arguments.of( "near-real-time", NON_ZERO_DELAY )
+				Arguments.of( "debug", null, false ),
+				Arguments.of( null, null, false ),
+				Arguments.of( null, 0, false ),
+				Arguments.of( null, NON_ZERO_DELAY, false ),
+				Arguments.of( "near-real-time", null, false ),
+				Arguments.of( "near-real-time", 0, false ),
+				Arguments.of( "near-real-time", NON_ZERO_DELAY, false ),
+				Arguments.of( null, null, true ),
+				Arguments.of( null, 0, true ),
+				Arguments.of( null, NON_ZERO_DELAY, true )
 		);
 	}
 
@@ -60,10 +70,11 @@ public static List<? extends Arguments> params() {
 
 	private final StubMappedIndex index = StubMappedIndex.withoutFields();
 
-	@ParameterizedTest(name = "I/O strategy {0}, commit_interval {1}")
+	@ParameterizedTest(name = "I/O strategy {0}, commit_interval {1}, background_commit {2}")
 	@MethodSource("params")
-	void commitStrategyNone(String ioStrategyName, Integer commitInterval) throws IOException {
-		setup( StubMappingSchemaManagementStrategy.DROP_AND_CREATE_AND_DROP, ioStrategyName, commitInterval );
+	void commitStrategyNone(String ioStrategyName, Integer commitInterval, boolean backgroundCommit) throws IOException {
+		setup( StubMappingSchemaManagementStrategy.DROP_AND_CREATE_AND_DROP, ioStrategyName, commitInterval,
+				backgroundCommit );
 
 		// Initially our document is not in the index
 		assertThat( countDocsOnDisk() ).isEqualTo( 0 );
@@ -88,10 +99,11 @@ void commitStrategyNone(String ioStrategyName, Integer commitInterval) throws IO
 		} );
 	}
 
-	@ParameterizedTest(name = "I/O strategy {0}, commit_interval {1}")
+	@ParameterizedTest(name = "I/O strategy {0}, commit_interval {1}, background_commit {2}")
 	@MethodSource("params")
-	void commitStrategyForce(String ioStrategyName, Integer commitInterval) throws IOException {
-		setup( StubMappingSchemaManagementStrategy.DROP_AND_CREATE_AND_DROP, ioStrategyName, commitInterval );
+	void commitStrategyForce(String ioStrategyName, Integer commitInterval, boolean backgroundCommit) throws IOException {
+		setup( StubMappingSchemaManagementStrategy.DROP_AND_CREATE_AND_DROP, ioStrategyName, commitInterval,
+				backgroundCommit );
 
 		// Initially our document is not in the index
 		assertThat( countDocsOnDisk() ).isEqualTo( 0 );
@@ -108,15 +120,83 @@ void commitStrategyForce(String ioStrategyName, Integer commitInterval) throws I
 		assertThat( countDocsOnDisk() ).isEqualTo( 1 );
 	}
 
+	/**
+	 * Test that concurrent commit requests from multiple indexing queues,
+	 * which may be grouped into a single commit, still guarantee that each change is committed.
+	 */
+	@ParameterizedTest(name = "I/O strategy {0}, commit_interval {1}, background_commit {2}")
+	@MethodSource("params")
+	void commitStrategyForce_concurrent(String ioStrategyName, Integer commitInterval, boolean backgroundCommit)
+			throws IOException {
+		setup( StubMappingSchemaManagementStrategy.DROP_AND_CREATE_AND_DROP, ioStrategyName, commitInterval,
+				backgroundCommit );
+
+		// Initially our documents are not in the index
+		assertThat( countDocsOnDisk() ).isEqualTo( 0 );
+
+		List<CompletableFuture<?>> futures = new ArrayList<>();
+		for ( int i = 0; i < CONCURRENT_DOCUMENT_COUNT; i++ ) {
+			IndexIndexingPlan plan = index.createIndexingPlan(
+					DocumentCommitStrategy.FORCE, // The commit will happen before the indexing plan is considered completed
+					DocumentRefreshStrategy.NONE // This is irrelevant
+			);
+			plan.add( referenceProvider( String.valueOf( i ) ), document -> {} );
+			futures.add( plan.execute( OperationSubmitter.blocking() ) );
+		}
+		CompletableFuture.allOf( futures.toArray( new CompletableFuture[0] ) ).join();
+
+		// Commit should have happened before indexing finished
+		assertThat( countDocsOnDisk() ).isEqualTo( CONCURRENT_DOCUMENT_COUNT );
+	}
+
+	/**
+	 * Test that, with adaptive intervals, changes are committed before the end of the commit interval
+	 * once enough operations are pending.
+	 */
+	@Test
+	void adaptiveIntervals_maxPendingOperations() throws IOException {
+		setupHelper.start()
+				.withIndex( index )
+				// Longer than Awaitility's timeout: the test will fail if we wait for the end of the interval.
+				.withBackendProperty( LuceneIndexSettings.IO_COMMIT_INTERVAL, 60_000 )
+				.withBackendProperty( LuceneIndexSettings.IO_ADAPTIVE_INTERVALS, true )
+				.withBackendProperty( LuceneIndexSettings.IO_COMMIT_MAX_PENDING_OPERATIONS, MAX_PENDING_OPERATIONS )
+				.setup();
+
+		// Initially our documents are not in the index
+		assertThat( countDocsOnDisk() ).isEqualTo( 0 );
+
+		IndexIndexingPlan plan = index.createIndexingPlan(
+				DocumentCommitStrategy.NONE, // The commit will happen at some point, but the indexing plan will be considered completed before that
+				DocumentRefreshStrategy.NONE // This is irrelevant
+		);
+		for ( int i = 0; i < MAX_PENDING_OPERATIONS; i++ ) {
+			plan.add( referenceProvider( String.valueOf( i ) ), document -> {} );
+		}
+		plan.execute( OperationSubmitter.blocking() ).join();
+
+		// Commit will happen some time after indexing finished, but well before the end of the commit interval
+		Awaitility.await().untilAsserted( () -> {
+			try {
+				assertThat( countDocsOnDisk() ).isEqualTo( MAX_PENDING_OPERATIONS );
+			}
+			catch (IOException e) {
+				// May happen if we call the method *right* as a commit is executing
+				fail( "countDocsOnDisk() failed: " + e.getMessage(), e );
+			}
+		} );
+	}
+
 	/**
 	 * Test that changes are actually committed when closing the integration.
 	 */
-	@ParameterizedTest(name = "I/O strategy {0}, commit_interval {1}")
+	@ParameterizedTest(name = "I/O strategy {0}, commit_interval {1}, background_commit {2}")
 	@MethodSource("params")
-	void integrationClose(String ioStrategyName, Integer commitInterval) throws IOException {
+	void integrationClose(String ioStrategyName, Integer commitInterval, boolean backgroundCommit) throws IOException {
 		StubMapping mapping = setup( StubMappingSchemaManagementStrategy.DROP_AND_CREATE_ON_STARTUP_ONLY,
 				ioStrategyName,
-				commitInterval
+				commitInterval,
+				backgroundCommit
 		);
 
 		// Initially our document is not in the index
@@ -151,12 +231,13 @@ private int countDocsOnDisk() throws IOException {
 	}
 
 	private StubMapping setup(StubMappingSchemaManagementStrategy schemaManagementStrategy, String ioStrategyName,
-			Integer commitInterval) {
+			Integer commitInterval, boolean backgroundCommit) {
 		return setupHelper.start()
 				.withSchemaManagement( schemaManagementStrategy )
 				.withIndex( index )
 				.withBackendProperty( LuceneIndexSettings.IO_STRATEGY, ioStrategyName )
 				.withBackendProperty( LuceneIndexSettings.IO_COMMIT_INTERVAL, commitInterval )
+				.withBackendProperty( LuceneIndexSettings.INDEXING_BACKGROUND_COMMIT, backgroundCommit )
 				.setup();
 	}
 }
@@ -0,0 +1,169 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToDoubleFunction;
+
+import org.hibernate.search.backend.lucene.lowlevel.index.impl.IOStrategy;
+import org.hibernate.search.backend.lucene.orchestration.impl.LuceneSyncWorkOrchestratorImpl;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.orchestration.spi.BatchingExecutor;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.engine.backend.work.execution.OperationSubmitter;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.engine.cfg.spi.EngineSpiSettings;
+import org.hibernate.search.engine.common.metrics.spi.MetricsCounter;
+import org.hibernate.search.engine.common.metrics.spi.MetricsDistributionSummary;
+import org.hibernate.search.engine.common.metrics.spi.MetricsGauge;
+import org.hibernate.search.engine.common.metrics.spi.MetricsRegistry;
+import org.hibernate.search.engine.common.metrics.spi.MetricsTags;
+import org.hibernate.search.engine.common.metrics.spi.MetricsTimer;
+import org.hibernate.search.engine.environment.bean.BeanReference;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.extension.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+/**
+ * Test that the Lucene backend reports metrics to the configured {@link MetricsRegistry}.
+ */
+class LuceneMetricsIT {
+
+	@RegisterExtension
+	public final SearchSetupHelper setupHelper = SearchSetupHelper.create();
+
+	private final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	private final RecordingMetricsRegistry registry = new RecordingMetricsRegistry();
+
+	@BeforeEach
+	void setup() {
+		setupHelper.start()
+				.withProperty( EngineSpiSettings.METRICS_REGISTRY, BeanReference.ofInstance( registry ) )
+				.withBackendProperty( "io.strategy", "near-real-time" )
+				.withIndex( index )
+				.setup();
+	}
+
+	@Test
+	void indexingAndSearch() {
+		index( "1" );
+		// Opens the first reader
+		assertThat( index.query().where( f -> f.matchAll() ).fetchTotalHitCount() ).isEqualTo( 1 );
+		index( "2" );
+		// Refreshes the reader
+		assertThat( index.query().where( f -> f.matchAll() ).fetchTotalHitCount() ).isEqualTo( 2 );
+
+		MetricsTags indexTags = MetricsTags.backend( Optional.empty() ).and( MetricsTags.INDEX, index.name() );
+
+		assertThat( registry.timerCount( IOStrategy.METRIC_COMMIT, indexTags ) ).isPositive();
+		assertThat( registry.timerCount( IOStrategy.METRIC_REFRESH, indexTags ) ).isPositive();
+		assertThat( registry.timerCount( LuceneSyncWorkOrchestratorImpl.METRIC_READ,
+				MetricsTags.backend( Optional.empty() ) ) ).isPositive();
+		assertThat( registry.summaryTotal( BatchingExecutor.METRIC_BATCH_SIZE, indexTags.and( MetricsTags.QUEUE, "0" ) ) )
+				.isGreaterThanOrEqualTo( 1.0 );
+		assertThat( registry.gauges ).containsKey( new MeterId( BatchingExecutor.METRIC_QUEUE_SIZE,
+				indexTags.and( MetricsTags.QUEUE, "0" ) ) );
+	}
+
+	private void index(String id) {
+		IndexIndexingPlan plan = index.createIndexingPlan( DocumentCommitStrategy.FORCE, DocumentRefreshStrategy.NONE );
+		plan.add( referenceProvider( id ), document -> document.addValue( index.binding().string, "text" ) );
+		plan.execute( OperationSubmitter.blocking() ).join();
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<String> string;
+
+		IndexBinding(IndexSchemaElement root) {
+			string = root.field( "string", f -> f.asString() ).toReference();
+		}
+	}
+
+	private static final class MeterId {
+		private final String name;
+		private final MetricsTags tags;
+
+		MeterId(String name, MetricsTags tags) {
+			this.name = name;
+			this.tags = tags;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if ( !( obj instanceof MeterId ) ) {
+				return false;
+			}
+			MeterId other = (MeterId) obj;
+			return name.equals( other.name ) && tags.equals( other.tags );
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * name.hashCode() + tags.hashCode();
+		}
+
+		@Override
+		public String toString() {
+			return name + tags;
+		}
+	}
+
+	private static final class RecordingMetricsRegistry implements MetricsRegistry {
+		private final Map<MeterId, LongAdder> counters = new ConcurrentHashMap<>();
+		private final Map<MeterId, LongAdder> timers = new ConcurrentHashMap<>();
+		private final Map<MeterId, LongAdder> summaries = new ConcurrentHashMap<>();
+		private final Map<MeterId, Object> gauges = new ConcurrentHashMap<>();
+
+		@Override
+		public MetricsCounter counter(String name, MetricsTags tags) {
+			LongAdder adder = counters.computeIfAbsent( new MeterId( name, tags ), ignored -> new LongAdder() );
+			return adder::add;
+		}
+
+		@Override
+		public MetricsTimer timer(String name, MetricsTags tags) {
+			LongAdder adder = timers.computeIfAbsent( new MeterId( name, tags ), ignored -> new LongAdder() );
+			return (amount, unit) -> adder.increment();
+		}
+
+		@Override
+		public MetricsDistributionSummary distributionSummary(String name, MetricsTags tags) {
+			LongAdder adder = summaries.computeIfAbsent( new MeterId( name, tags ), ignored -> new LongAdder() );
+			return amount -> adder.add( (long) amount );
+		}
+
+		@Override
+		public <T> MetricsGauge gauge(String name, MetricsTags tags, T stateObject,
+				ToDoubleFunction<T> valueFunction) {
+			MeterId id = new MeterId( name, tags );
+			gauges.put( id, stateObject );
+			return () -> gauges.remove( id, stateObject );
+		}
+
+		long timerCount(String name, MetricsTags tags) {
+			LongAdder adder = timers.get( new MeterId( name, tags ) );
+			return adder == null ? 0L : adder.sum();
+		}
+
+		double summaryTotal(String name, MetricsTags tags) {
+			LongAdder adder = summaries.get( new MeterId( name, tags ) );
+			return adder == null ? 0.0 : adder.sum();
+		}
+	}
+}
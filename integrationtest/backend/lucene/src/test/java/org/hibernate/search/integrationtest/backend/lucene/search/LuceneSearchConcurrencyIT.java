@@ -0,0 +1,239 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.documentProvider;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.backend.lucene.LuceneExtension;
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Aggregable;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.query.SearchQuery;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.engine.search.query.SearchScroll;
+import org.hibernate.search.engine.search.query.SearchScrollResult;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.TckConfiguration;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.extension.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchTimeoutException;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import org.apache.lucene.index.IndexReader;
+
+/**
+ * Test that search queries executed concurrently over multiple slices of segments
+ * (see {@link LuceneBackendSettings#QUERY_CONCURRENCY_THREAD_POOL_SIZE})
+ * return the same results as if they were executed sequentially,
+ * and still honor timeouts.
+ */
+class LuceneSearchConcurrencyIT {
+
+	private static final int SHARD_COUNT = 3;
+	private static final int BATCH_COUNT = 5;
+	private static final int DOCUMENTS_PER_BATCH = 200;
+	private static final int DOCUMENT_COUNT = BATCH_COUNT * DOCUMENTS_PER_BATCH;
+	private static final int DISTINCT_GROUP_COUNT = 7;
+
+	@RegisterExtension
+	public static final SearchSetupHelper setupHelper = SearchSetupHelper.create();
+
+	private static final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	@BeforeAll
+	static void setup() {
+		setupHelper.start()
+				.withBackendProperty( LuceneBackendSettings.QUERY_CONCURRENCY_THREAD_POOL_SIZE, 4 )
+				// Force one slice per segment, so that even our small index gets processed concurrently.
+				.withBackendProperty( LuceneBackendSettings.QUERY_CONCURRENCY_SLICE_MAX_DOCS, 1 )
+				.withBackendProperty( LuceneBackendSettings.QUERY_CONCURRENCY_SLICE_MAX_SEGMENTS, 1 )
+				.withIndexProperty( index.name(), LuceneIndexSettings.SHARDING_STRATEGY, "hash" )
+				.withIndexProperty( index.name(), LuceneIndexSettings.SHARDING_NUMBER_OF_SHARDS, SHARD_COUNT )
+				.withIndex( index )
+				.setup();
+
+		initData();
+	}
+
+	@Test
+	void multipleSlices() throws Exception {
+		try ( IndexReader indexReader = index.createScope().extension( LuceneExtension.get() ).openIndexReader() ) {
+			// Each shard has at least one segment.
+			assertThat( indexReader.leaves() ).hasSizeGreaterThanOrEqualTo( SHARD_COUNT );
+		}
+	}
+
+	@Test
+	void fetch_fieldSort() {
+		SearchResult<DocumentReference> result = index.query()
+				.where( f -> f.range().field( "integer" ).atLeast( DOCUMENT_COUNT / 4 ) )
+				.sort( f -> f.field( "integer" ).desc() )
+				.fetch( 100, 50 );
+
+		List<String> expectedIds = new ArrayList<>();
+		for ( int i = DOCUMENT_COUNT - 1 - 100; expectedIds.size() < 50; i-- ) {
+			expectedIds.add( docId( i ) );
+		}
+		assertThat( result.total().hitCount() ).isEqualTo( DOCUMENT_COUNT - DOCUMENT_COUNT / 4 );
+		assertThat( result.hits() ).extracting( DocumentReference::id )
+				.containsExactlyElementsOf( expectedIds );
+	}
+
+	@Test
+	void fetch_scoreSort() {
+		SearchQuery<DocumentReference> query = index.query()
+				.where( f -> f.bool()
+						.should( f.match().field( "group" ).matching( "group_1" ) )
+						.should( f.range().field( "integer" ).atLeast( DOCUMENT_COUNT / 2 ) ) )
+				.toQuery();
+
+		List<DocumentReference> hits = query.fetchAllHits();
+		assertThat( hits ).hasSize( (int) query.fetchTotalHitCount() );
+		assertThat( hits ).extracting( DocumentReference::id ).doesNotHaveDuplicates();
+		// Documents matching both clauses have a higher score.
+		assertThat( hits.get( 0 ).id() ).isIn( idsMatchingBothClauses() );
+	}
+
+	@Test
+	void fetchTotalHitCount() {
+		assertThat( index.query()
+				.where( f -> f.match().field( "group" ).matching( "group_3" ) )
+				.fetchTotalHitCount() )
+				.isEqualTo( expectedGroupCounts().get( "group_3" ) );
+	}
+
+	@Test
+	void aggregation() {
+		AggregationKey<Map<String, Long>> aggregationKey = AggregationKey.of( "groups" );
+
+		SearchResult<DocumentReference> result = index.query()
+				.where( f -> f.matchAll() )
+				.aggregation( aggregationKey, f -> f.terms().field( "group", String.class ) )
+				.fetch( 0 );
+
+		assertThat( result.total().hitCount() ).isEqualTo( DOCUMENT_COUNT );
+		assertThat( result.aggregation( aggregationKey ) )
+				.containsExactlyInAnyOrderEntriesOf( expectedGroupCounts() );
+	}
+
+	@Test
+	void scroll() {
+		List<String> scrolledIds = new ArrayList<>();
+		try ( SearchScroll<DocumentReference> scroll = index.query()
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "integer" ).asc() )
+				.scroll( 70 ) ) {
+			for ( SearchScrollResult<DocumentReference> chunk = scroll.next(); chunk.hasHits();
+					chunk = scroll.next() ) {
+				assertThat( chunk.total().hitCount() ).isEqualTo( DOCUMENT_COUNT );
+				for ( DocumentReference hit : chunk.hits() ) {
+					scrolledIds.add( hit.id() );
+				}
+			}
+		}
+
+		List<String> expectedIds = new ArrayList<>();
+		for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+			expectedIds.add( docId( i ) );
+		}
+		assertThat( scrolledIds ).containsExactlyElementsOf( expectedIds );
+	}
+
+	@Test
+	void fetch_failAfter_slowQuery_smallTimeout() {
+		SearchQuery<DocumentReference> query = index.query()
+				.where( f -> TckConfiguration.get().getBackendHelper().createSlowPredicate( f ) )
+				.failAfter( 1, TimeUnit.NANOSECONDS )
+				.toQuery();
+
+		assertThatThrownBy( () -> query.fetch( 20 ) )
+				.isInstanceOf( SearchTimeoutException.class )
+				.hasMessageContaining( "Operation exceeded the timeout of 0s, 0ms and 1ns" );
+	}
+
+	@Test
+	void fetch_truncateAfter_slowQuery_smallTimeout() {
+		SearchResult<DocumentReference> result = index.query()
+				.where( f -> TckConfiguration.get().getBackendHelper().createSlowPredicate( f ) )
+				.truncateAfter( 1, TimeUnit.NANOSECONDS )
+				.fetch( 20 );
+
+		assertThat( result.timedOut() ).isTrue();
+		assertThat( result.total().isHitCountLowerBound() ).isTrue();
+		assertThat( result.total().hitCountLowerBound() ).isLessThan( DOCUMENT_COUNT );
+	}
+
+	private static List<String> idsMatchingBothClauses() {
+		List<String> ids = new ArrayList<>();
+		for ( int i = DOCUMENT_COUNT / 2; i < DOCUMENT_COUNT; i++ ) {
+			if ( i % DISTINCT_GROUP_COUNT == 1 ) {
+				ids.add( docId( i ) );
+			}
+		}
+		return ids;
+	}
+
+	private static Map<String, Long> expectedGroupCounts() {
+		Map<String, Long> counts = new LinkedHashMap<>();
+		for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+			counts.merge( group( i ), 1L, Long::sum );
+		}
+		return counts;
+	}
+
+	private static void initData() {
+		// Index documents in multiple batches, so that shards may end up with multiple segments.
+		for ( int batch = 0; batch < BATCH_COUNT; batch++ ) {
+			int batchStart = batch * DOCUMENTS_PER_BATCH;
+			index.bulkIndexer()
+					.add( DOCUMENTS_PER_BATCH, i -> documentProvider(
+							docId( batchStart + i ),
+							document -> {
+								document.addValue( index.binding().integer, batchStart + i );
+								document.addValue( index.binding().group, group( batchStart + i ) );
+							}
+					) )
+					.join();
+		}
+	}
+
+	private static String docId(int i) {
+		return String.format( Locale.ROOT, "document_%05d", i );
+	}
+
+	private static String group(int i) {
+		return "group_" + ( i % DISTINCT_GROUP_COUNT );
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<Integer> integer;
+		final IndexFieldReference<String> group;
+
+		IndexBinding(IndexSchemaElement root) {
+			integer = root.field( "integer", f -> f.asInteger().sortable( Sortable.YES ) )
+					.toReference();
+			group = root.field( "group", f -> f.asString().sortable( Sortable.YES ).aggregable( Aggregable.YES ) )
+					.toReference();
+		}
+	}
+}
@@ -0,0 +1,130 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.documentProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+import org.hibernate.search.backend.lucene.search.query.ScrollStrategyName;
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.search.query.SearchScroll;
+import org.hibernate.search.engine.search.query.SearchScrollResult;
+import org.hibernate.search.engine.search.query.dsl.SearchQueryOptionsStep;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.extension.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Test scrolling with the {@link ScrollStrategyName#SEARCH_AFTER search-after} scroll strategy,
+ * in particular that hits are neither skipped nor duplicated across pages,
+ * even when sort values are not unique.
+ */
+class LuceneSearchScrollSearchAfterIT {
+
+	private static final int DOCUMENT_COUNT = 2000;
+	private static final int DISTINCT_GROUP_COUNT = 7;
+
+	@RegisterExtension
+	public static final SearchSetupHelper setupHelper = SearchSetupHelper.create();
+
+	private static final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	@BeforeAll
+	static void setup() {
+		setupHelper.start()
+				.withBackendProperty( LuceneBackendSettings.QUERY_SCROLL_STRATEGY, "search-after" )
+				.withIndex( index )
+				.setup();
+
+		initData();
+	}
+
+	@ParameterizedTest
+	@ValueSource(ints = { 1, 25, 30, 499, DOCUMENT_COUNT, DOCUMENT_COUNT + 10 })
+	void fieldSort(int chunkSize) {
+		checkScrollingMatchesFetch( index.query()
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "integer" ).desc() ), chunkSize );
+	}
+
+	@ParameterizedTest
+	@ValueSource(ints = { 1, 25, 30, 499, DOCUMENT_COUNT, DOCUMENT_COUNT + 10 })
+	void fieldSort_duplicateValues(int chunkSize) {
+		checkScrollingMatchesFetch( index.query()
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "group" ).asc() ), chunkSize );
+	}
+
+	@ParameterizedTest
+	@ValueSource(ints = { 1, 25, 30, 499, DOCUMENT_COUNT, DOCUMENT_COUNT + 10 })
+	void scoreSort(int chunkSize) {
+		checkScrollingMatchesFetch( index.query()
+				.where( f -> f.bool()
+						.should( f.match().field( "group" ).matching( "group_1" ) )
+						.should( f.range().field( "integer" ).atLeast( DOCUMENT_COUNT / 2 ) ) ),
+				chunkSize );
+	}
+
+	private void checkScrollingMatchesFetch(SearchQueryOptionsStep<?, DocumentReference, ?, ?, ?> query,
+			int chunkSize) {
+		List<DocumentReference> expectedHits = query.fetchAllHits();
+		assertThat( expectedHits ).isNotEmpty();
+
+		List<DocumentReference> scrolledHits = new ArrayList<>();
+		try ( SearchScroll<DocumentReference> scroll = query.scroll( chunkSize ) ) {
+			for ( SearchScrollResult<DocumentReference> chunk = scroll.next(); chunk.hasHits();
+					chunk = scroll.next() ) {
+				assertThat( chunk.hits() ).hasSizeLessThanOrEqualTo( chunkSize );
+				assertThat( chunk.total().isHitCountExact() ).isTrue();
+				assertThat( chunk.total().hitCount() ).isEqualTo( expectedHits.size() );
+				scrolledHits.addAll( chunk.hits() );
+			}
+		}
+
+		assertThat( scrolledHits ).containsExactlyElementsOf( expectedHits );
+	}
+
+	private static void initData() {
+		index.bulkIndexer()
+				.add( DOCUMENT_COUNT, i -> documentProvider(
+						docId( i ),
+						document -> {
+							document.addValue( index.binding().integer, i );
+							document.addValue( index.binding().group, "group_" + ( i % DISTINCT_GROUP_COUNT ) );
+						}
+				) )
+				.join();
+	}
+
+	private static String docId(int i) {
+		return String.format( Locale.ROOT, "document_%05d", i );
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<Integer> integer;
+		final IndexFieldReference<String> group;
+
+		IndexBinding(IndexSchemaElement root) {
+			integer = root.field( "integer", f -> f.asInteger().sortable( Sortable.YES ) )
+					.toReference();
+			group = root.field( "group", f -> f.asString().sortable( Sortable.YES ) )
+					.toReference();
+		}
+	}
+}
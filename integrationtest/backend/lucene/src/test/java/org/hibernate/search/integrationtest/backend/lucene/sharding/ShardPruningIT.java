@@ -0,0 +1,143 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.sharding;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.documentProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.mapper.mapping.building.spi.IndexedEntityBindingContext;
+import org.hibernate.search.engine.search.query.SearchScroll;
+import org.hibernate.search.engine.search.query.SearchScrollResult;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.extension.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.BulkIndexer;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingScope;
+
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Test that {@link LuceneBackendSettings#QUERY_SHARD_PRUNING shard pruning}
+ * does not affect the results of search queries.
+ */
+class ShardPruningIT {
+
+	private static final String SHARD_2020 = "2020";
+	private static final String SHARD_2021 = "2021";
+	private static final String SHARD_2022 = "2022";
+	private static final int DOCUMENT_COUNT_PER_SHARD = 50;
+
+	@RegisterExtension
+	public final SearchSetupHelper setupHelper = SearchSetupHelper.create();
+
+	private final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.ofAdvanced( IndexBinding::new );
+
+	@ParameterizedTest(name = "shardPruning = {0}")
+	@ValueSource(booleans = { true, false })
+	void range(boolean shardPruning) {
+		setup( shardPruning );
+		StubMappingScope scope = index.createScope();
+
+		// Only documents in the last shard match.
+		assertThat( scope.query().where( f -> f.range().field( "year" ).atLeast( 2022 ) ).fetchTotalHitCount() )
+				.isEqualTo( DOCUMENT_COUNT_PER_SHARD );
+		assertThat( scope.query().where( f -> f.range().field( "year" ).atLeast( 2022 ) ).fetchAllHits() )
+				.hasSize( DOCUMENT_COUNT_PER_SHARD )
+				.allSatisfy( hit -> assertThat( hit.id() ).startsWith( SHARD_2022 ) );
+		// Documents in two shards match.
+		assertThat( scope.query()
+				.where( f -> f.bool()
+						.must( f.matchAll() )
+						.filter( f.range().field( "year" ).between( 2020, 2021 ) ) )
+				.fetchTotalHitCount() )
+				.isEqualTo( 2 * DOCUMENT_COUNT_PER_SHARD );
+		// No shard matches.
+		assertThat( scope.query().where( f -> f.range().field( "year" ).atLeast( 2023 ) ).fetchTotalHitCount() )
+				.isZero();
+		// Prohibited clauses must not lead to skipping shards.
+		assertThat( scope.query()
+				.where( f -> f.not( f.range().field( "year" ).atLeast( 2022 ) ) )
+				.fetchTotalHitCount() )
+				.isEqualTo( 2 * DOCUMENT_COUNT_PER_SHARD );
+	}
+
+	@ParameterizedTest(name = "shardPruning = {0}")
+	@ValueSource(booleans = { true, false })
+	void exists(boolean shardPruning) {
+		setup( shardPruning );
+
+		// Only documents in the first shard have a comment.
+		assertThat( index.query().where( f -> f.exists().field( "comment" ) ).fetchAllHits() )
+				.hasSize( DOCUMENT_COUNT_PER_SHARD )
+				.allSatisfy( hit -> assertThat( hit.id() ).startsWith( SHARD_2020 ) );
+	}
+
+	@ParameterizedTest(name = "shardPruning = {0}")
+	@ValueSource(booleans = { true, false })
+	void scroll(boolean shardPruning) {
+		setup( shardPruning );
+
+		List<String> ids = new ArrayList<>();
+		try ( SearchScroll<?> scroll = index.query()
+				.select( f -> f.id( String.class ) )
+				.where( f -> f.range().field( "year" ).atMost( 2020 ) )
+				.scroll( 20 ) ) {
+			for ( SearchScrollResult<?> chunk = scroll.next(); chunk.hasHits(); chunk = scroll.next() ) {
+				chunk.hits().forEach( hit -> ids.add( (String) hit ) );
+			}
+		}
+		assertThat( ids )
+				.hasSize( DOCUMENT_COUNT_PER_SHARD )
+				.allSatisfy( id -> assertThat( id ).startsWith( SHARD_2020 ) );
+	}
+
+	private void setup(boolean shardPruning) {
+		setupHelper.start()
+				.withBackendProperty( LuceneBackendSettings.QUERY_SHARD_PRUNING, shardPruning )
+				.withBackendProperty( LuceneIndexSettings.SHARDING_STRATEGY, "explicit" )
+				.withBackendProperty( LuceneIndexSettings.SHARDING_SHARD_IDENTIFIERS,
+						String.join( ",", SHARD_2020, SHARD_2021, SHARD_2022 ) )
+				.withIndex( index )
+				.setup();
+
+		// Time-partitioned index: documents of each year go to a dedicated shard.
+		BulkIndexer indexer = index.bulkIndexer();
+		for ( String shard : new String[] { SHARD_2020, SHARD_2021, SHARD_2022 } ) {
+			int year = Integer.parseInt( shard );
+			for ( int i = 0; i < DOCUMENT_COUNT_PER_SHARD; i++ ) {
+				indexer.add( documentProvider( shard + "_" + i, shard, document -> {
+					document.addValue( index.binding().year, year );
+					if ( year == 2020 ) {
+						document.addValue( index.binding().comment, "comment" );
+					}
+				} ) );
+			}
+		}
+		indexer.join();
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<Integer> year;
+		final IndexFieldReference<String> comment;
+
+		IndexBinding(IndexedEntityBindingContext ctx) {
+			ctx.explicitRouting();
+			IndexSchemaElement root = ctx.schemaElement();
+			year = root.field( "year", f -> f.asInteger().sortable( Sortable.YES ) ).toReference();
+			comment = root.field( "comment", f -> f.asString() ).toReference();
+		}
+	}
+}
@@ -0,0 +1,232 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.sharding;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.index.LuceneIndexManager;
+import org.hibernate.search.backend.lucene.index.impl.LuceneIndexManagerImpl;
+import org.hibernate.search.backend.lucene.index.impl.Shard;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.work.execution.OperationSubmitter;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.engine.backend.work.execution.spi.UnsupportedOperationBehavior;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.extension.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapping;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingSchemaManagementStrategy;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test the "range" sharding strategy and {@link LuceneIndexManager#splitShard(String) shard splits}.
+ */
+class ShardingRangeIT {
+
+	private static final String INDEX_NAME = "rangeShardedIndex";
+	private static final int DOCUMENT_COUNT = 200;
+
+	@RegisterExtension
+	public final SearchSetupHelper setupHelper = SearchSetupHelper.create();
+
+	@TempDir
+	public Path root;
+
+	private final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new )
+			.name( INDEX_NAME );
+
+	@Test
+	void distribution() throws IOException {
+		setup( index, StubMappingSchemaManagementStrategy.DROP_AND_CREATE_AND_DROP, null );
+
+		indexDocuments( index, "initial" );
+
+		assertThat( shardIds( index ) ).containsExactly( "0", "1" );
+		assertThat( shardDocumentCounts( index ) )
+				.allSatisfy( count -> assertThat( count ).isPositive() )
+				.satisfies( counts -> assertThat( counts.stream().mapToInt( Integer::intValue ).sum() )
+						.isEqualTo( DOCUMENT_COUNT ) );
+	}
+
+	@Test
+	void split() throws IOException {
+		setup( index, StubMappingSchemaManagementStrategy.DROP_AND_CREATE_AND_DROP, null );
+		indexDocuments( index, "initial" );
+		List<Integer> countsBeforeSplit = shardDocumentCounts( index );
+
+		String newShardId = index.toApi().unwrap( LuceneIndexManager.class ).splitShard( "0" );
+
+		assertThat( newShardId ).isEqualTo( "2" );
+		assertThat( shardIds( index ) ).containsExactly( "0", "1", "2" );
+		List<Integer> countsAfterSplit = shardDocumentCounts( index );
+		// Only documents from the split shard were moved, to the new shard.
+		assertThat( countsAfterSplit.get( 2 ) ).isPositive();
+		assertThat( countsAfterSplit.get( 0 ) + countsAfterSplit.get( 2 ) ).isEqualTo( countsBeforeSplit.get( 0 ) );
+		assertThat( countsAfterSplit.get( 1 ) ).isEqualTo( countsBeforeSplit.get( 1 ) );
+		assertThat( countDocuments( index ) ).isEqualTo( DOCUMENT_COUNT );
+
+		// Updates after the split must be routed to the shard now holding the document, without creating duplicates.
+		indexDocuments( index, "updated" );
+		assertThat( shardDocumentCounts( index ) ).isEqualTo( countsAfterSplit );
+		assertThat( countDocuments( index ) ).isEqualTo( DOCUMENT_COUNT );
+		assertThat( index.query().where( f -> f.match().field( "text" ).matching( "initial" ) ).fetchTotalHitCount() )
+				.isZero();
+
+		// Same for deletes.
+		IndexIndexingPlan plan = index.createIndexingPlan();
+		for ( int i = 0; i < DOCUMENT_COUNT; i += 2 ) {
+			plan.delete( referenceProvider( String.valueOf( i ) ) );
+		}
+		plan.execute( OperationSubmitter.blocking() ).join();
+		assertThat( countDocuments( index ) ).isEqualTo( DOCUMENT_COUNT / 2 );
+	}
+
+	@Test
+	void split_concurrentIndexing() throws IOException {
+		setup( index, StubMappingSchemaManagementStrategy.DROP_AND_CREATE_AND_DROP, null );
+		indexDocuments( index, "initial" );
+
+		// Keep updating documents while the split is in progress: no update must be lost.
+		AtomicBoolean splitDone = new AtomicBoolean( false );
+		AtomicReference<String> lastText = new AtomicReference<>( "initial" );
+		CompletableFuture<?> indexing = CompletableFuture.runAsync( () -> {
+			for ( int pass = 0; !splitDone.get(); pass++ ) {
+				String text = "pass" + pass;
+				indexDocuments( index, text );
+				lastText.set( text );
+			}
+		} );
+		try {
+			index.toApi().unwrap( LuceneIndexManager.class ).splitShard( "0" );
+		}
+		finally {
+			splitDone.set( true );
+		}
+		indexing.join();
+
+		assertThat( shardIds( index ) ).containsExactly( "0", "1", "2" );
+		assertThat( countDocuments( index ) ).isEqualTo( DOCUMENT_COUNT );
+		assertThat( index.query().where( f -> f.match().field( "text" ).matching( lastText.get() ) )
+				.fetchTotalHitCount() )
+				.isEqualTo( DOCUMENT_COUNT );
+	}
+
+	@Test
+	void split_restart() throws IOException {
+		StubMapping mapping = setup( index, StubMappingSchemaManagementStrategy.DROP_AND_CREATE_ON_STARTUP_ONLY, null );
+		indexDocuments( index, "initial" );
+		index.toApi().unwrap( LuceneIndexManager.class ).splitShard( "0" );
+		List<Integer> countsAfterSplit = shardDocumentCounts( index );
+		mapping.close();
+
+		// Restart with the split recorded in the configuration: documents must still be routed to the right shard.
+		SimpleMappedIndex<IndexBinding> restartedIndex = SimpleMappedIndex.of( IndexBinding::new )
+				.name( INDEX_NAME );
+		setup( restartedIndex, StubMappingSchemaManagementStrategy.DROP_ON_SHUTDOWN_ONLY, "0" );
+
+		assertThat( shardIds( restartedIndex ) ).containsExactly( "0", "1", "2" );
+		assertThat( shardDocumentCounts( restartedIndex ) ).isEqualTo( countsAfterSplit );
+		indexDocuments( restartedIndex, "updated" );
+		assertThat( shardDocumentCounts( restartedIndex ) ).isEqualTo( countsAfterSplit );
+		assertThat( countDocuments( restartedIndex ) ).isEqualTo( DOCUMENT_COUNT );
+	}
+
+	@Test
+	void split_unknownShard() {
+		setup( index, StubMappingSchemaManagementStrategy.DROP_AND_CREATE_AND_DROP, null );
+
+		assertThatThrownBy( () -> index.toApi().unwrap( LuceneIndexManager.class ).splitShard( "42" ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContainingAll( "Unable to split shard '42'", "this shard does not exist",
+						"Existing shards are: [0, 1]" );
+	}
+
+	@Test
+	void split_unsupportedStrategy() {
+		setupHelper.start()
+				.withBackendProperty( LuceneIndexSettings.SHARDING_STRATEGY, "hash" )
+				.withBackendProperty( LuceneIndexSettings.SHARDING_NUMBER_OF_SHARDS, 2 )
+				.withIndex( index )
+				.setup();
+
+		assertThatThrownBy( () -> index.toApi().unwrap( LuceneIndexManager.class ).splitShard( "0" ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContainingAll( "Unable to split shards", "does not support splitting shards",
+						"Use the 'range' sharding strategy instead" );
+	}
+
+	private StubMapping setup(SimpleMappedIndex<IndexBinding> index,
+			StubMappingSchemaManagementStrategy schemaManagementStrategy, String splitShards) {
+		SearchSetupHelper.SetupContext setupContext = setupHelper.start()
+				.withBackendProperty( LuceneIndexSettings.DIRECTORY_TYPE, "local-filesystem" )
+				.withBackendProperty( LuceneIndexSettings.DIRECTORY_ROOT, root.toString() )
+				.withBackendProperty( LuceneIndexSettings.SHARDING_STRATEGY, "range" )
+				.withBackendProperty( LuceneIndexSettings.SHARDING_NUMBER_OF_SHARDS, 2 )
+				.withSchemaManagement( schemaManagementStrategy )
+				.withIndex( index );
+		if ( splitShards != null ) {
+			setupContext.withBackendProperty( LuceneIndexSettings.SHARDING_SPLIT_SHARDS, splitShards );
+		}
+		return setupContext.setup();
+	}
+
+	private static void indexDocuments(SimpleMappedIndex<IndexBinding> index, String text) {
+		IndexIndexingPlan plan = index.createIndexingPlan();
+		for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+			plan.addOrUpdate( referenceProvider( String.valueOf( i ) ),
+					document -> document.addValue( index.binding().text, text ) );
+		}
+		plan.execute( OperationSubmitter.blocking() ).join();
+		index.createWorkspace()
+				.flush( OperationSubmitter.blocking(), UnsupportedOperationBehavior.FAIL )
+				.join();
+	}
+
+	private static long countDocuments(SimpleMappedIndex<IndexBinding> index) {
+		return index.query().where( f -> f.matchAll() ).fetchTotalHitCount();
+	}
+
+	private static List<String> shardIds(SimpleMappedIndex<IndexBinding> index) {
+		List<String> shardIds = new ArrayList<>();
+		for ( Shard shard : index.unwrapForTests( LuceneIndexManagerImpl.class ).getShardsForTests() ) {
+			shardIds.add( shard.shardIdForTests() );
+		}
+		return shardIds;
+	}
+
+	private static List<Integer> shardDocumentCounts(SimpleMappedIndex<IndexBinding> index) throws IOException {
+		List<Integer> counts = new ArrayList<>();
+		for ( Shard shard : index.unwrapForTests( LuceneIndexManagerImpl.class ).getShardsForTests() ) {
+			counts.add( shard.indexAccessorForTests().getWriterForTests().getDocStats().numDocs );
+		}
+		return counts;
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<String> text;
+
+		IndexBinding(IndexSchemaElement root) {
+			text = root.field( "text", f -> f.asString().projectable( Projectable.YES ) ).toReference();
+		}
+	}
+}
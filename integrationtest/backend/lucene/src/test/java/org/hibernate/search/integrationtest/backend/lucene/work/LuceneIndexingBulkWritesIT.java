@@ -0,0 +1,166 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.work;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.IndexObjectFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaObjectField;
+import org.hibernate.search.engine.backend.types.ObjectStructure;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.engine.backend.work.execution.OperationSubmitter;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.engine.backend.work.execution.spi.UnsupportedOperationBehavior;
+import org.hibernate.search.integrationtest.backend.lucene.testsupport.util.LuceneIndexContentUtils;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.extension.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Test that {@link LuceneIndexSettings#INDEXING_BULK_WRITES bulk writes}
+ * do not affect the resulting content of the index.
+ */
+class LuceneIndexingBulkWritesIT {
+
+	private static final int DOCUMENT_COUNT = 20;
+	private static final int UPDATES_PER_DOCUMENT = 30;
+
+	@RegisterExtension
+	public final SearchSetupHelper setupHelper = SearchSetupHelper.create();
+
+	private final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	@ParameterizedTest(name = "coalesceWorks = {0}")
+	@ValueSource(booleans = { false, true })
+	void burstsOfUpdates(boolean coalesceWorks) {
+		setup( coalesceWorks );
+
+		List<CompletableFuture<?>> futures = new ArrayList<>();
+		for ( int update = 0; update < UPDATES_PER_DOCUMENT; update++ ) {
+			for ( int document = 0; document < DOCUMENT_COUNT; document++ ) {
+				String id = String.valueOf( document );
+				String value = id + "_" + update;
+				IndexIndexingPlan indexingPlan = index.createIndexingPlan(
+						DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE );
+				if ( update == 0 ) {
+					indexingPlan.add( referenceProvider( id ),
+							doc -> doc.addValue( index.binding().string, value ) );
+				}
+				else if ( document % 2 == 0 && update == UPDATES_PER_DOCUMENT - 1 ) {
+					// Even documents end up deleted
+					indexingPlan.delete( referenceProvider( id ) );
+				}
+				else {
+					indexingPlan.addOrUpdate( referenceProvider( id ),
+							doc -> doc.addValue( index.binding().string, value ) );
+				}
+				futures.add( indexingPlan.execute( OperationSubmitter.blocking() ) );
+			}
+		}
+		CompletableFuture.allOf( futures.toArray( new CompletableFuture[0] ) ).join();
+
+		assertThat( index.query().where( f -> f.matchAll() ).fetchTotalHitCount() )
+				.isEqualTo( DOCUMENT_COUNT / 2 );
+		for ( int document = 1; document < DOCUMENT_COUNT; document += 2 ) {
+			String id = String.valueOf( document );
+			String lastValue = id + "_" + ( UPDATES_PER_DOCUMENT - 1 );
+			assertThat( index.query()
+					.select( f -> f.field( "string", String.class ) )
+					.where( f -> f.id().matching( id ) )
+					.fetchAllHits() )
+					.containsExactly( lastValue );
+		}
+	}
+
+	@Test
+	void nested() throws IOException {
+		setup( false );
+
+		// Entries are added as a single block: nested documents must still be attached to the right root document.
+		indexAllWithNestedValue( "initial" );
+		for ( int document = 0; document < DOCUMENT_COUNT; document++ ) {
+			String id = String.valueOf( document );
+			assertThat( index.query()
+					.where( f -> f.nested( "nestedObject" )
+							.add( f.match().field( "nestedObject.field" ).matching( "initial_" + id ) ) )
+					.fetchAllHits() )
+					.hasSize( 1 )
+					.allSatisfy( hit -> assertThat( hit.id() ).isEqualTo( id ) );
+		}
+
+		indexAllWithNestedValue( "updated" );
+		for ( int document = 0; document < DOCUMENT_COUNT; document++ ) {
+			String id = String.valueOf( document );
+			assertThat( index.query()
+					.where( f -> f.nested( "nestedObject" )
+							.add( f.match().field( "nestedObject.field" ).matching( "updated_" + id ) ) )
+					.fetchAllHits() )
+					.hasSize( 1 )
+					.allSatisfy( hit -> assertThat( hit.id() ).isEqualTo( id ) );
+		}
+		// Updates must have removed the previous nested documents.
+		int nestedDocumentCount = LuceneIndexContentUtils.readIndex( setupHelper, index.name(),
+				reader -> reader.getDocCount( "nestedObject.field" ) );
+		assertThat( nestedDocumentCount ).isEqualTo( DOCUMENT_COUNT );
+	}
+
+	private void setup(boolean coalesceWorks) {
+		setupHelper.start()
+				.withBackendProperty( LuceneIndexSettings.INDEXING_BULK_WRITES, true )
+				.withBackendProperty( LuceneIndexSettings.INDEXING_COALESCE_WORKS, coalesceWorks )
+				// Use a single queue so that works on different documents end up in the same batches
+				.withBackendProperty( LuceneIndexSettings.INDEXING_QUEUE_COUNT, 1 )
+				.withIndex( index )
+				.setup();
+	}
+
+	private void indexAllWithNestedValue(String prefix) {
+		List<CompletableFuture<?>> futures = new ArrayList<>();
+		for ( int document = 0; document < DOCUMENT_COUNT; document++ ) {
+			String id = String.valueOf( document );
+			IndexIndexingPlan indexingPlan = index.createIndexingPlan(
+					DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE );
+			indexingPlan.addOrUpdate( referenceProvider( id ), doc -> {
+				DocumentElement nested = doc.addObject( index.binding().nestedObject );
+				nested.addValue( index.binding().nestedField, prefix + "_" + id );
+			} );
+			futures.add( indexingPlan.execute( OperationSubmitter.blocking() ) );
+		}
+		CompletableFuture.allOf( futures.toArray( new CompletableFuture[0] ) ).join();
+		// Commit, so that the index content can be inspected directly.
+		index.createWorkspace().flush( OperationSubmitter.blocking(), UnsupportedOperationBehavior.FAIL ).join();
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<String> string;
+		final IndexObjectFieldReference nestedObject;
+		final IndexFieldReference<String> nestedField;
+
+		IndexBinding(IndexSchemaElement root) {
+			string = root.field( "string", f -> f.asString().projectable( Projectable.YES ) ).toReference();
+			IndexSchemaObjectField nestedObjectField = root.objectField( "nestedObject", ObjectStructure.NESTED );
+			nestedObject = nestedObjectField.toReference();
+			nestedField = nestedObjectField.field( "field", f -> f.asString() ).toReference();
+		}
+	}
+}
@@ -0,0 +1,105 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.work;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.engine.backend.work.execution.IndexingQueueStrategyName;
+import org.hibernate.search.engine.backend.work.execution.OperationSubmitter;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.extension.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * Test that indexing from many threads concurrently works correctly
+ * regardless of the {@link LuceneIndexSettings#INDEXING_QUEUE_STRATEGY queue strategy}
+ * and {@link LuceneIndexSettings#INDEXING_MAX_LINGER max linger}.
+ */
+class LuceneIndexingQueueStrategyIT {
+
+	private static final int THREAD_COUNT = 16;
+	private static final int PLANS_PER_THREAD = 50;
+
+	public static List<? extends Arguments> params() {
+		List<Arguments> params = new ArrayList<>();
+		for ( IndexingQueueStrategyName queueStrategy : IndexingQueueStrategyName.values() ) {
+			params.add( Arguments.of( queueStrategy, 0 ) );
+			params.add( Arguments.of( queueStrategy, 5 ) );
+		}
+		return params;
+	}
+
+	@RegisterExtension
+	public final SearchSetupHelper setupHelper = SearchSetupHelper.create();
+
+	private final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	private final ExecutorService executorService = Executors.newFixedThreadPool( THREAD_COUNT );
+
+	@AfterEach
+	void cleanup() {
+		executorService.shutdownNow();
+	}
+
+	@ParameterizedTest(name = "queue strategy {0}, max linger {1}")
+	@MethodSource("params")
+	void concurrentIndexing(IndexingQueueStrategyName queueStrategy, int maxLinger) {
+		setupHelper.start()
+				.withBackendProperty( LuceneIndexSettings.INDEXING_QUEUE_STRATEGY, queueStrategy.externalRepresentation() )
+				.withBackendProperty( LuceneIndexSettings.INDEXING_MAX_LINGER, maxLinger )
+				// Use a small queue count and size to force contention
+				.withBackendProperty( LuceneIndexSettings.INDEXING_QUEUE_COUNT, 2 )
+				.withBackendProperty( LuceneIndexSettings.INDEXING_QUEUE_SIZE, 10 )
+				.withIndex( index )
+				.setup();
+
+		List<CompletableFuture<?>> futures = new ArrayList<>();
+		for ( int thread = 0; thread < THREAD_COUNT; thread++ ) {
+			int threadIndex = thread;
+			futures.add( CompletableFuture.runAsync( () -> {
+				for ( int plan = 0; plan < PLANS_PER_THREAD; plan++ ) {
+					String id = threadIndex + "_" + plan;
+					IndexIndexingPlan indexingPlan = index.createIndexingPlan(
+							DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE );
+					indexingPlan.add( referenceProvider( id ),
+							document -> document.addValue( index.binding().string, id ) );
+					indexingPlan.execute( OperationSubmitter.blocking() ).join();
+				}
+			}, executorService ) );
+		}
+		CompletableFuture.allOf( futures.toArray( new CompletableFuture[0] ) ).join();
+
+		assertThat( index.query().where( f -> f.matchAll() ).fetchTotalHitCount() )
+				.isEqualTo( THREAD_COUNT * PLANS_PER_THREAD );
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<String> string;
+
+		IndexBinding(IndexSchemaElement root) {
+			string = root.field( "string", f -> f.asString() ).toReference();
+		}
+	}
+}
@@ -0,0 +1,166 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.tck.search.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThatResult;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.documentProvider;
+
+import java.util.Locale;
+
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.search.query.SearchQuery;
+import org.hibernate.search.engine.search.query.SearchQueryBatch;
+import org.hibernate.search.engine.search.query.SearchQueryBatchItem;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.extension.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+class SearchQueryBatchIT {
+
+	private static final int DOCUMENT_COUNT = 100;
+
+	@RegisterExtension
+	public static final SearchSetupHelper setupHelper = SearchSetupHelper.create();
+
+	private static final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new )
+			.name( "main" );
+	private static final SimpleMappedIndex<IndexBinding> otherIndex = SimpleMappedIndex.of( IndexBinding::new )
+			.name( "other" );
+
+	@BeforeAll
+	static void setup() {
+		setupHelper.start().withIndexes( index, otherIndex ).setup();
+
+		initData( index );
+		initData( otherIndex );
+	}
+
+	@Test
+	void execute() {
+		SearchQuery<DocumentReference> allQuery = matchAllQuerySortByField( index );
+		SearchQuery<DocumentReference> firstHalfQuery = index.query()
+				.where( f -> f.range().field( "integer" ).lessThan( DOCUMENT_COUNT / 2 ) )
+				.sort( f -> f.field( "integer" ).asc() )
+				.toQuery();
+		SearchQuery<DocumentReference> otherIndexQuery = matchAllQuerySortByField( otherIndex );
+
+		SearchQueryBatch batch = SearchQueryBatch.create();
+		SearchQueryBatchItem<DocumentReference> allItem = batch.add( allQuery, 3 );
+		SearchQueryBatchItem<DocumentReference> firstHalfItem = batch.add( firstHalfQuery, 10, 2 );
+		SearchQueryBatchItem<DocumentReference> otherIndexItem = batch.add( otherIndexQuery, 1 );
+		batch.execute();
+
+		assertThat( allItem.failure() ).isEmpty();
+		assertThatResult( allItem.result() )
+				.hasTotalHitCount( DOCUMENT_COUNT )
+				.hasDocRefHitsExactOrder( index.typeName(), docId( 0 ), docId( 1 ), docId( 2 ) );
+		assertThat( firstHalfItem.failure() ).isEmpty();
+		assertThatResult( firstHalfItem.result() )
+				.hasTotalHitCount( DOCUMENT_COUNT / 2 )
+				.hasDocRefHitsExactOrder( index.typeName(), docId( 10 ), docId( 11 ) );
+		assertThat( otherIndexItem.failure() ).isEmpty();
+		assertThatResult( otherIndexItem.result() )
+				.hasTotalHitCount( DOCUMENT_COUNT )
+				.hasDocRefHitsExactOrder( otherIndex.typeName(), docId( 0 ) );
+	}
+
+	@Test
+	void execute_sameQueryMultipleTimes() {
+		SearchQuery<DocumentReference> query = matchAllQuerySortByField( index );
+
+		SearchQueryBatch batch = SearchQueryBatch.create();
+		SearchQueryBatchItem<DocumentReference> item1 = batch.add( query, 0, 1 );
+		SearchQueryBatchItem<DocumentReference> item2 = batch.add( query, 1, 1 );
+		batch.execute();
+
+		assertThatResult( item1.result() )
+				.hasTotalHitCount( DOCUMENT_COUNT )
+				.hasDocRefHitsExactOrder( index.typeName(), docId( 0 ) );
+		assertThatResult( item2.result() )
+				.hasTotalHitCount( DOCUMENT_COUNT )
+				.hasDocRefHitsExactOrder( index.typeName(), docId( 1 ) );
+	}
+
+	@Test
+	void execute_failure() {
+		SearchQueryBatch batch = SearchQueryBatch.create();
+		SearchQueryBatchItem<DocumentReference> failingItem =
+				batch.add( matchAllQuerySortByField( index ), 1, Integer.MAX_VALUE );
+		SearchQueryBatchItem<DocumentReference> succeedingItem = batch.add( matchAllQuerySortByField( index ), 1 );
+		batch.execute();
+
+		// error message will depend on the specific backend
+		assertThat( failingItem.failure() ).containsInstanceOf( SearchException.class );
+		assertThatThrownBy( failingItem::result )
+				.isSameAs( failingItem.failure().get() );
+
+		// The failure of one query must not affect the others
+		assertThat( succeedingItem.failure() ).isEmpty();
+		assertThatResult( succeedingItem.result() )
+				.hasTotalHitCount( DOCUMENT_COUNT )
+				.hasDocRefHitsExactOrder( index.typeName(), docId( 0 ) );
+	}
+
+	@Test
+	void execute_empty() {
+		SearchQueryBatch batch = SearchQueryBatch.create();
+		batch.execute();
+	}
+
+	@Test
+	void result_notExecuted() {
+		SearchQueryBatch batch = SearchQueryBatch.create();
+		SearchQueryBatchItem<DocumentReference> item = batch.add( matchAllQuerySortByField( index ), 1 );
+
+		assertThatThrownBy( item::result )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContainingAll( "Cannot retrieve the result of a query added to a batch",
+						"the batch was not executed yet" );
+		assertThatThrownBy( item::failure )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContainingAll( "Cannot retrieve the result of a query added to a batch",
+						"the batch was not executed yet" );
+	}
+
+	private static SearchQuery<DocumentReference> matchAllQuerySortByField(SimpleMappedIndex<IndexBinding> index) {
+		return index.query()
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "integer" ).asc() )
+				.toQuery();
+	}
+
+	private static void initData(SimpleMappedIndex<IndexBinding> index) {
+		index.bulkIndexer()
+				.add( DOCUMENT_COUNT, i -> documentProvider(
+						docId( i ),
+						document -> document.addValue( index.binding().integer, i )
+				) )
+				.join();
+	}
+
+	private static String docId(int i) {
+		return String.format( Locale.ROOT, "document_%03d", i );
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<Integer> integer;
+
+		IndexBinding(IndexSchemaElement root) {
+			integer = root.field( "integer", f -> f.asInteger().sortable( Sortable.YES ) )
+					.toReference();
+		}
+	}
+}
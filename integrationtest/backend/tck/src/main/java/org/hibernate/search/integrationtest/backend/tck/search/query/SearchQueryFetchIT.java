@@ -27,6 +27,7 @@
 import org.hibernate.search.integrationtest.backend.tck.testsupport.configuration.DefaultAnalysisDefinitions;
 import org.hibernate.search.integrationtest.backend.tck.testsupport.util.extension.SearchSetupHelper;
 import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.common.impl.Futures;
 import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
 import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingScope;
 import org.hibernate.search.util.impl.test.annotation.TestForIssue;
@@ -308,6 +309,48 @@ void fetchTotalHitCount_withProjection() {
 				.isEqualTo( DOCUMENT_COUNT / 2 );
 	}
 
+	@Test
+	void fetchAsync_offset_limit() {
+		assertThatResult( matchAllQuerySortByField().fetchAsync( 1, 2 ).toCompletableFuture().join() )
+				.hasTotalHitCount( DOCUMENT_COUNT )
+				.hasDocRefHitsExactOrder( index.typeName(), docId( 1 ), docId( 2 ) );
+
+		assertThatResult( matchAllQuerySortByField().toQuery().fetchAsync( 2 ).toCompletableFuture().join() )
+				.hasTotalHitCount( DOCUMENT_COUNT )
+				.hasDocRefHitsExactOrder( index.typeName(), docId( 0 ), docId( 1 ) );
+
+		// Fetch beyond the total hit count
+		assertThatResult( matchAllQuerySortByField().fetchAsync( DOCUMENT_COUNT + 1, null )
+				.toCompletableFuture().join() )
+				.hasTotalHitCount( DOCUMENT_COUNT )
+				.hasNoHits();
+	}
+
+	@Test
+	void fetchAsync_offset_limit_exceedsMaxValue() {
+		assertThatThrownBy( () -> Futures.unwrappedExceptionJoin(
+				matchAllQuerySortByField().fetchAsync( 1, Integer.MAX_VALUE ).toCompletableFuture() ) )
+				// error message will depend on the specific backend
+				.isInstanceOf( SearchException.class );
+	}
+
+	@Test
+	void fetchHitsAsync_offset_limit() {
+		assertThatHits( matchAllQuerySortByField().fetchHitsAsync( 1 ).toCompletableFuture().join() )
+				.hasDocRefHitsExactOrder( index.typeName(), docId( 0 ) );
+
+		assertThatHits( matchAllQuerySortByField().fetchHitsAsync( 3, 2 ).toCompletableFuture().join() )
+				.hasDocRefHitsExactOrder( index.typeName(), docId( 3 ), docId( 4 ) );
+	}
+
+	@Test
+	void fetchTotalHitCountAsync() {
+		assertThat( matchAllQuerySortByField().fetchTotalHitCountAsync().toCompletableFuture().join() )
+				.isEqualTo( DOCUMENT_COUNT );
+		assertThat( matchFirstHalfQuery().toQuery().fetchTotalHitCountAsync().toCompletableFuture().join() )
+				.isEqualTo( DOCUMENT_COUNT / 2 );
+	}
+
 	@Test
 	void fetchSingleHit() {
 		Optional<DocumentReference> result = matchOneQuery( 4 ).fetchSingleHit();
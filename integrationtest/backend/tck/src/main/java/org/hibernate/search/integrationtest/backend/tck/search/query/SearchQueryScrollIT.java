@@ -12,8 +12,12 @@
 import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.documentProvider;
 import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.hibernate.search.engine.backend.common.DocumentReference;
 import org.hibernate.search.engine.backend.document.IndexFieldReference;
@@ -88,6 +92,22 @@ void all_exactDivisorPageSize() {
 		}
 	}
 
+	@Test
+	void all_async() {
+		List<Integer> scrolledIndexes = new ArrayList<>();
+		try ( SearchScroll<DocumentReference> scroll = matchAllQuery().scroll( CHUNK_SIZE ) ) {
+			for ( SearchScrollResult<DocumentReference> chunk = scroll.nextAsync().toCompletableFuture().join();
+					chunk.hasHits(); chunk = scroll.nextAsync().toCompletableFuture().join() ) {
+				assertThat( chunk.hits() ).hasSizeLessThanOrEqualTo( CHUNK_SIZE );
+				assertThat( chunk.total().hitCount() ).isEqualTo( DOCUMENT_COUNT );
+				for ( DocumentReference hit : chunk.hits() ) {
+					scrolledIndexes.add( Integer.parseInt( hit.id().substring( "document_".length() ) ) );
+				}
+			}
+		}
+		assertThat( scrolledIndexes ).hasSize( DOCUMENT_COUNT ).isSorted();
+	}
+
 	@Test
 	void firstHalf() {
 		try ( SearchScroll<DocumentReference> scroll = matchFirstHalfQuery().scroll( CHUNK_SIZE ) ) {
@@ -219,6 +239,71 @@ void resultTotal_totalHitCountThreshold_veryHigh() {
 		}
 	}
 
+	@Test
+	void sliced() throws Exception {
+		int sliceCount = 3;
+		List<? extends SearchScroll<DocumentReference>> scrolls = matchFirstHalfQuery().scroll( CHUNK_SIZE, sliceCount );
+		assertThat( scrolls ).hasSize( sliceCount );
+
+		ExecutorService executor = Executors.newFixedThreadPool( sliceCount );
+		try {
+			List<Future<List<Integer>>> futures = new ArrayList<>();
+			for ( SearchScroll<DocumentReference> scroll : scrolls ) {
+				futures.add( executor.submit( () -> scrollSlice( scroll ) ) );
+			}
+
+			List<Integer> allScrolledIndexes = new ArrayList<>();
+			for ( Future<List<Integer>> future : futures ) {
+				List<Integer> sliceScrolledIndexes = future.get();
+				// Order is preserved within each slice
+				assertThat( sliceScrolledIndexes ).isSorted();
+				allScrolledIndexes.addAll( sliceScrolledIndexes );
+			}
+
+			assertThat( allScrolledIndexes )
+					.doesNotHaveDuplicates()
+					.hasSize( DOCUMENT_COUNT / 2 )
+					.allSatisfy( docIndex -> assertThat( docIndex ).isLessThan( DOCUMENT_COUNT / 2 ) );
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void sliced_single() {
+		List<? extends SearchScroll<DocumentReference>> scrolls = matchAllQuery().scroll( CHUNK_SIZE, 1 );
+		assertThat( scrolls ).hasSize( 1 );
+		try ( SearchScroll<DocumentReference> scroll = scrolls.get( 0 ) ) {
+			checkScrolling( scroll, DOCUMENT_COUNT, CHUNK_SIZE );
+		}
+	}
+
+	private List<Integer> scrollSlice(SearchScroll<DocumentReference> scroll) {
+		List<Integer> scrolledIndexes = new ArrayList<>();
+		long expectedTotal = -1;
+		try ( scroll ) {
+			for ( SearchScrollResult<DocumentReference> chunk = scroll.next(); chunk.hasHits();
+					chunk = scroll.next() ) {
+				assertThat( chunk.hits() ).hasSizeLessThanOrEqualTo( CHUNK_SIZE );
+				if ( expectedTotal < 0 ) {
+					expectedTotal = chunk.total().hitCount();
+				}
+				else {
+					assertThat( chunk.total().hitCount() ).isEqualTo( expectedTotal );
+				}
+				for ( DocumentReference hit : chunk.hits() ) {
+					scrolledIndexes.add( Integer.parseInt( hit.id().substring( "document_".length() ) ) );
+				}
+			}
+		}
+		if ( expectedTotal >= 0 ) {
+			// The total hit count of each slice only reflects the hits of that slice
+			assertThat( scrolledIndexes ).hasSize( (int) expectedTotal );
+		}
+		return scrolledIndexes;
+	}
+
 	private void checkScrolling(SearchScroll<DocumentReference> scroll, int documentCount, int chunkSize) {
 		int docIndex = 0;
 		int quotient = documentCount / chunkSize;
@@ -99,7 +99,7 @@ public void entityLoading() {
 
 		// We need more than 1000 batches in order to reproduce HSEARCH-4236.
 		// That's because of the size of the queue:
-		// see org.hibernate.search.mapper.orm.massindexing.impl.PojoProducerConsumerQueue.DEFAULT_BUFF_LENGTH
+		// see org.hibernate.search.mapper.pojo.massindexing.impl.PojoBlockingProducerConsumerQueue.DEFAULT_BUFF_LENGTH
 		with( sessionFactory ).runInTransaction( session -> {
 			for ( int i = 4; i < 1500; i++ ) {
 				session.persist( new Book( i, "title " + i, "author " + i ) );
@@ -132,7 +132,7 @@ public void entityLoading(Optional<Integer> failureFloodingThreshold) {
 
 		// We need more than 1000 batches in order to reproduce HSEARCH-4236.
 		// That's because of the size of the queue:
-		// see org.hibernate.search.mapper.orm.massindexing.impl.PojoProducerConsumerQueue.DEFAULT_BUFF_LENGTH
+		// see org.hibernate.search.mapper.pojo.massindexing.impl.PojoBlockingProducerConsumerQueue.DEFAULT_BUFF_LENGTH
 		with( sessionFactory ).runInTransaction( session -> {
 			for ( int i = 4; i <= COUNT; i++ ) {
 				session.persist( new Book( i, "title " + i, "author " + i ) );
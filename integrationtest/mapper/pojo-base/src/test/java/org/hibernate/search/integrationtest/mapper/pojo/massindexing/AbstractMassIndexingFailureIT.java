@@ -843,7 +843,7 @@ public void close() {
 					public long totalCount() {
 						// We need more than 1000 batches in order to reproduce HSEARCH-4236.
 						// That's because of the size of the queue:
-						// see org.hibernate.search.mapper.orm.massindexing.impl.PojoProducerConsumerQueue.DEFAULT_BUFF_LENGTH
+						// see org.hibernate.search.mapper.pojo.massindexing.impl.PojoBlockingProducerConsumerQueue.DEFAULT_BUFF_LENGTH
 						return COUNT;
 					}
 
@@ -0,0 +1,172 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.mapper.pojo.massindexing;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.integrationtest.mapper.pojo.testsupport.loading.PersistenceTypeKey;
+import org.hibernate.search.integrationtest.mapper.pojo.testsupport.loading.StubEntityLoadingBinder;
+import org.hibernate.search.integrationtest.mapper.pojo.testsupport.loading.StubLoadingContext;
+import org.hibernate.search.mapper.pojo.loading.mapping.annotation.EntityLoadingBinderRef;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.DocumentId;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.SearchEntity;
+import org.hibernate.search.mapper.pojo.massindexing.MassIndexingPipeline;
+import org.hibernate.search.mapper.pojo.standalone.mapping.SearchMapping;
+import org.hibernate.search.mapper.pojo.standalone.massindexing.MassIndexer;
+import org.hibernate.search.util.impl.integrationtest.common.extension.BackendMock;
+import org.hibernate.search.util.impl.integrationtest.mapper.pojo.standalone.StandalonePojoMappingSetupHelper;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+/**
+ * Checks the behavior of the mass indexer with the various {@link MassIndexingPipeline pipelines}
+ * and with virtual threads.
+ */
+class MassIndexingPipelineIT {
+
+	private static final int ENTITY_COUNT = 500;
+	private static final int BATCH_SIZE = 7;
+
+	@RegisterExtension
+	public final BackendMock backendMock = BackendMock.create();
+
+	@RegisterExtension
+	public final StandalonePojoMappingSetupHelper setupHelper =
+			StandalonePojoMappingSetupHelper.withBackendMock( MethodHandles.lookup(), backendMock );
+
+	private SearchMapping mapping;
+
+	private final StubLoadingContext loadingContext = new StubLoadingContext();
+
+	@BeforeEach
+	void setup() {
+		backendMock.expectAnySchema( Book.NAME );
+
+		mapping = setupHelper.start()
+				.expectCustomBeans()
+				.setup( Book.class );
+
+		backendMock.verifyExpectationsMet();
+
+		for ( int i = 0; i < ENTITY_COUNT; i++ ) {
+			Book book = new Book( i, "Title " + i );
+			loadingContext.persistenceMap( Book.PERSISTENCE_KEY ).put( book.id, book );
+		}
+	}
+
+	@ParameterizedTest(name = "{0}")
+	@EnumSource(MassIndexingPipeline.class)
+	void pipeline(MassIndexingPipeline pipeline) throws InterruptedException {
+		MassIndexer indexer = mapping.scope( Object.class ).massIndexer()
+				// Simulate passing information to connect to a DB, ...
+				.context( StubLoadingContext.class, loadingContext )
+				.pipeline( pipeline )
+				.threadsToLoadObjects( 8 )
+				.batchSizeToLoadObjects( BATCH_SIZE );
+
+		expectAllBooksIndexed();
+
+		indexer.startAndWait();
+
+		backendMock.verifyExpectationsMet();
+	}
+
+	@ParameterizedTest(name = "{0}")
+	@EnumSource(MassIndexingPipeline.class)
+	void virtualThreads(MassIndexingPipeline pipeline) throws InterruptedException {
+		MassIndexer indexer = mapping.scope( Object.class ).massIndexer()
+				// Simulate passing information to connect to a DB, ...
+				.context( StubLoadingContext.class, loadingContext )
+				.pipeline( pipeline )
+				.virtualThreads( true )
+				.threadsToLoadObjects( 64 )
+				.batchSizeToLoadObjects( BATCH_SIZE );
+
+		if ( Runtime.version().feature() >= 21 ) {
+			expectAllBooksIndexed();
+
+			indexer.startAndWait();
+		}
+		else {
+			backendMock.expectIndexScaleWorks( Book.NAME )
+					.purge()
+					.mergeSegments();
+
+			assertThatThrownBy( indexer::startAndWait )
+					.hasStackTraceContaining( "Unable to create virtual threads" )
+					.hasStackTraceContaining( "Virtual threads require Java 21 or later" );
+		}
+
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	void nullPipeline() {
+		assertThatThrownBy( () -> mapping.scope( Object.class ).massIndexer().pipeline( null ) )
+				.isInstanceOf( IllegalArgumentException.class );
+	}
+
+	private void expectAllBooksIndexed() {
+		// add operations on indexes can follow any random order,
+		// since they are executed by different threads
+		BackendMock.DocumentWorkCallListContext expectations = backendMock.expectWorks(
+				Book.NAME, DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE
+		);
+		for ( int i = 0; i < ENTITY_COUNT; i++ ) {
+			String title = "Title " + i;
+			expectations.add( String.valueOf( i ), b -> b.field( "title", title ) );
+		}
+
+		backendMock.expectIndexScaleWorks( Book.NAME )
+				.purge()
+				.mergeSegments()
+				.flush()
+				.refresh();
+	}
+
+	@SearchEntity(name = Book.NAME,
+			loadingBinder = @EntityLoadingBinderRef(type = StubEntityLoadingBinder.class))
+	@Indexed
+	public static class Book {
+
+		public static final String NAME = "Book";
+		public static final PersistenceTypeKey<Book, Integer> PERSISTENCE_KEY =
+				new PersistenceTypeKey<>( Book.class, Integer.class );
+
+		@DocumentId
+		private Integer id;
+
+		@GenericField
+		private String title;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getTitle() {
+			return title;
+		}
+	}
+}
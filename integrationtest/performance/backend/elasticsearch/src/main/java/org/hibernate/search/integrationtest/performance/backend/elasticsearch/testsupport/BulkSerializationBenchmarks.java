@@ -0,0 +1,162 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.backend.elasticsearch.testsupport;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.backend.elasticsearch.client.impl.ByteBufferPool;
+import org.hibernate.search.backend.elasticsearch.client.impl.ElasticsearchClientUtils;
+import org.hibernate.search.backend.elasticsearch.client.impl.Paths;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
+import org.hibernate.search.backend.elasticsearch.gson.spi.GsonProvider;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+
+import org.apache.http.HttpEntity;
+import org.apache.http.nio.ContentEncoder;
+import org.apache.http.nio.entity.HttpAsyncContentProducer;
+
+/**
+ * Benchmarks of the serialization of bulk request bodies,
+ * as the HTTP client does it ({@code produceContent}),
+ * or as it does it when compression is enabled ({@code writeTo}).
+ * <p>
+ * Bytes are discarded as soon as they are serialized,
+ * so that these benchmarks measure serialization rather than I/O.
+ */
+@Fork(1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class BulkSerializationBenchmarks {
+
+	@Param({ "1000" })
+	private int documentCount;
+
+	@Param({ "50" })
+	private int fieldCount;
+
+	private Gson gson;
+	private ByteBufferPool pool;
+	private ElasticsearchRequest request;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		gson = GsonProvider.create( GsonBuilder::new, true ).getGson();
+		pool = new ByteBufferPool( 8 * 1024, 256 );
+		ElasticsearchRequest.Builder builder = ElasticsearchRequest.post().pathComponent( Paths._BULK );
+		for ( int i = 0; i < documentCount; i++ ) {
+			JsonObject action = new JsonObject();
+			JsonObject index = new JsonObject();
+			index.addProperty( "_index", "indexname-write" );
+			index.addProperty( "_id", String.valueOf( i ) );
+			action.add( "index", index );
+			builder.body( action );
+
+			JsonObject source = new JsonObject();
+			for ( int j = 0; j < fieldCount; j++ ) {
+				String fieldName = "field" + j;
+				switch ( j % 3 ) {
+					case 0:
+						source.addProperty( fieldName, "Some text for field " + j + " of document " + i );
+						break;
+					case 1:
+						source.addProperty( fieldName, (long) i * j );
+						break;
+					default:
+						source.addProperty( fieldName, j % 2 == 0 );
+						break;
+				}
+			}
+			builder.body( source );
+		}
+		request = builder.build();
+	}
+
+	@Benchmark
+	public long produceContent() throws IOException {
+		HttpEntity entity = ElasticsearchClientUtils.toEntity( gson, pool, request );
+		HttpAsyncContentProducer producer = (HttpAsyncContentProducer) entity;
+		DiscardingContentEncoder encoder = new DiscardingContentEncoder();
+		try {
+			while ( !encoder.isCompleted() ) {
+				producer.produceContent( encoder, null );
+			}
+		}
+		finally {
+			producer.close();
+		}
+		return encoder.written;
+	}
+
+	@Benchmark
+	public long writeTo() throws IOException {
+		HttpEntity entity = ElasticsearchClientUtils.toEntity( gson, pool, request );
+		CountingDiscardingOutputStream outputStream = new CountingDiscardingOutputStream();
+		try {
+			entity.writeTo( outputStream );
+		}
+		finally {
+			( (HttpAsyncContentProducer) entity ).close();
+		}
+		return outputStream.written;
+	}
+
+	private static final class DiscardingContentEncoder implements ContentEncoder {
+		private long written = 0L;
+		private boolean completed = false;
+
+		@Override
+		public int write(ByteBuffer src) {
+			int toWrite = src.remaining();
+			src.position( src.limit() );
+			written += toWrite;
+			return toWrite;
+		}
+
+		@Override
+		public void complete() {
+			completed = true;
+		}
+
+		@Override
+		public boolean isCompleted() {
+			return completed;
+		}
+	}
+
+	private static final class CountingDiscardingOutputStream extends OutputStream {
+		private long written = 0L;
+
+		@Override
+		public void write(int b) {
+			++written;
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) {
+			written += len;
+		}
+	}
+
+}
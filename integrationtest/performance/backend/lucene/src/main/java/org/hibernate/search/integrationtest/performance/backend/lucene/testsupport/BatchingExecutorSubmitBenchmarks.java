@@ -0,0 +1,143 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.backend.lucene.testsupport;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.engine.backend.orchestration.spi.BatchedWork;
+import org.hibernate.search.engine.backend.orchestration.spi.BatchedWorkProcessor;
+import org.hibernate.search.engine.backend.orchestration.spi.BatchingExecutor;
+import org.hibernate.search.engine.backend.work.execution.IndexingQueueStrategyName;
+import org.hibernate.search.engine.backend.work.execution.OperationSubmitter;
+import org.hibernate.search.engine.common.execution.spi.DelegatingSimpleScheduledExecutor;
+import org.hibernate.search.engine.common.metrics.spi.MetricsRegistry;
+import org.hibernate.search.engine.common.metrics.spi.MetricsTags;
+import org.hibernate.search.engine.environment.bean.BeanHolder;
+import org.hibernate.search.engine.environment.thread.impl.EmbeddedThreadProvider;
+import org.hibernate.search.engine.environment.thread.impl.ThreadPoolProviderImpl;
+import org.hibernate.search.engine.reporting.impl.LogFailureHandler;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Benchmarks of the throughput of work submission to a {@link BatchingExecutor},
+ * depending on the number of producer threads and on the queue implementation.
+ * <p>
+ * Works and the processor do (almost) nothing,
+ * so that these benchmarks measure contention on the queue rather than indexing itself.
+ */
+@Fork(1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class BatchingExecutorSubmitBenchmarks {
+
+	@Param({ "BLOCKING", "LOCK_FREE" })
+	private IndexingQueueStrategyName queueStrategy;
+
+	@Param({ "1000" })
+	private int queueSize;
+
+	@Param({ "0", "2" })
+	private int maxLinger;
+
+	private ThreadPoolProviderImpl threadPoolProvider;
+	private ScheduledExecutorService executorService;
+	private BatchingExecutor<StubProcessor, StubWork> executor;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		threadPoolProvider = new ThreadPoolProviderImpl( BeanHolder.of( new EmbeddedThreadProvider() ) );
+		executorService = threadPoolProvider.newScheduledExecutor( 1, "BatchingExecutorSubmitBenchmarks" );
+		executor = new BatchingExecutor<>( "BatchingExecutorSubmitBenchmarks", new StubProcessor(), queueSize, true,
+				queueStrategy, maxLinger, new LogFailureHandler(), work -> {},
+				MetricsRegistry.noOp(), MetricsTags.empty() );
+		executor.start( new DelegatingSimpleScheduledExecutor( executorService, true ) );
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		executor.completion().join();
+		executor.stop();
+		executorService.shutdownNow();
+		threadPoolProvider.close();
+	}
+
+	@Benchmark
+	@Threads(1)
+	public void producers01() throws InterruptedException {
+		submit();
+	}
+
+	@Benchmark
+	@Threads(4)
+	public void producers04() throws InterruptedException {
+		submit();
+	}
+
+	@Benchmark
+	@Threads(16)
+	public void producers16() throws InterruptedException {
+		submit();
+	}
+
+	@Benchmark
+	@Threads(64)
+	public void producers64() throws InterruptedException {
+		submit();
+	}
+
+	private void submit() throws InterruptedException {
+		executor.submit( StubWork.INSTANCE, OperationSubmitter.blocking() );
+	}
+
+	private static final class StubWork implements BatchedWork<StubProcessor> {
+		private static final StubWork INSTANCE = new StubWork();
+
+		@Override
+		public void submitTo(StubProcessor processor) {
+			// Nothing to do
+		}
+
+		@Override
+		public void markAsFailed(Throwable t) {
+			// Nothing to do
+		}
+	}
+
+	private static final class StubProcessor implements BatchedWorkProcessor {
+		private final CompletableFuture<?> completedFuture = CompletableFuture.completedFuture( null );
+
+		@Override
+		public void beginBatch() {
+			// Nothing to do
+		}
+
+		@Override
+		public CompletableFuture<?> endBatch() {
+			return completedFuture;
+		}
+
+		@Override
+		public void complete() {
+			// Nothing to do
+		}
+	}
+}
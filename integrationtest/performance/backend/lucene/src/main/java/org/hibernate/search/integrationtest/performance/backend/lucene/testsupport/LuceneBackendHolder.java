@@ -33,7 +33,7 @@ public class LuceneBackendHolder extends AbstractBackendHolder {
 	 * <p>
 	 * Note that configuration properties are applied both at the backend level and at the index level.
 	 */
-	@Param({ "", "io.refresh_interval=1000" })
+	@Param({ "", "io.refresh_interval=1000", "indexing.bulk_writes=true" })
 	private String configuration;
 
 	@Override
@@ -17,6 +17,14 @@
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.infra.ThreadParams;
 
+/**
+ * On-the-fly indexing benchmarks for the Lucene backend.
+ * <p>
+ * The backend configurations are defined in {@link LuceneBackendHolder};
+ * compare the results for {@code configuration=} and {@code configuration=indexing.bulk_writes=true}
+ * to measure the effect of grouping works into bulks applied to the index writer.
+ * Use {@code -p configuration=...} to run only some configurations.
+ */
 @State(Scope.Thread)
 public class LuceneOnTheFlyIndexingBenchmarks extends AbstractOnTheFlyIndexingBenchmarks {
 
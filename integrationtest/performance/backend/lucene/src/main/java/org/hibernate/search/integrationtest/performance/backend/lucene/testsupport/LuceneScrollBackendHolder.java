@@ -0,0 +1,30 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.backend.lucene.testsupport;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * A backend holder that also sets the scroll strategy,
+ * so that the scroll strategies can be compared in a single benchmark run.
+ */
+@State(Scope.Benchmark)
+public class LuceneScrollBackendHolder extends LuceneBackendHolder {
+
+	@Param({ "offset", "search-after" })
+	private String scrollStrategy;
+
+	@Override
+	protected String getConfigurationParameter() {
+		return super.getConfigurationParameter()
+				+ "&" + LuceneBackendSettings.QUERY_SCROLL_STRATEGY + "=" + scrollStrategy;
+	}
+}
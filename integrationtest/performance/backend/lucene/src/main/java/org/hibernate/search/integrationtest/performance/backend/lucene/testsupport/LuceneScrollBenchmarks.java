@@ -0,0 +1,99 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.backend.lucene.testsupport;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.search.query.SearchScroll;
+import org.hibernate.search.engine.search.query.SearchScrollResult;
+import org.hibernate.search.integrationtest.performance.backend.base.AbstractBackendBenchmarks;
+import org.hibernate.search.integrationtest.performance.backend.base.testsupport.index.IndexInitializer;
+import org.hibernate.search.integrationtest.performance.backend.base.testsupport.index.MappedIndex;
+import org.hibernate.search.integrationtest.performance.backend.base.testsupport.index.PerThreadIndexPartition;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.infra.ThreadParams;
+
+/**
+ * JMH benchmarks comparing scroll strategies
+ * when scrolling through all the hits of a query matching a large number of documents.
+ * <p>
+ * Each operation scrolls through all hits, so the reported time is the time to scroll through
+ * {@code initialIndexSize + scrolledDocumentCount} hits.
+ */
+@Fork(1)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class LuceneScrollBenchmarks extends AbstractBackendBenchmarks {
+
+	/**
+	 * The number of documents to add to the index on top of the initial documents.
+	 */
+	@Param({ "1000000" })
+	private int scrolledDocumentCount;
+
+	@Param({ "1000" })
+	private int chunkSize;
+
+	@Setup(Level.Trial)
+	public void setupTrial(LuceneScrollBackendHolder backendHolder, IndexInitializer indexInitializer,
+			ThreadParams threadParams) {
+		doSetupTrial( backendHolder, indexInitializer, threadParams );
+	}
+
+	/**
+	 * @param backendHolder Unused, but declaring this dependency makes JMH run
+	 * {@link LuceneScrollBackendHolder#initializeIndexes(IndexInitializer) the holder's iteration setup} first,
+	 * which purges the index and adds the initial documents back:
+	 * each iteration then scrolls through the same documents, without duplicates.
+	 */
+	@Setup(Level.Iteration)
+	public void prepareIteration(LuceneScrollBackendHolder backendHolder) {
+		PerThreadIndexPartition partition = getIndexPartition();
+		getIndexInitializer().addToIndex(
+				partition.getIndex(),
+				LongStream.range( 0, scrolledDocumentCount ).map( partition::toDocumentId )
+		);
+	}
+
+	@Benchmark
+	@Threads(1)
+	public void scrollAll(Blackhole blackhole) {
+		MappedIndex index = getIndexPartition().getIndex();
+
+		try ( SearchScroll<DocumentReference> scroll = index.createScope().query()
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( MappedIndex.SHORT_TEXT_FIELD_NAME ) )
+				.scroll( chunkSize ) ) {
+			for ( SearchScrollResult<DocumentReference> chunk = scroll.next(); chunk.hasHits();
+					chunk = scroll.next() ) {
+				for ( DocumentReference hit : chunk.hits() ) {
+					blackhole.consume( hit );
+				}
+			}
+		}
+	}
+
+}
@@ -13,6 +13,7 @@
 import org.hibernate.search.mapper.pojo.massindexing.MassIndexingEnvironment;
 import org.hibernate.search.mapper.pojo.massindexing.MassIndexingFailureHandler;
 import org.hibernate.search.mapper.pojo.massindexing.MassIndexingMonitor;
+import org.hibernate.search.mapper.pojo.massindexing.MassIndexingPipeline;
 import org.hibernate.search.util.common.annotation.Incubating;
 
 /**
@@ -225,4 +226,38 @@ public interface MassIndexer {
 	@Incubating
 	MassIndexer failureFloodingThreshold(long threshold);
 
+	/**
+	 * Sets how identifiers are handed over from the identifier loading thread
+	 * to the {@link #threadsToLoadObjects(int) entity loading threads}.
+	 * <p>
+	 * Defaults to {@link MassIndexingPipeline#BLOCKING_QUEUE}.
+	 *
+	 * @param pipeline The pipeline to use.
+	 * @return {@code this} for method chaining
+	 * @see MassIndexingPipeline
+	 */
+	@Incubating
+	MassIndexer pipeline(MassIndexingPipeline pipeline);
+
+	/**
+	 * Sets whether identifier loading and entity loading should run in virtual threads
+	 * instead of platform threads.
+	 * <p>
+	 * Loading is mostly waiting on I/O, so virtual threads allow raising
+	 * {@link #threadsToLoadObjects(int) the number of threads to load objects}
+	 * well beyond what would be reasonable with platform threads.
+	 * Bear in mind each loading thread still needs its own connection to the data store, if any.
+	 * <p>
+	 * Virtual threads require Java 21 or later; mass indexing will fail on older JVMs
+	 * if this is enabled.
+	 * <p>
+	 * Defaults to {@code false}.
+	 *
+	 * @param enable {@code true} to load identifiers and entities in virtual threads,
+	 * {@code false} to use platform threads.
+	 * @return {@code this} for method chaining
+	 */
+	@Incubating
+	MassIndexer virtualThreads(boolean enable);
+
 }
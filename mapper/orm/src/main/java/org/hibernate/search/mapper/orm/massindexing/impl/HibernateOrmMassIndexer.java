@@ -15,6 +15,7 @@
 import org.hibernate.search.mapper.pojo.massindexing.MassIndexingEnvironment;
 import org.hibernate.search.mapper.pojo.massindexing.MassIndexingFailureHandler;
 import org.hibernate.search.mapper.pojo.massindexing.MassIndexingMonitor;
+import org.hibernate.search.mapper.pojo.massindexing.MassIndexingPipeline;
 import org.hibernate.search.mapper.pojo.massindexing.spi.PojoMassIndexer;
 
 public class HibernateOrmMassIndexer implements MassIndexer {
@@ -136,4 +137,16 @@ public MassIndexer environment(MassIndexingEnvironment environment) {
 		delegate.environment( environment );
 		return this;
 	}
+
+	@Override
+	public MassIndexer pipeline(MassIndexingPipeline pipeline) {
+		delegate.pipeline( pipeline );
+		return this;
+	}
+
+	@Override
+	public MassIndexer virtualThreads(boolean enable) {
+		delegate.virtualThreads( enable );
+		return this;
+	}
 }
@@ -0,0 +1,32 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.massindexing;
+
+import org.hibernate.search.util.common.annotation.Incubating;
+
+/**
+ * Defines how the stages of mass indexing hand over work to each other.
+ */
+@Incubating
+public enum MassIndexingPipeline {
+
+	/**
+	 * Identifiers are handed over to entity loading threads through a blocking queue.
+	 * <p>
+	 * This is the default.
+	 */
+	BLOCKING_QUEUE,
+	/**
+	 * Identifiers are handed over to entity loading threads through a bounded, lock-free ring buffer.
+	 * <p>
+	 * This reduces contention between entity loading threads,
+	 * which is mostly useful with a high number of {@code threadsToLoadObjects},
+	 * in particular when entity loading runs in virtual threads.
+	 */
+	RING_BUFFER
+
+}
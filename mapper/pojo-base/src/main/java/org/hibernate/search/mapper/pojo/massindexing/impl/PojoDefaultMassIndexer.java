@@ -16,6 +16,7 @@
 import org.hibernate.search.mapper.pojo.massindexing.MassIndexingEnvironment;
 import org.hibernate.search.mapper.pojo.massindexing.MassIndexingFailureHandler;
 import org.hibernate.search.mapper.pojo.massindexing.MassIndexingMonitor;
+import org.hibernate.search.mapper.pojo.massindexing.MassIndexingPipeline;
 import org.hibernate.search.mapper.pojo.massindexing.spi.PojoMassIndexer;
 import org.hibernate.search.mapper.pojo.massindexing.spi.PojoMassIndexingContext;
 import org.hibernate.search.mapper.pojo.massindexing.spi.PojoMassIndexingMappingContext;
@@ -62,6 +63,8 @@ public void afterExecution(Context context) {
 	private Boolean purgeAtStart;
 	private Boolean mergeSegmentsAfterPurge;
 	private Long failureFloodingThreshold = null;
+	private MassIndexingPipeline pipeline = MassIndexingPipeline.BLOCKING_QUEUE;
+	private boolean virtualThreads = false;
 
 	private MassIndexingFailureHandler failureHandler;
 	private MassIndexingMonitor monitor;
@@ -187,6 +190,7 @@ private PojoMassIndexingBatchCoordinator createCoordinator() {
 				tenantIds, pojoScopeDelegate,
 				resolvedMassIndexingEnvironment(),
 				typesToIndexInParallel, documentBuilderThreads,
+				pipeline, virtualThreads,
 				mergeSegmentsOnFinish,
 				// false by default:
 				Boolean.TRUE.equals( dropAndCreateSchemaOnStart ),
@@ -214,6 +218,21 @@ public PojoMassIndexer failureFloodingThreshold(long threshold) {
 		return this;
 	}
 
+	@Override
+	public PojoMassIndexer pipeline(MassIndexingPipeline pipeline) {
+		if ( pipeline == null ) {
+			throw new IllegalArgumentException( "pipeline must not be null" );
+		}
+		this.pipeline = pipeline;
+		return this;
+	}
+
+	@Override
+	public PojoMassIndexer virtualThreads(boolean enable) {
+		this.virtualThreads = enable;
+		return this;
+	}
+
 	private MassIndexingFailureHandler getOrCreateFailureHandler() {
 		MassIndexingFailureHandler result = failureHandler;
 		if ( result == null ) {
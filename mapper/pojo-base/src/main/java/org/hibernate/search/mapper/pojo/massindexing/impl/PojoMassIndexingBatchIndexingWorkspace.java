@@ -13,9 +13,11 @@
 import java.util.concurrent.Future;
 import java.util.concurrent.ThreadPoolExecutor;
 
+import org.hibernate.search.engine.environment.thread.spi.ThreadPoolProvider;
 import org.hibernate.search.mapper.pojo.loading.spi.PojoMassLoadingStrategy;
 import org.hibernate.search.mapper.pojo.logging.impl.Log;
 import org.hibernate.search.mapper.pojo.massindexing.MassIndexingEnvironment;
+import org.hibernate.search.mapper.pojo.massindexing.MassIndexingPipeline;
 import org.hibernate.search.mapper.pojo.massindexing.spi.PojoMassIndexingContext;
 import org.hibernate.search.mapper.pojo.massindexing.spi.PojoMassIndexingMappingContext;
 import org.hibernate.search.util.common.AssertionFailure;
@@ -44,6 +46,8 @@
 	private final PojoMassIndexingContext massIndexingContext;
 
 	private final int entityExtractingThreads;
+	private final MassIndexingPipeline pipeline;
+	private final boolean virtualThreads;
 	private final String tenantId;
 
 	PojoMassIndexingBatchIndexingWorkspace(PojoMassIndexingMappingContext mappingContext,
@@ -52,13 +56,16 @@
 			PojoMassIndexingIndexedTypeGroup<E> typeGroup,
 			PojoMassLoadingStrategy<E, I> loadingStrategy,
 			PojoMassIndexingContext massIndexingContext,
-			int entityExtractingThreads, String tenantId) {
+			int entityExtractingThreads, MassIndexingPipeline pipeline, boolean virtualThreads,
+			String tenantId) {
 		super( notifier, environment );
 		this.mappingContext = mappingContext;
 		this.typeGroup = typeGroup;
 		this.loadingStrategy = loadingStrategy;
 		this.massIndexingContext = massIndexingContext;
 		this.entityExtractingThreads = entityExtractingThreads;
+		this.pipeline = pipeline;
+		this.virtualThreads = virtualThreads;
 		this.tenantId = tenantId;
 	}
 
@@ -68,7 +75,7 @@ public void runWithFailureHandler() throws InterruptedException {
 			throw new AssertionFailure( "BatchIndexingWorkspace instance not expected to be reused" );
 		}
 
-		PojoProducerConsumerQueue<List<I>> identifierQueue = new PojoProducerConsumerQueue<>( 1 );
+		PojoProducerConsumerQueue<List<I>> identifierQueue = PojoProducerConsumerQueue.create( pipeline, 1 );
 
 		// First start the consumers, then the producers (reverse order):
 		startIndexing( identifierQueue );
@@ -109,7 +116,7 @@ massIndexingContext, getMassIndexingEnvironment(),
 				identifierQueue, tenantId
 		);
 		//execIdentifiersLoader has size 1 and is not configurable: ensures the list is consistent as produced by one transaction
-		final ThreadPoolExecutor identifierProducingExecutor = mappingContext.threadPoolProvider().newFixedThreadPool(
+		final ThreadPoolExecutor identifierProducingExecutor = newLoadingThreadPool(
 				1,
 				THREAD_NAME_PREFIX + typeGroup.notifiedGroupName() + " - ID loading"
 		);
@@ -128,7 +135,7 @@ massIndexingContext, getMassIndexingEnvironment(),
 				typeGroup, loadingStrategy,
 				identifierQueue, tenantId
 		);
-		final ThreadPoolExecutor indexingExecutor = mappingContext.threadPoolProvider().newFixedThreadPool(
+		final ThreadPoolExecutor indexingExecutor = newLoadingThreadPool(
 				entityExtractingThreads,
 				THREAD_NAME_PREFIX + typeGroup.notifiedGroupName() + " - Entity loading"
 		);
@@ -141,4 +148,11 @@ massIndexingContext, getMassIndexingEnvironment(),
 			indexingExecutor.shutdown();
 		}
 	}
+
+	private ThreadPoolExecutor newLoadingThreadPool(int threads, String threadNamePrefix) {
+		ThreadPoolProvider threadPoolProvider = mappingContext.threadPoolProvider();
+		return virtualThreads
+				? threadPoolProvider.newFixedVirtualThreadPool( threads, threadNamePrefix )
+				: threadPoolProvider.newFixedThreadPool( threads, threadNamePrefix );
+	}
 }
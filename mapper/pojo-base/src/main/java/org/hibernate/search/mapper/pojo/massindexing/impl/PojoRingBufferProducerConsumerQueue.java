@@ -0,0 +1,153 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.massindexing.impl;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A bounded, lock-free, multi-producer multi-consumer ring buffer.
+ * <p>
+ * Each slot carries a sequence number telling whether it is ready to be written to
+ * or ready to be read from, so producers and consumers only ever contend
+ * through a compare-and-set on their respective index.
+ * Contrary to {@link PojoBlockingProducerConsumerQueue}, the end of the production
+ * is signaled through a flag rather than through a "poison" token,
+ * so consumers do not need to put anything back into the buffer before they quit.
+ * <p>
+ * Threads waiting for an element (or for free space) park with an exponential backoff.
+ *
+ * @param <T> produced type
+ */
+final class PojoRingBufferProducerConsumerQueue<T> implements PojoProducerConsumerQueue<T> {
+
+	private static final int DEFAULT_CAPACITY = 1024;
+	private static final long MIN_PARK_NANOS = 1_000L;
+	private static final long MAX_PARK_NANOS = 1_000_000L;
+
+	private final int mask;
+	private final AtomicReferenceArray<T> elements;
+	private final AtomicLongArray sequences;
+	private final AtomicLong producerIndex = new AtomicLong( 0L );
+	private final AtomicLong consumerIndex = new AtomicLong( 0L );
+	private final AtomicInteger producersToWaitFor;
+	private volatile boolean producersStopped = false;
+
+	/**
+	 * @param producersToWaitFor The number of producer threads.
+	 */
+	PojoRingBufferProducerConsumerQueue(int producersToWaitFor) {
+		this( DEFAULT_CAPACITY, producersToWaitFor );
+	}
+
+	/**
+	 * @param capacity The capacity of the buffer; will be rounded up to the next power of two.
+	 * @param producersToWaitFor The number of producer threads.
+	 */
+	PojoRingBufferProducerConsumerQueue(int capacity, int producersToWaitFor) {
+		if ( capacity < 1 ) {
+			throw new IllegalArgumentException( "capacity must be at least 1" );
+		}
+		int actualCapacity = capacity == 1 ? 1 : Integer.highestOneBit( capacity - 1 ) << 1;
+		this.mask = actualCapacity - 1;
+		this.elements = new AtomicReferenceArray<>( actualCapacity );
+		this.sequences = new AtomicLongArray( actualCapacity );
+		for ( int i = 0; i < actualCapacity; i++ ) {
+			sequences.set( i, i );
+		}
+		this.producersToWaitFor = new AtomicInteger( producersToWaitFor );
+	}
+
+	@Override
+	public T take() throws InterruptedException {
+		long parkNanos = MIN_PARK_NANOS;
+		while ( true ) {
+			T element = poll();
+			if ( element != null ) {
+				return element;
+			}
+			if ( producersStopped ) {
+				// Producers are done and all their elements are visible at this point:
+				// if the buffer is still empty, there is nothing left to consume.
+				return poll();
+			}
+			parkNanos = park( parkNanos );
+		}
+	}
+
+	@Override
+	public void put(T obj) throws InterruptedException {
+		long parkNanos = MIN_PARK_NANOS;
+		while ( !offer( obj ) ) {
+			parkNanos = park( parkNanos );
+		}
+	}
+
+	@Override
+	public void producerStopping() {
+		int activeProducers = producersToWaitFor.decrementAndGet();
+		//last producer must close consumers
+		if ( activeProducers == 0 ) {
+			producersStopped = true;
+		}
+	}
+
+	boolean offer(T element) {
+		while ( true ) {
+			long index = producerIndex.get();
+			int slot = (int) ( index & mask );
+			long delta = sequences.get( slot ) - index;
+			if ( delta == 0 ) {
+				if ( producerIndex.compareAndSet( index, index + 1 ) ) {
+					elements.lazySet( slot, element );
+					// Publish the element to consumers
+					sequences.set( slot, index + 1 );
+					return true;
+				}
+			}
+			else if ( delta < 0 ) {
+				// The slot still holds an element from the previous lap: the buffer is full.
+				return false;
+			}
+			// Otherwise another producer claimed this slot: retry with the next index.
+		}
+	}
+
+	T poll() {
+		while ( true ) {
+			long index = consumerIndex.get();
+			int slot = (int) ( index & mask );
+			long delta = sequences.get( slot ) - ( index + 1 );
+			if ( delta == 0 ) {
+				if ( consumerIndex.compareAndSet( index, index + 1 ) ) {
+					T element = elements.get( slot );
+					elements.lazySet( slot, null );
+					// Release the slot for producers of the next lap
+					sequences.set( slot, index + mask + 1 );
+					return element;
+				}
+			}
+			else if ( delta < 0 ) {
+				// The slot was not published yet: the buffer is empty.
+				return null;
+			}
+			// Otherwise another consumer took this element: retry with the next index.
+		}
+	}
+
+	private static long park(long parkNanos) throws InterruptedException {
+		if ( Thread.interrupted() ) {
+			throw new InterruptedException();
+		}
+		LockSupport.parkNanos( parkNanos );
+		return Math.min( parkNanos * 2, MAX_PARK_NANOS );
+	}
+
+}
@@ -11,6 +11,7 @@
 import org.hibernate.search.mapper.pojo.massindexing.MassIndexingEnvironment;
 import org.hibernate.search.mapper.pojo.massindexing.MassIndexingFailureHandler;
 import org.hibernate.search.mapper.pojo.massindexing.MassIndexingMonitor;
+import org.hibernate.search.mapper.pojo.massindexing.MassIndexingPipeline;
 import org.hibernate.search.mapper.pojo.massindexing.spi.PojoMassIndexer;
 import org.hibernate.search.mapper.pojo.standalone.loading.impl.StandalonePojoLoadingContext;
 import org.hibernate.search.mapper.pojo.standalone.massindexing.MassIndexer;
@@ -106,4 +107,16 @@ public MassIndexer environment(MassIndexingEnvironment environment) {
 		delegate.environment( environment );
 		return this;
 	}
+
+	@Override
+	public MassIndexer pipeline(MassIndexingPipeline pipeline) {
+		delegate.pipeline( pipeline );
+		return this;
+	}
+
+	@Override
+	public MassIndexer virtualThreads(boolean enable) {
+		delegate.virtualThreads( enable );
+		return this;
+	}
 }
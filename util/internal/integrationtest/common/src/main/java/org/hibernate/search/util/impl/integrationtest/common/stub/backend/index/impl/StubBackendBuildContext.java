@@ -10,6 +10,7 @@
 
 import org.hibernate.search.engine.backend.spi.BackendBuildContext;
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
+import org.hibernate.search.engine.common.metrics.spi.MetricsRegistry;
 import org.hibernate.search.engine.common.timing.spi.TimingSource;
 import org.hibernate.search.engine.environment.bean.BeanResolver;
 import org.hibernate.search.engine.environment.classpath.spi.ClassResolver;
@@ -58,6 +59,11 @@ public TimingSource timingSource() {
 		return delegate.timingSource();
 	}
 
+	@Override
+	public MetricsRegistry metricsRegistry() {
+		return delegate.metricsRegistry();
+	}
+
 	@Override
 	public boolean multiTenancyEnabled() {
 		return delegate.multiTenancyEnabled();
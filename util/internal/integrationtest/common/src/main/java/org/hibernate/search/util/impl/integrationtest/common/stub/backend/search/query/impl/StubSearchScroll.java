@@ -7,11 +7,14 @@
 package org.hibernate.search.util.impl.integrationtest.common.stub.backend.search.query.impl;
 
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
 import org.hibernate.search.engine.common.timing.spi.TimingSource;
 import org.hibernate.search.engine.search.loading.spi.SearchLoadingContext;
 import org.hibernate.search.engine.search.query.SearchScroll;
 import org.hibernate.search.engine.search.query.SearchScrollResult;
+import org.hibernate.search.util.common.impl.Futures;
 import org.hibernate.search.util.impl.integrationtest.common.stub.backend.StubBackendBehavior;
 import org.hibernate.search.util.impl.integrationtest.common.stub.backend.search.projection.impl.StubSearchProjection;
 import org.hibernate.search.util.impl.integrationtest.common.stub.backend.search.projection.impl.StubSearchProjectionContext;
@@ -56,4 +59,9 @@ public SearchScrollResult<T> next() {
 		timeoutManager.stop();
 		return result;
 	}
+
+	@Override
+	public CompletionStage<SearchScrollResult<T>> nextAsync() {
+		return Futures.create( () -> CompletableFuture.completedFuture( next() ) );
+	}
 }